@@ -0,0 +1,134 @@
+package unischedule.events;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import unischedule.events.domain.Event;
+import unischedule.events.domain.collection.EventOverrideSeries;
+import unischedule.events.domain.collection.ExpandedRecurringEvents;
+import unischedule.events.dto.EventOverrideProjectionDto;
+import unischedule.events.dto.EventProjectionDto;
+import unischedule.events.dto.EventServiceDto;
+import unischedule.events.util.DateTimeUtil;
+import unischedule.events.util.RRuleCache;
+import unischedule.events.util.RRuleParser;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복 일정 1년치 전개 비교
+ * legacy: 회차마다 임시 Event 엔티티 생성 후 override 적용, 목록 복사, DTO 변환
+ * sink: 회차 시작 시간에서 바로 조회 결과 DTO 로 변환
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RecurringExpansionBenchmark {
+    @Param({"50", "500"})
+    private int seriesCount;
+
+    private final LocalDateTime rangeStart = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private final LocalDateTime rangeEnd = rangeStart.plusYears(1);
+
+    private RRuleParser rruleParser;
+    private List<EventProjectionDto> series;
+    private Map<Long, List<EventOverrideProjectionDto>> overrideMap;
+
+    @Setup
+    public void setUp() {
+        rruleParser = new RRuleParser(new DateTimeUtil(), new RRuleCache(64));
+        series = new ArrayList<>();
+        overrideMap = new HashMap<>();
+
+        for (long id = 1; id <= seriesCount; id++) {
+            LocalDateTime firstStart = rangeStart.plusHours(9 + id % 8);
+            String rrule = (id % 2 == 0) ? "FREQ=DAILY" : "FREQ=WEEKLY;BYDAY=MO,WE,FR";
+            series.add(new EventProjectionDto(id, "일정 " + id, "내용", firstStart, firstStart.plusHours(1), 1L, null, rrule));
+
+            // 열 개 중 하나는 수정, 삭제된 회차를 가짐
+            if (id % 10 == 0) {
+                overrideMap.put(id, List.of(
+                        new EventOverrideProjectionDto(id, firstStart.plusDays(7), "변경", "내용",
+                                firstStart.plusDays(7).plusHours(2), firstStart.plusDays(7).plusHours(3)),
+                        new EventOverrideProjectionDto(id, firstStart.plusDays(14), null, null, null, null)
+                ));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<EventServiceDto> legacyEntityExpansion() {
+        List<EventServiceDto> result = new ArrayList<>();
+
+        for (EventProjectionDto recurEvent : series) {
+            List<LocalDateTime> dates = rruleParser.calEventStartTimeListRange(
+                    recurEvent.rruleString(), recurEvent.startAt(), rangeStart, rangeEnd);
+            Duration duration = Duration.between(recurEvent.startAt(), recurEvent.endAt());
+
+            List<Event> expanded = dates.stream()
+                    .map(eventStart -> Event.builder()
+                            .title(recurEvent.title())
+                            .content(recurEvent.content())
+                            .startAt(eventStart)
+                            .endAt(eventStart.plus(duration))
+                            .build())
+                    .toList();
+            List<Event> expandedCopy = List.copyOf(expanded);
+
+            Map<LocalDateTime, EventOverrideProjectionDto> overrides = new HashMap<>();
+            overrideMap.getOrDefault(recurEvent.eventId(), List.of())
+                    .forEach(eventOverride -> overrides.put(eventOverride.originalEventTime(), eventOverride));
+
+            List<Event> finalEvents = new ArrayList<>();
+            for (Event event : expandedCopy) {
+                applyOverride(event, overrides).ifPresent(finalEvents::add);
+            }
+
+            List.copyOf(finalEvents).stream()
+                    .map(event -> EventServiceDto.fromRecurringProjection(
+                            recurEvent, event.getTitle(), event.getContent(), event.getStartAt(), event.getEndAt()))
+                    .forEach(result::add);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<EventServiceDto> sinkExpansion() {
+        List<EventServiceDto> result = new ArrayList<>();
+
+        for (EventProjectionDto recurEvent : series) {
+            ExpandedRecurringEvents.of(recurEvent, EventOverrideSeries.of(overrideMap.get(recurEvent.eventId())))
+                    .expandInto(
+                            rruleParser.streamEventStartTimes(recurEvent.rruleString(), recurEvent.startAt(), rangeStart, rangeEnd),
+                            result
+                    );
+        }
+        return result;
+    }
+
+    private Optional<Event> applyOverride(Event event, Map<LocalDateTime, EventOverrideProjectionDto> overrides) {
+        EventOverrideProjectionDto eventOverride = overrides.get(event.getStartAt());
+
+        if (eventOverride == null) {
+            return Optional.of(event);
+        }
+        if (eventOverride.isDeleteOverride()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Event(
+                eventOverride.title(), eventOverride.content(), eventOverride.startAt(), eventOverride.endAt(), false));
+    }
+}
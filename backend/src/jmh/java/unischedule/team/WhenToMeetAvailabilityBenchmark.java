@@ -0,0 +1,112 @@
+package unischedule.team;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import unischedule.events.dto.EventGetResponseDto;
+import unischedule.team.domain.WhenToMeet;
+import unischedule.team.domain.collection.BusyBitmap;
+import unischedule.team.domain.collection.SlotAvailability;
+import unischedule.team.service.internal.MemberTaskExecutor;
+import unischedule.team.service.internal.WhenToMeetLogicService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 14일, 5분 슬롯, 10명 팀의 슬롯별 가능 인원 계산 비교
+ * legacy: 슬롯마다 멤버의 모든 일정과 겹침 확인
+ * sweep: 멤버 일정을 정렬, 병합 후 차분 배열과 누적합으로 계산
+ * cachedBitmaps: 캐시된 멤버별 하루 비트맵으로 계산 (비트맵 생성 비용 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WhenToMeetAvailabilityBenchmark {
+    @Param({"20", "200"})
+    private int eventsPerMember;
+
+    private final int memberCount = 10;
+    private final LocalDateTime rangeStart = LocalDateTime.of(2025, 11, 3, 9, 0);
+    private final LocalDateTime rangeEnd = rangeStart.toLocalDate().plusDays(14).atStartOfDay();
+
+    private final WhenToMeetLogicService logicService = new WhenToMeetLogicService(new MemberTaskExecutor(1, 10));
+    private List<LocalDateTime> starts;
+    private List<LocalDateTime> ends;
+    private List<List<EventGetResponseDto>> memberEvents;
+    private List<List<BusyBitmap>> memberBitmaps;
+    private List<WhenToMeet> slots;
+
+    @Setup
+    public void setUp() {
+        starts = logicService.generateIntervalStarts(rangeStart, rangeEnd);
+        ends = logicService.generateIntervalEnds(rangeStart, rangeEnd);
+
+        Random random = new Random(42L);
+        memberEvents = new ArrayList<>();
+        for (int member = 0; member < memberCount; member++) {
+            List<EventGetResponseDto> events = new ArrayList<>();
+            for (int i = 0; i < eventsPerMember; i++) {
+                LocalDateTime start = rangeStart.minusHours(9).plusMinutes(5L * random.nextInt(14 * 24 * 12));
+                events.add(new EventGetResponseDto((long) i, "일정", null, start, start.plusMinutes(30L + 30L * random.nextInt(4)), false));
+            }
+            memberEvents.add(events);
+        }
+
+        memberBitmaps = memberEvents.stream()
+                .map(events -> rangeStart.toLocalDate().datesUntil(rangeEnd.toLocalDate())
+                        .map(day -> BusyBitmap.of(day, events))
+                        .toList())
+                .toList();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetSlots() {
+        slots = logicService.generateSlotsV2(List.of(), 5L, starts, ends);
+    }
+
+    @Benchmark
+    public List<WhenToMeet> legacyPerSlotScan() {
+        for (List<EventGetResponseDto> events : memberEvents) {
+            for (WhenToMeet slot : slots) {
+                boolean busy = events.stream().anyMatch(event ->
+                        slot.getStartTime().isBefore(event.endTime()) &&
+                                slot.getEndTime().isAfter(event.startTime())
+                );
+                if (busy) {
+                    slot.discountAvailable();
+                }
+            }
+        }
+        return slots;
+    }
+
+    @Benchmark
+    public List<WhenToMeet> sweep() {
+        SlotAvailability availability = SlotAvailability.of(slots);
+        for (List<EventGetResponseDto> events : memberEvents) {
+            availability.addMemberEvents(events);
+        }
+        availability.applyTo(slots);
+        return slots;
+    }
+
+    @Benchmark
+    public List<WhenToMeet> cachedBitmaps() {
+        SlotAvailability availability = SlotAvailability.of(slots);
+        for (List<BusyBitmap> bitmaps : memberBitmaps) {
+            availability.addMemberBitmaps(bitmaps);
+        }
+        availability.applyTo(slots);
+        return slots;
+    }
+}
@@ -0,0 +1,138 @@
+package db.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import net.fortuna.ical4j.model.Recur;
+import net.fortuna.ical4j.model.property.RRule;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 반복 범위(seriesEnd, FREQ, INTERVAL) 컬럼 추가 이전에 저장된 반복 일정 backfill
+ * V3 에서 추가한 컬럼을 한 번만 채우며, 반복 규칙을 해석할 수 없는 일정은 null 로 두고 조회 시 기존처럼 전개
+ * 마이그레이션 결과가 이후 코드 변경에 따라 달라지지 않도록 애플리케이션 클래스(RRuleParser 등)를 쓰지 않고
+ * 작성 당시의 계산(UNTIL 은 그 날짜 23:59:59, 최대 2년 전개)을 ical4j 로 직접 수행
+ */
+@Slf4j
+public class V3_1__RecurrenceBoundsBackfill extends BaseJavaMigration {
+    private static final int PAGE_SIZE = 100;
+    private static final int REPEAT_LIMIT_YEARS = 2;
+    private static final Pattern UNTIL_PATTERN = Pattern.compile("UNTIL=([0-9]{8}T[0-9]{6}Z)");
+
+    private static final String SELECT_PAGE = """
+            SELECT e.event_id, e.start_at, e.end_at, r.recurrence_rule_id, r.rrule_string
+            FROM events e
+            JOIN recurrence_rule r ON r.recurrence_rule_id = e.recurrence_rule_id
+            WHERE e.event_id > ?
+            AND r.series_end IS NULL
+            ORDER BY e.event_id
+            LIMIT %d
+            """.formatted(PAGE_SIZE);
+
+    private static final String UPDATE_BOUNDS = """
+            UPDATE recurrence_rule
+            SET frequency = ?, repeat_interval = ?, series_end = ?
+            WHERE recurrence_rule_id = ?
+            """;
+
+    private record Bounds(String frequency, int interval, LocalDateTime seriesEnd) {}
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        int filledCount = 0;
+        long lastEventId = 0L;
+
+        try (PreparedStatement select = connection.prepareStatement(SELECT_PAGE);
+             PreparedStatement update = connection.prepareStatement(UPDATE_BOUNDS)) {
+            int pageCount;
+            do {
+                pageCount = 0;
+                select.setLong(1, lastEventId);
+
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        pageCount++;
+                        lastEventId = rows.getLong("event_id");
+
+                        if (addBounds(update, rows)) {
+                            filledCount++;
+                        }
+                    }
+                }
+                update.executeBatch();
+            } while (pageCount == PAGE_SIZE);
+        }
+
+        if (filledCount > 0) {
+            log.info("반복 범위 backfill 완료: {}건", filledCount);
+        }
+    }
+
+    private boolean addBounds(PreparedStatement update, ResultSet row) throws SQLException {
+        String rruleString = row.getString("rrule_string");
+        Bounds bounds;
+        try {
+            bounds = calBounds(
+                    row.getTimestamp("start_at").toLocalDateTime(),
+                    row.getTimestamp("end_at").toLocalDateTime(),
+                    rruleString
+            );
+        }
+        catch (RuntimeException e) {
+            log.warn("반복 범위 계산 실패: eventId={}, rrule={}", row.getLong("event_id"), rruleString);
+            return false;
+        }
+
+        update.setString(1, bounds.frequency());
+        update.setInt(2, bounds.interval());
+        update.setTimestamp(3, Timestamp.valueOf(bounds.seriesEnd()));
+        update.setLong(4, row.getLong("recurrence_rule_id"));
+        update.addBatch();
+        return true;
+    }
+
+    /**
+     * FREQ, INTERVAL 과 마지막 회차 종료 시간
+     * 회차는 첫 회차부터 UNTIL 날짜의 23:59:59 와 첫 회차 2년 후 중 이른 시각까지 전개
+     */
+    private static Bounds calBounds(LocalDateTime firstStartTime, LocalDateTime firstEndTime, String rruleString) {
+        Recur<ZonedDateTime> recur = new RRule<ZonedDateTime>(rruleString).getRecur();
+
+        LocalDateTime repeatEnd = firstStartTime.plusYears(REPEAT_LIMIT_YEARS);
+        Matcher until = UNTIL_PATTERN.matcher(rruleString.toUpperCase(Locale.ROOT));
+        if (until.find()) {
+            String date = until.group(1);
+            LocalDateTime untilEnd = LocalDateTime.of(
+                    Integer.parseInt(date.substring(0, 4)),
+                    Integer.parseInt(date.substring(4, 6)),
+                    Integer.parseInt(date.substring(6, 8)),
+                    23, 59, 59
+            );
+            repeatEnd = untilEnd.isBefore(repeatEnd) ? untilEnd : repeatEnd;
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        List<ZonedDateTime> startTimes = recur.getDates(firstStartTime.atZone(zone), repeatEnd.atZone(zone));
+        LocalDateTime lastStartTime = startTimes.isEmpty() ? firstStartTime : startTimes.getLast().toLocalDateTime();
+
+        return new Bounds(
+                recur.getFrequency().name(),
+                Math.max(recur.getInterval(), 1),
+                lastStartTime.plus(Duration.between(firstStartTime, firstEndTime))
+        );
+    }
+}
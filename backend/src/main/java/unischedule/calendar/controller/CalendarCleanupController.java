@@ -0,0 +1,49 @@
+package unischedule.calendar.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
+import unischedule.calendar.service.CalendarCleanupService;
+
+@RestController
+@RequestMapping("/api/calendars/cleanup-jobs")
+@RequiredArgsConstructor
+public class CalendarCleanupController {
+    private final CalendarCleanupService calendarCleanupService;
+
+    /**
+     * 캘린더 삭제 작업 진행 상황 조회, 작업을 요청한 멤버만 조회 가능
+     * @param userDetails
+     * @param jobKey
+     * @return
+     */
+    @GetMapping("/{jobKey}")
+    public ResponseEntity<CalendarCleanupJobResponseDto> getCleanupJob(
+            @AuthenticationPrincipal
+            UserDetails userDetails,
+            @PathVariable String jobKey
+    ) {
+        return ResponseEntity.ok(calendarCleanupService.getJob(userDetails.getUsername(), jobKey));
+    }
+
+    /**
+     * 캘린더 삭제 작업 진행 상황 조회, 로그인 없이 작업 등록 시 받은 토큰으로 확인
+     * 탈퇴한 멤버가 개인 캘린더 삭제 진행 상황을 조회할 때 사용
+     * @param jobKey
+     * @param pollToken
+     * @return
+     */
+    @GetMapping("/{jobKey}/status/{pollToken}")
+    public ResponseEntity<CalendarCleanupJobResponseDto> getCleanupJobByPollToken(
+            @PathVariable String jobKey,
+            @PathVariable String pollToken
+    ) {
+        return ResponseEntity.ok(calendarCleanupService.getJobByPollToken(jobKey, pollToken));
+    }
+}
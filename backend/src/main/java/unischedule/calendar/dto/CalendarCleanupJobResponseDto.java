@@ -0,0 +1,31 @@
+package unischedule.calendar.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import unischedule.calendar.entity.CalendarCleanupJob;
+import unischedule.calendar.entity.CalendarCleanupStatus;
+
+public record CalendarCleanupJobResponseDto(
+        @JsonProperty("job_key")
+        String jobKey,
+        // 로그인 없이 진행 상황을 조회할 때 사용하는 토큰
+        @JsonProperty("poll_token")
+        String pollToken,
+        CalendarCleanupStatus status,
+        @JsonProperty("total_events")
+        long totalEvents,
+        @JsonProperty("deleted_events")
+        long deletedEvents,
+        // 삭제한 일정 비율 (0 ~ 100)
+        int progress
+) {
+    public static CalendarCleanupJobResponseDto from(CalendarCleanupJob job) {
+        return new CalendarCleanupJobResponseDto(
+                job.getJobKey(),
+                job.getPollToken(),
+                job.getStatus(),
+                job.getTotalEvents(),
+                job.getDeletedEvents(),
+                job.getProgress()
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package unischedule.calendar.dto;
+
+/**
+ * 멤버별 캘린더 id 조회 결과
+ * @param memberId
+ * @param calendarId
+ * @param teamId 개인 캘린더면 null
+ */
+public record MemberCalendarIdDto(
+        Long memberId,
+        Long calendarId,
+        Long teamId
+) {
+    public boolean isPersonal() {
+        return teamId == null;
+    }
+}
@@ -0,0 +1,149 @@
+package unischedule.calendar.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import unischedule.common.entity.BaseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 캘린더 일정 정리 작업
+ * 일정을 배치 단위로 삭제하며 진행 상황을 기록하고, 모두 지우면 캘린더를 삭제
+ * 팀 폐쇄 작업이면 이어서 채팅 메시지, 팀 멤버, 팀까지 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "calendar_cleanup_jobs")
+public class CalendarCleanupJob extends BaseEntity {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int POLL_TOKEN_BYTES = 32;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "calendar_cleanup_job_id")
+    private Long id;
+
+    /**
+     * 진행 상태 조회용 키
+     */
+    @Column(name = "job_key", nullable = false, unique = true, length = 36)
+    private String jobKey;
+
+    /**
+     * 캘린더가 삭제된 뒤에도 기록은 남도록 연관관계 없이 id 만 저장
+     */
+    @Column(name = "calendar_id", nullable = false)
+    private Long calendarId;
+
+    /**
+     * 팀 폐쇄 작업의 팀 id, 개인 캘린더 작업이면 null
+     */
+    @Column(name = "team_id")
+    private Long teamId;
+
+    /**
+     * 작업을 요청한 멤버 id, 진행 상황은 이 멤버만 조회할 수 있음
+     */
+    @Column(name = "requested_by")
+    private Long requestedBy;
+
+    /**
+     * 로그인 없이 진행 상황을 조회하기 위한 임의 토큰, 탈퇴한 멤버는 로그인할 수 없으므로 이 토큰으로 조회
+     */
+    @Column(name = "poll_token", length = 64)
+    private String pollToken;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CalendarCleanupStatus status;
+
+    @Column(name = "total_events", nullable = false)
+    private long totalEvents;
+
+    @Column(name = "deleted_events", nullable = false)
+    private long deletedEvents;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    public CalendarCleanupJob(Long calendarId, Long teamId, Long requestedBy, long totalEvents) {
+        this.jobKey = UUID.randomUUID().toString();
+        this.calendarId = calendarId;
+        this.teamId = teamId;
+        this.requestedBy = requestedBy;
+        this.pollToken = newPollToken();
+        this.status = CalendarCleanupStatus.PENDING;
+        this.totalEvents = totalEvents;
+    }
+
+    public CalendarCleanupJob(Long calendarId, Long requestedBy, long totalEvents) {
+        this(calendarId, null, requestedBy, totalEvents);
+    }
+
+    public boolean isTeamTeardown() {
+        return this.teamId != null;
+    }
+
+    public boolean isRequestedBy(Long memberId) {
+        return this.requestedBy != null && this.requestedBy.equals(memberId);
+    }
+
+    public boolean matchesPollToken(String token) {
+        return this.pollToken != null && token != null
+                && MessageDigest.isEqual(
+                this.pollToken.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    public void addDeletedEvents(int count) {
+        this.deletedEvents += count;
+    }
+
+    public void complete() {
+        this.status = CalendarCleanupStatus.COMPLETED;
+    }
+
+    /**
+     * 실패 횟수 기록, 최대 횟수에 도달하면 더 이상 재시도하지 않음
+     * @param maxAttempts
+     */
+    public void fail(int maxAttempts) {
+        this.attempts++;
+        this.status = (attempts >= maxAttempts) ? CalendarCleanupStatus.FAILED : CalendarCleanupStatus.PENDING;
+    }
+
+    /**
+     * 삭제한 일정 비율 (0 ~ 100)
+     * @return
+     */
+    public int getProgress() {
+        if (status == CalendarCleanupStatus.COMPLETED) {
+            return 100;
+        }
+        if (totalEvents == 0) {
+            return 0;
+        }
+        return (int) Math.min(99, deletedEvents * 100 / totalEvents);
+    }
+
+    private static String newPollToken() {
+        byte[] bytes = new byte[POLL_TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,5 @@
+package unischedule.calendar.entity;
+
+public enum CalendarCleanupStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
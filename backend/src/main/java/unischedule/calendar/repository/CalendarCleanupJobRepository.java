@@ -0,0 +1,62 @@
+package unischedule.calendar.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import unischedule.calendar.entity.CalendarCleanupJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CalendarCleanupJobRepository extends JpaRepository<CalendarCleanupJob, Long> {
+    Optional<CalendarCleanupJob> findByJobKey(String jobKey);
+
+    /**
+     * 처리할 작업 id 조회
+     * 대기 중인 작업과, 실행 중이지만 staleBefore 이후 진행이 없는 (처리하던 서버가 중단된) 작업
+     * @param staleBefore
+     * @param pageable
+     * @return
+     */
+    @Query("""
+            SELECT j.id
+            FROM CalendarCleanupJob j
+            WHERE j.status = unischedule.calendar.entity.CalendarCleanupStatus.PENDING
+            OR (j.status = unischedule.calendar.entity.CalendarCleanupStatus.RUNNING AND j.updatedAt < :staleBefore)
+            ORDER BY j.id
+    """)
+    List<Long> findRunnableJobIds(
+            @Param("staleBefore")
+            LocalDateTime staleBefore,
+            Pageable pageable
+    );
+
+    /**
+     * 작업 선점, 다른 서버가 먼저 선점했으면 0 반환
+     * @param jobId
+     * @param staleBefore
+     * @param now
+     * @return
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE CalendarCleanupJob j
+            SET j.status = unischedule.calendar.entity.CalendarCleanupStatus.RUNNING, j.updatedAt = :now
+            WHERE j.id = :jobId
+            AND (j.status = unischedule.calendar.entity.CalendarCleanupStatus.PENDING
+                OR (j.status = unischedule.calendar.entity.CalendarCleanupStatus.RUNNING AND j.updatedAt < :staleBefore))
+    """)
+    int claim(
+            @Param("jobId")
+            Long jobId,
+            @Param("staleBefore")
+            LocalDateTime staleBefore,
+            @Param("now")
+            LocalDateTime now
+    );
+}
@@ -1,7 +1,11 @@
 package unischedule.calendar.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import unischedule.calendar.dto.MemberCalendarIdDto;
 import unischedule.calendar.entity.Calendar;
 import unischedule.member.domain.Member;
 import unischedule.team.domain.Team;
@@ -16,4 +20,51 @@ public interface CalendarRepository extends JpaRepository<Calendar, Long> {
     Optional<Calendar> findByOwnerAndTeamIsNull(Member owner);
 
     Optional<Calendar> findByTeam(Team team);
+
+    /**
+     * 멤버의 개인 캘린더와 소속 팀 캘린더 id 조회 (개인 캘린더가 맨 앞)
+     * 폐쇄 중인 팀의 캘린더는 제외
+     * @param memberId
+     * @return
+     */
+    @Query("""
+            SELECT c.calendarId
+            FROM Calendar c
+            LEFT JOIN c.team t
+            WHERE (t IS NULL AND c.owner.memberId = :memberId)
+            OR (t.status = unischedule.team.domain.TeamStatus.ACTIVE AND t.teamId IN (
+                SELECT tm.team.teamId
+                FROM TeamMember tm
+                WHERE tm.member.memberId = :memberId
+            ))
+            ORDER BY CASE WHEN t IS NULL THEN 0 ELSE 1 END, c.calendarId
+    """)
+    List<Long> findCalendarIdsByMemberId(
+            @Param("memberId")
+            Long memberId
+    );
+
+    /**
+     * 여러 멤버의 개인 캘린더와 소속 팀 캘린더 id 를 한 번에 조회
+     * 폐쇄 중인 팀의 캘린더는 제외, 소속 팀 수만큼 개인 캘린더 행이 중복될 수 있음
+     * @param memberIds
+     * @return
+     */
+    @Query("""
+            SELECT new unischedule.calendar.dto.MemberCalendarIdDto(m.memberId, c.calendarId, t.teamId)
+            FROM Member m
+            LEFT JOIN TeamMember tm ON tm.member = m
+            JOIN Calendar c ON (c.team IS NULL AND c.owner = m) OR c.team = tm.team
+            LEFT JOIN c.team t
+            WHERE m.memberId IN :memberIds
+            AND (t IS NULL OR t.status = unischedule.team.domain.TeamStatus.ACTIVE)
+    """)
+    List<MemberCalendarIdDto> findCalendarIdsByMemberIds(
+            @Param("memberIds")
+            List<Long> memberIds
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Calendar c WHERE c.calendarId = :calendarId")
+    int deleteByCalendarId(@Param("calendarId") Long calendarId);
 }
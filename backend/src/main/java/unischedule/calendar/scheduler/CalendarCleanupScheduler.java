@@ -0,0 +1,61 @@
+package unischedule.calendar.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import unischedule.calendar.service.CalendarCleanupService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 등록된 캘린더 삭제 작업 실행
+ * 배치마다 트랜잭션을 나눠 한 번에 잡는 잠금과 undo 로그를 줄이고, 중간에 실패하면 남은 일정부터 다시 실행
+ */
+@Slf4j
+@Component
+public class CalendarCleanupScheduler {
+    private static final int JOBS_PER_RUN = 10;
+
+    private final CalendarCleanupService calendarCleanupService;
+    private final int batchSize;
+    private final Duration staleTimeout;
+
+    public CalendarCleanupScheduler(
+            CalendarCleanupService calendarCleanupService,
+            @Value("${calendar.cleanup.batch-size:500}") int batchSize,
+            @Value("${calendar.cleanup.stale-timeout:PT10M}") Duration staleTimeout
+    ) {
+        this.calendarCleanupService = calendarCleanupService;
+        this.batchSize = batchSize;
+        this.staleTimeout = staleTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.cleanup.poll-delay:PT5S}")
+    public void runPendingJobs() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(staleTimeout);
+
+        for (Long jobId : calendarCleanupService.findRunnableJobIds(staleBefore, JOBS_PER_RUN)) {
+            if (calendarCleanupService.claim(jobId, staleBefore)) {
+                runJob(jobId);
+            }
+        }
+    }
+
+    private void runJob(Long jobId) {
+        try {
+            int deleted;
+            do {
+                deleted = calendarCleanupService.deleteNextBatch(jobId, batchSize);
+            } while (deleted > 0);
+
+            calendarCleanupService.complete(jobId);
+            log.info("캘린더 삭제 작업 완료: jobId={}", jobId);
+        }
+        catch (RuntimeException e) {
+            log.error("캘린더 삭제 작업 실패: jobId={}", jobId, e);
+            calendarCleanupService.recordFailure(jobId);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package unischedule.calendar.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
+import unischedule.calendar.entity.CalendarCleanupJob;
+import unischedule.calendar.repository.CalendarCleanupJobRepository;
+import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.events.service.common.EventBulkDeleteService;
+import unischedule.events.service.internal.EventRawService;
+import unischedule.events.service.internal.EventTombstoneRawService;
+import unischedule.exception.EntityNotFoundException;
+import unischedule.exception.NoPermissionException;
+import unischedule.member.domain.Member;
+import unischedule.member.service.internal.MemberRawService;
+import unischedule.team.chat.repository.ChatMessageRepository;
+import unischedule.team.service.internal.TeamMemberRawService;
+import unischedule.team.service.internal.TeamRawService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캘린더와 그 일정 전체 삭제
+ * 일정을 하나씩 지우지 않고 테이블별 일괄 삭제를 배치 단위로 실행하며, 진행 상황은 작업에 기록
+ * 팀 폐쇄 작업은 같은 방식으로 채팅 메시지, 팀 멤버, 팀까지 삭제
+ * 실제 삭제는 CalendarCleanupScheduler 가 백그라운드에서 실행
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarCleanupService {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final CalendarCleanupJobRepository calendarCleanupJobRepository;
+    private final CalendarRawService calendarRawService;
+    private final EventRawService eventRawService;
+    private final EventBulkDeleteService eventBulkDeleteService;
+    private final EventTombstoneRawService eventTombstoneRawService;
+    private final TeamRawService teamRawService;
+    private final TeamMemberRawService teamMemberRawService;
+    private final ChatMessageRepository chatMessageRepository;
+    private final CalendarVersionService calendarVersionService;
+    private final MemberRawService memberRawService;
+
+    /**
+     * 캘린더 삭제 작업 등록
+     * @param calendarId
+     * @param requestedBy 요청한 멤버 id
+     * @return
+     */
+    @Transactional
+    public CalendarCleanupJobResponseDto requestCleanup(Long calendarId, Long requestedBy) {
+        long totalEvents = eventRawService.countByCalendarId(calendarId);
+        CalendarCleanupJob job = calendarCleanupJobRepository.save(new CalendarCleanupJob(calendarId, requestedBy, totalEvents));
+
+        return CalendarCleanupJobResponseDto.from(job);
+    }
+
+    /**
+     * 팀 폐쇄 작업 등록, 팀은 작업이 끝날 때까지 폐쇄 중 상태로 남음
+     * @param calendarId 팀 캘린더 id
+     * @param teamId
+     * @param requestedBy 요청한 팀장 id
+     * @return
+     */
+    @Transactional
+    public CalendarCleanupJobResponseDto requestTeamCleanup(Long calendarId, Long teamId, Long requestedBy) {
+        long totalEvents = eventRawService.countByCalendarId(calendarId);
+        CalendarCleanupJob job = calendarCleanupJobRepository.save(new CalendarCleanupJob(calendarId, teamId, requestedBy, totalEvents));
+
+        return CalendarCleanupJobResponseDto.from(job);
+    }
+
+    /**
+     * 작업 진행 상황 조회, 작업을 요청한 멤버만 조회 가능
+     * @param email
+     * @param jobKey
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public CalendarCleanupJobResponseDto getJob(String email, String jobKey) {
+        Member member = memberRawService.findMemberByEmail(email);
+        CalendarCleanupJob job = calendarCleanupJobRepository.findByJobKey(jobKey)
+                .orElseThrow(() -> new EntityNotFoundException("캘린더 삭제 작업을 찾을 수 없습니다."));
+
+        if (!job.isRequestedBy(member.getMemberId())) {
+            throw new NoPermissionException("캘린더 삭제 작업을 조회할 권한이 없습니다.");
+        }
+        return CalendarCleanupJobResponseDto.from(job);
+    }
+
+    /**
+     * 작업 진행 상황 조회, 로그인 대신 작업 등록 시 발급한 토큰으로 확인
+     * 탈퇴한 멤버는 로그인할 수 없으므로 이 방법으로 개인 캘린더 삭제 진행 상황을 조회
+     * @param jobKey
+     * @param pollToken
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public CalendarCleanupJobResponseDto getJobByPollToken(String jobKey, String pollToken) {
+        CalendarCleanupJob job = calendarCleanupJobRepository.findByJobKey(jobKey)
+                .orElseThrow(() -> new EntityNotFoundException("캘린더 삭제 작업을 찾을 수 없습니다."));
+
+        if (!job.matchesPollToken(pollToken)) {
+            throw new NoPermissionException("캘린더 삭제 작업을 조회할 권한이 없습니다.");
+        }
+        return CalendarCleanupJobResponseDto.from(job);
+    }
+
+    /**
+     * 처리할 작업 id 조회
+     * @param staleBefore 이 시각 이후 진행이 없는 실행 중 작업은 중단된 것으로 보고 다시 처리
+     * @param size
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findRunnableJobIds(LocalDateTime staleBefore, int size) {
+        return calendarCleanupJobRepository.findRunnableJobIds(staleBefore, PageRequest.of(0, size));
+    }
+
+    /**
+     * 작업 선점, 여러 서버가 같은 작업을 동시에 실행하지 않도록 상태를 조건부로 변경
+     * @param jobId
+     * @param staleBefore
+     * @return 선점 성공 여부
+     */
+    @Transactional
+    public boolean claim(Long jobId, LocalDateTime staleBefore) {
+        return calendarCleanupJobRepository.claim(jobId, staleBefore, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * 일정 batchSize 개와 그 일정을 참조하는 데이터를 일괄 삭제
+     * 팀 폐쇄 작업은 일정을 모두 지운 뒤 채팅 메시지를 batchSize 개씩 삭제
+     * @param jobId
+     * @param batchSize
+     * @return 삭제한 일정 (또는 채팅 메시지) 수, 0 이면 남은 데이터 없음
+     */
+    @Transactional
+    public int deleteNextBatch(Long jobId, int batchSize) {
+        CalendarCleanupJob job = findJob(jobId);
+        List<Long> eventIds = eventRawService.findEventIdsByCalendarId(job.getCalendarId(), batchSize);
+        if (eventIds.isEmpty()) {
+            return job.isTeamTeardown() ? deleteNextChatBatch(job.getTeamId(), batchSize) : 0;
+        }
+
+        eventBulkDeleteService.deleteEvents(eventIds);
+
+        job.addDeletedEvents(eventIds.size());
+        return eventIds.size();
+    }
+
+    /**
+     * 일정을 모두 지운 뒤 삭제 기록과 캘린더를 삭제하고 작업 완료 처리
+     * 팀 폐쇄 작업이면 팀 멤버와 팀도 삭제
+     * @param jobId
+     */
+    @Transactional
+    public void complete(Long jobId) {
+        CalendarCleanupJob job = findJob(jobId);
+
+        if (job.isTeamTeardown()) {
+            teamMemberRawService.deleteAllByTeamId(job.getTeamId());
+        }
+        eventTombstoneRawService.deleteAllByCalendarId(job.getCalendarId());
+        calendarRawService.deleteCalendarById(job.getCalendarId());
+        if (job.isTeamTeardown()) {
+            teamRawService.deleteTeamById(job.getTeamId());
+        }
+        calendarVersionService.bump(job.getCalendarId());
+
+        job.complete();
+    }
+
+    /**
+     * 실패 기록, 최대 횟수 전까지는 다음 실행에서 남은 일정부터 다시 삭제
+     * @param jobId
+     */
+    @Transactional
+    public void recordFailure(Long jobId) {
+        findJob(jobId).fail(MAX_ATTEMPTS);
+    }
+
+    private int deleteNextChatBatch(Long teamId, int batchSize) {
+        List<Long> messageIds = chatMessageRepository.findIdsByTeamId(teamId, PageRequest.of(0, batchSize));
+        if (messageIds.isEmpty()) {
+            return 0;
+        }
+        return chatMessageRepository.deleteAllByIds(messageIds);
+    }
+
+    private CalendarCleanupJob findJob(Long jobId) {
+        return calendarCleanupJobRepository.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("캘린더 삭제 작업을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,175 @@
+package unischedule.calendar.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import unischedule.calendar.dto.MemberCalendarIdDto;
+import unischedule.calendar.repository.CalendarRepository;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.exception.EntityNotFoundException;
+import unischedule.member.domain.Member;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 멤버가 조회할 수 있는 캘린더 id (개인 캘린더 + 소속 팀 캘린더) 조회
+ * (멤버 id, 멤버 소속 버전) 단위로 캐시하고, 팀 가입/탈퇴/삭제/추방 시 소속 버전을 올려
+ * 다른 서버를 포함한 이전 캐시 항목이 더 이상 사용되지 않게 함
+ */
+@Slf4j
+@Service
+public class CalendarIdResolver {
+    private final CalendarRepository calendarRepository;
+    private final CalendarVersionService calendarVersionService;
+    private final Cache<MemberCalendarIdsKey, List<Long>> cache;
+
+    private record MemberCalendarIdsKey(Long memberId, Long membershipVersion) {}
+
+    public CalendarIdResolver(
+            CalendarRepository calendarRepository,
+            CalendarVersionService calendarVersionService,
+            @Value("${calendar.id-cache.max-size:10000}") long maxSize,
+            @Value("${calendar.id-cache.ttl:PT30M}") Duration ttl
+    ) {
+        this.calendarRepository = calendarRepository;
+        this.calendarVersionService = calendarVersionService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 멤버의 캘린더 id 목록, 개인 캘린더 id 가 맨 앞
+     * @param member
+     * @return
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public List<Long> getMemberCalendarIds(Member member) {
+        Long memberId = member.getMemberId();
+        Map<Long, Long> versionByMember = getMembershipVersions(List.of(memberId));
+        MemberCalendarIdsKey key = versionByMember.isEmpty()
+                ? null
+                : new MemberCalendarIdsKey(memberId, versionByMember.get(memberId));
+
+        List<Long> cached = key == null ? null : cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Long> calendarIds = List.copyOf(calendarRepository.findCalendarIdsByMemberId(memberId));
+        if (calendarIds.isEmpty()) {
+            throw new EntityNotFoundException("개인 캘린더를 찾을 수 없습니다.");
+        }
+
+        // 쓰기 트랜잭션의 커밋되지 않은 변경이나 버전보다 먼저 잡힌 스냅샷을 읽었을 수 있으면 캐시하지 않음
+        if (key != null && CalendarVersionService.isCacheableRead()) {
+            cache.put(key, calendarIds);
+        }
+        return calendarIds;
+    }
+
+    /**
+     * 여러 멤버의 캘린더 id 목록, 캐시에 없는 멤버는 한 번의 조회로 채움
+     * @param members
+     * @return 멤버 id 별 캘린더 id 목록 (개인 캘린더 id 가 맨 앞)
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public Map<Long, List<Long>> getMemberCalendarIds(List<Member> members) {
+        List<Long> memberIds = members.stream()
+                .map(Member::getMemberId)
+                .distinct()
+                .toList();
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> versionByMember = getMembershipVersions(memberIds);
+        Map<Long, List<Long>> result = new HashMap<>();
+        List<Long> missingMemberIds = new ArrayList<>();
+
+        for (Long memberId : memberIds) {
+            List<Long> cached = versionByMember.isEmpty()
+                    ? null
+                    : cache.getIfPresent(new MemberCalendarIdsKey(memberId, versionByMember.get(memberId)));
+            if (cached != null) {
+                result.put(memberId, cached);
+            }
+            else {
+                missingMemberIds.add(memberId);
+            }
+        }
+        if (missingMemberIds.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, List<MemberCalendarIdDto>> rowsByMember = calendarRepository.findCalendarIdsByMemberIds(missingMemberIds)
+                .stream()
+                .collect(Collectors.groupingBy(MemberCalendarIdDto::memberId));
+
+        // 쓰기 트랜잭션의 커밋되지 않은 변경이나 버전보다 먼저 잡힌 스냅샷을 읽었을 수 있으면 캐시하지 않음
+        boolean cacheable = !versionByMember.isEmpty() && CalendarVersionService.isCacheableRead();
+
+        for (Long memberId : missingMemberIds) {
+            List<Long> calendarIds = rowsByMember.getOrDefault(memberId, List.of()).stream()
+                    .sorted(Comparator.comparing((MemberCalendarIdDto row) -> !row.isPersonal())
+                            .thenComparing(MemberCalendarIdDto::calendarId))
+                    .map(MemberCalendarIdDto::calendarId)
+                    .distinct()
+                    .toList();
+            if (calendarIds.isEmpty()) {
+                throw new EntityNotFoundException("개인 캘린더를 찾을 수 없습니다.");
+            }
+
+            if (cacheable) {
+                cache.put(new MemberCalendarIdsKey(memberId, versionByMember.get(memberId)), calendarIds);
+            }
+            result.put(memberId, calendarIds);
+        }
+        return result;
+    }
+
+    public void evict(Long memberId) {
+        evictAll(List.of(memberId));
+    }
+
+    /**
+     * 멤버 소속 버전 증가, 트랜잭션 안이면 커밋 이후에 증가
+     * 버전은 공유 저장소에 있으므로 다른 서버의 캐시 항목도 다음 조회부터 사용되지 않음
+     * @param memberIds
+     */
+    public void evictAll(Collection<Long> memberIds) {
+        calendarVersionService.bumpMemberships(memberIds);
+    }
+
+    /**
+     * 멤버 id 별 소속 버전, 조회할 수 없으면 빈 맵을 돌려 캐시 없이 조회하게 함
+     */
+    private Map<Long, Long> getMembershipVersions(List<Long> memberIds) {
+        List<Long> versions;
+        try {
+            versions = calendarVersionService.getMembershipVersions(memberIds);
+        }
+        catch (RuntimeException e) {
+            log.warn("멤버 소속 버전 조회 실패, 캐시 없이 조회: memberIds={}", memberIds, e);
+            return Map.of();
+        }
+
+        Map<Long, Long> versionByMember = new HashMap<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            versionByMember.put(memberIds.get(i), versions.get(i));
+        }
+        return versionByMember;
+    }
+}
@@ -42,4 +42,13 @@ public class CalendarRawService {
     public void deleteCalendar(Calendar calendar) {
         calendarRepository.delete(calendar);
     }
+
+    /**
+     * 캘린더 일괄 삭제, 캘린더의 일정은 먼저 삭제해야 함
+     * @param calendarId
+     */
+    @Transactional
+    public void deleteCalendarById(Long calendarId) {
+        calendarRepository.deleteByCalendarId(calendarId);
+    }
 }
@@ -0,0 +1,32 @@
+package unischedule.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 동안 EntityManager 를 열어 두는 open-in-view 설정 (spring.jpa.open-in-view=false 대신 직접 등록)
+ * 열린 EntityManager 는 첫 트랜잭션 이후 응답까지 커넥션을 잡고 있으므로,
+ * 멤버별 조회를 다른 스레드에서 나눠 실행하고 기다리는 WhenToMeet 요청은 제외
+ */
+@Configuration
+@RequiredArgsConstructor
+public class OpenInViewConfig implements WebMvcConfigurer {
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // JPA 를 띄우지 않는 웹 슬라이스 테스트에서는 등록하지 않음
+        entityManagerFactory.ifAvailable(factory -> {
+            OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+            interceptor.setEntityManagerFactory(factory);
+
+            registry.addWebRequestInterceptor(interceptor)
+                    .excludePathPatterns("/api/teams/*/when-to-meet/**");
+        });
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseCookie;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -122,6 +123,10 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/members/login", "/api/members/signup", "/api/members/refresh", "/ws/**", "/api/auth/email/send", "/api/auth/email/verify").permitAll()
                         .requestMatchers("/error", "/actuator/health", "/test").permitAll()
+                        // ICS 구독 (외부 캘린더 앱, 주소의 서명된 토큰으로 확인)
+                        .requestMatchers(HttpMethod.GET, "/api/events/feeds/*.ics").permitAll()
+                        // 캘린더 삭제 작업 진행 상황 (탈퇴한 멤버, 주소의 작업별 토큰으로 확인)
+                        .requestMatchers(HttpMethod.GET, "/api/calendars/cleanup-jobs/*/status/*").permitAll()
                         // OAuth
                         .requestMatchers("/login/oauth2/**", "/oauth2/**").permitAll()
                         .anyRequest().authenticated()
@@ -0,0 +1,155 @@
+package unischedule.events.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캘린더별 일정 변경 버전 관리
+ * 일정 조회 캐시의 키에 버전이 포함되므로, 버전을 올리면 해당 캘린더를 포함한 캐시 항목은 더 이상 사용되지 않음
+ * 멤버별 캘린더 id 캐시도 같은 방식으로 멤버 소속 버전을 키에 포함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarVersionService {
+    private final CalendarVersionStore calendarVersionStore;
+
+    public List<Long> getVersions(List<Long> calendarIds) {
+        return calendarVersionStore.getVersions(calendarIds);
+    }
+
+    public List<Long> getMembershipVersions(List<Long> memberIds) {
+        return calendarVersionStore.getMembershipVersions(memberIds);
+    }
+
+    /**
+     * 일정 목록 응답의 ETag 생성
+     * 같은 조회 대상, 캘린더 버전, 기간이면 같은 응답이므로 같은 값
+     * 버전을 조회할 수 없으면 매번 다른 값을 돌려 항상 새로 응답하게 함
+     * @param scope 응답을 구분하는 조회 대상 (예: member:1, team:1)
+     * @param calendarIds
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    public String getETag(String scope, List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
+        List<Long> sortedCalendarIds = calendarIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+
+        List<Long> versions;
+        try {
+            versions = calendarVersionStore.getVersions(sortedCalendarIds);
+        }
+        catch (RuntimeException e) {
+            log.warn("캘린더 버전 조회 실패, ETag 없이 응답: calendarIds={}", sortedCalendarIds, e);
+            return "\"" + UUID.randomUUID() + "\"";
+        }
+
+        String source = String.join("|",
+                scope,
+                sortedCalendarIds.toString(),
+                versions.toString(),
+                String.valueOf(startAt),
+                String.valueOf(endAt)
+        );
+        return "\"" + sha256(source) + "\"";
+    }
+
+    /**
+     * 캘린더 버전 증가, 트랜잭션 안이면 커밋 이후에 증가
+     * 커밋 전에 올리면 다른 요청이 변경 전 데이터를 새 버전으로 캐시할 수 있음
+     * @param calendarId
+     */
+    public void bump(Long calendarId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(calendarId);
+                }
+            });
+            return;
+        }
+        increment(calendarId);
+    }
+
+    /**
+     * 멤버들의 소속 캘린더 목록 버전 증가, 트랜잭션 안이면 커밋 이후에 증가
+     * @param memberIds
+     */
+    public void bumpMemberships(Collection<Long> memberIds) {
+        List<Long> targetIds = List.copyOf(memberIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementMemberships(targetIds);
+                }
+            });
+            return;
+        }
+        incrementMemberships(targetIds);
+    }
+
+    private void incrementMemberships(List<Long> memberIds) {
+        try {
+            calendarVersionStore.incrementMemberships(memberIds);
+        }
+        catch (RuntimeException e) {
+            // 소속 변경은 이미 커밋되었으므로 요청은 실패시키지 않음, 캐시는 만료 시간 뒤 갱신됨
+            log.warn("멤버 소속 버전 증가 실패: memberIds={}", memberIds, e);
+        }
+    }
+
+    private void increment(Long calendarId) {
+        try {
+            calendarVersionStore.increment(List.of(calendarId));
+        }
+        catch (RuntimeException e) {
+            // 일정 변경은 이미 커밋되었으므로 요청은 실패시키지 않음
+            log.warn("캘린더 버전 증가 실패: calendarId={}", calendarId, e);
+        }
+    }
+
+    /**
+     * 방금 읽은 버전으로 조회 결과를 캐시해도 되는지 확인
+     * 트랜잭션 밖이거나 READ_COMMITTED 읽기 전용 트랜잭션이면 각 조회가 버전을 읽은 이후의 커밋을 봄
+     * 쓰기 트랜잭션은 커밋되지 않은 변경을, 그 외 격리 수준은 버전보다 먼저 잡힌 스냅샷을 읽을 수 있어
+     * 이전 데이터가 새 버전으로 저장될 수 있으므로 캐시하지 않음
+     * @return
+     */
+    public static boolean isCacheableRead() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return true;
+        }
+        Integer isolationLevel = TransactionSynchronizationManager.getCurrentTransactionIsolationLevel();
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && isolationLevel != null
+                && isolationLevel == Connection.TRANSACTION_READ_COMMITTED;
+    }
+
+    private static String sha256(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
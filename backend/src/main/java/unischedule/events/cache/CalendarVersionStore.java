@@ -0,0 +1,28 @@
+package unischedule.events.cache;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 캘린더별 일정 변경 버전, 멤버별 소속 캘린더 변경 버전 저장소
+ */
+public interface CalendarVersionStore {
+
+    /**
+     * 캘린더들의 현재 버전, 입력 순서와 같은 순서로 반환
+     * @param calendarIds
+     * @return
+     */
+    List<Long> getVersions(List<Long> calendarIds);
+
+    void increment(Collection<Long> calendarIds);
+
+    /**
+     * 멤버들의 소속 캘린더 목록 버전, 입력 순서와 같은 순서로 반환
+     * @param memberIds
+     * @return
+     */
+    List<Long> getMembershipVersions(List<Long> memberIds);
+
+    void incrementMemberships(Collection<Long> memberIds);
+}
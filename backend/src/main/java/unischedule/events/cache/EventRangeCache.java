@@ -0,0 +1,108 @@
+package unischedule.events.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import unischedule.events.dto.EventServiceDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * (캘린더 id 집합, 조회 기간) 단위의 일정 조회 결과 캐시
+ * 키에 캘린더 버전이 포함되어 있어, 일정이 바뀐 캘린더의 이전 결과는 조회되지 않고 만료 시간 뒤 제거됨
+ * events.cache.redis.enabled=true 이면 로컬 캐시에 없는 결과를 다른 서버와 공유하는 Redis 에서 한 번 더 찾음
+ */
+@Slf4j
+@Component
+public class EventRangeCache {
+    private final CalendarVersionService calendarVersionService;
+    private final boolean enabled;
+    private final Cache<EventRangeKey, List<EventServiceDto>> cache;
+    private final Optional<RedisEventRangeStore> sharedStore;
+
+    public EventRangeCache(
+            CalendarVersionService calendarVersionService,
+            Optional<RedisEventRangeStore> sharedStore,
+            @Value("${events.cache.enabled:true}") boolean enabled,
+            @Value("${events.cache.max-size:10000}") long maxSize,
+            @Value("${events.cache.ttl:PT5M}") Duration ttl
+    ) {
+        this.calendarVersionService = calendarVersionService;
+        this.sharedStore = sharedStore;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 캐시된 조회 결과 반환, 없으면 loader 로 조회 후 저장
+     * @param memberId 멤버 기준 조회가 아니면 null
+     * @param calendarIds
+     * @param startAt
+     * @param endAt
+     * @param loader
+     * @return 수정할 수 없는 리스트
+     */
+    public List<EventServiceDto> get(
+            Long memberId,
+            List<Long> calendarIds,
+            LocalDateTime startAt,
+            LocalDateTime endAt,
+            Supplier<List<EventServiceDto>> loader
+    ) {
+        // 쓰기 트랜잭션 안의 조회는 커밋되지 않은 변경을 포함할 수 있으므로 캐시하지 않음
+        if (!enabled || isInWriteTransaction()) {
+            return loader.get();
+        }
+
+        List<Long> sortedCalendarIds = calendarIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+
+        List<Long> versions;
+        try {
+            versions = calendarVersionService.getVersions(sortedCalendarIds);
+        }
+        catch (RuntimeException e) {
+            log.warn("캘린더 버전 조회 실패, 캐시 없이 조회: calendarIds={}", sortedCalendarIds, e);
+            return loader.get();
+        }
+
+        EventRangeKey key = new EventRangeKey(memberId, sortedCalendarIds, versions, startAt, endAt);
+        if (!CalendarVersionService.isCacheableRead()) {
+            // 버전보다 먼저 잡힌 스냅샷을 읽을 수 있으므로 캐시된 결과만 사용하고 새로 저장하지 않음
+            List<EventServiceDto> cached = cache.getIfPresent(key);
+            return cached != null ? cached : loader.get();
+        }
+        return cache.get(key, k -> loadShared(k, loader));
+    }
+
+    /**
+     * 로컬 캐시에 없을 때 공유 저장소(Redis 사용 시)를 먼저 확인하고, 없으면 조회 후 함께 저장
+     */
+    private List<EventServiceDto> loadShared(EventRangeKey key, Supplier<List<EventServiceDto>> loader) {
+        Optional<List<EventServiceDto>> shared = sharedStore.flatMap(store -> store.get(key));
+        if (shared.isPresent()) {
+            return shared.get();
+        }
+
+        List<EventServiceDto> events = List.copyOf(loader.get());
+        sharedStore.ifPresent(store -> store.put(key, events));
+        return events;
+    }
+
+    private boolean isInWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
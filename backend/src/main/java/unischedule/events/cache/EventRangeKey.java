@@ -0,0 +1,21 @@
+package unischedule.events.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일정 조회 캐시 키
+ * @param memberId 멤버 기준 조회가 아니면 null
+ * @param calendarIds 정렬된 캘린더 id
+ * @param versions calendarIds 와 같은 순서의 캘린더 버전
+ * @param startAt
+ * @param endAt
+ */
+public record EventRangeKey(
+        Long memberId,
+        List<Long> calendarIds,
+        List<Long> versions,
+        LocalDateTime startAt,
+        LocalDateTime endAt
+) {
+}
@@ -0,0 +1,57 @@
+package unischedule.events.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 서버용 캘린더, 멤버 소속 버전 저장소
+ * 재시작 후 이전 ETag 와 겹치지 않도록 버전은 서버 시작 시각부터 시작
+ */
+@Component
+@ConditionalOnProperty(name = "events.cache.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalCalendarVersionStore implements CalendarVersionStore {
+    private final long baseVersion = System.currentTimeMillis();
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> membershipVersions = new ConcurrentHashMap<>();
+
+    @Override
+    public List<Long> getVersions(List<Long> calendarIds) {
+        return get(versions, calendarIds);
+    }
+
+    @Override
+    public void increment(Collection<Long> calendarIds) {
+        increment(versions, calendarIds);
+    }
+
+    @Override
+    public List<Long> getMembershipVersions(List<Long> memberIds) {
+        return get(membershipVersions, memberIds);
+    }
+
+    @Override
+    public void incrementMemberships(Collection<Long> memberIds) {
+        increment(membershipVersions, memberIds);
+    }
+
+    private List<Long> get(Map<Long, AtomicLong> store, List<Long> ids) {
+        return ids.stream()
+                .map(id -> {
+                    AtomicLong version = store.get(id);
+                    return baseVersion + (version == null ? 0L : version.get());
+                })
+                .toList();
+    }
+
+    private void increment(Map<Long, AtomicLong> store, Collection<Long> ids) {
+        ids.forEach(id ->
+                store.computeIfAbsent(id, key -> new AtomicLong()).incrementAndGet()
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package unischedule.events.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 여러 서버가 같은 버전을 보도록 Redis 에 두는 캘린더 버전 저장소
+ * 한 서버에서 일정이나 팀 소속이 바뀌면 다른 서버의 캐시 항목도 다음 조회부터 사용되지 않음
+ * Redis 에서 키가 사라져도 이전 버전과 겹치지 않도록 없는 키는 현재 시각으로 시작
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "events.cache.redis.enabled", havingValue = "true")
+public class RedisCalendarVersionStore implements CalendarVersionStore {
+    private static final String KEY_PREFIX = "calendar:version:";
+    private static final String MEMBERSHIP_KEY_PREFIX = "member:membership:version:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public List<Long> getVersions(List<Long> calendarIds) {
+        return get(KEY_PREFIX, calendarIds);
+    }
+
+    @Override
+    public void increment(Collection<Long> calendarIds) {
+        increment(KEY_PREFIX, calendarIds);
+    }
+
+    @Override
+    public List<Long> getMembershipVersions(List<Long> memberIds) {
+        return get(MEMBERSHIP_KEY_PREFIX, memberIds);
+    }
+
+    @Override
+    public void incrementMemberships(Collection<Long> memberIds) {
+        increment(MEMBERSHIP_KEY_PREFIX, memberIds);
+    }
+
+    private List<Long> get(String prefix, List<Long> ids) {
+        List<String> keys = ids.stream().map(id -> prefix + id).toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            throw new IllegalStateException("버전을 조회할 수 없습니다.");
+        }
+
+        List<Long> versions = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            versions.add(value == null ? initialize(keys.get(i)) : Long.parseLong(value));
+        }
+        return versions;
+    }
+
+    private void increment(String prefix, Collection<Long> ids) {
+        ids.forEach(id -> {
+            String key = prefix + id;
+            redisTemplate.opsForValue().setIfAbsent(key, currentBase());
+            redisTemplate.opsForValue().increment(key);
+        });
+    }
+
+    /**
+     * 없는 키를 현재 시각으로 생성, 먼저 생성한 서버가 있으면 그 값을 사용
+     * 0 부터 다시 시작하면 사라지기 전의 버전과 겹쳐 이전 캐시 항목과 ETag 가 다시 사용됨
+     * @param key
+     * @return
+     */
+    private long initialize(String key) {
+        redisTemplate.opsForValue().setIfAbsent(key, currentBase());
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            throw new IllegalStateException("버전을 조회할 수 없습니다.");
+        }
+        return Long.parseLong(value);
+    }
+
+    private String currentBase() {
+        return String.valueOf(System.currentTimeMillis());
+    }
+}
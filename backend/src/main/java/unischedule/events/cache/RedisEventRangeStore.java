@@ -0,0 +1,77 @@
+package unischedule.events.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import unischedule.events.dto.EventServiceDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여러 서버가 같이 쓰는 일정 조회 결과 저장소, EventRangeCache 의 로컬 캐시 다음 단계
+ * 키에 캘린더 버전이 포함되므로 따로 지우지 않고 만료 시간 뒤 제거됨
+ * 저장소에 문제가 있으면 캐시가 없는 것처럼 동작
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "events.cache.redis.enabled", havingValue = "true")
+public class RedisEventRangeStore {
+    private static final String KEY_PREFIX = "event:range:";
+    private static final TypeReference<List<EventServiceDto>> EVENTS_TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader eventsReader;
+    private final Duration ttl;
+
+    public RedisEventRangeStore(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${events.cache.ttl:PT5M}") Duration ttl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        // 조회 결과에서 계산되는 값(teamEvent 등)이나 배포 중 다른 버전 서버가 저장한 필드는 무시
+        this.eventsReader = objectMapper.readerFor(EVENTS_TYPE)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.ttl = ttl;
+    }
+
+    public Optional<List<EventServiceDto>> get(EventRangeKey key) {
+        try {
+            String value = redisTemplate.opsForValue().get(toKey(key));
+            if (value == null) {
+                return Optional.empty();
+            }
+            return Optional.of(List.copyOf(eventsReader.<List<EventServiceDto>>readValue(value)));
+        }
+        catch (RuntimeException | JsonProcessingException e) {
+            log.warn("공유 일정 캐시 조회 실패: calendarIds={}", key.calendarIds(), e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(EventRangeKey key, List<EventServiceDto> events) {
+        try {
+            redisTemplate.opsForValue().set(toKey(key), objectMapper.writeValueAsString(events), ttl);
+        }
+        catch (RuntimeException | JsonProcessingException e) {
+            log.warn("공유 일정 캐시 저장 실패: calendarIds={}", key.calendarIds(), e);
+        }
+    }
+
+    private static String toKey(EventRangeKey key) {
+        return KEY_PREFIX + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,93 @@
+package unischedule.events.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import unischedule.events.dto.CalendarFeedDto;
+import unischedule.events.dto.CalendarFeedUrlResponseDto;
+import unischedule.events.service.CalendarFeedService;
+
+@RestController
+@RequestMapping("/api/events/feeds")
+@RequiredArgsConstructor
+public class CalendarFeedController {
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final CalendarFeedService calendarFeedService;
+
+    @GetMapping("/me")
+    public ResponseEntity<CalendarFeedUrlResponseDto> getMyFeedUrl(
+            @AuthenticationPrincipal
+            UserDetails userDetails
+    ) {
+        String token = calendarFeedService.createMemberFeedToken(userDetails.getUsername());
+        return ResponseEntity.ok(new CalendarFeedUrlResponseDto(toFeedUrl(token)));
+    }
+
+    /**
+     * 구독 주소 재발급, 이전에 발급한 개인, 팀 구독 주소는 모두 더 이상 사용할 수 없음
+     * @param userDetails
+     * @return
+     */
+    @PostMapping("/me/regenerate")
+    public ResponseEntity<CalendarFeedUrlResponseDto> regenerateMyFeedUrl(
+            @AuthenticationPrincipal
+            UserDetails userDetails
+    ) {
+        String token = calendarFeedService.regenerateMemberFeedToken(userDetails.getUsername());
+        return ResponseEntity.ok(new CalendarFeedUrlResponseDto(toFeedUrl(token)));
+    }
+
+    @GetMapping("/team/{teamId}")
+    public ResponseEntity<CalendarFeedUrlResponseDto> getTeamFeedUrl(
+            @AuthenticationPrincipal
+            UserDetails userDetails,
+            @PathVariable
+            Long teamId
+    ) {
+        String token = calendarFeedService.createTeamFeedToken(userDetails.getUsername(), teamId);
+        return ResponseEntity.ok(new CalendarFeedUrlResponseDto(toFeedUrl(token)));
+    }
+
+    /**
+     * 외부 캘린더 앱 구독 주소, 인증 대신 주소의 서명된 토큰으로 확인
+     * @param token
+     * @param webRequest
+     * @return
+     */
+    @GetMapping("/{token}.ics")
+    public ResponseEntity<StreamingResponseBody> getFeed(
+            @PathVariable
+            String token,
+            WebRequest webRequest
+    ) {
+        CalendarFeedDto feed = calendarFeedService.getFeed(token);
+        if (webRequest.checkNotModified(feed.eTag(), feed.lastModified())) {
+            return null;
+        }
+
+        StreamingResponseBody body = outputStream -> calendarFeedService.writeFeed(feed, outputStream);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .eTag(feed.eTag())
+                .lastModified(feed.lastModified())
+                .body(body);
+    }
+
+    private String toFeedUrl(String token) {
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/events/feeds/{token}.ics")
+                .buildAndExpand(token)
+                .toUriString();
+    }
+}
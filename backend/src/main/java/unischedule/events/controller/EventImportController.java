@@ -0,0 +1,32 @@
+package unischedule.events.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import unischedule.events.dto.EventImportResponseDto;
+import unischedule.events.service.EventImportService;
+
+@RestController
+@RequestMapping("/api/events/import")
+@RequiredArgsConstructor
+public class EventImportController {
+    private final EventImportService eventImportService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<EventImportResponseDto> importIcs(
+            @AuthenticationPrincipal
+            UserDetails userDetails,
+            @RequestParam("file")
+            MultipartFile file
+    ) {
+        EventImportResponseDto responseDto = eventImportService.importIcs(userDetails.getUsername(), file);
+        return ResponseEntity.ok(responseDto);
+    }
+}
@@ -16,9 +16,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import unischedule.events.dto.EventCreateResponseDto;
 import unischedule.events.dto.EventGetResponseDto;
 import unischedule.events.dto.EventModifyRequestDto;
+import unischedule.events.dto.EventSyncResponseDto;
 import unischedule.events.dto.PersonalEventCreateRequestDto;
 import unischedule.events.dto.PersonalEventGetResponseDto;
 import unischedule.events.dto.RecurringEventCreateRequestDto;
@@ -75,16 +77,33 @@ public class PersonalEventController {
             LocalDateTime startAt,
             @RequestParam
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-            LocalDateTime endAt
+            LocalDateTime endAt,
+            WebRequest webRequest
     ) {
+        String eTag = eventService.getPersonalEventsETag(userDetails.getUsername(), startAt, endAt);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<PersonalEventGetResponseDto> responseDto = eventService.getPersonalEvents(
                 userDetails.getUsername(),
                 startAt,
                 endAt
         );
-        return ResponseEntity.ok(responseDto);
+        return ResponseEntity.ok().eTag(eTag).body(responseDto);
     }
     
+    @GetMapping("/sync")
+    public ResponseEntity<EventSyncResponseDto> syncMyEvents(
+            @AuthenticationPrincipal
+            UserDetails userDetails,
+            @RequestParam(required = false)
+            String syncToken
+    ) {
+        EventSyncResponseDto responseDto = eventService.syncPersonalEvents(userDetails.getUsername(), syncToken);
+        return ResponseEntity.ok(responseDto);
+    }
+
     @PatchMapping("/modify/{eventId}")
     public ResponseEntity<EventGetResponseDto> modifyMyEvent(
             @AuthenticationPrincipal
@@ -16,9 +16,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import unischedule.events.dto.EventCreateResponseDto;
 import unischedule.events.dto.EventGetResponseDto;
 import unischedule.events.dto.EventModifyRequestDto;
+import unischedule.events.dto.EventSyncResponseDto;
 import unischedule.events.dto.RecurringEventCreateRequestDto;
 import unischedule.events.dto.RecurringInstanceDeleteRequestDto;
 import unischedule.events.dto.RecurringInstanceModifyRequestDto;
@@ -83,18 +85,37 @@ public class TeamEventController {
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
             LocalDateTime startAt,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
-            LocalDateTime endAt
+            LocalDateTime endAt,
+            WebRequest webRequest
     ) {
+        String eTag = teamEventService.getTeamEventsETag(userDetails.getUsername(), teamId, startAt, endAt);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<TeamEventGetResponseDto> responseDto = teamEventService.getTeamEvents(
                 userDetails.getUsername(),
                 teamId,
                 startAt,
                 endAt
         );
-        return ResponseEntity.ok(responseDto);
+        return ResponseEntity.ok().eTag(eTag).body(responseDto);
 
     }
 
+    @GetMapping("/{teamId}/sync")
+    public ResponseEntity<EventSyncResponseDto> syncTeamEvents(
+            @AuthenticationPrincipal
+            UserDetails userDetails,
+            @PathVariable
+            Long teamId,
+            @RequestParam(required = false)
+            String syncToken
+    ) {
+        EventSyncResponseDto responseDto = teamEventService.syncTeamEvents(userDetails.getUsername(), teamId, syncToken);
+        return ResponseEntity.ok(responseDto);
+    }
+
     @PatchMapping("/modify/{eventId}")
     public ResponseEntity<EventGetResponseDto> modifyTeamEvent(
             @AuthenticationPrincipal
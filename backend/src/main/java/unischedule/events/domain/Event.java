@@ -6,9 +6,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,11 +24,26 @@ import java.time.LocalDateTime;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name="events")
+@Table(
+        name = "events",
+        indexes = {
+                @Index(name = "idx_events_calendar_rule_period", columnList = "calendar_id, recurrence_rule_id, start_at, end_at"),
+                @Index(name = "idx_events_calendar_updated_at", columnList = "calendar_id, updated_at")
+        }
+)
 @Getter
 public class Event extends BaseEntity {
+    // IDENTITY 는 insert 마다 id 를 받아와야 해서 JDBC 배치가 불가능하므로 50개 단위로 미리 할당
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "event_id_generator")
+    @TableGenerator(
+            name = "event_id_generator",
+            table = "id_generators",
+            pkColumnName = "gen_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "events",
+            allocationSize = 50
+    )
     @Column(name="event_id")
     private Long eventId;
     
@@ -0,0 +1,100 @@
+package unischedule.events.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 일정을 전개한 실제 발생 일정
+ * 기간 조회 시 반복 규칙을 매번 전개하지 않도록 일정 기간(horizon)만큼 미리 저장
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "event_occurrences",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_event_occurrences_event_original_start",
+                columnNames = {"event_id", "original_start_at"}
+        ),
+        indexes = @Index(name = "idx_event_occurrences_original_start", columnList = "original_start_at")
+)
+public class EventOccurrence {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "event_occurrence_id_generator")
+    @TableGenerator(
+            name = "event_occurrence_id_generator",
+            table = "id_generators",
+            pkColumnName = "gen_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "event_occurrences",
+            allocationSize = 50
+    )
+    @Column(name = "event_occurrence_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    /**
+     * 수정된 회차인 경우 적용된 override
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "override_id")
+    private EventOverride eventOverride;
+
+    /**
+     * 반복 규칙상 원래 시작 시간 (override 의 originalEventTime 과 동일한 기준)
+     */
+    @Column(name = "original_start_at", nullable = false)
+    private LocalDateTime originalStartAt;
+
+    @Column(nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(nullable = false)
+    private LocalDateTime endAt;
+
+    public EventOccurrence(
+            Event event,
+            EventOverride eventOverride,
+            LocalDateTime originalStartAt,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        this.event = event;
+        this.eventOverride = eventOverride;
+        this.originalStartAt = originalStartAt;
+        this.startAt = startAt;
+        this.endAt = endAt;
+    }
+
+    public String getTitle() {
+        if (eventOverride != null) {
+            return eventOverride.getTitle();
+        }
+        return event.getTitle();
+    }
+
+    public String getContent() {
+        if (eventOverride != null) {
+            return eventOverride.getContent();
+        }
+        return event.getContent();
+    }
+}
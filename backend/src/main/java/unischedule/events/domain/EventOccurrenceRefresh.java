@@ -0,0 +1,42 @@
+package unischedule.events.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 일정 회차 전체 갱신 상태, 마이그레이션에서 만든 한 행만 사용
+ * 갱신이 끝난 기간과 갱신 중인 서버의 잠금을 함께 보관
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "event_occurrence_refresh")
+public class EventOccurrenceRefresh {
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    @Column(name = "event_occurrence_refresh_id")
+    private Long id;
+
+    /**
+     * 전체 갱신이 끝나 저장된 회차를 신뢰할 수 있는 기간, 첫 갱신 전에는 null
+     */
+    private LocalDateTime horizonFrom;
+
+    private LocalDateTime horizonUntil;
+
+    /**
+     * 갱신 중인 서버가 중단되어도 이 시각이 지나면 다른 서버가 잠금을 얻을 수 있음
+     */
+    private LocalDateTime lockedUntil;
+
+    @Column(length = 36)
+    private String lockedBy;
+}
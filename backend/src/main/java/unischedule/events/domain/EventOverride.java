@@ -6,11 +6,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import unischedule.common.entity.BaseEntity;
 import unischedule.events.dto.EventOverrideDto;
 
 import java.time.LocalDateTime;
@@ -18,7 +21,11 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class EventOverride {
+@Table(indexes = {
+        @Index(name = "idx_event_override_event_time", columnList = "original_event_id, original_event_time"),
+        @Index(name = "idx_event_override_updated_at", columnList = "updated_at")
+})
+public class EventOverride extends BaseEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -131,16 +138,6 @@ public class EventOverride {
         }
     }
 
-    public Event toEvent() {
-        return new Event(
-                this.title,
-                this.content,
-                this.startAt,
-                this.endAt,
-                false
-        );
-    }
-
     public void markAsDeleted() {
         this.title = null;
         this.content = null;
@@ -0,0 +1,95 @@
+package unischedule.events.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 일정, override 기록
+ * 동기화 클라이언트가 삭제를 알 수 있도록 보관 기간 동안 유지
+ * 일정이 삭제되면 그 일정의 override 는 따로 기록하지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "event_tombstones",
+        indexes = @Index(name = "idx_event_tombstones_calendar_deleted_at", columnList = "calendar_id, deleted_at")
+)
+public class EventTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "event_tombstone_id_generator")
+    @TableGenerator(
+            name = "event_tombstone_id_generator",
+            table = "id_generators",
+            pkColumnName = "gen_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "event_tombstones",
+            allocationSize = 50
+    )
+    @Column(name = "event_tombstone_id")
+    private Long id;
+
+    /**
+     * 캘린더가 삭제되어도 기록은 남도록 연관관계 없이 id 만 저장
+     */
+    @Column(name = "calendar_id", nullable = false)
+    private Long calendarId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EventTombstoneType type;
+
+    /**
+     * 삭제된 일정 id 또는 override id
+     */
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    private EventTombstone(Long calendarId, EventTombstoneType type, Long targetId, Long eventId, LocalDateTime deletedAt) {
+        this.calendarId = calendarId;
+        this.type = type;
+        this.targetId = targetId;
+        this.eventId = eventId;
+        this.deletedAt = deletedAt;
+    }
+
+    public static EventTombstone ofEvent(Event event) {
+        return new EventTombstone(
+                event.getCalendar().getCalendarId(),
+                EventTombstoneType.EVENT,
+                event.getEventId(),
+                event.getEventId(),
+                LocalDateTime.now()
+        );
+    }
+
+    public static EventTombstone ofOverride(EventOverride eventOverride) {
+        Event originalEvent = eventOverride.getOriginalEvent();
+        return new EventTombstone(
+                originalEvent.getCalendar().getCalendarId(),
+                EventTombstoneType.OVERRIDE,
+                eventOverride.getId(),
+                originalEvent.getEventId(),
+                LocalDateTime.now()
+        );
+    }
+}
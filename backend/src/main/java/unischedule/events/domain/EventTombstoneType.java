@@ -0,0 +1,5 @@
+package unischedule.events.domain;
+
+public enum EventTombstoneType {
+    EVENT, OVERRIDE
+}
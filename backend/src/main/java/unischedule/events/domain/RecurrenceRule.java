@@ -5,24 +5,58 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import unischedule.events.util.RecurrenceBounds;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_recurrence_rule_series_end", columnList = "series_end"))
 public class RecurrenceRule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "recurrence_rule_id_generator")
+    @TableGenerator(
+            name = "recurrence_rule_id_generator",
+            table = "id_generators",
+            pkColumnName = "gen_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "recurrence_rule",
+            allocationSize = 50
+    )
     @Column(name = "recurrence_rule_id")
     private Long id;
 
     @Column(nullable = false)
     private String rruleString;
 
+    @Column(length = 10)
+    private String frequency;
+
+    @Column(name = "repeat_interval")
+    private Integer repeatInterval;
+
+    /**
+     * 마지막 회차의 종료 시간 (UNTIL, COUNT, 최대 2년 제한 중 가장 이른 값 기준)
+     * 아직 계산되지 않은 기존 데이터는 null
+     */
+    @Column(name = "series_end")
+    private LocalDateTime seriesEnd;
+
     public RecurrenceRule(String rruleString) {
         this.rruleString = rruleString;
     }
+
+    public void updateBounds(RecurrenceBounds bounds) {
+        this.frequency = bounds.frequency();
+        this.repeatInterval = bounds.interval();
+        this.seriesEnd = bounds.seriesEnd();
+    }
 }
@@ -0,0 +1,93 @@
+package unischedule.events.domain.collection;
+
+import unischedule.events.dto.EventServiceDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 시작 시간 기준으로 정렬된 바쁜 시간 구간 목록
+ * 후보 일정 목록과 한 번의 스윕으로 겹침 여부를 확인
+ * 겹치지 않음을 확인하고 추가한 구간은 서로 겹치지 않으므로 시작 시간으로 찾아 확인
+ */
+public class BusyIntervalSeries {
+    private final List<BusyInterval> intervals;
+    private final NavigableMap<LocalDateTime, LocalDateTime> addedIntervals = new TreeMap<>();
+
+    private record BusyInterval(LocalDateTime startAt, LocalDateTime endAt) {}
+
+    private BusyIntervalSeries(List<BusyInterval> intervals) {
+        this.intervals = intervals;
+    }
+
+    public static BusyIntervalSeries fromServiceDtos(List<EventServiceDto> events) {
+        List<BusyInterval> sorted = events.stream()
+                .map(event -> new BusyInterval(event.startAt(), event.endAt()))
+                .sorted(Comparator.comparing(BusyInterval::startAt))
+                .toList();
+
+        return new BusyIntervalSeries(sorted);
+    }
+
+    /**
+     * 후보 시작 시간들 중 하나라도 기존 구간과 겹치는지 확인
+     * 후보는 동일한 길이를 가지므로 시작 시간 순으로 정렬하면 종료 시간도 정렬됨
+     * @param candidateStarts 시작 시간 오름차순으로 정렬된 후보 목록
+     * @param duration 후보 일정 길이
+     * @return 겹치는 후보가 있으면 true
+     */
+    public boolean hasOverlapWithAny(List<LocalDateTime> candidateStarts, Duration duration) {
+        int cursor = 0;
+        LocalDateTime maxEndAt = null;
+
+        for (LocalDateTime candidateStart : candidateStarts) {
+            LocalDateTime candidateEnd = candidateStart.plus(duration);
+
+            // 후보 종료 이전에 시작하는 구간들의 최대 종료 시간 갱신
+            while (cursor < intervals.size() && intervals.get(cursor).startAt().isBefore(candidateEnd)) {
+                LocalDateTime endAt = intervals.get(cursor).endAt();
+                if (maxEndAt == null || endAt.isAfter(maxEndAt)) {
+                    maxEndAt = endAt;
+                }
+                cursor++;
+            }
+
+            if (maxEndAt != null && maxEndAt.isAfter(candidateStart)) {
+                return true;
+            }
+            if (overlapsAdded(candidateStart, candidateEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * hasOverlapWithAny 로 겹치지 않음을 확인한 후보 구간을 바쁜 구간으로 추가
+     * @param candidateStarts
+     * @param duration 후보 일정 길이
+     */
+    public void addAll(List<LocalDateTime> candidateStarts, Duration duration) {
+        for (LocalDateTime candidateStart : candidateStarts) {
+            addedIntervals.put(candidateStart, candidateStart.plus(duration));
+        }
+    }
+
+    private boolean overlapsAdded(LocalDateTime candidateStart, LocalDateTime candidateEnd) {
+        Map.Entry<LocalDateTime, LocalDateTime> before = addedIntervals.floorEntry(candidateStart);
+        if (before != null && before.getValue().isAfter(candidateStart)) {
+            return true;
+        }
+        LocalDateTime nextStart = addedIntervals.higherKey(candidateStart);
+        return nextStart != null && nextStart.isBefore(candidateEnd);
+    }
+
+    public boolean isEmpty() {
+        return this.intervals.isEmpty() && this.addedIntervals.isEmpty();
+    }
+}
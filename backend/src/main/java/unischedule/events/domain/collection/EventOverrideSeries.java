@@ -1,24 +1,37 @@
 package unischedule.events.domain.collection;
 
 import lombok.Getter;
-import unischedule.events.domain.EventOverride;
+import unischedule.events.dto.EventOverrideProjectionDto;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
 public class EventOverrideSeries {
-    private final List<EventOverride> eventOverrideList;
-    private final Map<LocalDateTime, EventOverride> overrideMap;
+    private static final EventOverrideSeries EMPTY = new EventOverrideSeries(List.of());
 
-    public EventOverrideSeries(List<EventOverride> overrideList) {
-        this.eventOverrideList = new ArrayList<>(overrideList);
+    private final List<EventOverrideProjectionDto> eventOverrideList;
+    private final Map<LocalDateTime, EventOverrideProjectionDto> overrideMap;
+
+    public EventOverrideSeries(List<EventOverrideProjectionDto> overrideList) {
+        this.eventOverrideList = List.copyOf(overrideList);
 
         this.overrideMap = this.eventOverrideList.stream()
-                .collect(Collectors.toUnmodifiableMap(EventOverride::getOriginalEventTime, ex -> ex));
+                .collect(Collectors.toUnmodifiableMap(EventOverrideProjectionDto::originalEventTime, ex -> ex));
+    }
+
+    /**
+     * override 가 없으면 공유 인스턴스 사용
+     * @param overrideList
+     * @return
+     */
+    public static EventOverrideSeries of(List<EventOverrideProjectionDto> overrideList) {
+        if (overrideList == null || overrideList.isEmpty()) {
+            return EMPTY;
+        }
+        return new EventOverrideSeries(overrideList);
     }
 
     public boolean isEmpty() {
@@ -1,75 +1,80 @@
 package unischedule.events.domain.collection;
 
-import unischedule.events.domain.Event;
-import unischedule.events.domain.EventOverride;
+import unischedule.events.dto.EventOverrideProjectionDto;
+import unischedule.events.dto.EventProjectionDto;
 import unischedule.events.dto.EventServiceDto;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
-import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * 반복 일정 원본과 해당 일정의 override
+ * 전개된 회차를 중간 목록 없이 바로 조회 결과로 변환
+ */
 public class ExpandedRecurringEvents {
-    private final List<Event> expandedEvents;
-    private final Event originalEvent;
+    private final EventProjectionDto originalEvent;
+    private final Map<LocalDateTime, EventOverrideProjectionDto> overrideMap;
+    private final Duration duration;
 
-    private ExpandedRecurringEvents(List<Event> expandedEvents, Event originalEvent) {
-        this.expandedEvents = expandedEvents;
+    private ExpandedRecurringEvents(EventProjectionDto originalEvent, Map<LocalDateTime, EventOverrideProjectionDto> overrideMap) {
         this.originalEvent = originalEvent;
+        this.overrideMap = overrideMap;
+        this.duration = Duration.between(originalEvent.startAt(), originalEvent.endAt());
     }
 
-    public static ExpandedRecurringEvents of(List<Event> expandedEvents, Event originalEvent) {
-        if (originalEvent == null || originalEvent.getRecurrenceRule() == null) {
+    public static ExpandedRecurringEvents of(EventProjectionDto originalEvent, EventOverrideSeries overrideList) {
+        if (originalEvent == null || !originalEvent.isRecurring()) {
             throw new IllegalArgumentException("원본 이벤트는 반복 규칙을 가지는 유효한 객체여야 합니다.");
         }
 
-        List<Event> events = (expandedEvents == null)
-                ? Collections.emptyList()
-                : List.copyOf(expandedEvents);
+        Map<LocalDateTime, EventOverrideProjectionDto> overrideMap = (overrideList == null)
+                ? Map.of()
+                : overrideList.getOverrideMap();
 
-        return new ExpandedRecurringEvents(events, originalEvent);
+        return new ExpandedRecurringEvents(originalEvent, overrideMap);
     }
 
-    public List<Event> applyOverrides(EventOverrideSeries overrideList) {
-        if (overrideList == null || overrideList.isEmpty()) {
-            return this.expandedEvents;
+    /**
+     * 회차 시작 시간마다 override 를 적용한 조회 결과를 sink 에 추가
+     * 삭제된 회차는 제외, 수정된 회차는 변경된 내용으로 대체
+     * override 가 없는 일정은 회차마다 조회하지 않음
+     * @param occurrenceStarts 회차 시작 시간
+     * @param sink 조회 결과를 받을 컬렉션
+     */
+    public void expandInto(Stream<LocalDateTime> occurrenceStarts, Collection<EventServiceDto> sink) {
+        if (overrideMap.isEmpty()) {
+            occurrenceStarts.forEach(occurrenceStart -> sink.add(toOccurrence(occurrenceStart)));
+            return;
         }
 
-        Map<LocalDateTime, EventOverride> overrideMap = overrideList.getOverrideMap();
-
-        List<Event> finalEventList = new ArrayList<>();
-
-        for (Event event : expandedEvents) {
-            applyOverrideToEvent(event, overrideMap)
-                    .ifPresent(finalEventList::add);
-        }
-        return List.copyOf(finalEventList);
-    }
-
-    private Optional<Event> applyOverrideToEvent(Event event, Map<LocalDateTime, EventOverride> overrideMap) {
-        EventOverride eventOverride = overrideMap.get(event.getStartAt());
-
-        if (eventOverride == null) {
-            return Optional.of(event);
-        }
-
-        if (eventOverride.isDeleteOverride()) {
-            return Optional.empty();
-        }
-
-        return Optional.of(eventOverride.toEvent());
-    }
-
-    public List<EventServiceDto> applyOverridesToDtos(EventOverrideSeries overrideList) {
-        List<Event> finalEvents = applyOverrides(overrideList);
-        return finalEvents.stream()
-                .map(event -> EventServiceDto.fromRecurringEvent(event, true, this.originalEvent))
-                .toList();
+        occurrenceStarts.forEach(occurrenceStart -> {
+            EventOverrideProjectionDto eventOverride = overrideMap.get(occurrenceStart);
+
+            if (eventOverride == null) {
+                sink.add(toOccurrence(occurrenceStart));
+            }
+            else if (!eventOverride.isDeleteOverride()) {
+                sink.add(EventServiceDto.fromRecurringProjection(
+                        originalEvent,
+                        eventOverride.title(),
+                        eventOverride.content(),
+                        eventOverride.startAt(),
+                        eventOverride.endAt()
+                ));
+            }
+        });
     }
 
-    public boolean isEmpty() {
-        return this.expandedEvents.isEmpty();
+    private EventServiceDto toOccurrence(LocalDateTime occurrenceStart) {
+        return EventServiceDto.fromRecurringProjection(
+                originalEvent,
+                originalEvent.title(),
+                originalEvent.content(),
+                occurrenceStart,
+                occurrenceStart.plus(duration)
+        );
     }
 }
@@ -1,14 +1,14 @@
 package unischedule.events.domain.collection;
 
-import unischedule.events.domain.Event;
+import unischedule.events.dto.EventProjectionDto;
 
 import java.util.List;
 
 public class RecurringEventSeries {
-    private final List<Event> eventList;
-    public RecurringEventSeries(List<Event> eventList) {
-        for (Event event : eventList) {
-            if (event.getRecurrenceRule() == null) {
+    private final List<EventProjectionDto> eventList;
+    public RecurringEventSeries(List<EventProjectionDto> eventList) {
+        for (EventProjectionDto event : eventList) {
+            if (!event.isRecurring()) {
                 throw new IllegalArgumentException("단일 일정을 반복 일정으로 관리할 수 없습니다.");
             }
         }
@@ -20,7 +20,13 @@ public class RecurringEventSeries {
         return this.eventList.isEmpty();
     }
 
-    public List<Event> getEvents() {
+    public List<EventProjectionDto> getEvents() {
         return this.eventList;
     }
+
+    public List<Long> getEventIds() {
+        return this.eventList.stream()
+                .map(EventProjectionDto::eventId)
+                .toList();
+    }
 }
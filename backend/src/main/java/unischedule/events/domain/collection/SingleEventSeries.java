@@ -1,6 +1,6 @@
 package unischedule.events.domain.collection;
 
-import unischedule.events.domain.Event;
+import unischedule.events.dto.EventProjectionDto;
 import unischedule.events.dto.EventServiceDto;
 
 import java.time.LocalDateTime;
@@ -8,12 +8,12 @@ import java.util.List;
 
 public class SingleEventSeries {
 
-    private final List<Event> eventList;
+    private final List<EventProjectionDto> eventList;
     private final static Boolean isRecurring = false;
 
-    public SingleEventSeries(List<Event> eventList) {
-        for (Event event : eventList) {
-            if (event.getRecurrenceRule() != null) {
+    public SingleEventSeries(List<EventProjectionDto> eventList) {
+        for (EventProjectionDto event : eventList) {
+            if (event.isRecurring()) {
                 throw new IllegalArgumentException("반복 일정을 단일 일정으로 관리할 수 없습니다.");
             }
         }
@@ -23,13 +23,13 @@ public class SingleEventSeries {
 
     public boolean hasOverlap(LocalDateTime startAt, LocalDateTime endAt) {
         return eventList.stream().anyMatch(event ->
-                event.getEndAt().isAfter(startAt) && event.getStartAt().isBefore(endAt)
+                event.endAt().isAfter(startAt) && event.startAt().isBefore(endAt)
         );
     }
 
     public List<EventServiceDto> toServiceDtos() {
         return eventList.stream()
-                .map(event -> EventServiceDto.fromSingleEvent(event, isRecurring))
+                .map(event -> EventServiceDto.fromProjection(event, isRecurring))
                 .toList();
     }
 
@@ -37,7 +37,7 @@ public class SingleEventSeries {
         return this.eventList.isEmpty();
     }
 
-    public List<Event> getEvents() {
-        return List.copyOf(eventList);
+    public List<EventProjectionDto> getEvents() {
+        return eventList;
     }
 }
@@ -0,0 +1,20 @@
+package unischedule.events.dto;
+
+import java.util.List;
+
+/**
+ * ICS 구독 응답 대상
+ * @param name 캘린더 앱에 표시할 캘린더 이름
+ * @param viewerId 멤버 전체 캘린더면 선택 참여 일정을 거르기 위한 멤버 id, 팀 캘린더면 null
+ * @param calendarIds
+ * @param eTag
+ * @param lastModified epoch millis
+ */
+public record CalendarFeedDto(
+        String name,
+        Long viewerId,
+        List<Long> calendarIds,
+        String eTag,
+        long lastModified
+) {
+}
@@ -0,0 +1,9 @@
+package unischedule.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CalendarFeedUrlResponseDto(
+        @JsonProperty("feed_url")
+        String feedUrl
+) {
+}
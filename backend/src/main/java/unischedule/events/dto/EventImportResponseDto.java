@@ -0,0 +1,19 @@
+package unischedule.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * ICS 가져오기 결과
+ * @param importedEvents 등록한 일정 수
+ * @param skippedOverlaps 기존 일정과 겹쳐서 건너뛴 일정 수
+ * @param skippedInvalid 시간, 반복 규칙이 올바르지 않아 건너뛴 일정 수
+ */
+public record EventImportResponseDto(
+        @JsonProperty("imported_events")
+        int importedEvents,
+        @JsonProperty("skipped_overlaps")
+        int skippedOverlaps,
+        @JsonProperty("skipped_invalid")
+        int skippedInvalid
+) {
+}
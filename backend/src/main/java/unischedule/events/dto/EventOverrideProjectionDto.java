@@ -0,0 +1,21 @@
+package unischedule.events.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 일정 회차 조회용 override projection
+ * @param originalEventId 원본 반복 일정 id
+ * @param originalEventTime 변경, 삭제된 회차의 원래 시작 시간
+ */
+public record EventOverrideProjectionDto(
+        Long originalEventId,
+        LocalDateTime originalEventTime,
+        String title,
+        String content,
+        LocalDateTime startAt,
+        LocalDateTime endAt
+) {
+    public boolean isDeleteOverride() {
+        return title == null;
+    }
+}
@@ -0,0 +1,17 @@
+package unischedule.events.dto;
+
+/**
+ * 일정별 참여자 id 조회 결과
+ * @param eventId
+ * @param isSelective 선택 참여 일정 여부
+ * @param memberId 참여자 id, 참여자가 없으면 null
+ */
+public record EventParticipantIdDto(
+        Long eventId,
+        Boolean isSelective,
+        Long memberId
+) {
+    public boolean isForAllMembers() {
+        return isSelective == null || !isSelective;
+    }
+}
@@ -0,0 +1,24 @@
+package unischedule.events.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 조회용 projection, 엔티티 대신 필요한 컬럼만 한 번에 조회
+ * @param calendarId 일정이 속한 캘린더 id
+ * @param teamId 팀 캘린더 일정이면 팀 id, 개인 일정이면 null
+ * @param rruleString 반복 일정이면 반복 규칙, 단일 일정이면 null
+ */
+public record EventProjectionDto(
+        Long eventId,
+        String title,
+        String content,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        Long calendarId,
+        Long teamId,
+        String rruleString
+) {
+    public boolean isRecurring() {
+        return rruleString != null;
+    }
+}
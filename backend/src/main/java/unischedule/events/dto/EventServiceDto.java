@@ -1,36 +1,95 @@
 package unischedule.events.dto;
 
+import unischedule.calendar.entity.Calendar;
 import unischedule.events.domain.Event;
+import unischedule.events.domain.EventOccurrence;
 
 import java.time.LocalDateTime;
 
+/**
+ * 일정 조회 결과
+ * @param calendarId 일정이 속한 캘린더 id
+ * @param teamId 팀 캘린더 일정이면 팀 id, 개인 일정이면 null
+ */
 public record EventServiceDto(
         Long eventId,
         String title,
         String content,
         LocalDateTime startAt,
         LocalDateTime endAt,
-        Boolean fromRecurring
+        Boolean fromRecurring,
+        Long calendarId,
+        Long teamId
 ) {
-    public static EventServiceDto fromSingleEvent(Event event, Boolean fromRecurring) {
+    public static EventServiceDto fromProjection(EventProjectionDto event, Boolean fromRecurring) {
         return new EventServiceDto(
-                event.getEventId(),
-                event.getTitle(),
-                event.getContent(),
-                event.getStartAt(),
-                event.getEndAt(),
-                fromRecurring
+                event.eventId(),
+                event.title(),
+                event.content(),
+                event.startAt(),
+                event.endAt(),
+                fromRecurring,
+                event.calendarId(),
+                event.teamId()
         );
     }
 
-    public static EventServiceDto fromRecurringEvent(Event event, Boolean fromRecurring, Event originalEvent) {
+    /**
+     * 반복 일정 회차 조회 결과, id 와 캘린더 정보는 원본 일정 기준
+     * @param originalEvent
+     * @param title
+     * @param content
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    public static EventServiceDto fromRecurringProjection(
+            EventProjectionDto originalEvent,
+            String title,
+            String content,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        return new EventServiceDto(
+                originalEvent.eventId(),
+                title,
+                content,
+                startAt,
+                endAt,
+                true,
+                originalEvent.calendarId(),
+                originalEvent.teamId()
+        );
+    }
+
+    public static EventServiceDto fromOccurrence(EventOccurrence occurrence) {
+        Event originalEvent = occurrence.getEvent();
         return new EventServiceDto(
                 originalEvent.getEventId(),
-                event.getTitle(),
-                event.getContent(),
-                event.getStartAt(),
-                event.getEndAt(),
-                fromRecurring
+                occurrence.getTitle(),
+                occurrence.getContent(),
+                occurrence.getStartAt(),
+                occurrence.getEndAt(),
+                true,
+                getCalendarId(originalEvent),
+                getTeamId(originalEvent)
         );
     }
+
+    public boolean isTeamEvent() {
+        return teamId != null;
+    }
+
+    private static Long getCalendarId(Event event) {
+        Calendar calendar = event.getCalendar();
+        return calendar == null ? null : calendar.getCalendarId();
+    }
+
+    private static Long getTeamId(Event event) {
+        Calendar calendar = event.getCalendar();
+        if (calendar == null || !calendar.hasTeam()) {
+            return null;
+        }
+        return calendar.getTeam().getTeamId();
+    }
 }
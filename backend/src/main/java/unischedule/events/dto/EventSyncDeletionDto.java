@@ -0,0 +1,27 @@
+package unischedule.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import unischedule.events.domain.EventTombstone;
+import unischedule.events.domain.EventTombstoneType;
+
+import java.time.LocalDateTime;
+
+public record EventSyncDeletionDto(
+        // EVENT 면 일정과 그 일정의 override 전체, OVERRIDE 면 해당 override 만 삭제
+        EventTombstoneType type,
+        // 삭제된 일정 id 또는 override id
+        Long id,
+        @JsonProperty("event_id")
+        Long eventId,
+        @JsonProperty("deleted_at")
+        LocalDateTime deletedAt
+) {
+    public static EventSyncDeletionDto from(EventTombstone tombstone) {
+        return new EventSyncDeletionDto(
+                tombstone.getType(),
+                tombstone.getTargetId(),
+                tombstone.getEventId(),
+                tombstone.getDeletedAt()
+        );
+    }
+}
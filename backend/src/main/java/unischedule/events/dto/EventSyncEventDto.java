@@ -0,0 +1,37 @@
+package unischedule.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import unischedule.events.domain.Event;
+
+import java.time.LocalDateTime;
+
+public record EventSyncEventDto(
+        @JsonProperty("event_id")
+        Long eventId,
+        String title,
+        String description,
+        @JsonProperty("start_time")
+        LocalDateTime startTime,
+        @JsonProperty("end_time")
+        LocalDateTime endTime,
+        @JsonProperty("is_recurring")
+        Boolean isRecurring,
+        // 반복 일정이 아니면 null
+        String rrule,
+        @JsonProperty("updated_at")
+        LocalDateTime updatedAt
+) {
+    public static EventSyncEventDto from(Event event) {
+        boolean isRecurring = event.getRecurrenceRule() != null;
+        return new EventSyncEventDto(
+                event.getEventId(),
+                event.getTitle(),
+                event.getContent(),
+                event.getStartAt(),
+                event.getEndAt(),
+                isRecurring,
+                isRecurring ? event.getRecurrenceRule().getRruleString() : null,
+                event.getUpdatedAt()
+        );
+    }
+}
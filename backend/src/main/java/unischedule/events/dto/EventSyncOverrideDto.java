@@ -0,0 +1,40 @@
+package unischedule.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import unischedule.events.domain.EventOverride;
+
+import java.time.LocalDateTime;
+
+public record EventSyncOverrideDto(
+        @JsonProperty("override_id")
+        Long overrideId,
+        @JsonProperty("event_id")
+        Long eventId,
+        @JsonProperty("original_start_time")
+        LocalDateTime originalStartTime,
+        String title,
+        String description,
+        @JsonProperty("start_time")
+        LocalDateTime startTime,
+        @JsonProperty("end_time")
+        LocalDateTime endTime,
+        // 해당 회차만 삭제된 경우 true, 나머지 필드는 null
+        @JsonProperty("is_deleted")
+        Boolean isDeleted,
+        @JsonProperty("updated_at")
+        LocalDateTime updatedAt
+) {
+    public static EventSyncOverrideDto from(EventOverride eventOverride) {
+        return new EventSyncOverrideDto(
+                eventOverride.getId(),
+                eventOverride.getOriginalEvent().getEventId(),
+                eventOverride.getOriginalEventTime(),
+                eventOverride.getTitle(),
+                eventOverride.getContent(),
+                eventOverride.getStartAt(),
+                eventOverride.getEndAt(),
+                eventOverride.isDeleteOverride(),
+                eventOverride.getUpdatedAt()
+        );
+    }
+}
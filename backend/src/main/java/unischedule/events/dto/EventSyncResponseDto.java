@@ -0,0 +1,15 @@
+package unischedule.events.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record EventSyncResponseDto(
+        List<EventSyncEventDto> events,
+        List<EventSyncOverrideDto> overrides,
+        List<EventSyncDeletionDto> deletions,
+        // 다음 동기화 요청에 그대로 전달
+        @JsonProperty("sync_token")
+        String syncToken
+) {
+}
@@ -0,0 +1,36 @@
+package unischedule.events.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ICS 파일에서 읽은 VEVENT
+ * @param uid 반복 일정과 변경된 회차를 연결하는 값
+ * @param rrule 반복 일정이면 RRULE, 아니면 null
+ * @param exDates 삭제된 회차의 원래 시작 시간 (EXDATE)
+ * @param recurrenceId 변경된 회차면 원래 시작 시간 (RECURRENCE-ID), 아니면 null
+ * @param cancelled STATUS:CANCELLED 여부
+ */
+public record IcsEventDto(
+        String uid,
+        String title,
+        String content,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        String rrule,
+        List<LocalDateTime> exDates,
+        LocalDateTime recurrenceId,
+        boolean cancelled
+) {
+    public boolean isRecurring() {
+        return rrule != null;
+    }
+
+    public boolean isInstanceOverride() {
+        return recurrenceId != null;
+    }
+
+    public RecurringEventCreateRequestDto toRecurringEventCreateDto() {
+        return new RecurringEventCreateRequestDto(title, content, startAt, endAt, rrule, null);
+    }
+}
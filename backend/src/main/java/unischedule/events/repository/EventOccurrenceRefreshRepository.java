@@ -0,0 +1,80 @@
+package unischedule.events.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import unischedule.events.domain.EventOccurrenceRefresh;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface EventOccurrenceRefreshRepository extends JpaRepository<EventOccurrenceRefresh, Long> {
+
+    /**
+     * 갱신 잠금 획득, 다른 서버가 잠금을 가지고 있으면 0 반환
+     * @param id
+     * @param owner
+     * @param now
+     * @param lockedUntil
+     * @return
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE EventOccurrenceRefresh r
+            SET r.lockedBy = :owner, r.lockedUntil = :lockedUntil
+            WHERE r.id = :id
+            AND (r.lockedUntil IS NULL OR r.lockedUntil <= :now)
+    """)
+    int lock(
+            @Param("id")
+            Long id,
+            @Param("owner")
+            String owner,
+            @Param("now")
+            LocalDateTime now,
+            @Param("lockedUntil")
+            LocalDateTime lockedUntil
+    );
+
+    /**
+     * 갱신이 끝난 기간 저장 후 잠금 해제, 잠금을 잃었으면 0 반환
+     * @param id
+     * @param owner
+     * @param horizonFrom
+     * @param horizonUntil
+     * @return
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE EventOccurrenceRefresh r
+            SET r.horizonFrom = :horizonFrom, r.horizonUntil = :horizonUntil, r.lockedBy = null, r.lockedUntil = null
+            WHERE r.id = :id
+            AND r.lockedBy = :owner
+    """)
+    int complete(
+            @Param("id")
+            Long id,
+            @Param("owner")
+            String owner,
+            @Param("horizonFrom")
+            LocalDateTime horizonFrom,
+            @Param("horizonUntil")
+            LocalDateTime horizonUntil
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE EventOccurrenceRefresh r
+            SET r.lockedBy = null, r.lockedUntil = null
+            WHERE r.id = :id
+            AND r.lockedBy = :owner
+    """)
+    int unlock(
+            @Param("id")
+            Long id,
+            @Param("owner")
+            String owner
+    );
+}
@@ -0,0 +1,118 @@
+package unischedule.events.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unischedule.events.domain.Event;
+import unischedule.events.domain.EventOccurrence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventOccurrenceRepository extends JpaRepository<EventOccurrence, Long> {
+
+    /**
+     * 여러 캘린더에서 원래 시작 시간이 기간에 속하는 반복 일정 회차 조회
+     * @param calendarIds
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    @Query("""
+            SELECT o
+            FROM EventOccurrence o
+            JOIN FETCH o.event e
+            JOIN FETCH e.calendar c
+            LEFT JOIN FETCH o.eventOverride
+            WHERE c.calendarId IN :calendarIds
+            AND o.originalStartAt >= :startAt
+            AND o.originalStartAt < :endAt
+    """)
+    List<EventOccurrence> findOccurrencesInPeriod(
+            @Param("calendarIds")
+            List<Long> calendarIds,
+            @Param("startAt")
+            LocalDateTime startAt,
+            @Param("endAt")
+            LocalDateTime endAt
+    );
+
+    /**
+     * 특정 멤버가 참여하는 반복 일정 회차 조회
+     * - 개인 일정 (team == null)
+     * - 팀 전체 일정 (isSelective = false || null)
+     * - 팀 선택 일정 (isSelective = true && 참여)
+     */
+    @Query("""
+            SELECT o
+            FROM EventOccurrence o
+            JOIN FETCH o.event e
+            JOIN FETCH e.calendar c
+            LEFT JOIN FETCH o.eventOverride
+            WHERE c.calendarId IN :calendarIds
+            AND o.originalStartAt >= :startAt
+            AND o.originalStartAt < :endAt
+            AND (c.team IS NULL OR e.isSelective IS NULL OR e.isSelective = false OR
+                    (e.isSelective = true AND EXISTS (
+                        SELECT 1 FROM EventParticipant ep
+                        WHERE ep.event = e AND ep.member.memberId = :memberId
+                ))
+            )
+    """)
+    List<EventOccurrence> findOccurrencesInPeriodForMember(
+            @Param("memberId")
+            Long memberId,
+            @Param("calendarIds")
+            List<Long> calendarIds,
+            @Param("startAt")
+            LocalDateTime startAt,
+            @Param("endAt")
+            LocalDateTime endAt
+    );
+
+    /**
+     * 특정 멤버가 참여하는 반복 일정 회차 중 기간과 겹치는 회차 존재 여부 확인
+     * 수정된 회차는 변경된 시간 기준
+     */
+    @Query("""
+            SELECT count(o) > 0
+            FROM EventOccurrence o
+            JOIN o.event e
+            WHERE e.calendar.calendarId IN :calendarIds
+            AND o.startAt < :endAt
+            AND o.endAt > :startAt
+            AND (e.calendar.team IS NULL OR e.isSelective IS NULL OR e.isSelective = false OR
+                    (e.isSelective = true AND EXISTS (
+                        SELECT 1 FROM EventParticipant ep
+                        WHERE ep.event = e AND ep.member.memberId = :memberId
+                ))
+            )
+    """)
+    boolean existsOverlappingOccurrenceForMember(
+            @Param("memberId")
+            Long memberId,
+            @Param("calendarIds")
+            List<Long> calendarIds,
+            @Param("startAt")
+            LocalDateTime startAt,
+            @Param("endAt")
+            LocalDateTime endAt
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EventOccurrence o WHERE o.event = :event")
+    void deleteAllByEvent(@Param("event") Event event);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EventOccurrence o WHERE o.event IN :events")
+    void deleteAllByEventIn(@Param("events") List<Event> events);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EventOccurrence o WHERE o.event.eventId IN :eventIds")
+    int deleteAllByEventIds(@Param("eventIds") List<Long> eventIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EventOccurrence o WHERE o.originalStartAt < :before")
+    int deleteAllByOriginalStartAtBefore(@Param("before") LocalDateTime before);
+}
@@ -1,14 +1,20 @@
 package unischedule.events.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventOverride;
+import unischedule.events.dto.EventOverrideProjectionDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EventOverrideRepository extends JpaRepository<EventOverride, Long> {
 
@@ -47,5 +53,146 @@ public interface EventOverrideRepository extends JpaRepository<EventOverride, Lo
             LocalDateTime endAt
     );
 
+    /**
+     * 조회용 override projection, 원래 회차 시간이 [startAt, endAt) 인 override
+     * @param originalEventIds
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    @Query("""
+            SELECT new unischedule.events.dto.EventOverrideProjectionDto(
+                eo.originalEvent.eventId, eo.originalEventTime, eo.title, eo.content, eo.startAt, eo.endAt
+            )
+            FROM EventOverride eo
+            WHERE eo.originalEvent.eventId IN :originalEventIds
+            AND eo.originalEventTime >= :startAt
+            AND eo.originalEventTime < :endAt
+    """)
+    List<EventOverrideProjectionDto> findOverrideProjectionsForEvents(
+            @Param("originalEventIds")
+            List<Long> originalEventIds,
+            @Param("startAt")
+            LocalDateTime startAt,
+            @Param("endAt")
+            LocalDateTime endAt
+    );
+
+    /**
+     * 겹침 확인용 override 조회
+     * 원래 회차 시간이 [originalFrom, endAt) 인 override 와 변경된 시간이 [startAt, endAt) 와 겹치는 override
+     * @param originalEventIds
+     * @param originalFrom
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    @Query("""
+            SELECT new unischedule.events.dto.EventOverrideProjectionDto(
+                eo.originalEvent.eventId, eo.originalEventTime, eo.title, eo.content, eo.startAt, eo.endAt
+            )
+            FROM EventOverride eo
+            WHERE eo.originalEvent.eventId IN :originalEventIds
+            AND (
+                (eo.originalEventTime >= :originalFrom AND eo.originalEventTime < :endAt)
+                OR (eo.title IS NOT NULL AND eo.startAt < :endAt AND eo.endAt > :startAt)
+            )
+    """)
+    List<EventOverrideProjectionDto> findEventOverridesAffectingPeriod(
+            @Param("originalEventIds")
+            List<Long> originalEventIds,
+            @Param("originalFrom")
+            LocalDateTime originalFrom,
+            @Param("startAt")
+            LocalDateTime startAt,
+            @Param("endAt")
+            LocalDateTime endAt
+    );
+
+    List<EventOverride> findAllByOriginalEvent(Event event);
+
+    /**
+     * ICS 구독용 캘린더 전체 override 를 커서로 조회
+     * 스트림은 호출한 트랜잭션 안에서 모두 읽고 닫아야 함
+     * @param calendarIds
+     * @return
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new unischedule.events.dto.EventOverrideProjectionDto(
+                e.eventId, eo.originalEventTime, eo.title, eo.content, eo.startAt, eo.endAt
+            )
+            FROM EventOverride eo
+            JOIN eo.originalEvent e
+            WHERE e.calendar.calendarId IN :calendarIds
+            ORDER BY e.eventId, eo.originalEventTime
+    """)
+    Stream<EventOverrideProjectionDto> streamFeedOverrides(
+            @Param("calendarIds")
+            List<Long> calendarIds
+    );
+
+    /**
+     * ICS 구독용 멤버가 볼 수 있는 일정의 override 를 커서로 조회
+     * 스트림은 호출한 트랜잭션 안에서 모두 읽고 닫아야 함
+     * @param memberId
+     * @param calendarIds
+     * @return
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new unischedule.events.dto.EventOverrideProjectionDto(
+                e.eventId, eo.originalEventTime, eo.title, eo.content, eo.startAt, eo.endAt
+            )
+            FROM EventOverride eo
+            JOIN eo.originalEvent e
+            JOIN e.calendar c
+            WHERE c.calendarId IN :calendarIds
+            AND (c.team IS NULL OR e.isSelective IS NULL OR e.isSelective = false OR
+                    (e.isSelective = true AND EXISTS (
+                        SELECT 1 FROM EventParticipant ep
+                        WHERE ep.event = e AND ep.member.memberId = :memberId
+                ))
+            )
+            ORDER BY e.eventId, eo.originalEventTime
+    """)
+    Stream<EventOverrideProjectionDto> streamFeedOverridesForMember(
+            @Param("memberId")
+            Long memberId,
+            @Param("calendarIds")
+            List<Long> calendarIds
+    );
+
+    @Query("""
+            SELECT eo
+            FROM EventOverride eo
+            JOIN FETCH eo.originalEvent e
+            WHERE e.calendar.calendarId = :calendarId
+            ORDER BY eo.id
+    """)
+    List<EventOverride> findAllForSync(
+            @Param("calendarId")
+            Long calendarId
+    );
+
+    @Query("""
+            SELECT eo
+            FROM EventOverride eo
+            JOIN FETCH eo.originalEvent e
+            WHERE e.calendar.calendarId = :calendarId
+            AND eo.updatedAt >= :since
+            ORDER BY eo.id
+    """)
+    List<EventOverride> findUpdatedForSync(
+            @Param("calendarId")
+            Long calendarId,
+            @Param("since")
+            LocalDateTime since
+    );
+
     void deleteAllByOriginalEvent(Event event);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EventOverride eo WHERE eo.originalEvent.eventId IN :eventIds")
+    int deleteAllByOriginalEventIds(@Param("eventIds") List<Long> eventIds);
 }
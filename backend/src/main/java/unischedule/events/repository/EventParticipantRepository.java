@@ -1,8 +1,12 @@
 package unischedule.events.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventParticipant;
+import unischedule.events.dto.EventParticipantIdDto;
 import unischedule.member.domain.Member;
 
 import java.util.List;
@@ -11,9 +15,31 @@ public interface EventParticipantRepository extends JpaRepository<EventParticipa
 
     List<EventParticipant> findByEvent(Event event);
 
+    /**
+     * 여러 일정의 선택 참여 여부와 참여자 id 를 한 번에 조회
+     * 참여자가 없는 일정도 memberId 가 null 인 행으로 포함
+     * @param eventIds
+     * @return
+     */
+    @Query("""
+            SELECT new unischedule.events.dto.EventParticipantIdDto(e.eventId, e.isSelective, m.memberId)
+            FROM Event e
+            LEFT JOIN EventParticipant ep ON ep.event = e
+            LEFT JOIN ep.member m
+            WHERE e.eventId IN :eventIds
+    """)
+    List<EventParticipantIdDto> findParticipantIdsByEventIds(
+            @Param("eventIds")
+            List<Long> eventIds
+    );
+
     boolean existsByEventAndMember(Event event, Member member);
 
     void deleteAllByEvent(Event event);
 
     void deleteAllByMember(Member member);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EventParticipant ep WHERE ep.event.eventId IN :eventIds")
+    int deleteAllByEventIds(@Param("eventIds") List<Long> eventIds);
 }
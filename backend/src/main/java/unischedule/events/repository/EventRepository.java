@@ -1,14 +1,21 @@
 package unischedule.events.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import unischedule.calendar.entity.Calendar;
 import unischedule.events.domain.Event;
+import unischedule.events.dto.EventProjectionDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
@@ -21,14 +28,19 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      * @return
      */
     @Query("""
-            SELECT e
+            SELECT new unischedule.events.dto.EventProjectionDto(
+                e.eventId, e.title, e.content, e.startAt, e.endAt, c.calendarId, t.teamId, r.rruleString
+            )
             FROM Event e
-            WHERE e.calendar.calendarId IN :calendarIds
+            JOIN e.calendar c
+            LEFT JOIN c.team t
+            LEFT JOIN e.recurrenceRule r
+            WHERE c.calendarId IN :calendarIds
             AND e.recurrenceRule IS NULL
             AND e.endAt > :startAt
             AND e.startAt < :endAt
     """)
-    List<Event> findSingleEventsInPeriod(
+    List<EventProjectionDto> findSingleEventsInPeriod(
             @Param("calendarIds")
             List<Long> calendarIds,
             @Param("startAt")
@@ -49,20 +61,25 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      * @return
      */
     @Query("""
-            SELECT e
+            SELECT new unischedule.events.dto.EventProjectionDto(
+                e.eventId, e.title, e.content, e.startAt, e.endAt, c.calendarId, t.teamId, r.rruleString
+            )
             FROM Event e
-            WHERE e.calendar.calendarId IN :calendarIds
+            JOIN e.calendar c
+            LEFT JOIN c.team t
+            LEFT JOIN e.recurrenceRule r
+            WHERE c.calendarId IN :calendarIds
             AND e.recurrenceRule IS NULL
             AND e.endAt > :startAt
             AND e.startAt < :endAt
-            AND (e.calendar.team IS NULL OR e.isSelective IS NULL OR e.isSelective = false OR
+            AND (c.team IS NULL OR e.isSelective IS NULL OR e.isSelective = false OR
                     (e.isSelective = true AND EXISTS (
                         SELECT 1 FROM EventParticipant ep
                         WHERE ep.event = e AND ep.member.memberId = :memberId
                 ))
             )
     """)
-    List<Event> findSingleEventsInPeriodForMember(
+    List<EventProjectionDto> findSingleEventsInPeriodForMember(
             @Param("memberId")
             Long memberId,
             @Param("calendarIds")
@@ -73,22 +90,36 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             LocalDateTime endAt
     );
 
+    /**
+     * 여러 캘린더에서 특정 기간에 속하고 멤버가 참여하는 반복 이벤트 원본 조회
+     * @param memberId
+     * @param calendarIds
+     * @param startAt
+     * @param endAt
+     * @return
+     */
     @Query("""
-            SELECT e
+            SELECT new unischedule.events.dto.EventProjectionDto(
+                e.eventId, e.title, e.content, e.startAt, e.endAt, c.calendarId, t.teamId, r.rruleString
+            )
             FROM Event e
-            WHERE e.calendar.calendarId IN :calendarIds
-            AND e.recurrenceRule IS NOT NULL
+            JOIN e.calendar c
+            LEFT JOIN c.team t
+            JOIN e.recurrenceRule r
+            WHERE c.calendarId IN :calendarIds
             AND e.startAt < :endAt
-            AND (e.calendar.team IS NULL OR e.isSelective IS NULL OR e.isSelective = false OR
+            AND (r.seriesEnd IS NULL OR r.seriesEnd > :startAt)
+            AND (c.team IS NULL OR e.isSelective IS NULL OR e.isSelective = false OR
                     (e.isSelective = true AND EXISTS (
                         SELECT 1 FROM EventParticipant ep
                         WHERE ep.event = e AND ep.member.memberId = :memberId
                 ))
             )
     """)
-    List<Event> findRecurringEventsInPeriodForMember(
+    List<EventProjectionDto> findRecurringEventsInPeriodForMember(
             @Param("memberId") Long memberId,
             @Param("calendarIds") List<Long> calendarIds,
+            @Param("startAt") LocalDateTime startAt,
             @Param("endAt") LocalDateTime endAt
     );
 
@@ -118,25 +149,201 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     /**
      * 여러 캘린더에서 특정 기간에 속하는 반복 이벤트 원본 조회
+     * 반복이 이미 끝난 일정(seriesEnd <= startAt)은 제외
      * @param calendarIds
+     * @param startAt
      * @param endAt
      * @return
      */
     @Query("""
-            SELECT e
+            SELECT new unischedule.events.dto.EventProjectionDto(
+                e.eventId, e.title, e.content, e.startAt, e.endAt, c.calendarId, t.teamId, r.rruleString
+            )
             FROM Event e
-            WHERE e.calendar.calendarId IN :calendarIds
-            AND e.recurrenceRule IS NOT NULL
+            JOIN e.calendar c
+            LEFT JOIN c.team t
+            JOIN e.recurrenceRule r
+            WHERE c.calendarId IN :calendarIds
             AND e.startAt < :endAt
+            AND (r.seriesEnd IS NULL OR r.seriesEnd > :startAt)
     """)
-    List<Event> findRecurringEventsInPeriod(
+    List<EventProjectionDto> findRecurringEventsInPeriod(
             @Param("calendarIds")
             List<Long> calendarIds,
+            @Param("startAt")
+            LocalDateTime startAt,
             @Param("endAt")
             LocalDateTime endAt
     );
 
+    /**
+     * from 이후에도 반복되는 일정 id 를 순서대로 페이지 단위 조회
+     * @param afterEventId 이전 페이지의 마지막 id
+     * @param from
+     * @param pageable
+     * @return
+     */
+    @Query("""
+            SELECT e.eventId
+            FROM Event e
+            JOIN e.recurrenceRule r
+            WHERE e.eventId > :afterEventId
+            AND (r.seriesEnd IS NULL OR r.seriesEnd > :from)
+            ORDER BY e.eventId
+    """)
+    List<Long> findRecurringEventIdsAfter(
+            @Param("afterEventId")
+            Long afterEventId,
+            @Param("from")
+            LocalDateTime from,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT e
+            FROM Event e
+            JOIN FETCH e.recurrenceRule
+            WHERE e.eventId IN :eventIds
+    """)
+    List<Event> findRecurringEventsByIds(
+            @Param("eventIds")
+            List<Long> eventIds
+    );
+
     List<Event> findByCalendar(Calendar calendar);
 
+    /**
+     * ICS 구독용 캘린더 전체 일정을 커서로 조회 (반복 일정은 전개하지 않음)
+     * 스트림은 호출한 트랜잭션 안에서 모두 읽고 닫아야 함
+     * @param calendarIds
+     * @return
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new unischedule.events.dto.EventProjectionDto(
+                e.eventId, e.title, e.content, e.startAt, e.endAt, c.calendarId, t.teamId, r.rruleString
+            )
+            FROM Event e
+            JOIN e.calendar c
+            LEFT JOIN c.team t
+            LEFT JOIN e.recurrenceRule r
+            WHERE c.calendarId IN :calendarIds
+            ORDER BY e.eventId
+    """)
+    Stream<EventProjectionDto> streamFeedEvents(
+            @Param("calendarIds")
+            List<Long> calendarIds
+    );
+
+    /**
+     * ICS 구독용 멤버가 볼 수 있는 일정을 커서로 조회 (선택 참여 팀 일정은 참여한 일정만)
+     * 스트림은 호출한 트랜잭션 안에서 모두 읽고 닫아야 함
+     * @param memberId
+     * @param calendarIds
+     * @return
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new unischedule.events.dto.EventProjectionDto(
+                e.eventId, e.title, e.content, e.startAt, e.endAt, c.calendarId, t.teamId, r.rruleString
+            )
+            FROM Event e
+            JOIN e.calendar c
+            LEFT JOIN c.team t
+            LEFT JOIN e.recurrenceRule r
+            WHERE c.calendarId IN :calendarIds
+            AND (c.team IS NULL OR e.isSelective IS NULL OR e.isSelective = false OR
+                    (e.isSelective = true AND EXISTS (
+                        SELECT 1 FROM EventParticipant ep
+                        WHERE ep.event = e AND ep.member.memberId = :memberId
+                ))
+            )
+            ORDER BY e.eventId
+    """)
+    Stream<EventProjectionDto> streamFeedEventsForMember(
+            @Param("memberId")
+            Long memberId,
+            @Param("calendarIds")
+            List<Long> calendarIds
+    );
+
+    /**
+     * 동기화용 캘린더 전체 일정 조회 (반복 일정은 전개하지 않음)
+     * @param calendarId
+     * @return
+     */
+    @Query("""
+            SELECT e
+            FROM Event e
+            LEFT JOIN FETCH e.recurrenceRule
+            WHERE e.calendar.calendarId = :calendarId
+            ORDER BY e.eventId
+    """)
+    List<Event> findAllForSync(
+            @Param("calendarId")
+            Long calendarId
+    );
+
+    /**
+     * 동기화용 since 이후 생성, 수정된 일정 조회
+     * @param calendarId
+     * @param since
+     * @return
+     */
+    @Query("""
+            SELECT e
+            FROM Event e
+            LEFT JOIN FETCH e.recurrenceRule
+            WHERE e.calendar.calendarId = :calendarId
+            AND e.updatedAt >= :since
+            ORDER BY e.eventId
+    """)
+    List<Event> findUpdatedForSync(
+            @Param("calendarId")
+            Long calendarId,
+            @Param("since")
+            LocalDateTime since
+    );
+
+    /**
+     * 캘린더의 일정 id 를 순서대로 페이지 단위 조회 (일괄 삭제용)
+     * @param calendarId
+     * @param pageable
+     * @return
+     */
+    @Query("""
+            SELECT e.eventId
+            FROM Event e
+            WHERE e.calendar.calendarId = :calendarId
+            ORDER BY e.eventId
+    """)
+    List<Long> findEventIdsByCalendarId(
+            @Param("calendarId")
+            Long calendarId,
+            Pageable pageable
+    );
+
+    /**
+     * 일정들이 사용하는 반복 규칙 id 조회
+     * @param eventIds
+     * @return
+     */
+    @Query("""
+            SELECT e.recurrenceRule.id
+            FROM Event e
+            WHERE e.eventId IN :eventIds
+            AND e.recurrenceRule IS NOT NULL
+    """)
+    List<Long> findRecurrenceRuleIdsByEventIds(
+            @Param("eventIds")
+            List<Long> eventIds
+    );
+
+    long countByCalendarCalendarId(Long calendarId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Event e WHERE e.eventId IN :eventIds")
+    int deleteAllByEventIds(@Param("eventIds") List<Long> eventIds);
+
     void deleteAll(Iterable<? extends Event> entities);
 }
@@ -0,0 +1,26 @@
+package unischedule.events.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import unischedule.events.domain.EventTombstone;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventTombstoneRepository extends JpaRepository<EventTombstone, Long> {
+
+    List<EventTombstone> findByCalendarIdAndDeletedAtGreaterThanEqualOrderByDeletedAt(
+            Long calendarId,
+            LocalDateTime since
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EventTombstone t WHERE t.deletedAt < :before")
+    int deleteAllDeletedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM EventTombstone t WHERE t.calendarId = :calendarId")
+    int deleteAllByCalendarId(@Param("calendarId") Long calendarId);
+}
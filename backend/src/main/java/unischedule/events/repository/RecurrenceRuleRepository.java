@@ -1,7 +1,16 @@
 package unischedule.events.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import unischedule.events.domain.RecurrenceRule;
 
+import java.util.List;
+
 public interface RecurrenceRuleRepository extends JpaRepository<RecurrenceRule, Long> {
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM RecurrenceRule r WHERE r.id IN :ruleIds")
+    int deleteAllByIds(@Param("ruleIds") List<Long> ruleIds);
 }
@@ -0,0 +1,82 @@
+package unischedule.events.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import unischedule.events.service.common.EventOccurrenceService;
+import unischedule.events.service.internal.RecurringEventRawService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 반복 일정 회차 테이블을 rolling horizon 기간으로 채우는 작업
+ * 서버 시작 시 오늘 기준 기간이 아직 채워지지 않았으면 한 번, 이후 매일 기간을 앞으로 이동하며 전체 재생성
+ * 여러 서버 중 DB 잠금을 얻은 한 서버만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventOccurrenceScheduler {
+    private static final int PAGE_SIZE = 100;
+
+    private final EventOccurrenceService eventOccurrenceService;
+    private final RecurringEventRawService recurringEventRawService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        EventOccurrenceService.Horizon horizon = eventOccurrenceService.targetHorizon();
+        if (eventOccurrenceService.materializedHorizon().filter(horizon::equals).isPresent()) {
+            log.info("반복 일정 회차가 이미 갱신되어 있음: {} ~ {}", horizon.from(), horizon.until());
+            return;
+        }
+        refreshOccurrences();
+    }
+
+    @Scheduled(cron = "${events.occurrence.refresh-cron:0 0 4 * * *}")
+    public void refreshOccurrences() {
+        EventOccurrenceService.Horizon horizon = eventOccurrenceService.targetHorizon();
+        String owner = UUID.randomUUID().toString();
+
+        if (!eventOccurrenceService.tryLockRefresh(owner)) {
+            log.info("다른 서버에서 반복 일정 회차 갱신 중, 건너뜀");
+            return;
+        }
+
+        try {
+            LocalDateTime deleteBefore = eventOccurrenceService.materializedHorizon()
+                    .map(EventOccurrenceService.Horizon::from)
+                    .filter(previousFrom -> previousFrom.isBefore(horizon.from()))
+                    .orElse(horizon.from());
+            long lastEventId = 0L;
+            List<Long> eventIds = recurringEventRawService.findRecurringEventIdsAfter(lastEventId, horizon.from(), PAGE_SIZE);
+
+            while (!eventIds.isEmpty()) {
+                eventOccurrenceService.rebuildOccurrencesByIds(eventIds, horizon);
+
+                lastEventId = eventIds.getLast();
+                eventIds = recurringEventRawService.findRecurringEventIdsAfter(lastEventId, horizon.from(), PAGE_SIZE);
+            }
+
+            // 기간을 먼저 옮긴 뒤 지난 회차를 지움
+            // 다른 서버는 보관 중인 이전 기간으로 잠시 더 조회하므로, 이전 기간 시작 전 회차만 지우고 나머지는 다음 갱신에서 지움
+            if (!eventOccurrenceService.completeRefresh(owner, horizon)) {
+                log.warn("반복 일정 회차 갱신 잠금 시간이 지나 기간을 저장하지 않음: {} ~ {}", horizon.from(), horizon.until());
+                return;
+            }
+            eventOccurrenceService.deleteOccurrencesBefore(deleteBefore);
+            log.info("반복 일정 회차 갱신 완료: {} ~ {}", horizon.from(), horizon.until());
+        }
+        catch (RuntimeException e) {
+            // 갱신에 실패하면 기존 기간을 유지하고, 기간 밖 조회는 반복 규칙 전개로 처리
+            log.error("반복 일정 회차 갱신 실패", e);
+        }
+        finally {
+            eventOccurrenceService.unlockRefresh(owner);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package unischedule.events.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import unischedule.events.service.internal.EventTombstoneRawService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 일정 삭제 기록 정리
+ * 보관 기간보다 오래된 동기화 토큰은 EventSyncService 에서 거절하므로 정리해도 삭제를 놓치지 않음
+ */
+@Slf4j
+@Component
+public class EventTombstoneCleanupScheduler {
+    private final EventTombstoneRawService eventTombstoneRawService;
+    private final Duration tombstoneRetention;
+
+    public EventTombstoneCleanupScheduler(
+            EventTombstoneRawService eventTombstoneRawService,
+            @Value("${events.sync.tombstone-retention:P30D}") Duration tombstoneRetention
+    ) {
+        this.eventTombstoneRawService = eventTombstoneRawService;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Scheduled(cron = "${events.sync.tombstone-cleanup-cron:0 30 4 * * *}")
+    public void deleteExpiredTombstones() {
+        int deleted = eventTombstoneRawService.deleteTombstonesBefore(LocalDateTime.now().minus(tombstoneRetention));
+        log.info("일정 삭제 기록 정리 완료: {}건", deleted);
+    }
+}
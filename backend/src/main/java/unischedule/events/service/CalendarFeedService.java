@@ -0,0 +1,219 @@
+package unischedule.events.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.fortuna.ical4j.model.TimeZone;
+import net.fortuna.ical4j.model.TimeZoneRegistryFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import unischedule.calendar.service.CalendarIdResolver;
+import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.events.dto.CalendarFeedDto;
+import unischedule.events.dto.EventOverrideProjectionDto;
+import unischedule.events.dto.EventProjectionDto;
+import unischedule.events.service.internal.EventOverrideRawService;
+import unischedule.events.service.internal.EventRawService;
+import unischedule.events.util.CalendarFeedToken;
+import unischedule.events.util.IcsFeedWriter;
+import unischedule.exception.EntityNotFoundException;
+import unischedule.member.domain.Member;
+import unischedule.member.domain.MemberStatus;
+import unischedule.member.service.internal.MemberRawService;
+import unischedule.team.domain.Team;
+import unischedule.team.service.internal.TeamMemberRawService;
+import unischedule.team.service.internal.TeamRawService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 외부 캘린더 앱 구독용 ICS 피드
+ * 반복 일정은 전개하지 않고 RRULE, EXDATE, RECURRENCE-ID 로 출력하고, 일정은 DB 커서로 읽는 대로 바로 출력
+ * 같은 캘린더 버전이면 같은 ETag 이므로, 주기적인 재요청은 피드를 다시 만들지 않고 304 로 응답
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+    private final MemberRawService memberRawService;
+    private final TeamRawService teamRawService;
+    private final TeamMemberRawService teamMemberRawService;
+    private final CalendarRawService calendarRawService;
+    private final CalendarIdResolver calendarIdResolver;
+    private final CalendarVersionService calendarVersionService;
+    private final EventRawService eventRawService;
+    private final EventOverrideRawService eventOverrideRawService;
+
+    /**
+     * 구독 대상별 마지막 ETag 와 그 ETag 를 처음 본 시각 (Last-Modified)
+     */
+    private final Map<String, FeedValidator> validatorsByScope = new ConcurrentHashMap<>();
+    private volatile Optional<String> vTimeZone;
+
+    private record FeedValidator(String eTag, long lastModified) {
+    }
+
+    /**
+     * 개인 일정과 소속 팀 일정을 합친 캘린더의 구독 토큰 발급
+     * 처음 발급하면 멤버의 서명 키를 생성
+     * @param email
+     * @return
+     */
+    @Transactional
+    public String createMemberFeedToken(String email) {
+        Member member = memberRawService.findMemberByEmail(email);
+        return new CalendarFeedToken(member.getMemberId(), null).encode(member.issueFeedSecret());
+    }
+
+    /**
+     * 팀 캘린더 구독 토큰 발급
+     * @param email
+     * @param teamId
+     * @return
+     */
+    @Transactional
+    public String createTeamFeedToken(String email, Long teamId) {
+        Member member = memberRawService.findMemberByEmail(email);
+        Team team = teamRawService.findTeamById(teamId);
+        teamMemberRawService.checkTeamAndMember(team, member);
+
+        return new CalendarFeedToken(member.getMemberId(), teamId).encode(member.issueFeedSecret());
+    }
+
+    /**
+     * 멤버의 서명 키를 새로 만들어 이전 구독 주소(개인, 팀 모두)를 사용할 수 없게 하고 새 개인 구독 토큰 발급
+     * @param email
+     * @return
+     */
+    @Transactional
+    public String regenerateMemberFeedToken(String email) {
+        Member member = memberRawService.findMemberByEmail(email);
+        member.rotateFeedSecret();
+        return new CalendarFeedToken(member.getMemberId(), null).encode(member.issueFeedSecret());
+    }
+
+    /**
+     * 토큰 검증 후 구독 대상과 캐시 검증값 계산, 일정은 조회하지 않음
+     * @param token
+     * @return
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public CalendarFeedDto getFeed(String token) {
+        CalendarFeedToken feedToken = CalendarFeedToken.decode(token, memberId ->
+                memberRawService.findOptionalMemberById(memberId)
+                        .map(Member::getFeedSecret)
+                        .orElse(null)
+        );
+        Member member = memberRawService.findMemberById(feedToken.memberId());
+        if (member.getStatus() == MemberStatus.DELETED) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        if (feedToken.isTeamFeed()) {
+            Team team = teamRawService.findTeamById(feedToken.teamId());
+            team.validateActive();
+            teamMemberRawService.checkTeamAndMember(team, member);
+
+            List<Long> calendarIds = List.of(calendarRawService.getTeamCalendar(team).getCalendarId());
+            return toFeed("team:" + team.getTeamId(), team.getName(), null, calendarIds);
+        }
+
+        List<Long> calendarIds = calendarIdResolver.getMemberCalendarIds(member);
+        return toFeed("member:" + member.getMemberId(), member.getNickname(), member.getMemberId(), calendarIds);
+    }
+
+    /**
+     * 피드 출력
+     * 삭제된 회차는 원본 일정의 EXDATE 로 출력해야 하므로 override 를 먼저 읽고, 삭제된 회차 시간만 메모리에 보관
+     * @param feed
+     * @param outputStream
+     * @throws IOException
+     */
+    @Transactional(readOnly = true)
+    public void writeFeed(CalendarFeedDto feed, OutputStream outputStream) throws IOException {
+        IcsFeedWriter writer = new IcsFeedWriter(
+                new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)),
+                ZoneId.systemDefault(),
+                getVTimeZone(),
+                Instant.now()
+        );
+        writer.begin(feed.name());
+
+        Map<Long, List<LocalDateTime>> exDatesByEvent = new HashMap<>();
+        try (Stream<EventOverrideProjectionDto> overrides =
+                     eventOverrideRawService.streamFeedOverrides(feed.viewerId(), feed.calendarIds())) {
+            Iterator<EventOverrideProjectionDto> iterator = overrides.iterator();
+            while (iterator.hasNext()) {
+                EventOverrideProjectionDto override = iterator.next();
+                if (override.isDeleteOverride()) {
+                    exDatesByEvent.computeIfAbsent(override.originalEventId(), eventId -> new ArrayList<>())
+                            .add(override.originalEventTime());
+                    continue;
+                }
+                writer.writeOverride(override);
+            }
+        }
+
+        try (Stream<EventProjectionDto> events = eventRawService.streamFeedEvents(feed.viewerId(), feed.calendarIds())) {
+            Iterator<EventProjectionDto> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                EventProjectionDto event = iterator.next();
+                writer.writeEvent(event, exDatesByEvent.getOrDefault(event.eventId(), List.of()));
+            }
+        }
+
+        writer.end();
+    }
+
+    private CalendarFeedDto toFeed(String scope, String name, Long viewerId, List<Long> calendarIds) {
+        String eTag = calendarVersionService.getETag("feed:" + scope, calendarIds, null, null);
+
+        // 버전이 바뀐 뒤 처음 본 시각을 Last-Modified 로 사용, 실제 변경 시각보다 늦을 수는 있어도 이르지 않음
+        FeedValidator validator = validatorsByScope.compute(scope, (key, cached) ->
+                cached != null && cached.eTag().equals(eTag)
+                        ? cached
+                        : new FeedValidator(eTag, Instant.now().truncatedTo(ChronoUnit.SECONDS).toEpochMilli())
+        );
+        return new CalendarFeedDto(name, viewerId, calendarIds, eTag, validator.lastModified());
+    }
+
+    /**
+     * 서버 시간대의 VTIMEZONE, ical4j 에 없는 시간대면 null (시간을 UTC 로 출력)
+     */
+    private String getVTimeZone() {
+        Optional<String> cached = vTimeZone;
+        if (cached == null) {
+            cached = Optional.ofNullable(loadVTimeZone(ZoneId.systemDefault()));
+            vTimeZone = cached;
+        }
+        return cached.orElse(null);
+    }
+
+    private String loadVTimeZone(ZoneId zone) {
+        try {
+            TimeZone timeZone = TimeZoneRegistryFactory.getInstance().createRegistry().getTimeZone(zone.getId());
+            return timeZone == null ? null : timeZone.getVTimeZone().toString();
+        }
+        catch (RuntimeException e) {
+            log.warn("VTIMEZONE 조회 실패, UTC 로 출력: zone={}", zone, e);
+            return null;
+        }
+    }
+}
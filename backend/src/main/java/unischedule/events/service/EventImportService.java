@@ -0,0 +1,280 @@
+package unischedule.events.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import unischedule.calendar.entity.Calendar;
+import unischedule.calendar.service.CalendarIdResolver;
+import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.events.domain.Event;
+import unischedule.events.domain.collection.BusyIntervalSeries;
+import unischedule.events.dto.EventImportResponseDto;
+import unischedule.events.dto.IcsEventDto;
+import unischedule.events.service.common.EventCommandService;
+import unischedule.events.service.common.EventQueryService;
+import unischedule.events.util.IcsEventReader;
+import unischedule.events.util.RRuleParser;
+import unischedule.exception.InvalidInputException;
+import unischedule.member.domain.Member;
+import unischedule.member.service.internal.MemberRawService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * ICS 파일 가져오기
+ * 파일을 두 번 읽고, 저장할 일정은 chunkSize 개씩 나눠서 저장
+ * - 첫 번째: 일정 기간과 회차 수만 계산해서 한도를 넘는 파일은 거절하고, 그 기간의 기존 일정을 한 번만 조회
+ * - 두 번째: 기존 일정과 겹치는 일정은 건너뛰고, chunkSize 개씩 묶어서 각각의 트랜잭션으로 저장
+ * 겹침 확인용 기존 일정과 가져온 일정의 회차, 변경된 회차(RECURRENCE-ID)는 파일 전체 분량을 들고 있으므로
+ * 메모리는 파일 기간(maxSpan)과 회차 수(maxOccurrences) 한도로 제한
+ * 변경된 회차는 원본 반복 일정이 파일 뒤쪽에 있을 수 있으므로 모아서 마지막에 저장
+ */
+@Service
+public class EventImportService {
+    private final MemberRawService memberRawService;
+    private final CalendarRawService calendarRawService;
+    private final CalendarIdResolver calendarIdResolver;
+    private final EventQueryService eventQueryService;
+    private final EventCommandService eventCommandService;
+    private final RRuleParser rruleParser;
+    private final int chunkSize;
+    private final Duration maxSpan;
+    private final int maxOccurrences;
+
+    public EventImportService(
+            MemberRawService memberRawService,
+            CalendarRawService calendarRawService,
+            CalendarIdResolver calendarIdResolver,
+            EventQueryService eventQueryService,
+            EventCommandService eventCommandService,
+            RRuleParser rruleParser,
+            @Value("${events.import.chunk-size:200}") int chunkSize,
+            @Value("${events.import.max-span:P730D}") Duration maxSpan,
+            @Value("${events.import.max-occurrences:20000}") int maxOccurrences
+    ) {
+        this.memberRawService = memberRawService;
+        this.calendarRawService = calendarRawService;
+        this.calendarIdResolver = calendarIdResolver;
+        this.eventQueryService = eventQueryService;
+        this.eventCommandService = eventCommandService;
+        this.rruleParser = rruleParser;
+        this.chunkSize = chunkSize;
+        this.maxSpan = maxSpan;
+        this.maxOccurrences = maxOccurrences;
+    }
+
+    /**
+     * 개인 캘린더로 ICS 파일의 일정 가져오기, 기존 일정과 겹치는 일정은 건너뜀
+     * @param email
+     * @param file
+     * @return
+     */
+    public EventImportResponseDto importIcs(String email, MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new InvalidInputException("ICS 파일이 비어 있습니다.");
+        }
+
+        Member member = memberRawService.findMemberByEmail(email);
+        Calendar calendar = calendarRawService.getMyPersonalCalendar(member);
+        List<Long> calendarIds = calendarIdResolver.getMemberCalendarIds(member);
+
+        ImportSpan span = new ImportSpan();
+        read(file, span::include);
+        if (span.startAt == null) {
+            return new EventImportResponseDto(0, 0, 0);
+        }
+        if (Duration.between(span.startAt, span.endAt).compareTo(maxSpan) > 0) {
+            throw new InvalidInputException("가져올 수 있는 일정 기간은 최대 " + maxSpan.toDays() + "일입니다.");
+        }
+
+        BusyIntervalSeries busyIntervals = BusyIntervalSeries.fromServiceDtos(
+                eventQueryService.getEventsForMember(member, calendarIds, span.startAt, span.endAt)
+        );
+
+        ImportBatch batch = new ImportBatch(calendar, busyIntervals);
+        read(file, batch::add);
+        batch.finish();
+
+        return new EventImportResponseDto(batch.imported, batch.skippedOverlaps, batch.skippedInvalid);
+    }
+
+    private void read(MultipartFile file, Consumer<IcsEventDto> consumer) {
+        try (InputStream inputStream = file.getInputStream()) {
+            IcsEventReader.read(inputStream, ZoneId.systemDefault(), consumer);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 반복 일정의 회차 시작 시간, 반복 규칙이 올바르지 않으면 null
+     */
+    private List<LocalDateTime> startTimesOf(IcsEventDto event) {
+        try {
+            List<LocalDateTime> startTimes = rruleParser.calEventStartTimeList(event.startAt(), event.rrule());
+            if (event.exDates().isEmpty()) {
+                return startTimes;
+            }
+            Set<LocalDateTime> exDates = new HashSet<>(event.exDates());
+            return startTimes.stream()
+                    .filter(startTime -> !exDates.contains(startTime))
+                    .toList();
+        }
+        catch (InvalidInputException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasValidTime(IcsEventDto event) {
+        return event.startAt() != null && event.endAt() != null && event.endAt().isAfter(event.startAt());
+    }
+
+    private static boolean hasValidRRule(IcsEventDto event) {
+        // recurrence_rule.rrule_string 컬럼 길이
+        return event.rrule().length() <= 255;
+    }
+
+    /**
+     * 가져올 일정 전체 기간, 반복 일정은 마지막 회차까지
+     * 회차 수가 한도를 넘으면 파일을 끝까지 읽지 않고 거절
+     */
+    private class ImportSpan {
+        private LocalDateTime startAt;
+        private LocalDateTime endAt;
+        private int occurrences;
+
+        private void include(IcsEventDto event) {
+            if (event.isInstanceOverride()) {
+                count(1);
+                return;
+            }
+            if (event.cancelled() || !hasValidTime(event)) {
+                return;
+            }
+
+            LocalDateTime lastEndAt = event.endAt();
+            if (event.isRecurring()) {
+                List<LocalDateTime> startTimes = hasValidRRule(event) ? startTimesOf(event) : null;
+                if (startTimes == null || startTimes.isEmpty()) {
+                    return;
+                }
+                lastEndAt = startTimes.getLast().plus(Duration.between(event.startAt(), event.endAt()));
+                count(startTimes.size());
+            }
+            else {
+                count(1);
+            }
+
+            if (startAt == null || event.startAt().isBefore(startAt)) {
+                startAt = event.startAt();
+            }
+            if (endAt == null || lastEndAt.isAfter(endAt)) {
+                endAt = lastEndAt;
+            }
+        }
+
+        private void count(int added) {
+            occurrences += added;
+            if (occurrences > maxOccurrences) {
+                throw new InvalidInputException("가져올 수 있는 일정은 반복 회차를 포함해 최대 " + maxOccurrences + "개입니다.");
+            }
+        }
+    }
+
+    private class ImportBatch {
+        private final Calendar calendar;
+        private final BusyIntervalSeries busyIntervals;
+        private final List<IcsEventDto> chunk = new ArrayList<>();
+        private final Map<String, Long> recurringEventIdsByUid = new HashMap<>();
+        private final List<IcsEventDto> instanceOverrides = new ArrayList<>();
+
+        private int imported;
+        private int skippedOverlaps;
+        private int skippedInvalid;
+
+        private ImportBatch(Calendar calendar, BusyIntervalSeries busyIntervals) {
+            this.calendar = calendar;
+            this.busyIntervals = busyIntervals;
+        }
+
+        private void add(IcsEventDto event) {
+            if (event.isInstanceOverride()) {
+                if (event.uid() != null && (event.cancelled() || hasValidTime(event))) {
+                    instanceOverrides.add(event);
+                }
+                return;
+            }
+            if (event.cancelled()) {
+                return;
+            }
+            if (!hasValidTime(event)) {
+                skippedInvalid++;
+                return;
+            }
+
+            List<LocalDateTime> startTimes = List.of(event.startAt());
+            if (event.isRecurring()) {
+                startTimes = hasValidRRule(event) ? startTimesOf(event) : null;
+                if (startTimes == null || startTimes.isEmpty()) {
+                    skippedInvalid++;
+                    return;
+                }
+            }
+
+            Duration duration = Duration.between(event.startAt(), event.endAt());
+            if (busyIntervals.hasOverlapWithAny(startTimes, duration)) {
+                skippedOverlaps++;
+                return;
+            }
+            // 같은 파일의 이후 일정과도 겹치지 않도록 저장할 일정의 회차를 바쁜 구간에 추가
+            busyIntervals.addAll(startTimes, duration);
+
+            chunk.add(event);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            List<Event> savedEvents = eventCommandService.importEvents(calendar, chunk);
+            for (int i = 0; i < savedEvents.size(); i++) {
+                IcsEventDto event = chunk.get(i);
+                if (event.isRecurring() && event.uid() != null) {
+                    recurringEventIdsByUid.put(event.uid(), savedEvents.get(i).getEventId());
+                }
+            }
+            imported += savedEvents.size();
+            chunk.clear();
+        }
+
+        private void finish() {
+            flush();
+
+            Map<Long, List<IcsEventDto>> instancesByEventId = new HashMap<>();
+            for (IcsEventDto instance : instanceOverrides) {
+                Long eventId = recurringEventIdsByUid.get(instance.uid());
+                if (eventId != null) {
+                    instancesByEventId.computeIfAbsent(eventId, id -> new ArrayList<>()).add(instance);
+                }
+            }
+            eventCommandService.importInstanceOverrides(instancesByEventId);
+        }
+    }
+}
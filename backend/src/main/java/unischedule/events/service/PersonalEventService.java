@@ -2,15 +2,19 @@ package unischedule.events.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import unischedule.calendar.entity.Calendar;
+import unischedule.calendar.service.CalendarIdResolver;
 import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.events.cache.CalendarVersionService;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventOverride;
 import unischedule.events.dto.EventCreateResponseDto;
 import unischedule.events.dto.EventGetResponseDto;
 import unischedule.events.dto.EventModifyRequestDto;
 import unischedule.events.dto.EventServiceDto;
+import unischedule.events.dto.EventSyncResponseDto;
 import unischedule.events.dto.PersonalEventCreateRequestDto;
 import unischedule.events.dto.PersonalEventGetResponseDto;
 import unischedule.events.dto.RecurringEventCreateRequestDto;
@@ -18,19 +22,18 @@ import unischedule.events.dto.RecurringInstanceDeleteRequestDto;
 import unischedule.events.dto.RecurringInstanceModifyRequestDto;
 import unischedule.events.service.common.EventCommandService;
 import unischedule.events.service.common.EventQueryService;
+import unischedule.events.service.common.EventSyncService;
 import unischedule.events.service.internal.EventRawService;
 import unischedule.lecture.service.internal.LectureRawService;
 import unischedule.member.domain.Member;
 import unischedule.member.service.internal.MemberRawService;
-import unischedule.team.domain.Team;
-import unischedule.team.domain.TeamMember;
-import unischedule.team.service.internal.TeamMemberRawService;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -39,10 +42,12 @@ public class PersonalEventService {
     private final MemberRawService memberRawService;
     private final EventRawService eventRawService;
     private final EventQueryService eventQueryService;
-    private final TeamMemberRawService teamMemberRawService;
     private final CalendarRawService calendarRawService;
     private final EventCommandService eventCommandService;
     private final LectureRawService lectureRawService;
+    private final CalendarIdResolver calendarIdResolver;
+    private final CalendarVersionService calendarVersionService;
+    private final EventSyncService eventSyncService;
 
     @Transactional
     public EventCreateResponseDto makePersonalSingleEvent(String email, PersonalEventCreateRequestDto requestDto) {
@@ -84,25 +89,59 @@ public class PersonalEventService {
         }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 개인 일정 목록 ETag, 일정 조회 없이 캘린더 버전만으로 계산
+     * @param email
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public String getPersonalEventsETag(String email, LocalDateTime startAt, LocalDateTime endAt) {
+        Member member = memberRawService.findMemberByEmail(email);
+        List<Long> calendarIds = calendarIdResolver.getMemberCalendarIds(member);
+
+        return calendarVersionService.getETag("member:" + member.getMemberId(), calendarIds, startAt, endAt);
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<PersonalEventGetResponseDto> getPersonalEvents(String email, LocalDateTime startAt, LocalDateTime endAt) {
         Member member = memberRawService.findMemberByEmail(email);
 
-        List<Long> calendarIds = getMemberCalendarIds(member);
+        List<Long> calendarIds = calendarIdResolver.getMemberCalendarIds(member);
 
         Set<Long> lectureEventIds = lectureRawService.getAllLectureEventIds(email);
 
         List<EventServiceDto> serviceDtos = eventQueryService.getEventsForMember(member, calendarIds, startAt, endAt);
 
+        // 반복 일정은 회차마다 같은 id 가 반복되므로 일정 종류는 id 당 한 번만 계산
+        Map<Long, String> eventTypes = new HashMap<>();
+
         return serviceDtos.stream()
                 .map(serviceDto -> {
-                    Event originalEvent = eventRawService.findEventById(serviceDto.eventId());
-                    String eventType = determineEventType(originalEvent, lectureEventIds);
+                    String eventType = eventTypes.computeIfAbsent(
+                            serviceDto.eventId(),
+                            eventId -> determineEventType(serviceDto, lectureEventIds)
+                    );
                     return PersonalEventGetResponseDto.fromServiceDto(serviceDto, eventType);
                 })
                 .toList();
     }
 
+    /**
+     * 개인 캘린더 일정 변경분 동기화, 팀 일정은 팀 캘린더 동기화로 조회
+     * @param email
+     * @param syncToken 첫 동기화면 null
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public EventSyncResponseDto syncPersonalEvents(String email, String syncToken) {
+        Member member = memberRawService.findMemberByEmail(email);
+        Calendar personalCalendar = calendarRawService.getMyPersonalCalendar(member);
+
+        return eventSyncService.sync(personalCalendar.getCalendarId(), syncToken);
+    }
+
     @Transactional
     public EventGetResponseDto modifyPersonalEvent(String email, Long eventId, EventModifyRequestDto requestDto) {
         Member member = memberRawService.findMemberByEmail(email);
@@ -168,7 +207,7 @@ public class PersonalEventService {
         eventCommandService.deleteRecurringEvent(event);
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<PersonalEventGetResponseDto> getTodayMyEvent(String email) {
         LocalDateTime start = LocalDate.now().atStartOfDay();
         LocalDateTime end = LocalDate.now().plusDays(1).atStartOfDay();
@@ -179,7 +218,7 @@ public class PersonalEventService {
             .toList();
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<PersonalEventGetResponseDto> getUpcomingMyEvent(String email) {
         LocalDateTime start = LocalDate.now().plusDays(1).atStartOfDay();
         LocalDateTime end = LocalDate.now().plusDays(8).atStartOfDay();
@@ -193,27 +232,6 @@ public class PersonalEventService {
             .toList();
     }
     
-    private List<Long> getMemberCalendarIds(Member member) {
-        List<Team> teamList = teamMemberRawService.findByMember(member)
-                .stream()
-                .map(TeamMember::getTeam)
-                .toList();
-
-        List<Long> calendarIds = new ArrayList<>();
-
-        // 개인 캘린더
-        calendarIds.add(calendarRawService.getMyPersonalCalendar(member).getCalendarId());
-
-        // 팀 캘린더
-        List<Long> teamCalendarIds = teamList.stream()
-                .map(calendarRawService::getTeamCalendar)
-                .map(Calendar::getCalendarId)
-                .toList();
-
-        calendarIds.addAll(teamCalendarIds);
-        return calendarIds;
-    }
-
     private <T> T getValueOrDefault(T value, T defaultValue) {
         if (value != null) {
             return value;
@@ -221,6 +239,17 @@ public class PersonalEventService {
         return defaultValue;
     }
 
+    private String determineEventType(EventServiceDto serviceDto, Set<Long> lectureEventIds) {
+        if (lectureEventIds.contains(serviceDto.eventId())) {
+            return "class";
+        }
+        if (serviceDto.isTeamEvent()) {
+            return "team";
+        }
+
+        return "personal";
+    }
+
     private String determineEventType(Event event, Set<Long> lectureEventIds) {
         if (lectureEventIds.contains(event.getEventId())) {
             return "class";
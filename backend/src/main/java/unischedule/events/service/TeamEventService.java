@@ -2,15 +2,19 @@ package unischedule.events.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import unischedule.calendar.entity.Calendar;
 import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.events.cache.CalendarVersionService;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventOverride;
 import unischedule.events.dto.EventCreateResponseDto;
 import unischedule.events.dto.EventGetResponseDto;
 import unischedule.events.dto.EventModifyRequestDto;
+import unischedule.events.dto.EventParticipantIdDto;
 import unischedule.events.dto.EventServiceDto;
+import unischedule.events.dto.EventSyncResponseDto;
 import unischedule.events.dto.RecurringEventCreateRequestDto;
 import unischedule.events.dto.RecurringInstanceDeleteRequestDto;
 import unischedule.events.dto.RecurringInstanceModifyRequestDto;
@@ -18,6 +22,7 @@ import unischedule.events.dto.TeamEventCreateRequestDto;
 import unischedule.events.dto.TeamEventGetResponseDto;
 import unischedule.events.service.common.EventCommandService;
 import unischedule.events.service.common.EventQueryService;
+import unischedule.events.service.common.EventSyncService;
 import unischedule.events.service.internal.EventParticipantRawService;
 import unischedule.events.service.internal.EventRawService;
 import unischedule.member.domain.Member;
@@ -31,8 +36,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -46,11 +53,14 @@ public class TeamEventService {
     private final EventQueryService eventQueryService;
     private final EventCommandService eventCommandService;
     private final EventParticipantRawService eventParticipantRawService;
+    private final CalendarVersionService calendarVersionService;
+    private final EventSyncService eventSyncService;
 
     @Transactional
     public EventCreateResponseDto createTeamSingleEvent(String email, TeamEventCreateRequestDto requestDto) {
         Member member = memberRawService.findMemberByEmail(email);
         Team team = teamRawService.findTeamById(requestDto.teamId());
+        team.validateActive();
         validateTeamMember(team, member);
         Calendar calendar = calendarRawService.getTeamCalendar(team);
 
@@ -67,6 +77,7 @@ public class TeamEventService {
     public EventCreateResponseDto createTeamRecurringEvent(String email, Long teamId, RecurringEventCreateRequestDto requestDto) {
         Member member = memberRawService.findMemberByEmail(email);
         Team team = teamRawService.findTeamById(teamId);
+        team.validateActive();
         validateTeamMember(team, member);
         Calendar calendar = calendarRawService.getTeamCalendar(team);
 
@@ -97,11 +108,50 @@ public class TeamEventService {
         }
     }
 
+    /**
+     * 팀 일정 목록 ETag, 일정 조회 없이 팀 캘린더 버전만으로 계산
+     * @param email
+     * @param teamId
+     * @param startAt
+     * @param endAt
+     * @return
+     */
     @Transactional(readOnly = true)
+    public String getTeamEventsETag(String email, Long teamId, LocalDateTime startAt, LocalDateTime endAt) {
+        Member member = memberRawService.findMemberByEmail(email);
+        Team team = teamRawService.findTeamById(teamId);
+
+        validateTeamMember(team, member);
+
+        Calendar teamCalendar = calendarRawService.getTeamCalendar(team);
+
+        return calendarVersionService.getETag("team:" + teamId, List.of(teamCalendar.getCalendarId()), startAt, endAt);
+    }
+
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<TeamEventGetResponseDto> getTeamEvents(String email, Long teamId, LocalDateTime startAt, LocalDateTime endAt) {
         return getTeamAllEvent(email, teamId, startAt, endAt);
     }
 
+    /**
+     * 팀 캘린더 일정 변경분 동기화
+     * @param email
+     * @param teamId
+     * @param syncToken 첫 동기화면 null
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public EventSyncResponseDto syncTeamEvents(String email, Long teamId, String syncToken) {
+        Member member = memberRawService.findMemberByEmail(email);
+        Team team = teamRawService.findTeamById(teamId);
+
+        validateTeamMember(team, member);
+
+        Calendar teamCalendar = calendarRawService.getTeamCalendar(team);
+
+        return eventSyncService.sync(teamCalendar.getCalendarId(), syncToken);
+    }
+
     private List<TeamEventGetResponseDto> getTeamAllEvent(String email, Long teamId, LocalDateTime startAt, LocalDateTime endAt) {
         Member member = memberRawService.findMemberByEmail(email);
         Team team = teamRawService.findTeamById(teamId);
@@ -112,13 +162,52 @@ public class TeamEventService {
 
         List<EventServiceDto> serviceDtos = eventQueryService.getEvents(List.of(teamCalendar.getCalendarId()), startAt, endAt);
 
+        Map<Long, List<Long>> participantIdsByEvent = getParticipantIdsByEvent(team, serviceDtos);
+
         return serviceDtos.stream()
-                .map(dto -> {
-                    Event event = eventRawService.findEventById(dto.eventId());
-                    List<Long> participantIds = getParticipantIdsForEvent(event);
+                .map(dto -> TeamEventGetResponseDto.from(dto, participantIdsByEvent.getOrDefault(dto.eventId(), List.of())))
+                .toList();
+    }
 
-                    return TeamEventGetResponseDto.from(dto, participantIds);
-                })
+    /**
+     * 조회된 일정들의 참여자 id 를 일정 id 별로 한 번에 계산
+     * 전체 참여 일정은 팀원 목록을 한 번만 조회해서 공유
+     * @param team
+     * @param serviceDtos
+     * @return
+     */
+    private Map<Long, List<Long>> getParticipantIdsByEvent(Team team, List<EventServiceDto> serviceDtos) {
+        List<Long> eventIds = serviceDtos.stream()
+                .map(EventServiceDto::eventId)
+                .distinct()
+                .toList();
+
+        List<EventParticipantIdDto> participantRows = eventParticipantRawService.getParticipantIdsForEvents(eventIds);
+
+        List<Long> teamMemberIds = participantRows.stream().anyMatch(EventParticipantIdDto::isForAllMembers)
+                ? getTeamMemberIds(team)
+                : List.of();
+
+        Map<Long, List<Long>> participantIdsByEvent = new HashMap<>();
+        for (EventParticipantIdDto row : participantRows) {
+            if (row.isForAllMembers()) {
+                participantIdsByEvent.put(row.eventId(), teamMemberIds);
+                continue;
+            }
+
+            List<Long> participantIds = participantIdsByEvent.computeIfAbsent(row.eventId(), eventId -> new ArrayList<>());
+            if (row.memberId() != null) {
+                participantIds.add(row.memberId());
+            }
+        }
+        return participantIdsByEvent;
+    }
+
+    private List<Long> getTeamMemberIds(Team team) {
+        return teamMemberRawService.findByTeam(team)
+                .stream()
+                .map(TeamMember::getMember)
+                .map(Member::getMemberId)
                 .toList();
     }
 
@@ -186,7 +275,7 @@ public class TeamEventService {
         eventCommandService.deleteSingleEvent(event);
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<TeamEventGetResponseDto> getTodayTeamEvents(String email, Long teamId) {
         LocalDateTime start = LocalDate.now().atStartOfDay();
         LocalDateTime end = LocalDate.now().plusDays(1).atStartOfDay();
@@ -197,7 +286,7 @@ public class TeamEventService {
             .toList();
     }
     
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<TeamEventGetResponseDto> getUpcomingTeamEvents(String email, Long teamId) {
         LocalDateTime start = LocalDate.now().plusDays(1).atStartOfDay();
         LocalDateTime end = LocalDate.now().plusDays(8).atStartOfDay();
@@ -257,26 +346,6 @@ public class TeamEventService {
         return participants;
     }
 
-    private List<Long> getParticipantIdsForEvent(Event event) {
-        if (event.isForAllMembers()) {
-            Team team = event.getCalendar().getTeam();
-            if (team == null) {
-                return List.of();
-            }
-
-            return teamMemberRawService.findByTeam(team)
-                    .stream()
-                    .map(TeamMember::getMember)
-                    .map(Member::getMemberId)
-                    .toList();
-        }
-
-        return eventParticipantRawService.getParticipantsForEvent(event)
-                .stream()
-                .map(Member::getMemberId)
-                .toList();
-    }
-
     private void handleEventParticipants(Event event, List<Member> allParticipants, List<Long> newParticipantIds) {
         if (newParticipantIds == null) {
             return;
@@ -292,6 +361,7 @@ public class TeamEventService {
 
             eventParticipantRawService.saveAllParticipantsForEvent(event, allParticipants);
         }
+        eventCommandService.markCalendarChanged(event);
     }
     
     private List<Member> getAllTeamMember(Team team) {
@@ -0,0 +1,51 @@
+package unischedule.events.service.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unischedule.events.service.internal.EventOccurrenceRawService;
+import unischedule.events.service.internal.EventOverrideRawService;
+import unischedule.events.service.internal.EventParticipantRawService;
+import unischedule.events.service.internal.EventRawService;
+import unischedule.events.service.internal.RecurrenceRuleRawService;
+import unischedule.lecture.service.internal.LectureRawService;
+
+import java.util.List;
+
+/**
+ * 여러 일정과 그 일정을 참조하는 데이터를 테이블별 한 번의 삭제 쿼리로 삭제
+ * 삭제 기록과 캘린더 버전은 호출하는 쪽에서 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class EventBulkDeleteService {
+    private final EventRawService eventRawService;
+    private final RecurrenceRuleRawService recurrenceRuleRawService;
+    private final EventParticipantRawService eventParticipantRawService;
+    private final EventOccurrenceRawService eventOccurrenceRawService;
+    private final EventOverrideRawService eventOverrideRawService;
+    private final LectureRawService lectureRawService;
+
+    /**
+     * 참조하는 테이블부터 삭제하고, 반복 규칙은 일정을 지운 뒤 삭제
+     * @param eventIds
+     * @return 삭제한 일정 수
+     */
+    @Transactional
+    public int deleteEvents(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ruleIds = eventRawService.findRecurrenceRuleIds(eventIds);
+
+        lectureRawService.deleteAllByEventIds(eventIds);
+        eventParticipantRawService.deleteAllByEventIds(eventIds);
+        eventOccurrenceRawService.deleteAllByEventIds(eventIds);
+        eventOverrideRawService.deleteAllByEventIds(eventIds);
+        int deleted = eventRawService.deleteAllByIds(eventIds);
+        recurrenceRuleRawService.deleteAllByIds(ruleIds);
+
+        return deleted;
+    }
+}
@@ -4,22 +4,31 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import unischedule.calendar.entity.Calendar;
+import unischedule.events.cache.CalendarVersionService;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventOverride;
+import unischedule.events.domain.EventTombstone;
 import unischedule.events.domain.RecurrenceRule;
 import unischedule.events.dto.EventCreateDto;
 import unischedule.events.dto.EventUpdateDto;
+import unischedule.events.dto.IcsEventDto;
 import unischedule.events.dto.RecurringEventCreateRequestDto;
 import unischedule.events.dto.RecurringInstanceDeleteRequestDto;
 import unischedule.events.dto.RecurringInstanceModifyRequestDto;
 import unischedule.events.service.internal.EventOverrideRawService;
 import unischedule.events.service.internal.EventParticipantRawService;
 import unischedule.events.service.internal.EventRawService;
+import unischedule.events.service.internal.EventTombstoneRawService;
 import unischedule.events.service.internal.RecurrenceRuleRawService;
 import unischedule.events.service.internal.RecurringEventRawService;
+import unischedule.events.util.RRuleParser;
 import unischedule.exception.InvalidInputException;
 import unischedule.lecture.repository.LectureRepository;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -30,7 +39,12 @@ public class EventCommandService {
     private final RecurringEventRawService recurringEventRawService;
     private final RecurrenceRuleRawService recurrenceRuleRawService;
     private final EventParticipantRawService eventParticipantRawService;
+    private final EventTombstoneRawService eventTombstoneRawService;
+    private final EventOccurrenceService eventOccurrenceService;
+    private final EventBulkDeleteService eventBulkDeleteService;
     private final LectureRepository lectureRepository;
+    private final RRuleParser rruleParser;
+    private final CalendarVersionService calendarVersionService;
 
     @Transactional
     public Event createSingleEvent(
@@ -46,12 +60,141 @@ public class EventCommandService {
                    .build();
 
            newEvent.connectCalendar(targetCalendar);
+           calendarVersionService.bump(targetCalendar.getCalendarId());
            return eventRawService.saveEvent(newEvent);
     }
 
     @Transactional
     public Event createRecurringEvent(Calendar targetCalendar, RecurringEventCreateRequestDto requestDto) {
+        Event newEvent = newRecurringEvent(targetCalendar, requestDto);
+        recurrenceRuleRawService.saveRecurrenceRule(newEvent.getRecurrenceRule());
 
+        Event savedEvent = eventRawService.saveEvent(newEvent);
+        eventOccurrenceService.rebuildOccurrences(savedEvent);
+        calendarVersionService.bump(targetCalendar.getCalendarId());
+        return savedEvent;
+    }
+
+    /**
+     * 반복 일정 여러 개를 한 번에 생성 (시간표 등록 등)
+     * 규칙, 일정, 회차를 각각 묶어서 저장하고 캘린더 버전은 한 번만 갱신
+     * @param targetCalendar
+     * @param requestDtos
+     * @return 요청 순서대로 저장된 일정
+     */
+    @Transactional
+    public List<Event> createRecurringEvents(Calendar targetCalendar, List<RecurringEventCreateRequestDto> requestDtos) {
+        if (requestDtos.isEmpty()) {
+            return List.of();
+        }
+
+        List<Event> newEvents = requestDtos.stream()
+                .map(requestDto -> newRecurringEvent(targetCalendar, requestDto))
+                .toList();
+        recurrenceRuleRawService.saveAllRecurrenceRules(
+                newEvents.stream().map(Event::getRecurrenceRule).toList()
+        );
+
+        List<Event> savedEvents = eventRawService.saveAllEvents(newEvents);
+        eventOccurrenceService.rebuildOccurrences(savedEvents);
+        calendarVersionService.bump(targetCalendar.getCalendarId());
+        return savedEvents;
+    }
+
+    /**
+     * 외부 캘린더에서 가져온 일정 묶음 저장 (ICS 가져오기)
+     * 규칙, 일정, 삭제된 회차(EXDATE)를 각각 묶어서 저장하고 회차는 한 번에 재생성
+     * @param targetCalendar
+     * @param importedEvents 변경된 회차(RECURRENCE-ID)가 아닌 일정
+     * @return 요청 순서대로 저장된 일정
+     */
+    @Transactional
+    public List<Event> importEvents(Calendar targetCalendar, List<IcsEventDto> importedEvents) {
+        if (importedEvents.isEmpty()) {
+            return List.of();
+        }
+
+        List<Event> newEvents = importedEvents.stream()
+                .map(importedEvent -> importedEvent.isRecurring()
+                        ? newRecurringEvent(targetCalendar, importedEvent.toRecurringEventCreateDto())
+                        : newSingleEvent(targetCalendar, importedEvent))
+                .toList();
+        recurrenceRuleRawService.saveAllRecurrenceRules(
+                newEvents.stream().map(Event::getRecurrenceRule).filter(Objects::nonNull).toList()
+        );
+        List<Event> savedEvents = eventRawService.saveAllEvents(newEvents);
+
+        List<EventOverride> deleteOverrides = new ArrayList<>();
+        for (int i = 0; i < savedEvents.size(); i++) {
+            Event savedEvent = savedEvents.get(i);
+            importedEvents.get(i).exDates().forEach(exDate ->
+                    deleteOverrides.add(EventOverride.makeEventDeleteOverride(savedEvent, exDate))
+            );
+        }
+        eventOverrideRawService.saveAllEventOverrides(deleteOverrides);
+
+        List<Event> recurringEvents = savedEvents.stream()
+                .filter(event -> event.getRecurrenceRule() != null)
+                .toList();
+        if (!recurringEvents.isEmpty()) {
+            eventOccurrenceService.rebuildOccurrences(recurringEvents);
+        }
+        calendarVersionService.bump(targetCalendar.getCalendarId());
+        return savedEvents;
+    }
+
+    /**
+     * 가져온 반복 일정의 변경된 회차(RECURRENCE-ID) 저장
+     * @param instancesByEventId 반복 일정 id 별 변경된 회차
+     */
+    @Transactional
+    public void importInstanceOverrides(Map<Long, List<IcsEventDto>> instancesByEventId) {
+        if (instancesByEventId.isEmpty()) {
+            return;
+        }
+
+        List<Event> recurringEvents = recurringEventRawService.findRecurringEventsByIds(
+                List.copyOf(instancesByEventId.keySet())
+        );
+
+        List<EventOverride> overrides = new ArrayList<>();
+        for (Event recurringEvent : recurringEvents) {
+            for (IcsEventDto instance : instancesByEventId.get(recurringEvent.getEventId())) {
+                overrides.add(instance.cancelled()
+                        ? EventOverride.makeEventDeleteOverride(recurringEvent, instance.recurrenceId())
+                        : new EventOverride(
+                                recurringEvent,
+                                instance.recurrenceId(),
+                                instance.title(),
+                                instance.content(),
+                                instance.startAt(),
+                                instance.endAt()
+                        ));
+            }
+        }
+        eventOverrideRawService.saveAllEventOverrides(overrides);
+
+        eventOccurrenceService.rebuildOccurrences(recurringEvents);
+        recurringEvents.stream()
+                .map(event -> event.getCalendar().getCalendarId())
+                .distinct()
+                .forEach(calendarVersionService::bump);
+    }
+
+    private Event newSingleEvent(Calendar targetCalendar, IcsEventDto importedEvent) {
+        Event newEvent = Event.builder()
+                .title(importedEvent.title())
+                .content(importedEvent.content())
+                .startAt(importedEvent.startAt())
+                .endAt(importedEvent.endAt())
+                .isSelective(false)
+                .build();
+
+        newEvent.connectCalendar(targetCalendar);
+        return newEvent;
+    }
+
+    private Event newRecurringEvent(Calendar targetCalendar, RecurringEventCreateRequestDto requestDto) {
         Event newEvent = Event.builder()
                 .title(requestDto.title())
                 .content(requestDto.description())
@@ -61,12 +204,15 @@ public class EventCommandService {
                 .build();
 
         RecurrenceRule rrule = new RecurrenceRule(requestDto.rrule());
-        recurrenceRuleRawService.saveRecurrenceRule(rrule);
+        rrule.updateBounds(rruleParser.calRecurrenceBounds(
+                requestDto.firstStartTime(),
+                requestDto.firstEndTime(),
+                requestDto.rrule()
+        ));
 
         newEvent.connectRecurrenceRule(rrule);
         newEvent.connectCalendar(targetCalendar);
-
-        return eventRawService.saveEvent(newEvent);
+        return newEvent;
     }
 
     @Transactional
@@ -83,14 +229,20 @@ public class EventCommandService {
     public EventOverride modifyRecurringInstance(Event originalEvent, RecurringInstanceModifyRequestDto requestDto) {
         Optional<EventOverride> eventOverrideOpt = eventOverrideRawService.findEventOverride(originalEvent, requestDto.originalStartTime());
 
+        EventOverride savedOverride;
         if (eventOverrideOpt.isPresent()) {
             EventOverride presentEventOverride = eventOverrideOpt.get();
             eventOverrideRawService.updateEventOverride(presentEventOverride, requestDto.toEventOverrideUpdateDto());
-            return eventOverrideRawService.saveEventOverride(presentEventOverride);
+            savedOverride = eventOverrideRawService.saveEventOverride(presentEventOverride);
+        }
+        else {
+            EventOverride eventOverride = EventOverride.makeEventOverride(originalEvent, requestDto.toEventOverrideDto());
+            savedOverride = eventOverrideRawService.saveEventOverride(eventOverride);
         }
 
-        EventOverride eventOverride = EventOverride.makeEventOverride(originalEvent, requestDto.toEventOverrideDto());
-        return eventOverrideRawService.saveEventOverride(eventOverride);
+        eventOccurrenceService.rebuildOccurrences(originalEvent);
+        markCalendarChanged(originalEvent);
+        return savedOverride;
     }
 
     @Transactional
@@ -103,15 +255,42 @@ public class EventCommandService {
         }
 
         modifyEvent(eventToModify, updateDto);
+        updateRecurrenceBounds(eventToModify);
+        eventOccurrenceService.deleteOccurrences(eventToModify);
+        eventTombstoneRawService.saveAllTombstones(
+                eventOverrideRawService.findAllEventOverrideByEvent(eventToModify).stream()
+                        .map(EventTombstone::ofOverride)
+                        .toList()
+        );
         eventOverrideRawService.deleteAllEventOverrideByEvent(eventToModify);
+        eventOccurrenceService.rebuildOccurrences(eventToModify);
         return eventToModify;
     }
 
+    private void updateRecurrenceBounds(Event recurringEvent) {
+        RecurrenceRule rrule = recurringEvent.getRecurrenceRule();
+        rrule.updateBounds(rruleParser.calRecurrenceBounds(
+                recurringEvent.getStartAt(),
+                recurringEvent.getEndAt(),
+                rrule.getRruleString()
+        ));
+    }
+
     private void modifyEvent(
             Event eventToModify,
             EventUpdateDto updateDto
     ) {
         eventRawService.updateEvent(eventToModify, updateDto);
+        markCalendarChanged(eventToModify);
+    }
+
+    /**
+     * 일정이 속한 캘린더의 조회 캐시 무효화
+     * 참여자 변경처럼 이 서비스 밖에서 일정 조회 결과가 바뀌는 경우에도 호출
+     * @param event
+     */
+    public void markCalendarChanged(Event event) {
+        calendarVersionService.bump(event.getCalendar().getCalendarId());
     }
 
     @Transactional
@@ -122,6 +301,8 @@ public class EventCommandService {
 
         deleteLectureIfExists(eventToDelete);
         eventParticipantRawService.deleteAllByEvent(eventToDelete);
+        eventTombstoneRawService.saveTombstone(EventTombstone.ofEvent(eventToDelete));
+        markCalendarChanged(eventToDelete);
         eventRawService.deleteEvent(eventToDelete);
     }
 
@@ -133,9 +314,36 @@ public class EventCommandService {
 
         deleteLectureIfExists(eventToDelete);
         eventParticipantRawService.deleteAllByEvent(eventToDelete);
+        eventOccurrenceService.deleteOccurrences(eventToDelete);
+        eventTombstoneRawService.saveTombstone(EventTombstone.ofEvent(eventToDelete));
+        markCalendarChanged(eventToDelete);
         recurringEventRawService.deleteRecurringEvent(eventToDelete);
     }
 
+    /**
+     * 반복 일정 여러 개를 한 번에 삭제 (시간표 재등록 등)
+     * 삭제 기록을 묶어서 저장한 뒤 참조 데이터와 함께 일괄 삭제
+     * @param eventsToDelete
+     */
+    @Transactional
+    public void deleteRecurringEvents(List<Event> eventsToDelete) {
+        if (eventsToDelete.isEmpty()) {
+            return;
+        }
+        if (eventsToDelete.stream().anyMatch(event -> event.getRecurrenceRule() == null)) {
+            throw new InvalidInputException("반복 일정이 아닙니다.");
+        }
+
+        eventTombstoneRawService.saveAllTombstones(
+                eventsToDelete.stream().map(EventTombstone::ofEvent).toList()
+        );
+        eventsToDelete.stream()
+                .map(event -> event.getCalendar().getCalendarId())
+                .distinct()
+                .forEach(calendarVersionService::bump);
+        eventBulkDeleteService.deleteEvents(eventsToDelete.stream().map(Event::getEventId).toList());
+    }
+
     private void deleteLectureIfExists(Event event) {
         lectureRepository.findByEvent(event).ifPresent(lectureRepository::delete);
     }
@@ -159,6 +367,8 @@ public class EventCommandService {
                 return;
             }
             targetOverride.markAsDeleted();
+            eventOccurrenceService.rebuildOccurrences(originalEvent);
+            markCalendarChanged(originalEvent);
             return;
         }
 
@@ -168,5 +378,7 @@ public class EventCommandService {
 
         EventOverride eventOverride = EventOverride.makeEventDeleteOverride(originalEvent, requestDto.originalStartTime());
         eventOverrideRawService.saveEventOverride(eventOverride);
+        eventOccurrenceService.rebuildOccurrences(originalEvent);
+        markCalendarChanged(originalEvent);
     }
 }
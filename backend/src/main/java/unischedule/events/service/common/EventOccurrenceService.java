@@ -0,0 +1,286 @@
+package unischedule.events.service.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unischedule.events.domain.Event;
+import unischedule.events.domain.EventOccurrence;
+import unischedule.events.domain.EventOverride;
+import unischedule.events.dto.EventServiceDto;
+import unischedule.events.service.internal.EventOccurrenceRawService;
+import unischedule.events.service.internal.EventOccurrenceRefreshRawService;
+import unischedule.events.service.internal.RecurringEventRawService;
+import unischedule.events.util.RRuleParser;
+import unischedule.member.domain.Member;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 일정 회차(event_occurrences) 관리
+ * horizon 기간 동안의 회차를 미리 저장해두고, 조회 기간이 horizon 안이면 저장된 회차로 응답
+ * 조회마다 DB 를 읽지 않도록 저장된 기간은 서버별로 horizon-cache-ttl 동안 보관
+ */
+@Service
+@RequiredArgsConstructor
+public class EventOccurrenceService {
+    private final EventOccurrenceRawService eventOccurrenceRawService;
+    private final EventOccurrenceRefreshRawService eventOccurrenceRefreshRawService;
+    private final RecurringEventRawService recurringEventRawService;
+    private final RRuleParser rruleParser;
+
+    @Value("${events.occurrence.horizon-months:12}")
+    private int horizonMonths;
+
+    @Value("${events.occurrence.refresh-lock-timeout:PT1H}")
+    private Duration refreshLockTimeout;
+
+    @Value("${events.occurrence.horizon-cache-ttl:PT1M}")
+    private Duration horizonCacheTtl;
+
+    private volatile CachedHorizon cachedHorizon;
+
+    private record CachedHorizon(Optional<Horizon> horizon, long expiresAtNanos) {
+        private boolean isValid(long now) {
+            return now - expiresAtNanos < 0;
+        }
+    }
+
+    public record Horizon(LocalDateTime from, LocalDateTime until) {
+        public boolean covers(LocalDateTime startAt, LocalDateTime endAt) {
+            return !startAt.isBefore(from) && !endAt.isAfter(until);
+        }
+    }
+
+    /**
+     * 오늘 기준으로 저장해야 하는 기간 (지난달 1일 ~ horizon-months 이후 달의 말일)
+     * @return
+     */
+    public Horizon targetHorizon() {
+        LocalDate firstDayOfMonth = LocalDate.now().withDayOfMonth(1);
+        return new Horizon(
+                firstDayOfMonth.minusMonths(1).atStartOfDay(),
+                firstDayOfMonth.plusMonths(horizonMonths + 1L).atStartOfDay()
+        );
+    }
+
+    /**
+     * 전체 갱신이 끝나 저장된 회차를 신뢰할 수 있는 기간, 첫 갱신 전에는 비어 있음
+     * 모든 서버가 같은 값을 보도록 DB 에 저장된 값을 사용
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Optional<Horizon> materializedHorizon() {
+        return eventOccurrenceRefreshRawService.findRefresh()
+                .filter(refresh -> refresh.getHorizonFrom() != null && refresh.getHorizonUntil() != null)
+                .map(refresh -> new Horizon(refresh.getHorizonFrom(), refresh.getHorizonUntil()));
+    }
+
+    /**
+     * 조회 기간이 저장된 회차 기간 안인지 확인, 보관 중인 기간을 사용하므로 대부분 DB 를 읽지 않음
+     * 다른 서버가 갱신한 기간은 최대 horizon-cache-ttl 늦게 반영되므로, 갱신 작업은 이전 기간의 회차를 다음 갱신까지 남겨둠
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    public boolean covers(LocalDateTime startAt, LocalDateTime endAt) {
+        return currentHorizon()
+                .map(horizon -> horizon.covers(startAt, endAt))
+                .orElse(false);
+    }
+
+    /**
+     * 전체 갱신 잠금 획득, 다른 서버가 갱신 중이면 false
+     * 잠금을 가진 서버가 중단되어도 refresh-lock-timeout 이 지나면 다시 얻을 수 있음
+     * @param owner 갱신 작업마다 새로 만든 id
+     * @return
+     */
+    public boolean tryLockRefresh(String owner) {
+        LocalDateTime now = LocalDateTime.now();
+        return eventOccurrenceRefreshRawService.lock(owner, now, now.plus(refreshLockTimeout));
+    }
+
+    /**
+     * 갱신이 끝난 기간을 저장하고 잠금 해제
+     * @param owner
+     * @param horizon
+     * @return 잠금 시간이 지나 다른 서버가 잠금을 가져갔으면 false
+     */
+    public boolean completeRefresh(String owner, Horizon horizon) {
+        if (!eventOccurrenceRefreshRawService.complete(owner, horizon.from(), horizon.until())) {
+            return false;
+        }
+        cachedHorizon = new CachedHorizon(Optional.of(horizon), System.nanoTime() + horizonCacheTtl.toNanos());
+        return true;
+    }
+
+    public void unlockRefresh(String owner) {
+        eventOccurrenceRefreshRawService.unlock(owner);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventServiceDto> findOccurrences(List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
+        return toServiceDtos(eventOccurrenceRawService.findOccurrences(calendarIds, startAt, endAt));
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventServiceDto> findOccurrencesForMember(
+            Member member,
+            List<Long> calendarIds,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        return toServiceDtos(eventOccurrenceRawService.findOccurrencesForMember(member, calendarIds, startAt, endAt));
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsOverlappingOccurrenceForMember(
+            Member member,
+            List<Long> calendarIds,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        return eventOccurrenceRawService.existsOverlappingOccurrenceForMember(member, calendarIds, startAt, endAt);
+    }
+
+    /**
+     * 반복 일정 생성, 수정 시 해당 일정의 회차 재생성
+     * @param event
+     */
+    @Transactional
+    public void rebuildOccurrences(Event event) {
+        rebuildOccurrences(List.of(event), writeHorizon());
+    }
+
+    /**
+     * 여러 반복 일정을 한 번에 생성할 때 회차를 모아서 재생성
+     * @param events 반복 규칙이 로딩된 반복 일정
+     */
+    @Transactional
+    public void rebuildOccurrences(List<Event> events) {
+        rebuildOccurrences(events, writeHorizon());
+    }
+
+    /**
+     * 전체 갱신 작업용, 일정 조회와 회차 재생성을 하나의 트랜잭션에서 수행
+     * @param eventIds
+     * @param horizon
+     */
+    @Transactional
+    public void rebuildOccurrencesByIds(List<Long> eventIds, Horizon horizon) {
+        rebuildOccurrences(recurringEventRawService.findRecurringEventsByIds(eventIds), horizon);
+    }
+
+    /**
+     * 여러 반복 일정의 회차를 주어진 기간으로 재생성
+     * @param events 반복 규칙이 로딩된 반복 일정
+     * @param horizon
+     */
+    @Transactional
+    public void rebuildOccurrences(List<Event> events, Horizon horizon) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<EventOverride>> overrideMap = recurringEventRawService.getEventOverrideMap(
+                events,
+                horizon.from(),
+                horizon.until()
+        );
+
+        eventOccurrenceRawService.deleteAllByEvents(events);
+
+        List<EventOccurrence> occurrences = new ArrayList<>();
+        for (Event event : events) {
+            occurrences.addAll(expandOccurrences(event, overrideMap.getOrDefault(event.getEventId(), List.of()), horizon));
+        }
+
+        eventOccurrenceRawService.saveAll(occurrences);
+    }
+
+    @Transactional
+    public void deleteOccurrences(Event event) {
+        eventOccurrenceRawService.deleteAllByEvent(event);
+    }
+
+    @Transactional
+    public int deleteOccurrencesBefore(LocalDateTime before) {
+        return eventOccurrenceRawService.deleteAllBefore(before);
+    }
+
+    private List<EventOccurrence> expandOccurrences(Event event, List<EventOverride> overrides, Horizon horizon) {
+        Map<LocalDateTime, EventOverride> overrideByTime = overrides.stream()
+                .collect(Collectors.toMap(EventOverride::getOriginalEventTime, Function.identity()));
+
+        List<LocalDateTime> startTimes = rruleParser.calEventStartTimeListRange(
+                event.getRecurrenceRule().getRruleString(),
+                event.getStartAt(),
+                horizon.from(),
+                horizon.until()
+        );
+        Duration duration = Duration.between(event.getStartAt(), event.getEndAt());
+
+        List<EventOccurrence> occurrences = new ArrayList<>();
+        for (LocalDateTime startAt : startTimes) {
+            EventOverride eventOverride = overrideByTime.get(startAt);
+
+            if (eventOverride == null) {
+                occurrences.add(new EventOccurrence(event, null, startAt, startAt, startAt.plus(duration)));
+            }
+            else if (!eventOverride.isDeleteOverride()) {
+                occurrences.add(new EventOccurrence(
+                        event,
+                        eventOverride,
+                        startAt,
+                        eventOverride.getStartAt(),
+                        eventOverride.getEndAt()
+                ));
+            }
+        }
+        return occurrences;
+    }
+
+    private Optional<Horizon> currentHorizon() {
+        long now = System.nanoTime();
+        CachedHorizon cached = cachedHorizon;
+        if (cached != null && cached.isValid(now)) {
+            return cached.horizon();
+        }
+
+        Optional<Horizon> horizon = materializedHorizon();
+        cachedHorizon = new CachedHorizon(horizon, now + horizonCacheTtl.toNanos());
+        return horizon;
+    }
+
+    /**
+     * 쓰기 시점에는 현재 저장된 기간과 오늘 기준 기간을 모두 포함하도록 생성
+     * 전체 갱신 도중 생성된 일정도 갱신 완료 후의 기간을 채우도록 하기 위함
+     */
+    private Horizon writeHorizon() {
+        Horizon target = targetHorizon();
+        Horizon current = materializedHorizon().orElse(null);
+
+        if (current == null) {
+            return target;
+        }
+
+        return new Horizon(
+                current.from().isBefore(target.from()) ? current.from() : target.from(),
+                current.until().isAfter(target.until()) ? current.until() : target.until()
+        );
+    }
+
+    private List<EventServiceDto> toServiceDtos(List<EventOccurrence> occurrences) {
+        return occurrences.stream()
+                .map(EventServiceDto::fromOccurrence)
+                .toList();
+    }
+}
@@ -2,10 +2,15 @@ package unischedule.events.service.common;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import unischedule.events.cache.EventRangeCache;
 import unischedule.events.domain.Event;
+import unischedule.events.domain.collection.BusyIntervalSeries;
 import unischedule.events.domain.collection.SingleEventSeries;
+import unischedule.events.dto.EventParticipantIdDto;
 import unischedule.events.dto.EventServiceDto;
+import unischedule.events.service.internal.EventParticipantRawService;
 import unischedule.events.service.internal.EventRawService;
 import unischedule.events.util.RRuleParser;
 import unischedule.exception.InvalidInputException;
@@ -14,8 +19,13 @@ import unischedule.member.domain.Member;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +33,8 @@ public class EventQueryService {
     private final EventRawService eventRawService;
     private final RecurringEventService recurringEventService;
     private final RRuleParser rruleParser;
+    private final EventRangeCache eventRangeCache;
+    private final EventParticipantRawService eventParticipantRawService;
 
     /**
      * 특정 캘린더들의 일정 조회
@@ -31,8 +43,13 @@ public class EventQueryService {
      * @param endAt
      * @return
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<EventServiceDto> getEvents(List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
+        return eventRangeCache.get(null, calendarIds, startAt, endAt,
+                () -> loadEvents(calendarIds, startAt, endAt));
+    }
+
+    private List<EventServiceDto> loadEvents(List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
         List<EventServiceDto> eventList = new ArrayList<>();
 
         SingleEventSeries singleEvents = eventRawService.findSingleSchedule(calendarIds, startAt, endAt);
@@ -51,8 +68,13 @@ public class EventQueryService {
      * @param endAt
      * @return
      */
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<EventServiceDto> getEventsForMember(Member member, List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
+        return eventRangeCache.get(member.getMemberId(), calendarIds, startAt, endAt,
+                () -> loadEventsForMember(member, calendarIds, startAt, endAt));
+    }
+
+    private List<EventServiceDto> loadEventsForMember(Member member, List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
         List<EventServiceDto> eventList = new ArrayList<>();
 
         SingleEventSeries singleEvents = eventRawService.findSingleScheduleForMember(member, calendarIds, startAt, endAt);
@@ -62,6 +84,71 @@ public class EventQueryService {
         return eventList;
     }
 
+    /**
+     * 여러 멤버의 일정을 한 번에 조회해 멤버별로 나눔
+     * 멤버 캘린더 합집합의 일정과 선택 참여 일정의 참여자를 한 번씩 조회하고,
+     * 선택 참여 팀 일정은 참여한 멤버에게만 배정
+     * @param calendarIdsByMember 멤버 id 별 캘린더 id
+     * @param startAt
+     * @param endAt
+     * @return 멤버 id 별 일정
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public Map<Long, List<EventServiceDto>> getEventsForMembers(
+            Map<Long, List<Long>> calendarIdsByMember,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        List<Long> calendarIds = calendarIdsByMember.values().stream()
+                .flatMap(List::stream)
+                .distinct()
+                .sorted()
+                .toList();
+
+        List<EventServiceDto> events = calendarIds.isEmpty() ? List.of() : getEvents(calendarIds, startAt, endAt);
+        Map<Long, List<EventServiceDto>> eventsByCalendar = events.stream()
+                .collect(Collectors.groupingBy(EventServiceDto::calendarId));
+        Map<Long, Set<Long>> participantIdsBySelectiveEvent = getParticipantIdsBySelectiveEvent(events);
+
+        Map<Long, List<EventServiceDto>> result = new HashMap<>();
+        calendarIdsByMember.forEach((memberId, memberCalendarIds) -> {
+            List<EventServiceDto> memberEvents = new ArrayList<>();
+            for (Long calendarId : memberCalendarIds) {
+                for (EventServiceDto event : eventsByCalendar.getOrDefault(calendarId, List.of())) {
+                    Set<Long> participantIds = participantIdsBySelectiveEvent.get(event.eventId());
+                    if (participantIds == null || participantIds.contains(memberId)) {
+                        memberEvents.add(event);
+                    }
+                }
+            }
+            result.put(memberId, memberEvents);
+        });
+        return result;
+    }
+
+    /**
+     * 팀 일정 중 선택 참여 일정의 참여자 id
+     */
+    private Map<Long, Set<Long>> getParticipantIdsBySelectiveEvent(List<EventServiceDto> events) {
+        List<Long> teamEventIds = events.stream()
+                .filter(event -> event.teamId() != null)
+                .map(EventServiceDto::eventId)
+                .distinct()
+                .toList();
+
+        Map<Long, Set<Long>> participantIdsByEvent = new HashMap<>();
+        for (EventParticipantIdDto row : eventParticipantRawService.getParticipantIdsForEvents(teamEventIds)) {
+            if (row.isForAllMembers()) {
+                continue;
+            }
+            Set<Long> participantIds = participantIdsByEvent.computeIfAbsent(row.eventId(), eventId -> new HashSet<>());
+            if (row.memberId() != null) {
+                participantIds.add(row.memberId());
+            }
+        }
+        return participantIdsByEvent;
+    }
+
     @Transactional(readOnly = true)
     public void checkNewSingleEventOverlapForMember(
             Member member,
@@ -74,6 +161,14 @@ public class EventQueryService {
         }
     }
 
+    /**
+     * 반복 일정 등록 시 전체 반복 기간의 일정을 한 번에 조회하여 중복 체크
+     * @param member
+     * @param calendarIds
+     * @param firstStartTime
+     * @param firstEndTime
+     * @param rruleString
+     */
     @Transactional(readOnly = true)
     public void checkNewRecurringEventOverlapForMember(
             Member member,
@@ -84,12 +179,20 @@ public class EventQueryService {
     ) {
         List<LocalDateTime> eventStartTimes = rruleParser.calEventStartTimeList(firstStartTime, rruleString);
 
+        if (eventStartTimes.isEmpty()) {
+            return;
+        }
+
         Duration duration = Duration.between(firstStartTime, firstEndTime);
+        LocalDateTime spanStart = eventStartTimes.getFirst();
+        LocalDateTime spanEnd = eventStartTimes.getLast().plus(duration);
 
-        for (LocalDateTime eventStartTime : eventStartTimes) {
-            LocalDateTime eventEndTime = eventStartTime.plus(duration);
+        BusyIntervalSeries busyIntervals = BusyIntervalSeries.fromServiceDtos(
+                getEventsForMember(member, calendarIds, spanStart, spanEnd)
+        );
 
-            checkNewSingleEventOverlapForMember(member, calendarIds, eventStartTime, eventEndTime);
+        if (busyIntervals.hasOverlapWithAny(eventStartTimes, duration)) {
+            throw new InvalidInputException("겹치는 일정이 있어 등록할 수 없습니다.");
         }
     }
 
@@ -133,7 +236,7 @@ public class EventQueryService {
             return true;
         }
 
-        return !recurringEventService.expandRecurringEventsForMember(member, calendarIds, startAt, endAt).isEmpty();
+        return recurringEventService.anyOccurrenceOverlaps(member, calendarIds, startAt, endAt);
     }
 
 }
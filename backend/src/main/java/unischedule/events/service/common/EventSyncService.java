@@ -0,0 +1,90 @@
+package unischedule.events.service.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unischedule.events.dto.EventSyncDeletionDto;
+import unischedule.events.dto.EventSyncEventDto;
+import unischedule.events.dto.EventSyncOverrideDto;
+import unischedule.events.dto.EventSyncResponseDto;
+import unischedule.events.service.internal.EventOverrideRawService;
+import unischedule.events.service.internal.EventRawService;
+import unischedule.events.service.internal.EventTombstoneRawService;
+import unischedule.events.util.SyncToken;
+import unischedule.exception.InvalidInputException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캘린더 단위 일정 변경분 동기화
+ * 반복 일정은 전개하지 않고 일정, override, 삭제 기록을 그대로 전달
+ */
+@Service
+public class EventSyncService {
+    private final EventRawService eventRawService;
+    private final EventOverrideRawService eventOverrideRawService;
+    private final EventTombstoneRawService eventTombstoneRawService;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+
+    public EventSyncService(
+            EventRawService eventRawService,
+            EventOverrideRawService eventOverrideRawService,
+            EventTombstoneRawService eventTombstoneRawService,
+            @Value("${events.sync.overlap:PT1M}") Duration overlap,
+            @Value("${events.sync.tombstone-retention:P30D}") Duration tombstoneRetention
+    ) {
+        this.eventRawService = eventRawService;
+        this.eventOverrideRawService = eventOverrideRawService;
+        this.eventTombstoneRawService = eventTombstoneRawService;
+        this.overlap = overlap;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * 토큰 이후 변경된 일정, override, 삭제 기록 조회
+     * 토큰이 없으면 캘린더 전체를 반환
+     * 다음 토큰은 조회 시각보다 overlap 만큼 앞선 시각이므로, 늦게 커밋된 변경도 다음 동기화에 포함
+     * 같은 항목이 여러 번 전달될 수 있으므로 클라이언트는 id 기준으로 덮어써야 함
+     * @param calendarId
+     * @param token
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public EventSyncResponseDto sync(Long calendarId, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = resolveSince(token, now);
+
+        List<EventSyncEventDto> events = eventRawService.findEventsForSync(calendarId, since).stream()
+                .map(EventSyncEventDto::from)
+                .toList();
+
+        List<EventSyncOverrideDto> overrides = eventOverrideRawService.findEventOverridesForSync(calendarId, since).stream()
+                .map(EventSyncOverrideDto::from)
+                .toList();
+
+        List<EventSyncDeletionDto> deletions = since == null
+                ? List.of()
+                : eventTombstoneRawService.findTombstonesSince(calendarId, since).stream()
+                        .map(EventSyncDeletionDto::from)
+                        .toList();
+
+        String nextToken = new SyncToken(now.minus(overlap)).encode();
+        return new EventSyncResponseDto(events, overrides, deletions, nextToken);
+    }
+
+    private LocalDateTime resolveSince(String token, LocalDateTime now) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        LocalDateTime since = SyncToken.decode(token).since();
+        // 삭제 기록이 정리된 기간의 토큰은 삭제를 놓칠 수 있으므로 전체 동기화 필요
+        if (since.isBefore(now.minus(tombstoneRetention))) {
+            throw new InvalidInputException("만료된 동기화 토큰입니다. 토큰 없이 다시 동기화해주세요.");
+        }
+        return since;
+    }
+}
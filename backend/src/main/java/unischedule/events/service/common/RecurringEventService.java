@@ -3,11 +3,11 @@ package unischedule.events.service.common;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import unischedule.events.domain.Event;
-import unischedule.events.domain.EventOverride;
 import unischedule.events.domain.collection.EventOverrideSeries;
 import unischedule.events.domain.collection.ExpandedRecurringEvents;
 import unischedule.events.domain.collection.RecurringEventSeries;
+import unischedule.events.dto.EventOverrideProjectionDto;
+import unischedule.events.dto.EventProjectionDto;
 import unischedule.events.dto.EventServiceDto;
 import unischedule.events.service.internal.RecurringEventRawService;
 import unischedule.events.util.RRuleParser;
@@ -19,27 +19,106 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RecurringEventService {
     private final RecurringEventRawService recurringEventRawService;
     private final RRuleParser rruleParser;
+    private final EventOccurrenceService eventOccurrenceService;
 
     @Transactional(readOnly = true)
     public List<EventServiceDto> expandRecurringEvents(List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
-        RecurringEventSeries recurringEvents = recurringEventRawService.findRecurringSchedule(calendarIds, endAt);
+        if (eventOccurrenceService.covers(startAt, endAt)) {
+            return eventOccurrenceService.findOccurrences(calendarIds, startAt, endAt);
+        }
+
+        RecurringEventSeries recurringEvents = recurringEventRawService.findRecurringSchedule(calendarIds, startAt, endAt);
 
         return getEventServiceDtos(startAt, endAt, recurringEvents);
     }
 
     @Transactional(readOnly = true)
     public List<EventServiceDto> expandRecurringEventsForMember(Member member, List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
-        RecurringEventSeries recurringEvents = recurringEventRawService.findRecurringScheduleForMember(member, calendarIds, endAt);
+        if (eventOccurrenceService.covers(startAt, endAt)) {
+            return eventOccurrenceService.findOccurrencesForMember(member, calendarIds, startAt, endAt);
+        }
+
+        RecurringEventSeries recurringEvents = recurringEventRawService.findRecurringScheduleForMember(member, calendarIds, startAt, endAt);
 
         return getEventServiceDtos(startAt, endAt, recurringEvents);
     }
 
+    /**
+     * 특정 멤버가 참여하는 반복 일정 중 기간과 겹치는 회차가 있는지 확인
+     * 회차를 모두 전개하지 않고, 겹치는 회차를 찾으면 바로 종료
+     * @param member
+     * @param calendarIds
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public boolean anyOccurrenceOverlaps(Member member, List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
+        if (eventOccurrenceService.covers(startAt, endAt)) {
+            return eventOccurrenceService.existsOverlappingOccurrenceForMember(member, calendarIds, startAt, endAt);
+        }
+
+        RecurringEventSeries recurringEvents = recurringEventRawService.findRecurringScheduleForMember(member, calendarIds, startAt, endAt);
+
+        if (recurringEvents.isEmpty()) {
+            return false;
+        }
+
+        // 기간 시작 전에 시작해서 기간 안까지 이어지는 회차도 포함
+        Duration longestDuration = recurringEvents.getEvents().stream()
+                .map(event -> Duration.between(event.startAt(), event.endAt()))
+                .max(Duration::compareTo)
+                .orElse(Duration.ZERO);
+
+        Map<Long, List<EventOverrideProjectionDto>> overrideMap = recurringEventRawService.getEventOverrideMapAffectingPeriod(
+                recurringEvents,
+                startAt.minus(longestDuration),
+                startAt,
+                endAt
+        );
+
+        return recurringEvents.getEvents().stream()
+                .anyMatch(event -> anyOccurrenceOverlaps(event, overrideMap.getOrDefault(event.eventId(), List.of()), startAt, endAt));
+    }
+
+    private boolean anyOccurrenceOverlaps(
+            EventProjectionDto recEvent,
+            List<EventOverrideProjectionDto> overrides,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        boolean overriddenOccurrenceOverlaps = overrides.stream()
+                .filter(eventOverride -> !eventOverride.isDeleteOverride())
+                .anyMatch(eventOverride -> eventOverride.startAt().isBefore(endAt) && eventOverride.endAt().isAfter(startAt));
+
+        if (overriddenOccurrenceOverlaps) {
+            return true;
+        }
+
+        // 수정, 삭제된 회차는 위에서 변경된 시간 기준으로 확인했으므로 제외
+        Set<LocalDateTime> overriddenTimes = overrides.stream()
+                .map(EventOverrideProjectionDto::originalEventTime)
+                .collect(Collectors.toSet());
+        Duration duration = Duration.between(recEvent.startAt(), recEvent.endAt());
+
+        return rruleParser.streamEventStartTimes(
+                        recEvent.rruleString(),
+                        recEvent.startAt(),
+                        startAt.minus(duration),
+                        endAt
+                )
+                .filter(eventStart -> eventStart.plus(duration).isAfter(startAt))
+                .anyMatch(eventStart -> !overriddenTimes.contains(eventStart));
+    }
+
     private List<EventServiceDto> getEventServiceDtos(LocalDateTime startAt, LocalDateTime endAt, RecurringEventSeries recurringEvents) {
         if (recurringEvents.isEmpty()) {
             return Collections.emptyList();
@@ -47,35 +126,18 @@ public class RecurringEventService {
 
         List<EventServiceDto> finalExpandedEventList = new ArrayList<>();
 
-        Map<Long, List<EventOverride>> exceptionsMap = recurringEventRawService.getEventOverrideMap(recurringEvents.getEvents(), startAt, endAt);
+        Map<Long, List<EventOverrideProjectionDto>> exceptionsMap = recurringEventRawService.getEventOverrideProjectionMap(recurringEvents, startAt, endAt);
 
-        for (Event recurEvent : recurringEvents.getEvents()) {
-            List<Event> expandedEvent = expandRecurringEvent(recurEvent, startAt, endAt);
-            ExpandedRecurringEvents expandedRecurringEvents = ExpandedRecurringEvents.of(expandedEvent, recurEvent);
-            EventOverrideSeries overrideSeries = new EventOverrideSeries(exceptionsMap.getOrDefault(recurEvent.getEventId(), List.of()));
+        for (EventProjectionDto recurEvent : recurringEvents.getEvents()) {
+            EventOverrideSeries overrideSeries = EventOverrideSeries.of(exceptionsMap.get(recurEvent.eventId()));
+            ExpandedRecurringEvents expandedRecurringEvents = ExpandedRecurringEvents.of(recurEvent, overrideSeries);
 
-            finalExpandedEventList.addAll(expandedRecurringEvents.applyOverridesToDtos(overrideSeries));
+            expandedRecurringEvents.expandInto(
+                    rruleParser.streamEventStartTimes(recurEvent.rruleString(), recurEvent.startAt(), startAt, endAt),
+                    finalExpandedEventList
+            );
         }
 
         return finalExpandedEventList;
     }
-
-    private List<Event> expandRecurringEvent(Event recEvent, LocalDateTime startAt, LocalDateTime endAt) {
-        List<LocalDateTime> dates = rruleParser.calEventStartTimeListRange(
-                recEvent.getRecurrenceRule().getRruleString(),
-                recEvent.getStartAt(),
-                startAt,
-                endAt
-        );
-        Duration duration = Duration.between(recEvent.getStartAt(), recEvent.getEndAt());
-
-        return dates.stream()
-                .map(eventStart -> Event.builder()
-                        .title(recEvent.getTitle())
-                        .content(recEvent.getContent())
-                        .startAt(eventStart)
-                        .endAt(eventStart.plus(duration))
-                        .build())
-                .toList();
-    }
 }
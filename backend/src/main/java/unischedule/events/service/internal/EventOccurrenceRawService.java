@@ -0,0 +1,78 @@
+package unischedule.events.service.internal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unischedule.events.domain.Event;
+import unischedule.events.domain.EventOccurrence;
+import unischedule.events.repository.EventOccurrenceRepository;
+import unischedule.member.domain.Member;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class EventOccurrenceRawService {
+    private final EventOccurrenceRepository eventOccurrenceRepository;
+
+    @Transactional(readOnly = true)
+    public List<EventOccurrence> findOccurrences(List<Long> calendarIds, LocalDateTime startAt, LocalDateTime endAt) {
+        return eventOccurrenceRepository.findOccurrencesInPeriod(calendarIds, startAt, endAt);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventOccurrence> findOccurrencesForMember(
+            Member member,
+            List<Long> calendarIds,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        return eventOccurrenceRepository.findOccurrencesInPeriodForMember(
+                member.getMemberId(),
+                calendarIds,
+                startAt,
+                endAt
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public boolean existsOverlappingOccurrenceForMember(
+            Member member,
+            List<Long> calendarIds,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        return eventOccurrenceRepository.existsOverlappingOccurrenceForMember(
+                member.getMemberId(),
+                calendarIds,
+                startAt,
+                endAt
+        );
+    }
+
+    @Transactional
+    public void saveAll(List<EventOccurrence> occurrences) {
+        eventOccurrenceRepository.saveAll(occurrences);
+    }
+
+    @Transactional
+    public void deleteAllByEvent(Event event) {
+        eventOccurrenceRepository.deleteAllByEvent(event);
+    }
+
+    @Transactional
+    public void deleteAllByEvents(List<Event> events) {
+        eventOccurrenceRepository.deleteAllByEventIn(events);
+    }
+
+    @Transactional
+    public int deleteAllByEventIds(List<Long> eventIds) {
+        return eventOccurrenceRepository.deleteAllByEventIds(eventIds);
+    }
+
+    @Transactional
+    public int deleteAllBefore(LocalDateTime before) {
+        return eventOccurrenceRepository.deleteAllByOriginalStartAtBefore(before);
+    }
+}
@@ -0,0 +1,36 @@
+package unischedule.events.service.internal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unischedule.events.domain.EventOccurrenceRefresh;
+import unischedule.events.repository.EventOccurrenceRefreshRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class EventOccurrenceRefreshRawService {
+    private final EventOccurrenceRefreshRepository eventOccurrenceRefreshRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<EventOccurrenceRefresh> findRefresh() {
+        return eventOccurrenceRefreshRepository.findById(EventOccurrenceRefresh.SINGLETON_ID);
+    }
+
+    @Transactional
+    public boolean lock(String owner, LocalDateTime now, LocalDateTime lockedUntil) {
+        return eventOccurrenceRefreshRepository.lock(EventOccurrenceRefresh.SINGLETON_ID, owner, now, lockedUntil) == 1;
+    }
+
+    @Transactional
+    public boolean complete(String owner, LocalDateTime horizonFrom, LocalDateTime horizonUntil) {
+        return eventOccurrenceRefreshRepository.complete(EventOccurrenceRefresh.SINGLETON_ID, owner, horizonFrom, horizonUntil) == 1;
+    }
+
+    @Transactional
+    public void unlock(String owner) {
+        eventOccurrenceRefreshRepository.unlock(EventOccurrenceRefresh.SINGLETON_ID, owner);
+    }
+}
@@ -5,11 +5,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventOverride;
+import unischedule.events.dto.EventOverrideProjectionDto;
 import unischedule.events.dto.EventOverrideUpdateDto;
 import unischedule.events.repository.EventOverrideRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +37,11 @@ public class EventOverrideRawService {
         return eventOverrideRepository.save(eventOverride);
     }
 
+    @Transactional
+    public List<EventOverride> saveAllEventOverrides(List<EventOverride> eventOverrides) {
+        return eventOverrideRepository.saveAll(eventOverrides);
+    }
+
     @Transactional
     public void updateEventOverride(EventOverride eventOverride, EventOverrideUpdateDto updateDto) {
         eventOverride.update(
@@ -44,8 +52,46 @@ public class EventOverrideRawService {
         );
     }
 
+    @Transactional(readOnly = true)
+    public List<EventOverride> findAllEventOverrideByEvent(Event event) {
+        return eventOverrideRepository.findAllByOriginalEvent(event);
+    }
+
+    /**
+     * ICS 구독용 override 스트림, 호출한 트랜잭션 안에서 모두 읽고 닫아야 함
+     * @param memberId 멤버 전체 캘린더면 선택 참여 일정을 거르기 위한 멤버 id, 팀 캘린더면 null
+     * @param calendarIds
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Stream<EventOverrideProjectionDto> streamFeedOverrides(Long memberId, List<Long> calendarIds) {
+        if (memberId == null) {
+            return eventOverrideRepository.streamFeedOverrides(calendarIds);
+        }
+        return eventOverrideRepository.streamFeedOverridesForMember(memberId, calendarIds);
+    }
+
+    /**
+     * 동기화용 override 조회, since 가 null 이면 캘린더 전체
+     * @param calendarId
+     * @param since
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<EventOverride> findEventOverridesForSync(Long calendarId, LocalDateTime since) {
+        if (since == null) {
+            return eventOverrideRepository.findAllForSync(calendarId);
+        }
+        return eventOverrideRepository.findUpdatedForSync(calendarId, since);
+    }
+
     @Transactional
     public void deleteAllEventOverrideByEvent(Event event) {
         eventOverrideRepository.deleteAllByOriginalEvent(event);
     }
+
+    @Transactional
+    public int deleteAllByEventIds(List<Long> eventIds) {
+        return eventOverrideRepository.deleteAllByOriginalEventIds(eventIds);
+    }
 }
@@ -5,9 +5,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventParticipant;
+import unischedule.events.dto.EventParticipantIdDto;
 import unischedule.events.repository.EventParticipantRepository;
 import unischedule.member.domain.Member;
 
+import java.util.Collections;
 import java.util.List;
 
 @Service
@@ -23,6 +25,14 @@ public class EventParticipantRawService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public List<EventParticipantIdDto> getParticipantIdsForEvents(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return eventParticipantRepository.findParticipantIdsByEventIds(eventIds);
+    }
+
     @Transactional
     public void saveAllParticipantsForEvent(Event event, List<Member> participants) {
         List<EventParticipant> newParticipants = participants.stream()
@@ -46,4 +56,9 @@ public class EventParticipantRawService {
     public void deleteAllByEvent(Event event) {
         eventParticipantRepository.deleteAllByEvent(event);
     }
+
+    @Transactional
+    public int deleteAllByEventIds(List<Long> eventIds) {
+        return eventParticipantRepository.deleteAllByEventIds(eventIds);
+    }
 }
@@ -1,11 +1,13 @@
 package unischedule.events.service.internal;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import unischedule.calendar.entity.Calendar;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.collection.SingleEventSeries;
+import unischedule.events.dto.EventProjectionDto;
 import unischedule.events.dto.EventUpdateDto;
 import unischedule.events.repository.EventRepository;
 import unischedule.exception.EntityNotFoundException;
@@ -13,6 +15,7 @@ import unischedule.member.domain.Member;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +27,11 @@ public class EventRawService {
         return eventRepository.save(event);
     }
 
+    @Transactional
+    public List<Event> saveAllEvents(List<Event> events) {
+        return eventRepository.saveAll(events);
+    }
+
     @Transactional(readOnly = true)
     public Event findEventById(Long eventId) {
         return eventRepository.findById(eventId)
@@ -47,7 +55,7 @@ public class EventRawService {
 
     @Transactional(readOnly = true)
     public SingleEventSeries findSingleSchedule(List<Long> calendarIds, LocalDateTime startTime, LocalDateTime endTime) {
-        List<Event> singleEventList = eventRepository.findSingleEventsInPeriod(calendarIds, startTime, endTime);
+        List<EventProjectionDto> singleEventList = eventRepository.findSingleEventsInPeriod(calendarIds, startTime, endTime);
 
         return new SingleEventSeries(singleEventList);
     }
@@ -59,7 +67,7 @@ public class EventRawService {
             LocalDateTime startTime,
             LocalDateTime endTime
     ) {
-        List<Event> singleEventList = eventRepository.findSingleEventsInPeriodForMember(
+        List<EventProjectionDto> singleEventList = eventRepository.findSingleEventsInPeriodForMember(
                 member.getMemberId(),
                 calendarIds,
                 startTime,
@@ -74,8 +82,61 @@ public class EventRawService {
         return eventRepository.findByCalendar(calendar);
     }
 
+    /**
+     * 동기화용 일정 조회, since 가 null 이면 캘린더 전체
+     * @param calendarId
+     * @param since
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public List<Event> findEventsForSync(Long calendarId, LocalDateTime since) {
+        if (since == null) {
+            return eventRepository.findAllForSync(calendarId);
+        }
+        return eventRepository.findUpdatedForSync(calendarId, since);
+    }
+
+    /**
+     * ICS 구독용 일정 스트림, 호출한 트랜잭션 안에서 모두 읽고 닫아야 함
+     * @param memberId 멤버 전체 캘린더면 선택 참여 일정을 거르기 위한 멤버 id, 팀 캘린더면 null
+     * @param calendarIds
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Stream<EventProjectionDto> streamFeedEvents(Long memberId, List<Long> calendarIds) {
+        if (memberId == null) {
+            return eventRepository.streamFeedEvents(calendarIds);
+        }
+        return eventRepository.streamFeedEventsForMember(memberId, calendarIds);
+    }
+
     @Transactional
     public void deleteAll(List<Event> events) {
         eventRepository.deleteAll(events);
     }
+
+    @Transactional(readOnly = true)
+    public long countByCalendarId(Long calendarId) {
+        return eventRepository.countByCalendarCalendarId(calendarId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findEventIdsByCalendarId(Long calendarId, int size) {
+        return eventRepository.findEventIdsByCalendarId(calendarId, PageRequest.of(0, size));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findRecurrenceRuleIds(List<Long> eventIds) {
+        return eventRepository.findRecurrenceRuleIdsByEventIds(eventIds);
+    }
+
+    /**
+     * 일정 일괄 삭제, 일정을 참조하는 데이터는 먼저 삭제해야 함
+     * @param eventIds
+     * @return
+     */
+    @Transactional
+    public int deleteAllByIds(List<Long> eventIds) {
+        return eventRepository.deleteAllByEventIds(eventIds);
+    }
 }
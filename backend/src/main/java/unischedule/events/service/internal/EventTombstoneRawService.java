@@ -0,0 +1,41 @@
+package unischedule.events.service.internal;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import unischedule.events.domain.EventTombstone;
+import unischedule.events.repository.EventTombstoneRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class EventTombstoneRawService {
+    private final EventTombstoneRepository eventTombstoneRepository;
+
+    @Transactional
+    public void saveTombstone(EventTombstone tombstone) {
+        eventTombstoneRepository.save(tombstone);
+    }
+
+    @Transactional
+    public void saveAllTombstones(List<EventTombstone> tombstones) {
+        eventTombstoneRepository.saveAll(tombstones);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventTombstone> findTombstonesSince(Long calendarId, LocalDateTime since) {
+        return eventTombstoneRepository.findByCalendarIdAndDeletedAtGreaterThanEqualOrderByDeletedAt(calendarId, since);
+    }
+
+    @Transactional
+    public int deleteTombstonesBefore(LocalDateTime before) {
+        return eventTombstoneRepository.deleteAllDeletedBefore(before);
+    }
+
+    @Transactional
+    public int deleteAllByCalendarId(Long calendarId) {
+        return eventTombstoneRepository.deleteAllByCalendarId(calendarId);
+    }
+}
@@ -2,9 +2,12 @@ package unischedule.events.service.internal;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import unischedule.events.domain.RecurrenceRule;
 import unischedule.events.repository.RecurrenceRuleRepository;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class RecurrenceRuleRawService {
@@ -13,4 +16,17 @@ public class RecurrenceRuleRawService {
     public RecurrenceRule saveRecurrenceRule(RecurrenceRule rrule) {
         return recurrenceRuleRepository.save(rrule);
     }
+
+    @Transactional
+    public List<RecurrenceRule> saveAllRecurrenceRules(List<RecurrenceRule> rrules) {
+        return recurrenceRuleRepository.saveAll(rrules);
+    }
+
+    @Transactional
+    public int deleteAllByIds(List<Long> ruleIds) {
+        if (ruleIds.isEmpty()) {
+            return 0;
+        }
+        return recurrenceRuleRepository.deleteAllByIds(ruleIds);
+    }
 }
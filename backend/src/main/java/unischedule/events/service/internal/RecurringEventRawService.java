@@ -1,11 +1,14 @@
 package unischedule.events.service.internal;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventOverride;
 import unischedule.events.domain.collection.RecurringEventSeries;
+import unischedule.events.dto.EventOverrideProjectionDto;
+import unischedule.events.dto.EventProjectionDto;
 import unischedule.events.repository.EventOverrideRepository;
 import unischedule.events.repository.EventRepository;
 import unischedule.member.domain.Member;
@@ -23,18 +26,63 @@ public class RecurringEventRawService {
     private final EventRepository eventRepository;
 
     @Transactional(readOnly = true)
-    public RecurringEventSeries findRecurringSchedule(List<Long> calendarIds, LocalDateTime endTime) {
-        List<Event> recurringEvents = eventRepository.findRecurringEventsInPeriod(calendarIds, endTime);
+    public RecurringEventSeries findRecurringSchedule(List<Long> calendarIds, LocalDateTime startTime, LocalDateTime endTime) {
+        List<EventProjectionDto> recurringEvents = eventRepository.findRecurringEventsInPeriod(calendarIds, startTime, endTime);
 
         return new RecurringEventSeries(recurringEvents);
     }
 
     @Transactional(readOnly = true)
-    public RecurringEventSeries findRecurringScheduleForMember(Member member, List<Long> calendarIds, LocalDateTime endTime) {
-        List<Event> recurringEvents = eventRepository.findRecurringEventsInPeriodForMember(member.getMemberId(), calendarIds, endTime);
+    public RecurringEventSeries findRecurringScheduleForMember(
+            Member member,
+            List<Long> calendarIds,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {
+        List<EventProjectionDto> recurringEvents = eventRepository.findRecurringEventsInPeriodForMember(
+                member.getMemberId(),
+                calendarIds,
+                startTime,
+                endTime
+        );
         return new RecurringEventSeries(recurringEvents);
     }
 
+    @Transactional(readOnly = true)
+    public List<Long> findRecurringEventIdsAfter(Long afterEventId, LocalDateTime from, int size) {
+        return eventRepository.findRecurringEventIdsAfter(afterEventId, from, PageRequest.of(0, size));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Event> findRecurringEventsByIds(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return eventRepository.findRecurringEventsByIds(eventIds);
+    }
+
+    /**
+     * 조회용 override 를 반복 일정별로 조회
+     * @param recurringEvents
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<EventOverrideProjectionDto>> getEventOverrideProjectionMap(
+            RecurringEventSeries recurringEvents,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        if (recurringEvents == null || recurringEvents.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return eventOverrideRepository
+                .findOverrideProjectionsForEvents(recurringEvents.getEventIds(), startAt, endAt)
+                .stream()
+                .collect(Collectors.groupingBy(EventOverrideProjectionDto::originalEventId));
+    }
+
     @Transactional(readOnly = true)
     public Map<Long, List<EventOverride>> getEventOverrideMap(
             List<Event> recurringEvents,
@@ -50,6 +98,30 @@ public class RecurringEventRawService {
                 .collect(Collectors.groupingBy(ex -> ex.getOriginalEvent().getEventId()));
     }
 
+    /**
+     * 겹침 확인에 필요한 override 를 반복 일정별로 조회
+     * @param recurringEvents
+     * @param originalFrom 원래 회차 시간 조회 시작점
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<EventOverrideProjectionDto>> getEventOverrideMapAffectingPeriod(
+            RecurringEventSeries recurringEvents,
+            LocalDateTime originalFrom,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        if (recurringEvents == null || recurringEvents.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return eventOverrideRepository
+                .findEventOverridesAffectingPeriod(recurringEvents.getEventIds(), originalFrom, startAt, endAt)
+                .stream()
+                .collect(Collectors.groupingBy(EventOverrideProjectionDto::originalEventId));
+    }
+
     @Transactional
     public void deleteRecurringEvent(Event event) {
         eventOverrideRepository.deleteAllByOriginalEvent(event);
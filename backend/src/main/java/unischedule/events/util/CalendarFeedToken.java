@@ -0,0 +1,85 @@
+package unischedule.events.util;
+
+import unischedule.exception.InvalidInputException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * ICS 구독 주소 토큰
+ * 외부 캘린더 앱은 인증 헤더를 보낼 수 없으므로 주소에 서명된 토큰을 포함
+ * 구독한 멤버의 서명 키로 서명하므로, 키를 다시 만들면 그 멤버의 이전 구독 주소는 모두 사용할 수 없음
+ * 팀 구독은 요청마다 팀원 여부를 다시 확인하므로 탈퇴하면 더 이상 조회할 수 없음
+ * @param memberId 구독한 멤버 id
+ * @param teamId 팀 캘린더 구독이면 팀 id, 멤버 전체 캘린더 구독이면 null
+ */
+public record CalendarFeedToken(Long memberId, Long teamId) {
+    private static final String PREFIX = "v1:";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    public boolean isTeamFeed() {
+        return teamId != null;
+    }
+
+    public String encode(String secret) {
+        String raw = PREFIX + memberId + ":" + (teamId == null ? "" : teamId);
+        String payload = base64(raw.getBytes(StandardCharsets.UTF_8));
+        return payload + "." + base64(sign(payload, secret));
+    }
+
+    /**
+     * 토큰 검증 후 구독 대상 반환
+     * @param token
+     * @param secretLoader 멤버 id 로 서명 키 조회, 멤버가 없거나 키가 없으면 null
+     * @return
+     */
+    public static CalendarFeedToken decode(String token, Function<Long, String> secretLoader) {
+        try {
+            int dot = token.indexOf('.');
+            if (dot < 0) {
+                throw new InvalidInputException("유효하지 않은 구독 주소입니다.");
+            }
+
+            String payload = token.substring(0, dot);
+            String raw = new String(Base64.getUrlDecoder().decode(payload), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidInputException("유효하지 않은 구독 주소입니다.");
+            }
+            String[] ids = raw.substring(PREFIX.length()).split(":", -1);
+            CalendarFeedToken feedToken = new CalendarFeedToken(
+                    Long.parseLong(ids[0]),
+                    ids[1].isEmpty() ? null : Long.parseLong(ids[1])
+            );
+
+            String secret = secretLoader.apply(feedToken.memberId());
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            if (secret == null || !MessageDigest.isEqual(signature, sign(payload, secret))) {
+                throw new InvalidInputException("유효하지 않은 구독 주소입니다.");
+            }
+            return feedToken;
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidInputException("유효하지 않은 구독 주소입니다.");
+        }
+    }
+
+    private static byte[] sign(String payload, String secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        }
+        catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
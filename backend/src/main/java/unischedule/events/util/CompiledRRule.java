@@ -0,0 +1,20 @@
+package unischedule.events.util;
+
+import net.fortuna.ical4j.model.Recur;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * 파싱이 완료된 반복 규칙
+ * @param recur ical4j 반복 규칙 객체 (공유되므로 수정 금지)
+ * @param until UNTIL 값으로 계산한 반복 종료 경계 (UNTIL 이 없으면 empty)
+ * @param simpleRecurrence 날짜 계산으로 전개할 수 있는 단순 규칙이면 present
+ */
+public record CompiledRRule(
+        Recur<ZonedDateTime> recur,
+        Optional<LocalDateTime> until,
+        Optional<SimpleRecurrence> simpleRecurrence
+) {
+}
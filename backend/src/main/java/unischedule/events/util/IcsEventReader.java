@@ -0,0 +1,260 @@
+package unischedule.events.util;
+
+import net.fortuna.ical4j.data.CalendarParserImpl;
+import net.fortuna.ical4j.data.ContentHandler;
+import net.fortuna.ical4j.data.ParserException;
+import net.fortuna.ical4j.data.UnfoldingReader;
+import net.fortuna.ical4j.util.Strings;
+import unischedule.events.dto.IcsEventDto;
+import unischedule.exception.InvalidInputException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ICS 파일을 ical4j 파서로 읽으면서 VEVENT 가 끝날 때마다 바로 전달
+ * 캘린더 전체를 메모리에 만들지 않으므로 큰 파일도 VEVENT 하나 크기의 메모리만 사용
+ * 시간은 모두 zone 기준 LocalDateTime 으로 변환하고, 종일 일정은 00:00 ~ 다음 날 00:00 으로 변환
+ * 형식이 올바르지 않은 시간은 null 로 전달하므로 호출하는 쪽에서 검증
+ */
+public final class IcsEventReader {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final Pattern WEEK_DURATION_PATTERN = Pattern.compile("([+-]?)P(\\d+)W");
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private IcsEventReader() {
+    }
+
+    /**
+     * @param inputStream ICS 파일
+     * @param zone 변환할 시간대
+     * @param consumer VEVENT 마다 호출
+     * @throws IOException
+     */
+    public static void read(InputStream inputStream, ZoneId zone, Consumer<IcsEventDto> consumer) throws IOException {
+        UnfoldingReader reader = new UnfoldingReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), true);
+        try {
+            new CalendarParserImpl().parse(reader, new VEventHandler(zone, consumer));
+        }
+        catch (ParserException e) {
+            // 전달받은 consumer 에서 발생한 예외는 파싱 오류로 바꾸지 않음
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new InvalidInputException("ICS 파일 형식이 올바르지 않습니다. (" + e.getLineNo() + " 번째 줄)");
+        }
+    }
+
+    private static final class VEventHandler implements ContentHandler {
+        private final ZoneId zone;
+        private final Consumer<IcsEventDto> consumer;
+        private final Deque<String> components = new ArrayDeque<>();
+
+        private final Map<String, String> parameters = new HashMap<>();
+        private String propertyValue;
+
+        private VEventBuilder event;
+
+        private VEventHandler(ZoneId zone, Consumer<IcsEventDto> consumer) {
+            this.zone = zone;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startCalendar() {
+        }
+
+        @Override
+        public void endCalendar() {
+        }
+
+        @Override
+        public void startComponent(String name) {
+            components.push(name);
+            if ("VEVENT".equals(name)) {
+                event = new VEventBuilder();
+            }
+        }
+
+        @Override
+        public void endComponent(String name) {
+            components.pop();
+            if ("VEVENT".equals(name) && event != null) {
+                consumer.accept(event.build());
+                event = null;
+            }
+        }
+
+        @Override
+        public void startProperty(String name) {
+            parameters.clear();
+            propertyValue = null;
+        }
+
+        @Override
+        public void propertyValue(String value) {
+            propertyValue = value;
+        }
+
+        @Override
+        public void parameter(String name, String value) {
+            parameters.put(name.toUpperCase(), Strings.unquote(value));
+        }
+
+        @Override
+        public void endProperty(String name) {
+            // VEVENT 안의 VALARM 등 하위 컴포넌트 속성은 무시
+            if (event == null || !"VEVENT".equals(components.peek()) || propertyValue == null) {
+                return;
+            }
+
+            switch (name.toUpperCase()) {
+                case "UID" -> event.uid = propertyValue;
+                case "SUMMARY" -> event.title = text(propertyValue);
+                case "DESCRIPTION" -> event.content = text(propertyValue);
+                case "DTSTART" -> {
+                    event.startAt = dateTime(propertyValue);
+                    event.allDay = isDate(propertyValue);
+                }
+                case "DTEND" -> event.endAt = dateTime(propertyValue);
+                case "DURATION" -> event.duration = duration(propertyValue);
+                case "RRULE" -> event.rrule = propertyValue;
+                case "EXDATE" -> {
+                    for (String value : propertyValue.split(",")) {
+                        event.exDates.add(dateTime(value));
+                    }
+                }
+                case "RECURRENCE-ID" -> event.recurrenceId = dateTime(propertyValue);
+                case "STATUS" -> event.cancelled = "CANCELLED".equalsIgnoreCase(propertyValue);
+                default -> {
+                }
+            }
+        }
+
+        private String text(String value) {
+            String text = Strings.unescape(value);
+            return text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+        }
+
+        private boolean isDate(String value) {
+            return "DATE".equalsIgnoreCase(parameters.get("VALUE")) || value.length() == 8;
+        }
+
+        /**
+         * DATE, UTC, TZID, 시간대 없는 DATE-TIME 을 zone 기준으로 변환, 형식이 다르면 null
+         */
+        private LocalDateTime dateTime(String value) {
+            try {
+                if (isDate(value)) {
+                    return LocalDate.parse(value, DATE_FORMAT).atStartOfDay();
+                }
+                if (value.endsWith("Z")) {
+                    return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME_FORMAT)
+                            .atOffset(ZoneOffset.UTC)
+                            .atZoneSameInstant(zone)
+                            .toLocalDateTime();
+                }
+
+                LocalDateTime local = LocalDateTime.parse(value, DATE_TIME_FORMAT);
+                ZoneId tzid = parseZone(parameters.get("TZID"));
+                if (tzid == null) {
+                    return local;
+                }
+                return local.atZone(tzid).withZoneSameInstant(zone).toLocalDateTime();
+            }
+            catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        /**
+         * IANA 시간대가 아닌 TZID (Outlook 등) 는 시간대 없는 시간으로 처리
+         */
+        private ZoneId parseZone(String tzid) {
+            if (tzid == null) {
+                return null;
+            }
+            try {
+                return ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid);
+            }
+            catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        private Duration duration(String value) {
+            Matcher matcher = WEEK_DURATION_PATTERN.matcher(value);
+            if (matcher.matches()) {
+                Duration weeks = Duration.ofDays(7L * Long.parseLong(matcher.group(2)));
+                return matcher.group(1).equals("-") ? weeks.negated() : weeks;
+            }
+            try {
+                return Duration.parse(value);
+            }
+            catch (DateTimeException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class VEventBuilder {
+        private String uid;
+        private String title;
+        private String content;
+        private LocalDateTime startAt;
+        private LocalDateTime endAt;
+        private Duration duration;
+        private boolean allDay;
+        private String rrule;
+        private final List<LocalDateTime> exDates = new ArrayList<>();
+        private LocalDateTime recurrenceId;
+        private boolean cancelled;
+
+        private IcsEventDto build() {
+            return new IcsEventDto(
+                    uid,
+                    title == null || title.isBlank() ? "(제목 없음)" : title,
+                    content,
+                    startAt,
+                    resolveEndAt(),
+                    rrule,
+                    exDates.stream().filter(Objects::nonNull).toList(),
+                    recurrenceId,
+                    cancelled
+            );
+        }
+
+        /**
+         * DTEND 가 없으면 DURATION, 둘 다 없으면 종일 일정은 하루, 그 외는 시작 시간
+         */
+        private LocalDateTime resolveEndAt() {
+            if (endAt != null || startAt == null) {
+                return endAt;
+            }
+            if (duration != null) {
+                return startAt.plus(duration);
+            }
+            return allDay ? startAt.plusDays(1) : startAt;
+        }
+    }
+}
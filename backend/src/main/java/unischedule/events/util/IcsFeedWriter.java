@@ -0,0 +1,152 @@
+package unischedule.events.util;
+
+import net.fortuna.ical4j.data.FoldingWriter;
+import net.fortuna.ical4j.util.Strings;
+import unischedule.events.dto.EventOverrideProjectionDto;
+import unischedule.events.dto.EventProjectionDto;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 일정을 VEVENT 단위로 바로 출력하는 ICS 작성기
+ * 캘린더 전체를 메모리에 만들지 않고 조회한 순서대로 출력
+ * - 반복 일정은 전개하지 않고 RRULE 로 출력
+ * - 삭제된 회차는 EXDATE, 변경된 회차는 같은 UID 의 RECURRENCE-ID VEVENT 로 출력
+ */
+public class IcsFeedWriter {
+    private static final String CRLF = "\r\n";
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Pattern LOCAL_UNTIL_PATTERN = Pattern.compile("UNTIL=([0-9]{8}T[0-9]{6})(?![0-9Z])");
+
+    private final Writer writer;
+    private final ZoneId zone;
+    private final String vTimeZone;
+    private final String dtStamp;
+
+    /**
+     * @param writer
+     * @param zone 일정 시간의 시간대
+     * @param vTimeZone zone 의 VTIMEZONE, 없으면 시간을 UTC 로 변환해서 출력
+     * @param now DTSTAMP 로 사용할 시각
+     */
+    public IcsFeedWriter(Writer writer, ZoneId zone, String vTimeZone, Instant now) {
+        this.writer = new FoldingWriter(writer);
+        this.zone = zone;
+        this.vTimeZone = vTimeZone;
+        this.dtStamp = DATE_TIME_FORMAT.format(now.atOffset(ZoneOffset.UTC)) + "Z";
+    }
+
+    public void begin(String calendarName) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//UniSchedule//Calendar Feed//KO");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + Strings.escape(calendarName));
+        if (vTimeZone != null) {
+            line("X-WR-TIMEZONE:" + zone.getId());
+            writer.write(vTimeZone.endsWith(CRLF) ? vTimeZone : vTimeZone + CRLF);
+        }
+    }
+
+    /**
+     * @param event
+     * @param exDates 반복 일정의 삭제된 회차 원래 시작 시간
+     */
+    public void writeEvent(EventProjectionDto event, List<LocalDateTime> exDates) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid(event.eventId()));
+        line("DTSTAMP:" + dtStamp);
+        line(dateTime("DTSTART", event.startAt()));
+        line(dateTime("DTEND", event.endAt()));
+        if (event.isRecurring()) {
+            line("RRULE:" + toUtcUntil(event.rruleString()));
+            if (!exDates.isEmpty()) {
+                line(dateTimes("EXDATE", exDates));
+            }
+        }
+        text("SUMMARY", event.title());
+        text("DESCRIPTION", event.content());
+        line("END:VEVENT");
+    }
+
+    /**
+     * 변경된 회차, 삭제된 회차는 writeEvent 의 EXDATE 로 출력
+     * @param override
+     */
+    public void writeOverride(EventOverrideProjectionDto override) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:" + uid(override.originalEventId()));
+        line("DTSTAMP:" + dtStamp);
+        line(dateTime("RECURRENCE-ID", override.originalEventTime()));
+        line(dateTime("DTSTART", override.startAt()));
+        line(dateTime("DTEND", override.endAt()));
+        text("SUMMARY", override.title());
+        text("DESCRIPTION", override.content());
+        line("END:VEVENT");
+    }
+
+    public void end() throws IOException {
+        line("END:VCALENDAR");
+        writer.flush();
+    }
+
+    private String uid(Long eventId) {
+        return "event-" + eventId + "@unischedule";
+    }
+
+    private void text(String name, String value) throws IOException {
+        if (value != null && !value.isEmpty()) {
+            line(name + ":" + Strings.escape(value));
+        }
+    }
+
+    private String dateTime(String name, LocalDateTime time) {
+        return dateTimes(name, List.of(time));
+    }
+
+    private String dateTimes(String name, List<LocalDateTime> times) {
+        String values = times.stream()
+                .map(this::formatDateTime)
+                .collect(Collectors.joining(","));
+        if (vTimeZone == null) {
+            return name + ":" + values;
+        }
+        return name + ";TZID=" + zone.getId() + ":" + values;
+    }
+
+    private String formatDateTime(LocalDateTime time) {
+        if (vTimeZone == null) {
+            return DATE_TIME_FORMAT.format(time.atZone(zone).withZoneSameInstant(ZoneOffset.UTC)) + "Z";
+        }
+        return DATE_TIME_FORMAT.format(time);
+    }
+
+    /**
+     * DTSTART 에 시간대가 있으면 UNTIL 은 UTC 여야 하므로 시간대 없는 UNTIL 을 변환
+     */
+    private String toUtcUntil(String rruleString) {
+        Matcher matcher = LOCAL_UNTIL_PATTERN.matcher(rruleString);
+        if (!matcher.find()) {
+            return rruleString;
+        }
+        LocalDateTime until = LocalDateTime.parse(matcher.group(1), DATE_TIME_FORMAT);
+        String utcUntil = DATE_TIME_FORMAT.format(until.atZone(zone).withZoneSameInstant(ZoneOffset.UTC)) + "Z";
+        return matcher.replaceFirst("UNTIL=" + utcUntil);
+    }
+
+    private void line(String content) throws IOException {
+        writer.write(content);
+        writer.write(CRLF);
+    }
+}
@@ -0,0 +1,62 @@
+package unischedule.events.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 파싱된 반복 규칙을 보관하는 크기 제한 캐시
+ * 키는 정규화된 RRULE 문자열이므로 같은 규칙을 쓰는 강의, 팀 일정이 하나의 항목을 공유
+ * 조회마다 전역 락을 잡지 않도록 Caffeine 사용 (가상 스레드에서 여러 멤버 일정을 동시에 펼칠 때 캐리어 스레드 고정 방지)
+ */
+@Component
+public class RRuleCache {
+    private final Cache<String, CompiledRRule> cache;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public RRuleCache(@Value("${events.rrule.cache-size:1024}") int maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public CompiledRRule get(String rruleString, Function<String, CompiledRRule> compiler) {
+        String key = normalize(rruleString);
+
+        CompiledRRule cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+
+        // 파싱은 캐시 밖에서 수행, 동시에 같은 규칙이 들어오면 중복 파싱될 수 있지만 결과는 동일
+        missCount.incrementAndGet();
+        CompiledRRule compiled = compiler.apply(key);
+        cache.put(key, compiled);
+        return compiled;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        cache.cleanUp();
+        return (int) cache.estimatedSize();
+    }
+
+    private String normalize(String rruleString) {
+        return rruleString.trim().toUpperCase(Locale.ROOT);
+    }
+}
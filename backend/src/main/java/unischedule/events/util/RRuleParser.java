@@ -6,24 +6,39 @@ import net.fortuna.ical4j.model.property.RRule;
 import org.springframework.stereotype.Component;
 import unischedule.exception.InvalidInputException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class RRuleParser {
+    private static final int REPEAT_LIMIT_YEARS = 2;
+    private static final Pattern UNTIL_PATTERN = Pattern.compile("UNTIL=([0-9]{8}T[0-9]{6}Z)");
+
     private final DateTimeUtil dateTimeUtil;
+    private final RRuleCache rruleCache;
 
     public List<LocalDateTime> calEventStartTimeList(LocalDateTime firstStartTime, String rruleString) {
-        Recur<ZonedDateTime> recur = getRecur(rruleString);
+        CompiledRRule compiled = compile(rruleString);
+        LocalDateTime repeatEndDate = determineRepeatEndDate(compiled.until(), firstStartTime);
+
+        if (compiled.simpleRecurrence().isPresent()) {
+            // 종료 경계 포함
+            return compiled.simpleRecurrence().get()
+                    .occurrences(firstStartTime, firstStartTime, repeatEndDate.plusNanos(1))
+                    .toList();
+        }
 
         ZonedDateTime seed = dateTimeUtil.localDateTimeToZdt(firstStartTime);
-        ZonedDateTime endBoundary = dateTimeUtil.localDateTimeToZdt(getRepeatEndDate(firstStartTime, rruleString));
-        return recur.getDates(seed, endBoundary)
+        ZonedDateTime endBoundary = dateTimeUtil.localDateTimeToZdt(repeatEndDate);
+        return compiled.recur().getDates(seed, endBoundary)
                 .stream()
                 .map(dateTimeUtil::ZonedDateTimeToLdt)
                 .toList();
@@ -35,13 +50,21 @@ public class RRuleParser {
             LocalDateTime startAt,
             LocalDateTime endAt
     ) {
-        Recur<ZonedDateTime> recur = getRecur(rruleString);
+        CompiledRRule compiled = compile(rruleString);
+        LocalDateTime rangeEnd = earlierOf(endAt, maxRepeatEndDate(originalStartAt));
+
+        if (!startAt.isBefore(rangeEnd)) {
+            return List.of();
+        }
+        if (compiled.simpleRecurrence().isPresent()) {
+            return compiled.simpleRecurrence().get().occurrences(originalStartAt, startAt, rangeEnd).toList();
+        }
 
         ZonedDateTime seed = dateTimeUtil.localDateTimeToZdt(originalStartAt);
         ZonedDateTime startZdt = dateTimeUtil.localDateTimeToZdt(startAt);
-        ZonedDateTime endZdt = dateTimeUtil.localDateTimeToZdt(endAt);
+        ZonedDateTime endZdt = dateTimeUtil.localDateTimeToZdt(rangeEnd);
 
-        List<ZonedDateTime> dates = recur.getDates(seed, startZdt, endZdt);
+        List<ZonedDateTime> dates = compiled.recur().getDates(seed, startZdt, endZdt);
 
         return dates.stream()
                 .filter(eventStart -> !eventStart.isBefore(startZdt) && eventStart.isBefore(endZdt))
@@ -49,25 +72,90 @@ public class RRuleParser {
                 .toList();
     }
 
+    /**
+     * 기간 안의 회차 시작 시간을 순서대로 필요한 만큼만 계산
+     * 겹침 여부 확인처럼 첫 회차를 찾으면 끝나는 경우 전체 전개 없이 사용
+     * @param rruleString
+     * @param originalStartAt 반복 기준 시작 시간
+     * @param startAt
+     * @param endAt
+     * @return
+     */
+    public Stream<LocalDateTime> streamEventStartTimes(
+            String rruleString,
+            LocalDateTime originalStartAt,
+            LocalDateTime startAt,
+            LocalDateTime endAt
+    ) {
+        CompiledRRule compiled = compile(rruleString);
+        LocalDateTime rangeEnd = earlierOf(endAt, maxRepeatEndDate(originalStartAt));
+
+        if (!startAt.isBefore(rangeEnd)) {
+            return Stream.empty();
+        }
+        if (compiled.simpleRecurrence().isPresent()) {
+            return compiled.simpleRecurrence().get().occurrences(originalStartAt, startAt, rangeEnd);
+        }
+
+        ZonedDateTime seed = dateTimeUtil.localDateTimeToZdt(originalStartAt);
+        ZonedDateTime startZdt = dateTimeUtil.localDateTimeToZdt(startAt);
+        ZonedDateTime endZdt = dateTimeUtil.localDateTimeToZdt(rangeEnd);
+
+        return compiled.recur().getDatesAsStream(seed, startZdt, endZdt, -1)
+                .filter(eventStart -> !eventStart.isBefore(startZdt) && eventStart.isBefore(endZdt))
+                .map(dateTimeUtil::ZonedDateTimeToLdt);
+    }
+
+    /**
+     * 반복 일정의 FREQ, INTERVAL 과 마지막 회차 종료 시간 계산
+     * @param firstStartTime 첫 회차 시작 시간
+     * @param firstEndTime 첫 회차 종료 시간
+     * @param rruleString
+     * @return
+     */
+    public RecurrenceBounds calRecurrenceBounds(LocalDateTime firstStartTime, LocalDateTime firstEndTime, String rruleString) {
+        Recur<ZonedDateTime> recur = compile(rruleString).recur();
+        List<LocalDateTime> startTimes = calEventStartTimeList(firstStartTime, rruleString);
+
+        LocalDateTime lastStartTime = startTimes.isEmpty() ? firstStartTime : startTimes.getLast();
+        Duration duration = Duration.between(firstStartTime, firstEndTime);
+
+        return new RecurrenceBounds(
+                recur.getFrequency().name(),
+                Math.max(recur.getInterval(), 1),
+                lastStartTime.plus(duration)
+        );
+    }
+
     public Recur<ZonedDateTime> getRecur(String rruleString) {
+        return compile(rruleString).recur();
+    }
+
+    /**
+     * 파싱된 반복 규칙 조회, 같은 규칙은 캐시에서 재사용
+     * @param rruleString
+     * @return
+     */
+    public CompiledRRule compile(String rruleString) {
+        return rruleCache.get(rruleString, this::parse);
+    }
+
+    private CompiledRRule parse(String rruleString) {
         try {
             RRule<ZonedDateTime> rrule = new RRule<>(rruleString);
-            return rrule.getRecur();
+            return new CompiledRRule(
+                    rrule.getRecur(),
+                    extractUntilValue(rruleString).map(this::calEndDate),
+                    SimpleRecurrence.parse(rruleString, ZoneId.systemDefault())
+            );
         }
         catch (RuntimeException e) {
             throw new InvalidInputException("유효하지 않은 반복 규칙(RRULE) 형식입니다.");
         }
     }
 
-    private LocalDateTime getRepeatEndDate(LocalDateTime startTime, String rruleString) {
-        Optional<String> untilInfo = extractUntilValue(rruleString);
-
-        return determineRepeatEndDate(untilInfo, startTime);
-    }
-
     private Optional<String> extractUntilValue(String rruleString) {
-        Pattern pattern = Pattern.compile("UNTIL=([0-9]{8}T[0-9]{6}Z)");
-        Matcher matcher = pattern.matcher(rruleString.toUpperCase());
+        Matcher matcher = UNTIL_PATTERN.matcher(rruleString.toUpperCase());
 
         if (matcher.find()) {
             return Optional.of(matcher.group(1));
@@ -77,22 +165,23 @@ public class RRuleParser {
         }
     }
 
-    private LocalDateTime determineRepeatEndDate(Optional<String> untilValue, LocalDateTime startTime) {
-        // 시스템 부하 방지를 위해 반복 일정은 최대 2년으로 설정
-        LocalDateTime maxEndDate = startTime.plusYears(2);
+    private LocalDateTime determineRepeatEndDate(Optional<LocalDateTime> untilDate, LocalDateTime startTime) {
+        LocalDateTime maxEndDate = maxRepeatEndDate(startTime);
 
-        if (untilValue.isEmpty()) {
+        if (untilDate.isEmpty()) {
             return maxEndDate;
         }
 
-        LocalDateTime endDate = calEndDate(untilValue.get());
+        return earlierOf(untilDate.get(), maxEndDate);
+    }
 
-        if (endDate.isBefore(maxEndDate)) {
-            return endDate;
-        }
-        else {
-            return maxEndDate;
-        }
+    private LocalDateTime maxRepeatEndDate(LocalDateTime startTime) {
+        // 시스템 부하 방지를 위해 반복 일정은 최대 2년으로 설정
+        return startTime.plusYears(REPEAT_LIMIT_YEARS);
+    }
+
+    private LocalDateTime earlierOf(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
     }
 
     private LocalDateTime calEndDate(String until) {
@@ -0,0 +1,16 @@
+package unischedule.events.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 규칙을 전개해 얻은 반복 일정의 범위 정보
+ * @param frequency FREQ 값 (DAILY, WEEKLY ...)
+ * @param interval INTERVAL 값, 없으면 1
+ * @param seriesEnd 마지막 회차의 종료 시간
+ */
+public record RecurrenceBounds(
+        String frequency,
+        int interval,
+        LocalDateTime seriesEnd
+) {
+}
@@ -0,0 +1,344 @@
+package unischedule.events.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.WeekFields;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * BYDAY, INTERVAL, UNTIL/COUNT 만 사용하는 DAILY, WEEKLY 반복 규칙
+ * ical4j 를 거치지 않고 날짜 계산으로 조회 기간의 회차만 바로 생성
+ * 회차 계산 방식은 ical4j 와 동일하게 맞춤
+ * - 시작 시간은 BYDAY 에 해당할 때만 회차에 포함
+ * - WEEKLY 의 주 시작 요일은 WKST, 없으면 기본 Locale 기준
+ * - DAILY 의 BYDAY 는 회차를 거르는 조건
+ * - UNTIL 은 포함, COUNT 는 시작 시간 이후 회차 수
+ */
+public final class SimpleRecurrence {
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final boolean weekly;
+    private final int interval;
+    private final DayOfWeek[] byDay;
+    private final DayOfWeek weekStart;
+    private final LocalDateTime until;
+    private final int count;
+    private final ZoneId zone;
+
+    private SimpleRecurrence(
+            boolean weekly,
+            int interval,
+            DayOfWeek[] byDay,
+            DayOfWeek weekStart,
+            LocalDateTime until,
+            int count,
+            ZoneId zone
+    ) {
+        this.weekly = weekly;
+        this.interval = interval;
+        this.byDay = byDay;
+        this.weekStart = weekStart;
+        this.until = until;
+        this.count = count;
+        this.zone = zone;
+    }
+
+    /**
+     * 빠른 계산이 가능한 규칙이면 변환, 그 외 규칙은 empty
+     * @param rruleString 정규화된 RRULE 문자열
+     * @param zone 회차 시간대 (UTC UNTIL 변환용)
+     * @return
+     */
+    public static Optional<SimpleRecurrence> parse(String rruleString, ZoneId zone) {
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rruleString.split(";")) {
+            String[] keyValue = part.split("=", -1);
+            if (keyValue.length != 2 || parts.put(keyValue[0], keyValue[1]) != null) {
+                return Optional.empty();
+            }
+        }
+
+        String freq = parts.remove("FREQ");
+        if (!"DAILY".equals(freq) && !"WEEKLY".equals(freq)) {
+            return Optional.empty();
+        }
+
+        try {
+            int interval = parts.containsKey("INTERVAL") ? Integer.parseInt(parts.remove("INTERVAL")) : 1;
+            DayOfWeek[] byDay = parts.containsKey("BYDAY") ? parseDays(parts.remove("BYDAY")) : null;
+            DayOfWeek weekStart = parts.containsKey("WKST")
+                    ? parseDay(parts.remove("WKST"))
+                    : WeekFields.of(Locale.getDefault()).getFirstDayOfWeek();
+            LocalDateTime until = parts.containsKey("UNTIL") ? parseUntil(parts.remove("UNTIL"), zone) : null;
+            Integer count = parts.containsKey("COUNT") ? Integer.parseInt(parts.remove("COUNT")) : null;
+
+            if (!parts.isEmpty() || interval < 1 || (count != null && (count < 1 || until != null))) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new SimpleRecurrence(
+                    "WEEKLY".equals(freq),
+                    interval,
+                    byDay,
+                    weekStart,
+                    until,
+                    count == null ? -1 : count,
+                    zone
+            ));
+        }
+        catch (IllegalArgumentException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * [from, to) 기간의 회차 시작 시간을 순서대로 생성
+     * 기간 이전 회차는 계산으로 건너뛰고, 필요한 만큼만 생성
+     * @param seed 반복 기준 시작 시간
+     * @param from
+     * @param to
+     * @return
+     */
+    public Stream<LocalDateTime> occurrences(LocalDateTime seed, LocalDateTime from, LocalDateTime to) {
+        Iterator<LocalDateTime> iterator = weekly
+                ? new WeeklyIterator(normalize(seed), normalize(from), normalize(to))
+                : new DailyIterator(normalize(seed), normalize(from), normalize(to));
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        );
+    }
+
+    private abstract class OccurrenceIterator implements Iterator<LocalDateTime> {
+        protected final LocalDateTime seed;
+        protected final LocalDateTime from;
+        protected final LocalDateTime to;
+        /**
+         * 지금까지 지난 회차 수 (COUNT 확인용)
+         */
+        protected long emitted;
+        private LocalDateTime next;
+        private boolean finished;
+
+        OccurrenceIterator(LocalDateTime seed, LocalDateTime from, LocalDateTime to) {
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * 다음 후보 회차, 더 이상 없으면 null
+         */
+        protected abstract LocalDateTime nextCandidate();
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !finished) {
+                LocalDateTime candidate = nextCandidate();
+
+                if (candidate == null || !candidate.isBefore(to) || (until != null && candidate.isAfter(until))
+                        || (count != -1 && emitted >= count)) {
+                    finished = true;
+                    break;
+                }
+                if (candidate.isBefore(seed)) {
+                    continue;
+                }
+
+                emitted++;
+                if (!candidate.isBefore(from)) {
+                    next = candidate;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime result = next;
+            next = null;
+            return normalize(result);
+        }
+    }
+
+    /**
+     * 시작 시간이 속한 주부터 interval 주 간격으로, 각 주의 BYDAY 요일을 회차로 생성
+     */
+    private final class WeeklyIterator extends OccurrenceIterator {
+        private final int[] dayOffsets;
+        private final LocalDate firstWeekStart;
+        private long week;
+        private int dayIndex;
+
+        WeeklyIterator(LocalDateTime seed, LocalDateTime from, LocalDateTime to) {
+            super(seed, from, to);
+            this.dayOffsets = weekDayOffsets(seed.getDayOfWeek());
+            this.firstWeekStart = seed.toLocalDate().with(TemporalAdjusters.previousOrSame(weekStart));
+
+            // 조회 시작 이전 주는 건너뛰고 그 사이 회차 수만 계산
+            long weeksToFrom = ChronoUnit.DAYS.between(firstWeekStart, from.toLocalDate()) / 7;
+            this.week = Math.max(0, weeksToFrom / interval);
+            if (week > 0) {
+                this.emitted = countFirstWeek() + (week - 1) * dayOffsets.length;
+            }
+        }
+
+        @Override
+        protected LocalDateTime nextCandidate() {
+            if (dayIndex == dayOffsets.length) {
+                dayIndex = 0;
+                week++;
+            }
+            LocalDate date = firstWeekStart.plusDays(week * interval * 7 + dayOffsets[dayIndex++]);
+            return date.atTime(seed.toLocalTime());
+        }
+
+        private long countFirstWeek() {
+            LocalDate seedDate = seed.toLocalDate();
+            return Arrays.stream(dayOffsets)
+                    .filter(offset -> !firstWeekStart.plusDays(offset).isBefore(seedDate))
+                    .count();
+        }
+    }
+
+    /**
+     * 시작 시간부터 interval 일 간격으로, BYDAY 가 있으면 해당 요일만 회차로 생성
+     */
+    private final class DailyIterator extends OccurrenceIterator {
+        private long step;
+
+        DailyIterator(LocalDateTime seed, LocalDateTime from, LocalDateTime to) {
+            super(seed, from, to);
+
+            // 조회 시작 이전 회차는 건너뛰고 그 사이 회차 수만 계산
+            long daysToFrom = ChronoUnit.DAYS.between(seed.toLocalDate(), from.toLocalDate());
+            this.step = Math.max(0, daysToFrom / interval);
+            this.emitted = countMatchingSteps(step);
+        }
+
+        @Override
+        protected LocalDateTime nextCandidate() {
+            while (true) {
+                LocalDateTime candidate = seed.plusDays(step * interval);
+                step++;
+
+                if (!candidate.isBefore(to) || matches(candidate.getDayOfWeek())) {
+                    return candidate;
+                }
+            }
+        }
+
+        /**
+         * [0, steps) 회차 중 BYDAY 에 해당하는 수, 요일은 7 회차마다 반복
+         */
+        private long countMatchingSteps(long steps) {
+            if (byDay == null) {
+                return steps;
+            }
+            long perCycle = countMatching(7);
+            return (steps / 7) * perCycle + countMatching((int) (steps % 7));
+        }
+
+        private long countMatching(int steps) {
+            long matched = 0;
+            for (int i = 0; i < steps; i++) {
+                if (matches(seed.getDayOfWeek().plus((long) i * interval))) {
+                    matched++;
+                }
+            }
+            return matched;
+        }
+    }
+
+    private boolean matches(DayOfWeek dayOfWeek) {
+        if (byDay == null) {
+            return true;
+        }
+        for (DayOfWeek day : byDay) {
+            if (day == dayOfWeek) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int[] weekDayOffsets(DayOfWeek seedDay) {
+        DayOfWeek[] days = (byDay == null) ? new DayOfWeek[]{seedDay} : byDay;
+        return Arrays.stream(days)
+                .mapToInt(day -> Math.floorMod(day.getValue() - weekStart.getValue(), 7))
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * 일광 절약 시간 전환으로 존재하지 않는 시각은 ZonedDateTime 과 같은 방식으로 보정
+     */
+    private LocalDateTime normalize(LocalDateTime occurrence) {
+        if (zone.getRules().isFixedOffset()) {
+            return occurrence;
+        }
+        return occurrence.atZone(zone).toLocalDateTime();
+    }
+
+    private static DayOfWeek[] parseDays(String value) {
+        DayOfWeek[] days = Arrays.stream(value.split(","))
+                .map(SimpleRecurrence::parseDay)
+                .toArray(DayOfWeek[]::new);
+        if (days.length == 0) {
+            throw new IllegalArgumentException("BYDAY 가 비어 있습니다.");
+        }
+        return days;
+    }
+
+    private static DayOfWeek parseDay(String value) {
+        return switch (value) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            // +1MO 처럼 순번이 붙은 요일은 ical4j 로 계산
+            default -> throw new IllegalArgumentException("지원하지 않는 요일입니다: " + value);
+        };
+    }
+
+    /**
+     * 날짜만 있는 UNTIL 은 ical4j 로 계산
+     */
+    private static LocalDateTime parseUntil(String value, ZoneId zone) {
+        if (value.length() == 16 && value.endsWith("Z")) {
+            return LocalDateTime.parse(value.substring(0, 15), UNTIL_FORMAT)
+                    .atOffset(ZoneOffset.UTC)
+                    .atZoneSameInstant(zone)
+                    .toLocalDateTime();
+        }
+        if (value.length() == 15) {
+            return LocalDateTime.parse(value, UNTIL_FORMAT);
+        }
+        throw new IllegalArgumentException("지원하지 않는 UNTIL 형식입니다: " + value);
+    }
+}
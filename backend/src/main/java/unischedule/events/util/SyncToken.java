@@ -0,0 +1,35 @@
+package unischedule.events.util;
+
+import unischedule.exception.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 일정 동기화 토큰
+ * 클라이언트에는 의미 없는 문자열로 보이도록 인코딩, 내용은 다음 동기화의 조회 시작 시각
+ * @param since
+ */
+public record SyncToken(LocalDateTime since) {
+    private static final String PREFIX = "v1:";
+
+    public String encode() {
+        String raw = PREFIX + since;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new InvalidInputException("유효하지 않은 동기화 토큰입니다.");
+            }
+            return new SyncToken(LocalDateTime.parse(raw.substring(PREFIX.length())));
+        }
+        catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidInputException("유효하지 않은 동기화 토큰입니다.");
+        }
+    }
+}
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import unischedule.calendar.entity.Calendar;
+import unischedule.calendar.service.CalendarIdResolver;
 import unischedule.calendar.service.internal.CalendarRawService;
 import unischedule.events.dto.EventCreateDto;
 import unischedule.events.service.common.EventCommandService;
@@ -22,15 +23,11 @@ import unischedule.google.domain.GoogleAuthToken;
 import unischedule.google.repository.GoogleAuthTokenRepository;
 import unischedule.member.domain.Member;
 import unischedule.member.service.internal.MemberRawService;
-import unischedule.team.domain.Team;
-import unischedule.team.domain.TeamMember;
-import unischedule.team.service.internal.TeamMemberRawService;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -40,7 +37,7 @@ public class GoogleCalendarService {
     private final EventCommandService eventCommandService;
     private final CalendarRawService calendarRawService;
     private final GoogleAuthTokenRepository tokenRepository;
-    private final TeamMemberRawService teamMemberRawService;
+    private final CalendarIdResolver calendarIdResolver;
     private final EventQueryService eventQueryService;
 
     private static final String APPLICATION_NAME = "Unischedule";
@@ -102,7 +99,7 @@ public class GoogleCalendarService {
     private void mapAndSaveEvents(List<com.google.api.services.calendar.model.Event> googleEvents, Member member) {
         Calendar personalCalendar = calendarRawService.getMyPersonalCalendar(member);
 
-        List<Long> allCalendarIds = getMemberCalendarIds(member);
+        List<Long> allCalendarIds = calendarIdResolver.getMemberCalendarIds(member);
 
         for (com.google.api.services.calendar.model.Event googleEvent : googleEvents) {
             if ("cancelled".equals(googleEvent.getStatus())) {
@@ -165,24 +162,4 @@ public class GoogleCalendarService {
                 .toLocalDateTime();
     }
 
-    private List<Long> getMemberCalendarIds(Member member) {
-        List<Team> teamList = teamMemberRawService.findByMember(member)
-                .stream()
-                .map(TeamMember::getTeam)
-                .toList();
-
-        List<Long> calendarIds = new ArrayList<>();
-
-        // 개인 캘린더
-        calendarIds.add(calendarRawService.getMyPersonalCalendar(member).getCalendarId());
-
-        // 팀 캘린더
-        List<Long> teamCalendarIds = teamList.stream()
-                .map(calendarRawService::getTeamCalendar)
-                .map(Calendar::getCalendarId)
-                .toList();
-
-        calendarIds.addAll(teamCalendarIds);
-        return calendarIds;
-    }
 }
@@ -17,7 +17,15 @@ import java.time.LocalDate;
 public class Lecture extends BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "lecture_id_generator")
+    @TableGenerator(
+            name = "lecture_id_generator",
+            table = "id_generators",
+            pkColumnName = "gen_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "lectures",
+            allocationSize = 50
+    )
     private Long lectureId;
     
     @Column(nullable = false)
@@ -2,7 +2,9 @@ package unischedule.lecture.repository;
 
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import unischedule.events.domain.Event;
 import unischedule.lecture.domain.Lecture;
@@ -24,5 +26,9 @@ public interface LectureRepository extends JpaRepository<Lecture, Long> {
     List<Lecture> findByEventCalendarOwnerMemberIdAndEndDateGreaterThanEqual(Long memberId, LocalDate today);
 
     Optional<Lecture> findByEvent(Event event);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Lecture l WHERE l.event.eventId IN :eventIds")
+    int deleteAllByEventIds(@Param("eventIds") List<Long> eventIds);
 }
 
@@ -6,10 +6,8 @@ import org.springframework.transaction.annotation.Transactional;
 import unischedule.calendar.entity.Calendar;
 import unischedule.calendar.service.internal.CalendarRawService;
 import unischedule.events.domain.Event;
-import unischedule.events.domain.RecurrenceRule;
+import unischedule.events.dto.RecurringEventCreateRequestDto;
 import unischedule.events.service.common.EventCommandService;
-import unischedule.events.service.internal.EventRawService;
-import unischedule.events.service.internal.RecurrenceRuleRawService;
 import unischedule.lecture.domain.Lecture;
 import unischedule.lecture.dto.LectureCreateResponseDto;
 import unischedule.lecture.dto.LectureResponseDto;
@@ -26,6 +24,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,8 +36,6 @@ public class LectureService {
     private final LectureRawService lectureRawService;
     private final MemberRawService memberRawService;
     private final CalendarRawService calendarRawService;
-    private final EventRawService eventRawService;
-    private final RecurrenceRuleRawService recurrenceRuleRawService;
     private final EventCommandService eventCommandService;
     
     public List<LectureResponseDto> getMyLectures(String email) {
@@ -48,70 +45,76 @@ public class LectureService {
                 .toList();
     }
     
+    /**
+     * 시간표 등록, 기존 강의 일정은 일괄 삭제하고 새 강의 일정과 강의를 묶어서 저장
+     * @param email
+     * @param requestDto
+     * @return
+     */
     @Transactional
     public LecturesCreateResponseDto saveLectures(String email, LecturesCreateRequestDto requestDto) {
         Member member = memberRawService.findMemberByEmail(email);
         
         List<Lecture> activeLectures = lectureRawService.findActiveLecturesByMemberId(member.getMemberId());
-        activeLectures.forEach(lecture -> {
-            lectureRawService.deleteLecture(lecture);
-            eventCommandService.deleteRecurringEvent(lecture.getEvent());
-        });
+        eventCommandService.deleteRecurringEvents(activeLectures.stream().map(Lecture::getEvent).toList());
         
         Calendar calendar = calendarRawService.getMyPersonalCalendar(member);
         
-        List<LectureCreateResponseDto> responses = requestDto.timetable().subjects().stream()
-                .map(subject -> createLecture(calendar, subject, requestDto.startDate(), requestDto.endDate()))
+        List<TimetableDetailDto.Subject> subjects = requestDto.timetable().subjects();
+        List<RecurringEventCreateRequestDto> eventCreateDtos = subjects.stream()
+                .map(subject -> toEventCreateDto(subject, requestDto.startDate(), requestDto.endDate()))
                 .toList();
+        List<Event> savedEvents = eventCommandService.createRecurringEvents(calendar, eventCreateDtos);
+        
+        List<Lecture> lectures = new ArrayList<>(subjects.size());
+        for (int i = 0; i < subjects.size(); i++) {
+            TimetableDetailDto.Subject subject = subjects.get(i);
+            Lecture lecture = Lecture.builder()
+                    .name(subject.name())
+                    .professor(subject.professor())
+                    .credit(subject.credit())
+                    .startDate(requestDto.startDate())
+                    .endDate(requestDto.endDate())
+                    .build();
+            lecture.connectEvent(savedEvents.get(i));
+            lectures.add(lecture);
+        }
+        List<Lecture> savedLectures = lectureRawService.saveAllLectures(lectures);
+        
+        List<LectureCreateResponseDto> responses = new ArrayList<>(subjects.size());
+        for (int i = 0; i < subjects.size(); i++) {
+            TimetableDetailDto.Subject subject = subjects.get(i);
+            responses.add(new LectureCreateResponseDto(
+                    savedLectures.get(i).getLectureId(),
+                    savedEvents.get(i).getEventId(),
+                    subject.name(),
+                    subject.professor(),
+                    subject.credit(),
+                    subject.times()
+            ));
+        }
         
         return new LecturesCreateResponseDto(responses);
     }
     
-    private LectureCreateResponseDto createLecture(
-            Calendar calendar, 
+    private RecurringEventCreateRequestDto toEventCreateDto(
             TimetableDetailDto.Subject subject,
             LocalDate startDate,
             LocalDate endDate
     ) {
         TimetableDetailDto.Subject.Time firstTime = subject.times().getFirst();
         
-        RecurrenceRule recurrenceRule = recurrenceRuleRawService.saveRecurrenceRule(
-                new RecurrenceRule(createRruleString(subject.times(), endDate))
-        );
-        
         String content = firstTime.place() != null 
                 ? String.format("%s | %s", subject.professor(), firstTime.place())
                 : subject.professor();
         
-        Event event = Event.builder()
-                .title(subject.name())
-                .content(content)
-                .startAt(calculateEventDateTime(startDate, firstTime.dayOfWeek(), firstTime.startTime()))
-                .endAt(calculateEventDateTime(startDate, firstTime.dayOfWeek(), firstTime.endTime()))
-                .build();
-        
-        event.connectCalendar(calendar);
-        event.connectRecurrenceRule(recurrenceRule);
-        Event savedEvent = eventRawService.saveEvent(event);
-        
-        Lecture lecture = Lecture.builder()
-                .name(subject.name())
-                .professor(subject.professor())
-                .credit(subject.credit())
-                .startDate(startDate)
-                .endDate(endDate)
-                .build();
-        
-        lecture.connectEvent(savedEvent);
-        Lecture savedLecture = lectureRawService.saveLecture(lecture);
-        
-        return new LectureCreateResponseDto(
-                savedLecture.getLectureId(),
-                savedEvent.getEventId(),
+        return new RecurringEventCreateRequestDto(
                 subject.name(),
-                subject.professor(),
-                subject.credit(),
-                subject.times()
+                content,
+                calculateEventDateTime(startDate, firstTime.dayOfWeek(), firstTime.startTime()),
+                calculateEventDateTime(startDate, firstTime.dayOfWeek(), firstTime.endTime()),
+                createRruleString(subject.times(), endDate),
+                null
         );
     }
     
@@ -21,6 +21,11 @@ public class LectureRawService {
         return lectureRepository.save(lecture);
     }
     
+    @Transactional
+    public List<Lecture> saveAllLectures(List<Lecture> lectures) {
+        return lectureRepository.saveAll(lectures);
+    }
+
     @Transactional(readOnly = true)
     public Lecture findLectureById(Long lectureId) {
         return lectureRepository.findById(lectureId)
@@ -41,5 +46,10 @@ public class LectureRawService {
     public Set<Long> getAllLectureEventIds(String email) {
         return lectureRepository.findAllEventIds(email);
     }
+
+    @Transactional
+    public int deleteAllByEventIds(List<Long> eventIds) {
+        return lectureRepository.deleteAllByEventIds(eventIds);
+    }
 }
 
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import unischedule.auth.jwt.JwtTokenProvider;
 import unischedule.auth.service.RefreshTokenService;
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
 import unischedule.member.dto.AccessTokenRefreshRequestDto;
 import unischedule.member.dto.CurrentMemberInfoResponseDto;
 import unischedule.member.dto.LoginRequestDto;
@@ -69,11 +70,13 @@ public class MemberApiController {
     }
 
     @DeleteMapping("/me")
-    public ResponseEntity<Void> withdrawMember(
+    public ResponseEntity<CalendarCleanupJobResponseDto> withdrawMember(
             @AuthenticationPrincipal
             UserDetails userDetails
     ) {
-        memberService.withdrawMember(userDetails.getUsername());
-        return ResponseEntity.noContent().build();
+        // 개인 캘린더 일정은 백그라운드에서 삭제되므로 작업 정보와 함께 202 응답
+        return memberService.withdrawMember(userDetails.getUsername())
+                .map(cleanupJob -> ResponseEntity.accepted().body(cleanupJob))
+                .orElseGet(() -> ResponseEntity.noContent().build());
     }
 }
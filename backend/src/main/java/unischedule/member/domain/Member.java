@@ -10,12 +10,17 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
 
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Objects;
 
 @Entity
 @Getter
 @Table(name = "members")
 public class Member {
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int FEED_SECRET_BYTES = 32;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long memberId;
@@ -31,6 +36,12 @@ public class Member {
     @Column(nullable = false, columnDefinition = "VARCHAR(50) DEFAULT 'ACTIVE'")
     private MemberStatus status;
 
+    /**
+     * ICS 구독 주소 서명 키, 구독 주소를 발급하기 전에는 null
+     */
+    @Column(length = 64)
+    private String feedSecret;
+
     protected Member() {
 
     }
@@ -46,6 +57,26 @@ public class Member {
         return Objects.equals(this.memberId, other.memberId);
     }
 
+    /**
+     * 구독 주소 서명 키 반환, 없으면 새로 생성
+     * @return
+     */
+    public String issueFeedSecret() {
+        if (this.feedSecret == null) {
+            rotateFeedSecret();
+        }
+        return this.feedSecret;
+    }
+
+    /**
+     * 구독 주소 서명 키를 새로 생성, 이전 키로 서명한 구독 주소는 모두 사용할 수 없게 됨
+     */
+    public void rotateFeedSecret() {
+        byte[] bytes = new byte[FEED_SECRET_BYTES];
+        RANDOM.nextBytes(bytes);
+        this.feedSecret = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
     /**
      * 회원 탈퇴
      */
@@ -54,5 +85,6 @@ public class Member {
         this.nickname = "탈퇴한 사용자";
         this.password = "DELETED_USER_INVALID_PASSWORD_HASH";
         this.status = MemberStatus.DELETED;
+        this.feedSecret = null;
     }
 }
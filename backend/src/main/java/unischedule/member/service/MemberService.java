@@ -5,12 +5,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import unischedule.auth.repository.RefreshTokenRepository;
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
 import unischedule.calendar.entity.Calendar;
 import unischedule.calendar.repository.CalendarRepository;
-import unischedule.events.domain.Event;
-import unischedule.events.service.common.EventCommandService;
+import unischedule.calendar.service.CalendarCleanupService;
+import unischedule.calendar.service.CalendarIdResolver;
+import unischedule.events.cache.CalendarVersionService;
 import unischedule.events.service.internal.EventParticipantRawService;
-import unischedule.events.service.internal.EventRawService;
 import unischedule.exception.InvalidInputException;
 import unischedule.exception.dto.EntityAlreadyExistsException;
 import unischedule.member.domain.Member;
@@ -24,6 +25,7 @@ import unischedule.team.domain.TeamRole;
 import unischedule.team.service.internal.TeamMemberRawService;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -36,9 +38,10 @@ public class MemberService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final TeamMemberRawService teamMemberRawService;
-    private final EventRawService eventRawService;
     private final EventParticipantRawService eventParticipantRawService;
-    private final EventCommandService eventCommandService;
+    private final CalendarCleanupService calendarCleanupService;
+    private final CalendarIdResolver calendarIdResolver;
+    private final CalendarVersionService calendarVersionService;
 
     /**
      * 회원가입 시 기본 개인 캘린더 생성
@@ -78,16 +81,28 @@ public class MemberService {
         return CurrentMemberInfoResponseDto.from(member);
     }
 
+    /**
+     * 회원 탈퇴
+     * 개인 캘린더 일정은 백그라운드 작업으로 삭제하고, 등록한 작업을 반환
+     * 탈퇴 후에는 로그인할 수 없으므로 진행 상황은 작업의 poll_token 으로 조회
+     * @param email
+     * @return 개인 캘린더 삭제 작업, 개인 캘린더가 없으면 empty
+     */
     @Transactional
-    public void withdrawMember(String email) {
+    public Optional<CalendarCleanupJobResponseDto> withdrawMember(String email) {
         Member member = memberRawService.findMemberByEmail(email);
 
-        checkTeamWithdraw(member);
+        List<TeamMember> memberships = teamMemberRawService.findByMember(member);
+        checkTeamWithdraw(memberships);
 
-        deletePersonalCalendarData(member);
+        Optional<CalendarCleanupJobResponseDto> cleanupJob = calendarRepository.findByOwnerAndTeamIsNull(member)
+                .map(personalCalendar -> calendarCleanupService.requestCleanup(personalCalendar.getCalendarId(), member.getMemberId()));
 
         teamMemberRawService.deleteAllByMember(member);
         eventParticipantRawService.deleteAllByMember(member);
+        calendarIdResolver.evict(member.getMemberId());
+        memberships.forEach(tm -> calendarRepository.findByTeam(tm.getTeam())
+                .ifPresent(teamCalendar -> calendarVersionService.bump(teamCalendar.getCalendarId())));
 
         refreshTokenRepository.findByMember(member)
                 .ifPresent(refreshTokenRepository::delete);
@@ -97,11 +112,10 @@ public class MemberService {
         member.withdraw();
         memberRepository.save(member);
 
+        return cleanupJob;
     }
 
-    private void checkTeamWithdraw(Member member) {
-        List<TeamMember> memberships = teamMemberRawService.findByMember(member);
-
+    private void checkTeamWithdraw(List<TeamMember> memberships) {
         for (TeamMember tm : memberships) {
             checkTeamLeadership(tm);
         }
@@ -117,26 +131,4 @@ public class MemberService {
             throw new InvalidInputException("팀[" + teamMember.getTeam().getName() + "] 탈퇴 전 팀장을 위임하거나 팀을 삭제해야 합니다.");
         }
     }
-
-    /**
-     * 개인 캘린더 데이터 삭제
-     * @param member
-     */
-    private void deletePersonalCalendarData(Member member) {
-        calendarRepository.findByOwnerAndTeamIsNull(member)
-                .ifPresent(personalCalendar -> {
-                    List<Event> events = eventRawService.findByCalendar(personalCalendar);
-
-                    for (Event event : events) {
-                        if (event.getRecurrenceRule() == null) {
-                            eventCommandService.deleteSingleEvent(event);
-                        }
-                        else {
-                            eventCommandService.deleteRecurringEvent(event);
-                        }
-                    }
-
-                    calendarRepository.delete(personalCalendar);
-                });
-    }
 }
@@ -7,6 +7,8 @@ import unischedule.exception.EntityNotFoundException;
 import unischedule.member.domain.Member;
 import unischedule.member.repository.MemberRepository;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class MemberRawService {
@@ -24,6 +26,11 @@ public class MemberRawService {
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
     }
 
+    @Transactional(readOnly = true)
+    public Optional<Member> findOptionalMemberById(Long id) {
+        return memberRepository.findById(id);
+    }
+
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
         return memberRepository.existsByEmail(email);
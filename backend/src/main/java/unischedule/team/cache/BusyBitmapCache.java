@@ -0,0 +1,186 @@
+package unischedule.team.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.events.dto.EventGetResponseDto;
+import unischedule.team.domain.collection.BusyBitmap;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (멤버, 날짜) 단위의 바쁜 시간 비트맵 캐시
+ * 키에 멤버 캘린더 버전이 포함되어 있어, 일정이 바뀐 멤버의 비트맵만 다시 계산되고 나머지 멤버는 그대로 사용
+ */
+@Slf4j
+@Component
+public class BusyBitmapCache {
+    private final CalendarVersionService calendarVersionService;
+    private final boolean enabled;
+    private final Cache<BusyBitmapKey, BusyBitmap> cache;
+
+    public BusyBitmapCache(
+            CalendarVersionService calendarVersionService,
+            @Value("${team.busy-bitmap.cache.enabled:true}") boolean enabled,
+            @Value("${team.busy-bitmap.cache.max-size:50000}") long maxSize,
+            @Value("${team.busy-bitmap.cache.ttl:PT30M}") Duration ttl
+    ) {
+        this.calendarVersionService = calendarVersionService;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 일정 조회 기간의 여러 멤버 일정 조회
+     */
+    @FunctionalInterface
+    public interface MemberEventLoader {
+        /**
+         * @param calendarIdsByMember 조회할 멤버 id 별 캘린더 id
+         * @param startAt
+         * @param endAt
+         * @return 멤버 id 별 일정
+         */
+        Map<Long, List<EventGetResponseDto>> load(
+                Map<Long, List<Long>> calendarIdsByMember,
+                LocalDateTime startAt,
+                LocalDateTime endAt
+        );
+    }
+
+    /**
+     * 여러 멤버의 firstDay 부터 lastDay 까지 하루 단위 비트맵 반환
+     * 캐시에 없는 날이 있는 멤버들만 모아, 빠진 날들의 기간 일정을 한 번에 조회해 계산 후 저장
+     * @param calendarIdsByMember 멤버 id 별 캘린더 id
+     * @param firstDay
+     * @param lastDay
+     * @param loader
+     * @return 멤버 id 별 날짜 순 비트맵
+     */
+    public Map<Long, List<BusyBitmap>> getAll(
+            Map<Long, List<Long>> calendarIdsByMember,
+            LocalDate firstDay,
+            LocalDate lastDay,
+            MemberEventLoader loader
+    ) {
+        List<LocalDate> days = firstDay.datesUntil(lastDay.plusDays(1)).toList();
+        Map<Long, Long> versionByCalendar = getVersions(calendarIdsByMember);
+
+        Map<Long, List<BusyBitmap>> result = new HashMap<>();
+        Map<Long, List<BusyBitmapKey>> keysByMember = new HashMap<>();
+        Map<Long, List<Long>> missingMembers = new HashMap<>();
+        int firstMissing = days.size();
+        int lastMissing = -1;
+
+        for (Map.Entry<Long, List<Long>> entry : calendarIdsByMember.entrySet()) {
+            List<BusyBitmapKey> keys = (versionByCalendar == null) ? null : keysOf(entry.getKey(), entry.getValue(), versionByCalendar, days);
+            List<BusyBitmap> bitmaps = new ArrayList<>(days.size());
+
+            for (int i = 0; i < days.size(); i++) {
+                BusyBitmap bitmap = (keys == null) ? null : cache.getIfPresent(keys.get(i));
+                bitmaps.add(bitmap);
+                if (bitmap == null) {
+                    firstMissing = Math.min(firstMissing, i);
+                    lastMissing = Math.max(lastMissing, i);
+                    missingMembers.put(entry.getKey(), entry.getValue());
+                }
+            }
+            result.put(entry.getKey(), bitmaps);
+            if (keys != null) {
+                keysByMember.put(entry.getKey(), keys);
+            }
+        }
+        if (missingMembers.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, List<EventGetResponseDto>> eventsByMember = loader.load(
+                missingMembers,
+                days.get(firstMissing).atStartOfDay(),
+                days.get(lastMissing).plusDays(1).atStartOfDay()
+        );
+
+        // 버전보다 먼저 잡힌 스냅샷으로 계산했을 수 있으면 새 버전으로 저장하지 않음
+        boolean cacheable = CalendarVersionService.isCacheableRead();
+
+        for (Long memberId : missingMembers.keySet()) {
+            List<BusyBitmap> bitmaps = result.get(memberId);
+            List<BusyBitmapKey> keys = keysByMember.get(memberId);
+            List<EventGetResponseDto> events = eventsByMember.getOrDefault(memberId, List.of());
+
+            for (int i = 0; i < days.size(); i++) {
+                if (bitmaps.get(i) == null) {
+                    BusyBitmap bitmap = BusyBitmap.of(days.get(i), events);
+                    bitmaps.set(i, bitmap);
+                    if (keys != null && cacheable) {
+                        cache.put(keys.get(i), bitmap);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 멤버 캘린더 합집합의 버전을 한 번에 조회, 캐시를 쓰지 않으면 null
+     */
+    private Map<Long, Long> getVersions(Map<Long, List<Long>> calendarIdsByMember) {
+        // 쓰기 트랜잭션 안의 조회는 커밋되지 않은 변경을 포함할 수 있으므로 캐시하지 않음
+        if (!enabled || isInWriteTransaction()) {
+            return null;
+        }
+
+        List<Long> calendarIds = calendarIdsByMember.values().stream()
+                .flatMap(List::stream)
+                .distinct()
+                .sorted()
+                .toList();
+
+        List<Long> versions;
+        try {
+            versions = calendarVersionService.getVersions(calendarIds);
+        }
+        catch (RuntimeException e) {
+            log.warn("캘린더 버전 조회 실패, 캐시 없이 계산: calendarIds={}", calendarIds, e);
+            return null;
+        }
+
+        Map<Long, Long> versionByCalendar = new HashMap<>();
+        for (int i = 0; i < calendarIds.size(); i++) {
+            versionByCalendar.put(calendarIds.get(i), versions.get(i));
+        }
+        return versionByCalendar;
+    }
+
+    private List<BusyBitmapKey> keysOf(Long memberId, List<Long> calendarIds, Map<Long, Long> versionByCalendar, List<LocalDate> days) {
+        List<Long> sortedCalendarIds = calendarIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+        List<Long> versions = sortedCalendarIds.stream()
+                .map(versionByCalendar::get)
+                .toList();
+
+        return days.stream()
+                .map(day -> new BusyBitmapKey(memberId, sortedCalendarIds, versions, day))
+                .toList();
+    }
+
+    private boolean isInWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,19 @@
+package unischedule.team.cache;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 멤버 하루치 바쁜 시간 비트맵 캐시 키
+ * @param memberId
+ * @param calendarIds 정렬된 멤버 캘린더 id
+ * @param versions calendarIds 와 같은 순서의 캘린더 버전
+ * @param day
+ */
+public record BusyBitmapKey(
+        Long memberId,
+        List<Long> calendarIds,
+        List<Long> versions,
+        LocalDate day
+) {
+}
@@ -12,6 +12,8 @@ import unischedule.member.domain.Member;
 import unischedule.team.chat.entity.ChatMessage;
 import unischedule.team.domain.Team;
 
+import java.util.List;
+
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
@@ -30,4 +32,25 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
             @Param("sender") Member sender,
             @Param("newName") String newName
     );
+
+    /**
+     * 팀의 채팅 메시지 id 를 순서대로 페이지 단위 조회 (일괄 삭제용)
+     * @param teamId
+     * @param pageable
+     * @return
+     */
+    @Query("""
+            SELECT cm.id
+            FROM ChatMessage cm
+            WHERE cm.team.teamId = :teamId
+            ORDER BY cm.id
+    """)
+    List<Long> findIdsByTeamId(
+            @Param("teamId") Long teamId,
+            Pageable pageable
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ChatMessage cm WHERE cm.id IN :messageIds")
+    int deleteAllByIds(@Param("messageIds") List<Long> messageIds);
 }
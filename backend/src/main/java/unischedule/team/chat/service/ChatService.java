@@ -59,6 +59,7 @@ public class ChatService {
     @Transactional
     public ChatMessageDto sendMessage(Long teamId, String senderEmail, ChatMessageRequestDto requestDto) {
         Team team = teamRawService.findTeamById(teamId);
+        team.validateActive();
         Member sender = memberRawService.findMemberByEmail(senderEmail);
         teamMemberRawService.validateMembership(team, sender);
 
@@ -19,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
 import unischedule.common.dto.PageResponseDto;
 import unischedule.common.dto.PaginationRequestDto;
 import unischedule.team.dto.RemoveMemberCommandDto;
@@ -70,12 +71,13 @@ public class TeamController {
 
     @DeleteMapping("/{teamId}/team")
         //임시 주소 매핑
-    ResponseEntity<Void> closeTeam(
+    ResponseEntity<CalendarCleanupJobResponseDto> closeTeam(
             @AuthenticationPrincipal UserDetails userDetails,
             @PathVariable Long teamId
     ) {
-        teamService.closeTeam(userDetails.getUsername(), teamId);
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        // 팀 데이터는 백그라운드에서 삭제되므로 작업 정보와 함께 202 응답
+        CalendarCleanupJobResponseDto cleanupJob = teamService.closeTeam(userDetails.getUsername(), teamId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(cleanupJob);
     }
 
     @GetMapping("/{teamId}/when-to-meet")
@@ -2,6 +2,8 @@ package unischedule.team.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -10,6 +12,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import unischedule.common.entity.BaseEntity;
+import unischedule.exception.ConflictException;
 
 @Entity
 @Getter
@@ -25,9 +28,28 @@ public class Team extends BaseEntity {
     private String description;
     private String inviteCode;
 
+    /**
+     * 폐쇄 요청 후 팀 데이터 삭제 작업이 끝날 때까지 CLOSING
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TeamStatus status;
+
     public Team(String name, String description, String inviteCode) {
         this.name = name;
         this.description = description;
         this.inviteCode = inviteCode;
+        this.status = TeamStatus.ACTIVE;
+    }
+
+    public void close() {
+        validateActive();
+        this.status = TeamStatus.CLOSING;
+    }
+
+    public void validateActive() {
+        if (this.status != TeamStatus.ACTIVE) {
+            throw new ConflictException("폐쇄 중인 팀입니다.");
+        }
     }
 }
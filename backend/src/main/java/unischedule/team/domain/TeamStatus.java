@@ -0,0 +1,5 @@
+package unischedule.team.domain;
+
+public enum TeamStatus {
+    ACTIVE, CLOSING
+}
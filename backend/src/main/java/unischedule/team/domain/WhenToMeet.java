@@ -14,4 +14,8 @@ public class WhenToMeet {
     public void discountAvailable() {
         this.availableMember--;
     }
+    
+    public void discountAvailable(long busyMembers) {
+        this.availableMember -= busyMembers;
+    }
 }
@@ -0,0 +1,149 @@
+package unischedule.team.domain.collection;
+
+import unischedule.events.dto.EventGetResponseDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 멤버 하루치 바쁜 시간 비트맵
+ * 하루를 5분 칸 288개로 나누어 일정과 겹치는 칸을 1로 표시
+ * 길이가 0인 일정은 그 시각을 안쪽에 포함하는 슬롯만 바쁘도록 표시 (일정으로 확인하는 방식과 같은 기준)
+ * - 칸 안쪽 시각이면 그 칸을 표시
+ * - 칸 경계 시각이면 경계를 따로 표시하고, 슬롯 양 끝이 아닌 안쪽 경계만 확인
+ */
+public final class BusyBitmap {
+    public static final int CELL_MINUTES = 5;
+    public static final int CELLS_PER_DAY = 24 * 60 / CELL_MINUTES;
+
+    private static final long CELL_SECONDS = CELL_MINUTES * 60L;
+    private static final long DAY_SECONDS = CELLS_PER_DAY * CELL_SECONDS;
+    private static final int WORDS_PER_DAY = (CELLS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private final LocalDate day;
+    private final long[] words;
+    /**
+     * 길이가 0인 일정이 놓인 칸 경계, 그런 일정이 없으면 null
+     */
+    private final long[] boundaries;
+
+    private BusyBitmap(LocalDate day, long[] words, long[] boundaries) {
+        this.day = day;
+        this.words = words;
+        this.boundaries = boundaries;
+    }
+
+    /**
+     * @param day
+     * @param events 하루와 겹치는 멤버 일정, 하루 밖 부분은 잘라서 표시
+     * @return
+     */
+    public static BusyBitmap of(LocalDate day, List<EventGetResponseDto> events) {
+        long[] words = new long[WORDS_PER_DAY];
+        long[] boundaries = null;
+        long dayStart = toSeconds(day.atStartOfDay());
+
+        for (EventGetResponseDto event : events) {
+            if (event.startTime().equals(event.endTime())) {
+                long instant = toSeconds(event.startTime()) - dayStart;
+                if (instant < 0 || instant >= DAY_SECONDS) {
+                    continue;
+                }
+                int cell = (int) (instant / CELL_SECONDS);
+                if (instant % CELL_SECONDS != 0) {
+                    setRange(words, cell, cell + 1);
+                }
+                else if (cell > 0) {
+                    if (boundaries == null) {
+                        boundaries = new long[WORDS_PER_DAY];
+                    }
+                    setRange(boundaries, cell, cell + 1);
+                }
+                continue;
+            }
+
+            long start = Math.max(toSeconds(event.startTime()), dayStart) - dayStart;
+            long end = Math.min(toSeconds(event.endTime()), dayStart + DAY_SECONDS) - dayStart;
+
+            if (start < end) {
+                setRange(words, (int) (start / CELL_SECONDS), (int) ((end + CELL_SECONDS - 1) / CELL_SECONDS));
+            }
+        }
+        return new BusyBitmap(day, words, boundaries);
+    }
+
+    /**
+     * [fromCell, toCell) 칸 중 하나라도 바쁘거나, 안쪽 경계에 길이가 0인 일정이 있는지 확인
+     * @param fromCell
+     * @param toCell
+     * @return
+     */
+    public boolean isBusy(int fromCell, int toCell) {
+        if (fromCell >= toCell) {
+            return false;
+        }
+        if (anySet(words, fromCell, toCell - 1)) {
+            return true;
+        }
+        return boundaries != null && fromCell + 1 < toCell && anySet(boundaries, fromCell + 1, toCell - 1);
+    }
+
+    /**
+     * 시간이 5분 칸 경계인지 확인
+     * @param time
+     * @return
+     */
+    public static boolean isCellBoundary(LocalDateTime time) {
+        return time.getMinute() % CELL_MINUTES == 0 && time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    /**
+     * day 의 자정부터 time 까지의 칸 수
+     * @param day
+     * @param time 5분 칸 경계
+     * @return
+     */
+    public static int cellIndex(LocalDate day, LocalDateTime time) {
+        return (int) ((toSeconds(time) - toSeconds(day.atStartOfDay())) / CELL_SECONDS);
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    private static boolean anySet(long[] bits, int fromCell, int lastCell) {
+        for (int word = fromCell / Long.SIZE; word <= lastCell / Long.SIZE; word++) {
+            if ((bits[word] & mask(word, fromCell, lastCell)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void setRange(long[] words, int fromCell, int toCell) {
+        int lastCell = toCell - 1;
+        for (int word = fromCell / Long.SIZE; word <= lastCell / Long.SIZE; word++) {
+            words[word] |= mask(word, fromCell, lastCell);
+        }
+    }
+
+    /**
+     * word 번째 long 에서 [fromCell, lastCell] 에 해당하는 비트
+     */
+    private static long mask(int word, int fromCell, int lastCell) {
+        long mask = -1L;
+        if (word == fromCell / Long.SIZE) {
+            mask &= -1L << (fromCell % Long.SIZE);
+        }
+        if (word == lastCell / Long.SIZE) {
+            mask &= -1L >>> (Long.SIZE - 1 - lastCell % Long.SIZE);
+        }
+        return mask;
+    }
+
+    private static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,176 @@
+package unischedule.team.domain.collection;
+
+import unischedule.events.dto.EventGetResponseDto;
+import unischedule.team.domain.WhenToMeet;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 시간 순으로 정렬된 슬롯 목록의 멤버별 바쁜 슬롯 수 집계
+ * 멤버 일정은 한 번 정렬, 병합 후 슬롯을 한 번만 훑어 바쁜 슬롯 구간을 차분 배열에 표시
+ * 슬롯이 모두 5분 칸 경계에 맞으면 일정 대신 멤버의 하루 단위 BusyBitmap 으로도 표시 가능
+ * 슬롯별 바쁜 멤버 수는 마지막에 누적합으로 계산
+ * 차분 배열은 원자적으로 갱신하므로 여러 스레드에서 멤버별로 동시에 표시 가능
+ */
+public class SlotAvailability {
+    private final long[] slotStarts;
+    private final long[] slotEnds;
+    private final AtomicIntegerArray busyDiff;
+
+    /**
+     * 슬롯별 첫 날로부터의 일 수, 시작 칸, 종료 칸 (5분 칸 경계에 맞지 않으면 null)
+     */
+    private final LocalDate firstDay;
+    private final int[] slotDays;
+    private final int[] fromCells;
+    private final int[] toCells;
+
+    private SlotAvailability(long[] slotStarts, long[] slotEnds, LocalDate firstDay, int[] slotDays, int[] fromCells, int[] toCells) {
+        this.slotStarts = slotStarts;
+        this.slotEnds = slotEnds;
+        this.busyDiff = new AtomicIntegerArray(slotStarts.length + 1);
+        this.firstDay = firstDay;
+        this.slotDays = slotDays;
+        this.fromCells = fromCells;
+        this.toCells = toCells;
+    }
+
+    /**
+     * @param slots 시작 시간 오름차순, 서로 겹치지 않는 슬롯 목록
+     * @return
+     */
+    public static SlotAvailability of(List<WhenToMeet> slots) {
+        long[] starts = new long[slots.size()];
+        long[] ends = new long[slots.size()];
+
+        for (int i = 0; i < slots.size(); i++) {
+            starts[i] = toSeconds(slots.get(i).getStartTime());
+            ends[i] = toSeconds(slots.get(i).getEndTime());
+        }
+
+        LocalDate firstDay = slots.isEmpty() ? null : slots.getFirst().getStartTime().toLocalDate();
+        int[] slotDays = new int[slots.size()];
+        int[] fromCells = new int[slots.size()];
+        int[] toCells = new int[slots.size()];
+
+        for (int i = 0; i < slots.size(); i++) {
+            WhenToMeet slot = slots.get(i);
+            LocalDate day = slot.getStartTime().toLocalDate();
+
+            if (!BusyBitmap.isCellBoundary(slot.getStartTime()) || !BusyBitmap.isCellBoundary(slot.getEndTime())) {
+                return new SlotAvailability(starts, ends, firstDay, null, null, null);
+            }
+            toCells[i] = BusyBitmap.cellIndex(day, slot.getEndTime());
+            // 다음 날 자정까지만 하루 비트맵 하나로 확인
+            if (toCells[i] > BusyBitmap.CELLS_PER_DAY) {
+                return new SlotAvailability(starts, ends, firstDay, null, null, null);
+            }
+            slotDays[i] = (int) ChronoUnit.DAYS.between(firstDay, day);
+            fromCells[i] = BusyBitmap.cellIndex(day, slot.getStartTime());
+        }
+        return new SlotAvailability(starts, ends, firstDay, slotDays, fromCells, toCells);
+    }
+
+    /**
+     * 슬롯이 모두 5분 칸 경계에 맞아 BusyBitmap 으로 표시할 수 있는지 확인
+     * @return
+     */
+    public boolean supportsBitmaps() {
+        return slotDays != null && slotStarts.length > 0;
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    public LocalDate getLastDay() {
+        return firstDay.plusDays(slotDays[slotDays.length - 1]);
+    }
+
+    /**
+     * 한 멤버의 하루 단위 비트맵으로 바쁜 슬롯 표시
+     * @param bitmaps getFirstDay() 부터 getLastDay() 까지 하루씩 순서대로
+     */
+    public void addMemberBitmaps(List<BusyBitmap> bitmaps) {
+        for (int i = 0; i < slotDays.length; i++) {
+            if (bitmaps.get(slotDays[i]).isBusy(fromCells[i], toCells[i])) {
+                busyDiff.incrementAndGet(i);
+                busyDiff.decrementAndGet(i + 1);
+            }
+        }
+    }
+
+    /**
+     * 한 멤버의 일정과 겹치는 슬롯을 바쁜 슬롯으로 표시
+     * 같은 슬롯에 일정이 여러 개 겹쳐도 멤버당 한 번만 표시
+     * @param events 한 멤버의 일정 목록
+     */
+    public void addMemberEvents(List<EventGetResponseDto> events) {
+        long[][] intervals = mergedIntervals(events);
+
+        // 커서는 되돌아가지 않으므로 앞 구간과 걸친 슬롯을 다시 표시하지 않음
+        int cursor = 0;
+        for (long[] interval : intervals) {
+            // 일정 시작 이후에 끝나는 첫 슬롯
+            while (cursor < slotEnds.length && slotEnds[cursor] <= interval[0]) {
+                cursor++;
+            }
+            int from = cursor;
+
+            // 일정 종료 이전에 시작하는 마지막 슬롯 다음
+            while (cursor < slotStarts.length && slotStarts[cursor] < interval[1]) {
+                cursor++;
+            }
+
+            if (from < cursor) {
+                busyDiff.incrementAndGet(from);
+                busyDiff.decrementAndGet(cursor);
+            }
+        }
+    }
+
+    /**
+     * 슬롯별 바쁜 멤버 수만큼 가능 인원을 차감
+     * @param slots of 에 전달한 슬롯 목록
+     */
+    public void applyTo(List<WhenToMeet> slots) {
+        int busy = 0;
+        for (int i = 0; i < slots.size(); i++) {
+            busy += busyDiff.get(i);
+            if (busy > 0) {
+                slots.get(i).discountAvailable(busy);
+            }
+        }
+    }
+
+    /**
+     * 시작 시간 순으로 정렬 후 겹치거나 맞닿지 않는 구간으로 병합
+     */
+    private static long[][] mergedIntervals(List<EventGetResponseDto> events) {
+        long[][] sorted = events.stream()
+                .map(event -> new long[]{toSeconds(event.startTime()), toSeconds(event.endTime())})
+                .sorted((a, b) -> Long.compare(a[0], b[0]))
+                .toArray(long[][]::new);
+
+        int merged = 0;
+        for (long[] interval : sorted) {
+            if (merged > 0 && interval[0] <= sorted[merged - 1][1]) {
+                sorted[merged - 1][1] = Math.max(sorted[merged - 1][1], interval[1]);
+            }
+            else {
+                sorted[merged++] = interval;
+            }
+        }
+        return Arrays.copyOf(sorted, merged);
+    }
+
+    private static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
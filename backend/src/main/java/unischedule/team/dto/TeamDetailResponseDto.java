@@ -1,13 +1,15 @@
 package unischedule.team.dto;
 
 import unischedule.team.domain.Team;
+import unischedule.team.domain.TeamStatus;
 
 public record TeamDetailResponseDto(
         Long id,
         String name,
         String description,
         int count,
-        String code
+        String code,
+        TeamStatus status
 ) {
     public static TeamDetailResponseDto of(Team team, int memberCount) {
         return new TeamDetailResponseDto(
@@ -15,7 +17,8 @@ public record TeamDetailResponseDto(
                 team.getName(),
                 team.getDescription(),
                 memberCount,
-                team.getInviteCode()
+                team.getInviteCode(),
+                team.getStatus()
         );
     }
 }
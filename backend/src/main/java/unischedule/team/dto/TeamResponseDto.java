@@ -1,6 +1,7 @@
 package unischedule.team.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import unischedule.team.domain.TeamStatus;
 
 import java.util.List;
 
@@ -12,6 +13,8 @@ public record TeamResponseDto(
         @JsonProperty("member_count")
         int memberCount,
         @JsonProperty("invite_code")
-        String inviteCode
+        String inviteCode,
+        // 폐쇄 요청 후 삭제가 끝날 때까지 CLOSING
+        TeamStatus status
 ) {
 }
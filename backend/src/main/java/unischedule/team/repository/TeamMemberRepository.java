@@ -4,7 +4,9 @@ package unischedule.team.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import unischedule.member.domain.Member;
 import unischedule.team.domain.Team;
 import unischedule.team.domain.TeamMember;
@@ -37,4 +39,8 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Long> {
 
     int countByTeamAndRole(Team team, TeamRole role);
     void deleteAllByMember(Member member);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TeamMember tm WHERE tm.team.teamId = :teamId")
+    int deleteAllByTeamId(@Param("teamId") Long teamId);
 }
@@ -3,7 +3,9 @@ package unischedule.team.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import unischedule.member.domain.Member;
 import unischedule.team.domain.Team;
@@ -34,4 +36,8 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
             AND (t.name LIKE %:keyword% OR t.description LIKE %:keyword%)
             """)
     Page<Team> findTeamsByMemberAndKeyword(Member member, Pageable pageable, String keyword);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM Team t WHERE t.teamId = :teamId")
+    int deleteByTeamId(@Param("teamId") Long teamId);
 }
@@ -12,10 +12,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
 import unischedule.calendar.entity.Calendar;
+import unischedule.calendar.service.CalendarCleanupService;
+import unischedule.calendar.service.CalendarIdResolver;
 import unischedule.calendar.service.internal.CalendarRawService;
 import unischedule.common.dto.PageResponseDto;
 import unischedule.common.dto.PaginationRequestDto;
+import unischedule.events.cache.CalendarVersionService;
 import unischedule.member.domain.Member;
 import unischedule.member.service.internal.MemberRawService;
 import unischedule.team.domain.Team;
@@ -52,6 +56,9 @@ public class TeamService {
     private final TeamMemberRawService teamMemberRawService;
     private final WhenToMeetRawService whenToMeetRawService;
     private final WhenToMeetLogicService whenToMeetLogicService;
+    private final CalendarIdResolver calendarIdResolver;
+    private final CalendarVersionService calendarVersionService;
+    private final CalendarCleanupService calendarCleanupService;
     private final TeamCodeGenerator teamCodeGenerator = new TeamCodeGenerator();
 
     /**
@@ -78,6 +85,7 @@ public class TeamService {
         Calendar teamCalendar = new Calendar(findMember, saved);
 
         calendarRawService.saveCalendar(teamCalendar);
+        calendarIdResolver.evict(findMember.getMemberId());
 
         return new TeamCreateResponseDto(
                 saved.getTeamId(),
@@ -104,6 +112,7 @@ public class TeamService {
     public TeamJoinResponseDto joinTeam(String email, TeamJoinRequestDto requestDto) {
 
         Team findTeam = teamRawService.findTeamByInviteCode(requestDto.inviteCode());
+        findTeam.validateActive();
 
         Member findMember = memberRawService.findMemberByEmail(email);
 
@@ -111,6 +120,8 @@ public class TeamService {
 
         TeamMember relation = new TeamMember(findTeam, findMember, TeamRole.MEMBER);
         teamMemberRawService.saveTeamMember(relation);
+        markTeamRosterChanged(findTeam);
+        calendarIdResolver.evict(findMember.getMemberId());
 
         return new TeamJoinResponseDto(
                 findTeam.getTeamId(),
@@ -136,16 +147,20 @@ public class TeamService {
         findRelation.validateRemovable();
         
         teamMemberRawService.deleteTeamMember(findRelation);
+        markTeamRosterChanged(findTeam);
+        calendarIdResolver.evict(findMember.getMemberId());
     }
 
     /**
      * 팀 삭제
+     * 팀은 폐쇄 중 상태로 바꾸고, 팀 일정과 채팅 등 팀 데이터는 백그라운드 작업으로 삭제
      *
      * @param email  이메일
      * @param teamId 팀 아이디
+     * @return 팀 삭제 작업
      */
     @Transactional
-    public void closeTeam(String email, Long teamId) {
+    public CalendarCleanupJobResponseDto closeTeam(String email, Long teamId) {
         Team findTeam = teamRawService.findTeamById(teamId);
 
         Member findMember = memberRawService.findMemberByEmail(email);
@@ -155,22 +170,25 @@ public class TeamService {
         TeamMember findRelation = teamMemberRawService.findByTeamAndMember(findTeam, findMember);
 
         findRelation.checkLeader();
+        findTeam.close();
 
+        // 폐쇄 중인 팀 캘린더는 멤버 일정 조회에서 바로 제외
         List<TeamMember> findTeamMember = teamMemberRawService.findByTeam(findTeam);
-        teamMemberRawService.deleteTeamMemberAll(findTeamMember);
+        calendarIdResolver.evictAll(findTeamMember.stream()
+                .map(teamMember -> teamMember.getMember().getMemberId())
+                .toList());
+        calendarVersionService.bump(findCalendar.getCalendarId());
 
-        calendarRawService.deleteCalendar(findCalendar);
-
-        teamRawService.deleteTeam(findTeam);
+        return calendarCleanupService.requestTeamCleanup(findCalendar.getCalendarId(), findTeam.getTeamId(), findMember.getMemberId());
     }
 
     /**
      * 일정 겹치는 것 체크
+     * 멤버별 조회를 나눠 실행하는 동안 커넥션을 잡고 있지 않도록 트랜잭션 없이 각 조회가 자신의 트랜잭션을 사용
      *
      * @param teamId
      * @return 겹치는 일정 리스트
      */
-    @Transactional(readOnly = true)
     public List<WhenToMeetResponseDto> getTeamMembersWhenToMeet(Long teamId) {
         List<Member> members = whenToMeetRawService.findTeamMembers(teamId);
         List<LocalDateTime> starts = whenToMeetLogicService.generateIntervalStarts();
@@ -182,7 +200,6 @@ public class TeamService {
         return whenToMeetLogicService.toResponse(slots);
     }
     
-    @Transactional(readOnly = true)
     public List<WhenToMeetResponseDto> getTeamMembersWhenToMeetV2(Long teamId, Long slotTime, LocalDate startTime, LocalDate endTime) {
         List<Member> members = whenToMeetRawService.findTeamMembers(teamId);
         List<LocalDateTime> starts = whenToMeetLogicService.generateIntervalStarts(startTime.atStartOfDay().plusHours(9), endTime.plusDays(1).atStartOfDay());
@@ -212,7 +229,8 @@ public class TeamService {
                     team.getName(),
                     memberDtos,
                     memberDtos.size(),
-                    team.getInviteCode()
+                    team.getInviteCode(),
+                    team.getStatus()
             );
         });
 
@@ -267,8 +285,18 @@ public class TeamService {
         target.validateRemovable();
 
         teamMemberRawService.deleteTeamMember(target);
+        markTeamRosterChanged(findTeam);
+        calendarIdResolver.evict(targetMember.getMemberId());
     }
     
+    /**
+     * 전체 참여 팀 일정의 참여자 목록이 바뀌므로 팀 캘린더 버전 증가
+     * @param team
+     */
+    private void markTeamRosterChanged(Team team) {
+        calendarVersionService.bump(calendarRawService.getTeamCalendar(team).getCalendarId());
+    }
+
     public List<WhenToMeetRecommendResponseDto> getOptimalTimeWhenToMeet(LocalDateTime startTime, LocalDateTime endTime, Long requiredTime, Long requiredCnt, Long teamId) {
         // 팀 멤버 조회
         List<Member> members = whenToMeetRawService.findTeamMembers(teamId);
@@ -0,0 +1,81 @@
+package unischedule.team.service.internal;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * 멤버별 작업을 가상 스레드로 나눠 실행
+ * 작업마다 DB 커넥션을 쓰므로 모든 요청을 합쳐 동시에 실행하는 작업 수를 커넥션 풀 크기의 절반으로 제한해 다른 요청이 쓸 커넥션을 남김
+ * 작업이 끝나기를 기다리는 호출 스레드는 커넥션을 잡고 있으면 안 됨 (트랜잭션, open-in-view 밖에서 호출)
+ */
+@Component
+public class MemberTaskExecutor {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+
+    public MemberTaskExecutor(
+            @Value("${team.availability.max-concurrency:0}") int maxConcurrency,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize
+    ) {
+        this.permits = new Semaphore(maxConcurrency > 0 ? maxConcurrency : Math.max(1, poolSize / 2));
+    }
+
+    /**
+     * 항목마다 task 를 동시에 실행하고 모두 끝날 때까지 대기
+     * task 는 여러 스레드에서 동시에 호출되므로 결과는 스레드 안전하게 모아야 함
+     * @param items
+     * @param task
+     * @param <T>
+     */
+    public <T> void forEach(List<T> items, Consumer<T> task) {
+        List<Future<?>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    task.accept(item);
+                }
+                finally {
+                    permits.release();
+                }
+                return null;
+            }));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("멤버별 작업 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
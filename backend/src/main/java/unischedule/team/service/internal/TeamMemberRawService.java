@@ -144,4 +144,9 @@ public class TeamMemberRawService {
     public void deleteTeamMemberAll(List<TeamMember> teamMemberList) {
         teamMemberRepository.deleteAll(teamMemberList);
     }
+
+    @Transactional
+    public int deleteAllByTeamId(Long teamId) {
+        return teamMemberRepository.deleteAllByTeamId(teamId);
+    }
 }
@@ -45,6 +45,15 @@ public class TeamRawService {
         teamRepository.delete(team);
     }
 
+    /**
+     * 팀 일괄 삭제, 팀을 참조하는 데이터는 먼저 삭제해야 함
+     * @param teamId
+     */
+    @Transactional
+    public void deleteTeamById(Long teamId) {
+        teamRepository.deleteByTeamId(teamId);
+    }
+
     /**
      * 멤버가 속한 팀들을 페이징 처리하여 조회하는 메서드
      *
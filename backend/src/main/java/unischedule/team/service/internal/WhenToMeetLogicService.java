@@ -3,22 +3,37 @@ package unischedule.team.service.internal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.PriorityQueue;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import unischedule.events.dto.EventGetResponseDto;
 import unischedule.member.domain.Member;
 import unischedule.team.domain.WhenToMeet;
+import unischedule.team.domain.collection.SlotAvailability;
 import unischedule.team.dto.WhenToMeetRecommendResponseDto;
 import unischedule.team.dto.WhenToMeetResponseDto;
 
 @Service
+@RequiredArgsConstructor
 public class WhenToMeetLogicService {
     
+    private final MemberTaskExecutor memberTaskExecutor;
+    
     private record DailyInterval(LocalDateTime start, LocalDateTime end) {}
     
+    private record WindowCandidate(int startIndex, LocalDateTime startTime, long available) {}
+    
+    /**
+     * 가능 인원 내림차순, 시작 시간 오름차순
+     */
+    private static final Comparator<WindowCandidate> WINDOW_ORDER = Comparator
+        .comparingLong(WindowCandidate::available).reversed()
+        .thenComparing(WindowCandidate::startTime);
+    
     public List<LocalDateTime> generateIntervalStarts() {
         LocalDate today = LocalDate.now();
         LocalDateTime effectiveStart = today.plusDays(1).atTime(9, 0);
@@ -94,7 +109,14 @@ public class WhenToMeetLogicService {
         return slots;
     }
     
-    @Transactional
+    /**
+     * 멤버별 바쁜 시간을 한 번씩 훑어 슬롯별 가능 인원을 차감
+     * 슬롯이 5분 칸 경계에 맞으면 팀 전체를 한 번에 조회한 하루 단위 비트맵을,
+     * 아니면 멤버별 기간 내 일정을 가상 스레드에서 나눠 조회해 사용
+     * 슬롯은 시작 시간 순으로 정렬되어 있어야 함
+     * 조회가 끝나기를 기다리는 동안 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void applyMemberEvents(List<WhenToMeet> slots,
         List<Member> members,
         List<LocalDateTime> intervalStarts,
@@ -104,36 +126,25 @@ public class WhenToMeetLogicService {
         LocalDateTime start = intervalStarts.get(0);
         LocalDateTime end = intervalEnds.get(intervalEnds.size() - 1);
         
-        for (Member member : members) {
+        SlotAvailability availability = SlotAvailability.of(slots);
+        
+        if (availability.supportsBitmaps()) {
+            rawService.findMembersBusyBitmaps(members, availability.getFirstDay(), availability.getLastDay())
+                .forEach(availability::addMemberBitmaps);
+            availability.applyTo(slots);
+            return;
+        }
+        
+        // 멤버마다 별도의 읽기 전용 트랜잭션에서 조회하고, 결과는 차분 배열에 원자적으로 합침
+        memberTaskExecutor.forEach(members, member -> {
             List<EventGetResponseDto> events = rawService.findMemberEvents(member, start, end);
             
-            if (events.isEmpty()) {
-                continue;
+            if (!events.isEmpty()) {
+                availability.addMemberEvents(events);
             }
-            
-            for (WhenToMeet slot : slots) {
-                // "이 멤버가 이 슬롯에 바쁜가?"를 확인
-                boolean isBusyInThisSlot = isMemberBusyForSlot(slot, events);
-                
-                if (isBusyInThisSlot) {
-                    slot.discountAvailable();
-                }
-            }
-        }
-    }
-    
-    /**
-     * 주어진 슬롯(WhenToMeet)이 멤버의 일정(events) 목록 중 하나라도 겹치는지 확인합니다.
-     *
-     * @param slot   확인할 시간 슬롯
-     * @param events 멤버의 전체 일정 목록
-     * @return 겹치는 일정이 하나라도 있으면 true, 그렇지 않으면 false
-     */
-    private boolean isMemberBusyForSlot(WhenToMeet slot, List<EventGetResponseDto> events) {
-        return events.stream().anyMatch(event ->
-            slot.getStartTime().isBefore(event.endTime()) &&
-                slot.getEndTime().isAfter(event.startTime())
-        );
+        });
+        
+        availability.applyTo(slots);
     }
     
     public List<WhenToMeetRecommendResponseDto> recommendBestSlots(
@@ -145,6 +156,17 @@ public class WhenToMeetLogicService {
         return recommendBestSlotsV2(slots, 15L, durationMinutes, topN, memberCnt);
     }
     
+    /**
+     * 연속 슬롯 윈도우 중 가능 인원이 많은 순(같으면 이른 순)으로 서로 겹치지 않는 topN 개 추천
+     * 하루 단위로 윈도우를 시간 순으로 훑으며 최솟값은 단조 덱으로 계산하고,
+     * 겹치는 윈도우끼리는 더 나은 하나만 남긴 뒤 크기 topN 의 힙으로 순위를 유지
+     * @param slots 시작 시간 오름차순 슬롯 목록
+     * @param slotTime 슬롯 길이 (분)
+     * @param durationMinutes 회의 길이 (분)
+     * @param topN 추천 개수
+     * @param memberCnt 팀 전체 인원
+     * @return
+     */
     public List<WhenToMeetRecommendResponseDto> recommendBestSlotsV2(
         List<WhenToMeet> slots,
         Long slotTime,
@@ -154,41 +176,104 @@ public class WhenToMeetLogicService {
         
         int requiredSlots = (int) ((durationMinutes + slotTime - 1) / slotTime);
         
-        List<WhenToMeet> recommendedWindows = new ArrayList<>();
+        if (requiredSlots <= 0 || topN <= 0) {
+            return List.of();
+        }
         
-        // 하루별로 슬롯 그룹화
-        Map<LocalDate, List<WhenToMeet>> slotsByDate = slots.stream()
-            .collect(Collectors.groupingBy(s -> s.getStartTime().toLocalDate()));
+        // 힙의 머리는 지금까지 뽑힌 후보 중 가장 나쁜 윈도우
+        PriorityQueue<WindowCandidate> topWindows = new PriorityQueue<>(WINDOW_ORDER.reversed());
         
-        // 하루 단위 연속 슬롯 탐색
-        for (List<WhenToMeet> daySlots : slotsByDate.values()) {
-            for (int i = 0; i <= daySlots.size() - requiredSlots; i++) {
-                List<WhenToMeet> windowSlots = daySlots.subList(i, i + requiredSlots);
+        // 윈도우 안 슬롯 인덱스를 가능 인원 오름차순으로 유지하는 원형 덱
+        int[] deque = new int[requiredSlots];
+        
+        int dayStart = 0;
+        while (dayStart < slots.size()) {
+            LocalDate day = slots.get(dayStart).getStartTime().toLocalDate();
+            int dayEnd = dayStart;
+            while (dayEnd < slots.size() && slots.get(dayEnd).getStartTime().toLocalDate().equals(day)) {
+                dayEnd++;
+            }
+            
+            int head = 0;
+            int size = 0;
+            
+            // 아직 힙에 넣지 않은 마지막 후보 (다음 윈도우와 겹칠 수 있음)
+            int pendingStart = -1;
+            long pendingAvailable = 0;
+            
+            for (int i = dayStart; i < dayEnd; i++) {
+                long available = slots.get(i).getAvailableMember();
+                while (size > 0 && slots.get(deque[(head + size - 1) % requiredSlots]).getAvailableMember() >= available) {
+                    size--;
+                }
+                if (size == requiredSlots) {
+                    head = (head + 1) % requiredSlots;
+                    size--;
+                }
+                deque[(head + size) % requiredSlots] = i;
+                size++;
                 
-                long minAvailable = windowSlots.stream()
-                    .mapToLong(WhenToMeet::getAvailableMember)
-                    .min()
-                    .orElse(0);
+                int windowStart = i - requiredSlots + 1;
+                if (windowStart < dayStart) {
+                    continue;
+                }
+                if (deque[head] < windowStart) {
+                    head = (head + 1) % requiredSlots;
+                    size--;
+                }
+                long windowAvailable = slots.get(deque[head]).getAvailableMember();
+                
+                if (pendingStart >= 0 && slots.get(windowStart).getStartTime().isBefore(slots.get(pendingStart + requiredSlots - 1).getEndTime())) {
+                    // 겹치면 가능 인원이 더 많을 때만 교체 (같으면 이른 윈도우 유지)
+                    if (windowAvailable > pendingAvailable) {
+                        pendingStart = windowStart;
+                        pendingAvailable = windowAvailable;
+                    }
+                    continue;
+                }
                 
-                recommendedWindows.add(new WhenToMeet(
-                    windowSlots.get(0).getStartTime(),
-                    windowSlots.get(windowSlots.size() - 1).getEndTime(),
-                    minAvailable
-                ));
+                if (pendingStart >= 0) {
+                    offerWindow(topWindows, topN, slots, pendingStart, pendingAvailable);
+                }
+                pendingStart = windowStart;
+                pendingAvailable = windowAvailable;
+            }
+            
+            if (pendingStart >= 0) {
+                offerWindow(topWindows, topN, slots, pendingStart, pendingAvailable);
             }
+            dayStart = dayEnd;
         }
         
-        return recommendedWindows.stream()
-            .sorted((a, b) -> {
-                int cmp = Long.compare(b.getAvailableMember(), a.getAvailableMember());
-                if (cmp != 0) return cmp;
-                return a.getStartTime().compareTo(b.getStartTime());
-            })
-            .limit(topN)
-            .map(window -> WhenToMeetRecommendResponseDto.from(window, memberCnt)) // DTO.from 호출
+        return topWindows.stream()
+            .sorted(WINDOW_ORDER)
+            .map(candidate -> WhenToMeetRecommendResponseDto.from(new WhenToMeet(
+                slots.get(candidate.startIndex()).getStartTime(),
+                slots.get(candidate.startIndex() + requiredSlots - 1).getEndTime(),
+                candidate.available()
+            ), memberCnt))
             .toList();
     }
     
+    /**
+     * 힙이 가득 차 있으면 가장 나쁜 후보보다 나을 때만 교체
+     */
+    private void offerWindow(PriorityQueue<WindowCandidate> topWindows, long topN, List<WhenToMeet> slots, int startIndex, long available) {
+        if (topWindows.size() < topN) {
+            topWindows.add(new WindowCandidate(startIndex, slots.get(startIndex).getStartTime(), available));
+            return;
+        }
+        
+        WindowCandidate worst = topWindows.peek();
+        boolean better = available > worst.available()
+            || (available == worst.available() && slots.get(startIndex).getStartTime().isBefore(worst.startTime()));
+        
+        if (better) {
+            topWindows.poll();
+            topWindows.add(new WindowCandidate(startIndex, slots.get(startIndex).getStartTime(), available));
+        }
+    }
+    
     public List<WhenToMeetResponseDto> toResponse(List<WhenToMeet> slots) {
         return slots.stream()
             .map(slot -> new WhenToMeetResponseDto(
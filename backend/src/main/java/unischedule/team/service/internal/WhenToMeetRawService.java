@@ -2,20 +2,23 @@ package unischedule.team.service.internal;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-import unischedule.calendar.entity.Calendar;
-import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.calendar.service.CalendarIdResolver;
 import unischedule.events.dto.EventGetResponseDto;
 import unischedule.events.dto.EventServiceDto;
 import unischedule.events.service.common.EventQueryService;
 import unischedule.member.domain.Member;
-import unischedule.member.service.internal.MemberRawService;
+import unischedule.team.cache.BusyBitmapCache;
 import unischedule.team.domain.Team;
 import unischedule.team.domain.TeamMember;
+import unischedule.team.domain.collection.BusyBitmap;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,9 +26,9 @@ public class WhenToMeetRawService {
     
     private final TeamRawService teamRawService;
     private final TeamMemberRawService teamMemberRawService;
-    private final MemberRawService memberRawService;
-    private final CalendarRawService calendarRawService;
+    private final CalendarIdResolver calendarIdResolver;
     private final EventQueryService eventQueryService;
+    private final BusyBitmapCache busyBitmapCache;
     
     @Transactional(readOnly = true)
     public List<Member> findTeamMembers(Long teamId) {
@@ -35,18 +38,19 @@ public class WhenToMeetRawService {
             .toList();
     }
     
-    @Transactional(readOnly = true)
+    /**
+     * 멤버의 기간 내 일정 조회
+     * 멤버별로 여러 스레드에서 동시에 호출될 수 있으므로, 지연 로딩이 필요한 멤버 필드는 읽지 않고 id 만 사용
+     * @param member
+     * @param start
+     * @param end
+     * @return
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
     public List<EventGetResponseDto> findMemberEvents(Member member, LocalDateTime start, LocalDateTime end) {
         
-        // 멤버의 이메일로 전체 팀 캘린더 및 개인 캘린더 식별
-        Member findMember = memberRawService.findMemberByEmail(member.getEmail());
-        
-        List<Team> teamList = teamMemberRawService.findByMember(findMember)
-            .stream()
-            .map(TeamMember::getTeam)
-            .toList();
-        
-        List<Long> calendarIds = getMemberCalendarIds(teamList, findMember);
+        // 멤버의 전체 팀 캘린더 및 개인 캘린더 식별
+        List<Long> calendarIds = calendarIdResolver.getMemberCalendarIds(member);
         
         // 해당 기간의 모든 일정 조회
         List<EventServiceDto> events = eventQueryService.getEventsForMember(member, calendarIds, start, end);
@@ -56,20 +60,28 @@ public class WhenToMeetRawService {
             .toList();
     }
     
-    private List<Long> getMemberCalendarIds(List<Team> teamList, Member member) {
-        List<Long> calendarIds = new ArrayList<>();
+    /**
+     * firstDay 부터 lastDay 까지 여러 멤버의 하루 단위 바쁜 시간 비트맵 조회
+     * 캘린더 id 와 일정은 멤버 수와 관계없이 한 번에 조회하고, 일정이 바뀌지 않은 날은 캐시된 비트맵 사용
+     * @param members
+     * @param firstDay
+     * @param lastDay
+     * @return members 와 같은 순서의 멤버별 날짜 순 비트맵
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public List<List<BusyBitmap>> findMembersBusyBitmaps(List<Member> members, LocalDate firstDay, LocalDate lastDay) {
+        Map<Long, List<Long>> calendarIdsByMember = calendarIdResolver.getMemberCalendarIds(members);
         
-        // 팀 캘린더
-        List<Long> teamCalendarIds = teamList.stream()
-            .map(calendarRawService::getTeamCalendar)
-            .map(Calendar::getCalendarId)
-            .toList();
-        
-        // 개인 캘린더
-        calendarIds.add(calendarRawService.getMyPersonalCalendar(member).getCalendarId());
+        Map<Long, List<BusyBitmap>> bitmapsByMember = busyBitmapCache.getAll(calendarIdsByMember, firstDay, lastDay,
+            (targets, start, end) -> eventQueryService.getEventsForMembers(targets, start, end).entrySet().stream()
+                .collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> entry.getValue().stream().map(EventGetResponseDto::fromServiceDto).toList()
+                ))
+        );
         
-        calendarIds.addAll(teamCalendarIds);
-        return calendarIds;
+        return members.stream()
+            .map(member -> bitmapsByMember.get(member.getMemberId()))
+            .toList();
     }
 }
-
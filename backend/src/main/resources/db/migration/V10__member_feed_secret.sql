@@ -0,0 +1,3 @@
+-- ICS 구독 주소 서명용 멤버별 임의 키, 처음 구독 주소를 발급할 때 생성
+-- 키를 다시 만들면 이전 구독 주소는 더 이상 사용할 수 없음
+ALTER TABLE members ADD COLUMN feed_secret varchar(64);
@@ -0,0 +1,3 @@
+-- 삭제 작업을 요청한 멤버, 진행 상황은 요청한 멤버만 조회
+-- 이 버전 이전에 등록된 작업은 요청한 멤버를 알 수 없으므로 null (조회 불가)
+ALTER TABLE calendar_cleanup_jobs ADD COLUMN requested_by bigint;
@@ -0,0 +1,3 @@
+-- 로그인 없이 진행 상황을 조회하기 위한 작업별 임의 토큰 (탈퇴한 멤버도 삭제 진행 상황 확인)
+-- 이 버전 이전에 등록된 작업은 토큰이 없으므로 null (토큰으로 조회 불가)
+ALTER TABLE calendar_cleanup_jobs ADD COLUMN poll_token varchar(64);
@@ -0,0 +1,17 @@
+-- 반복 일정을 일정 기간(horizon)만큼 미리 전개해 둔 발생 일정
+-- 서버가 시작되면 EventOccurrenceScheduler 가 채움
+CREATE TABLE event_occurrences
+(
+    end_at datetime(6) not null,
+    event_id bigint not null,
+    event_occurrence_id bigint not null auto_increment,
+    original_start_at datetime(6) not null,
+    override_id bigint,
+    start_at datetime(6) not null,
+    primary key (event_occurrence_id)
+) ENGINE = InnoDB;
+
+alter table event_occurrences add constraint uk_event_occurrences_event_original_start unique (event_id, original_start_at);
+create index idx_event_occurrences_original_start on event_occurrences (original_start_at);
+alter table event_occurrences add constraint FKhplsa8yjbirqj2hhqc0r28bkx foreign key (event_id) references events (event_id);
+alter table event_occurrences add constraint FKpi4c8rboha0xn5lbo0xl9mw00 foreign key (override_id) references event_override (event_exception_id);
@@ -0,0 +1,7 @@
+-- 반복 규칙의 FREQ, INTERVAL, 마지막 회차 종료 시간
+-- 기존 반복 규칙은 V3_1__RecurrenceBoundsBackfill 이 채우고, 해석할 수 없는 규칙은 null 로 남아 조회 시 기존처럼 전개
+ALTER TABLE recurrence_rule ADD COLUMN frequency varchar(10);
+ALTER TABLE recurrence_rule ADD COLUMN repeat_interval integer;
+ALTER TABLE recurrence_rule ADD COLUMN series_end datetime(6);
+
+create index idx_recurrence_rule_series_end on recurrence_rule (series_end);
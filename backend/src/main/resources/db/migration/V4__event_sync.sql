@@ -0,0 +1,28 @@
+-- 동기화(delta-sync)용 변경 시간과 삭제 기록
+
+-- 기존 override 는 원본 일정의 생성, 수정 시간으로 채움
+ALTER TABLE event_override ADD COLUMN created_at datetime(6);
+ALTER TABLE event_override ADD COLUMN updated_at datetime(6);
+
+UPDATE event_override
+SET created_at = (SELECT e.created_at FROM events e WHERE e.event_id = event_override.original_event_id),
+    updated_at = (SELECT e.updated_at FROM events e WHERE e.event_id = event_override.original_event_id);
+
+ALTER TABLE event_override MODIFY COLUMN created_at datetime(6) not null;
+ALTER TABLE event_override MODIFY COLUMN updated_at datetime(6) not null;
+
+create index idx_event_override_updated_at on event_override (updated_at);
+create index idx_events_calendar_updated_at on events (calendar_id, updated_at);
+
+CREATE TABLE event_tombstones
+(
+    calendar_id bigint not null,
+    deleted_at datetime(6) not null,
+    event_id bigint not null,
+    event_tombstone_id bigint not null auto_increment,
+    target_id bigint not null,
+    type enum ('EVENT','OVERRIDE') not null,
+    primary key (event_tombstone_id)
+) ENGINE = InnoDB;
+
+create index idx_event_tombstones_calendar_deleted_at on event_tombstones (calendar_id, deleted_at);
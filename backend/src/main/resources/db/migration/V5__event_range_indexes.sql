@@ -0,0 +1,8 @@
+-- 기간 일정 조회 (단일/반복 구분 + 기간 조건) 에 맞춘 복합 인덱스
+CREATE INDEX idx_events_calendar_rule_period ON events (calendar_id, recurrence_rule_id, start_at, end_at);
+
+-- 반복 일정 override 조회 (원본 일정 + 원래 회차 시간)
+CREATE INDEX idx_event_override_event_time ON event_override (original_event_id, original_event_time);
+
+-- 선택 참여 일정의 참여 여부 EXISTS 서브쿼리
+CREATE INDEX idx_event_participant_event_member ON event_participant (event_id, member_id);
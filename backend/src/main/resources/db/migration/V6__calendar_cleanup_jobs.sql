@@ -0,0 +1,18 @@
+-- 회원 탈퇴 등으로 삭제할 캘린더의 일정을 배치 단위로 정리하는 작업
+-- 캘린더가 삭제된 뒤에도 진행 상태를 조회할 수 있도록 캘린더 FK 는 두지 않음
+CREATE TABLE calendar_cleanup_jobs
+(
+    attempts int not null,
+    calendar_id bigint not null,
+    calendar_cleanup_job_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    deleted_events bigint not null,
+    total_events bigint not null,
+    updated_at datetime(6) not null,
+    job_key varchar(36) not null,
+    status enum ('PENDING','RUNNING','COMPLETED','FAILED') not null,
+    primary key (calendar_cleanup_job_id)
+) ENGINE = InnoDB;
+
+alter table calendar_cleanup_jobs add constraint uk_calendar_cleanup_jobs_job_key unique (job_key);
+create index idx_calendar_cleanup_jobs_status on calendar_cleanup_jobs (status);
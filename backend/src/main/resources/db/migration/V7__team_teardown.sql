@@ -0,0 +1,5 @@
+-- 팀 폐쇄 요청 후 데이터 삭제가 끝날 때까지 CLOSING
+ALTER TABLE teams ADD COLUMN status enum ('ACTIVE','CLOSING') not null default 'ACTIVE';
+
+-- 팀 폐쇄 작업은 팀 캘린더 정리 후 채팅, 멤버, 팀까지 삭제
+ALTER TABLE calendar_cleanup_jobs ADD COLUMN team_id bigint;
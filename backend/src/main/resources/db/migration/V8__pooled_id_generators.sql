@@ -0,0 +1,14 @@
+-- 일괄 저장이 많은 테이블은 IDENTITY 대신 50개 단위로 미리 할당한 id 를 사용해 insert 를 JDBC 배치로 묶음
+-- 기존 id 와 겹치지 않도록 현재 최대값보다 충분히 큰 값에서 시작
+CREATE TABLE id_generators
+(
+    next_val bigint,
+    gen_name varchar(255) not null,
+    primary key (gen_name)
+) ENGINE = InnoDB;
+
+INSERT INTO id_generators (gen_name, next_val) SELECT 'events', COALESCE(MAX(event_id), 0) + 100 FROM events;
+INSERT INTO id_generators (gen_name, next_val) SELECT 'recurrence_rule', COALESCE(MAX(recurrence_rule_id), 0) + 100 FROM recurrence_rule;
+INSERT INTO id_generators (gen_name, next_val) SELECT 'lectures', COALESCE(MAX(lecture_id), 0) + 100 FROM lectures;
+INSERT INTO id_generators (gen_name, next_val) SELECT 'event_occurrences', COALESCE(MAX(event_occurrence_id), 0) + 100 FROM event_occurrences;
+INSERT INTO id_generators (gen_name, next_val) SELECT 'event_tombstones', COALESCE(MAX(event_tombstone_id), 0) + 100 FROM event_tombstones;
@@ -0,0 +1,13 @@
+-- 반복 일정 회차 전체 갱신 상태 (한 행만 사용)
+-- 갱신이 끝난 기간을 모든 서버가 같이 보고, 갱신은 잠금을 얻은 한 서버만 실행
+CREATE TABLE event_occurrence_refresh
+(
+    event_occurrence_refresh_id bigint not null,
+    horizon_from datetime(6),
+    horizon_until datetime(6),
+    locked_until datetime(6),
+    locked_by varchar(36),
+    primary key (event_occurrence_refresh_id)
+) ENGINE = InnoDB;
+
+INSERT INTO event_occurrence_refresh (event_occurrence_refresh_id) VALUES (1);
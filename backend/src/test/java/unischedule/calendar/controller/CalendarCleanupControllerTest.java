@@ -0,0 +1,94 @@
+package unischedule.calendar.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import unischedule.auth.jwt.JwtTokenProvider;
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
+import unischedule.calendar.entity.CalendarCleanupStatus;
+import unischedule.calendar.service.CalendarCleanupService;
+import unischedule.common.config.SecurityConfig;
+import unischedule.exception.NoPermissionException;
+import unischedule.google.handler.OAuth2LoginSuccessHandler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CalendarCleanupController.class)
+@Import(SecurityConfig.class)
+class CalendarCleanupControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private CalendarCleanupService calendarCleanupService;
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private OAuth2AuthorizedClientService authorizedClientService;
+    @MockitoBean
+    private OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("작업을 요청한 멤버는 진행 상황 조회")
+    void getCleanupJob() throws Exception {
+        // given
+        given(calendarCleanupService.getJob("test@example.com", "job-key")).willReturn(
+                new CalendarCleanupJobResponseDto("job-key", "poll-token", CalendarCleanupStatus.RUNNING, 4, 2, 50)
+        );
+
+        // when & then
+        mockMvc.perform(get("/api/calendars/cleanup-jobs/job-key"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.progress").value(50));
+    }
+
+    @Test
+    @WithMockUser(username = "other@example.com")
+    @DisplayName("다른 멤버의 작업은 조회할 수 없음")
+    void getCleanupJob_otherMember() throws Exception {
+        // given
+        given(calendarCleanupService.getJob("other@example.com", "job-key"))
+                .willThrow(new NoPermissionException("캘린더 삭제 작업을 조회할 권한이 없습니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/calendars/cleanup-jobs/job-key"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("로그인하지 않으면 작업 키를 알아도 조회할 수 없음")
+    void getCleanupJob_unauthenticated() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/calendars/cleanup-jobs/job-key"))
+                .andExpect(status().isUnauthorized());
+
+        verify(calendarCleanupService, never()).getJob(any(), any());
+    }
+
+    @Test
+    @DisplayName("로그인하지 않아도 작업 토큰으로 진행 상황 조회")
+    void getCleanupJobByPollToken() throws Exception {
+        // given
+        given(calendarCleanupService.getJobByPollToken("job-key", "poll-token")).willReturn(
+                new CalendarCleanupJobResponseDto("job-key", "poll-token", CalendarCleanupStatus.COMPLETED, 4, 4, 100)
+        );
+
+        // when & then
+        mockMvc.perform(get("/api/calendars/cleanup-jobs/job-key/status/poll-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.progress").value(100));
+    }
+}
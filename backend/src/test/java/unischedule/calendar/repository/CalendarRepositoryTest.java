@@ -0,0 +1,100 @@
+package unischedule.calendar.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import unischedule.calendar.dto.MemberCalendarIdDto;
+import unischedule.calendar.entity.Calendar;
+import unischedule.common.config.JpaAuditingConfig;
+import unischedule.member.domain.Member;
+import unischedule.team.domain.Team;
+import unischedule.util.TestUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+class CalendarRepositoryTest {
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private CalendarRepository calendarRepository;
+
+    @Test
+    @DisplayName("여러 멤버의 개인 캘린더와 활성 팀 캘린더 id 를 한 번에 조회")
+    void findCalendarIdsByMemberIds() {
+        // given
+        Member alice = persistMember("alice@example.com");
+        Member bob = persistMember("bob@example.com");
+        Member carol = persistMember("carol@example.com");
+        Calendar alicePersonal = persistCalendar(TestUtil.makePersonalCalendar(alice));
+        Calendar bobPersonal = persistCalendar(TestUtil.makePersonalCalendar(bob));
+        Calendar carolPersonal = persistCalendar(TestUtil.makePersonalCalendar(carol));
+
+        Team shared = persistTeam("AAAAAA");
+        Team closing = persistTeam("BBBBBB");
+        Team bobOnly = persistTeam("CCCCCC");
+        closing.close();
+        Calendar sharedCalendar = persistCalendar(TestUtil.makeTeamCalendar(alice, shared));
+        persistCalendar(TestUtil.makeTeamCalendar(alice, closing));
+        Calendar bobOnlyCalendar = persistCalendar(TestUtil.makeTeamCalendar(bob, bobOnly));
+
+        entityManager.persist(TestUtil.makeTeamMember(shared, alice));
+        entityManager.persist(TestUtil.makeTeamMember(shared, bob));
+        entityManager.persist(TestUtil.makeTeamMember(closing, alice));
+        entityManager.persist(TestUtil.makeTeamMember(bobOnly, bob));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<MemberCalendarIdDto> rows = calendarRepository.findCalendarIdsByMemberIds(
+                List.of(alice.getMemberId(), bob.getMemberId(), carol.getMemberId())
+        );
+
+        // then
+        Map<Long, Set<Long>> calendarIdsByMember = rows.stream()
+                .collect(Collectors.groupingBy(
+                        MemberCalendarIdDto::memberId,
+                        Collectors.mapping(MemberCalendarIdDto::calendarId, Collectors.toSet())
+                ));
+        assertThat(calendarIdsByMember).containsOnlyKeys(alice.getMemberId(), bob.getMemberId(), carol.getMemberId());
+        assertThat(calendarIdsByMember.get(alice.getMemberId()))
+                .containsExactlyInAnyOrder(alicePersonal.getCalendarId(), sharedCalendar.getCalendarId());
+        assertThat(calendarIdsByMember.get(bob.getMemberId()))
+                .containsExactlyInAnyOrder(bobPersonal.getCalendarId(), sharedCalendar.getCalendarId(), bobOnlyCalendar.getCalendarId());
+        assertThat(calendarIdsByMember.get(carol.getMemberId()))
+                .containsExactly(carolPersonal.getCalendarId());
+        assertThat(rows)
+                .filteredOn(row -> row.calendarId().equals(alicePersonal.getCalendarId()))
+                .allMatch(MemberCalendarIdDto::isPersonal);
+    }
+
+    private Member persistMember(String email) {
+        Member member = new Member(email, "nickname", "1q2w3e4r!");
+        entityManager.persist(member);
+        return member;
+    }
+
+    private Team persistTeam(String code) {
+        Team team = new Team("test team", "description", code);
+        entityManager.persist(team);
+        return team;
+    }
+
+    private Calendar persistCalendar(Calendar calendar) {
+        entityManager.persist(calendar);
+        return calendar;
+    }
+}
@@ -0,0 +1,308 @@
+package unischedule.calendar.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
+import unischedule.calendar.entity.Calendar;
+import unischedule.calendar.entity.CalendarCleanupStatus;
+import unischedule.calendar.repository.CalendarCleanupJobRepository;
+import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.common.config.JpaAuditingConfig;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.events.domain.Event;
+import unischedule.events.domain.EventOccurrence;
+import unischedule.events.domain.EventOverride;
+import unischedule.events.domain.EventParticipant;
+import unischedule.events.domain.EventTombstone;
+import unischedule.events.domain.RecurrenceRule;
+import unischedule.events.service.common.EventBulkDeleteService;
+import unischedule.events.service.internal.EventOccurrenceRawService;
+import unischedule.events.service.internal.EventOverrideRawService;
+import unischedule.events.service.internal.EventParticipantRawService;
+import unischedule.events.service.internal.EventRawService;
+import unischedule.events.service.internal.EventTombstoneRawService;
+import unischedule.events.service.internal.RecurrenceRuleRawService;
+import unischedule.exception.NoPermissionException;
+import unischedule.lecture.domain.Lecture;
+import unischedule.lecture.service.internal.LectureRawService;
+import unischedule.member.domain.Member;
+import unischedule.member.service.internal.MemberRawService;
+import unischedule.team.chat.entity.ChatMessage;
+import unischedule.team.domain.Team;
+import unischedule.team.domain.TeamMember;
+import unischedule.team.domain.TeamRole;
+import unischedule.team.service.internal.TeamMemberRawService;
+import unischedule.team.service.internal.TeamRawService;
+import unischedule.util.TestUtil;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        JpaAuditingConfig.class,
+        CalendarCleanupService.class,
+        CalendarRawService.class,
+        EventBulkDeleteService.class,
+        EventRawService.class,
+        RecurrenceRuleRawService.class,
+        EventParticipantRawService.class,
+        EventOccurrenceRawService.class,
+        EventOverrideRawService.class,
+        EventTombstoneRawService.class,
+        LectureRawService.class,
+        TeamRawService.class,
+        TeamMemberRawService.class,
+        MemberRawService.class
+})
+class CalendarCleanupServiceTest {
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private CalendarCleanupService calendarCleanupService;
+    @Autowired
+    private CalendarCleanupJobRepository calendarCleanupJobRepository;
+    @MockitoBean
+    private CalendarVersionService calendarVersionService;
+
+    private Member owner;
+    private Calendar calendar;
+    private Calendar otherCalendar;
+
+    @BeforeEach
+    void setUp() {
+        owner = TestUtil.makeMember();
+        Member other = new Member("other@example.com", "other", "password");
+        calendar = TestUtil.makePersonalCalendar(owner);
+        otherCalendar = TestUtil.makePersonalCalendar(other);
+        entityManager.persist(owner);
+        entityManager.persist(other);
+        entityManager.persist(calendar);
+        entityManager.persist(otherCalendar);
+
+        // 강의와 참여자가 있는 단일 일정
+        Event lectureEvent = persistEvent(calendar, "강의", null);
+        Lecture lecture = new Lecture("자료구조", "교수", 3, LocalDate.of(2025, 9, 1), LocalDate.of(2025, 12, 19));
+        lecture.connectEvent(lectureEvent);
+        entityManager.persist(lecture);
+        entityManager.persist(new EventParticipant(lectureEvent, owner));
+
+        // override 와 회차가 있는 반복 일정
+        Event weeklyEvent = persistEvent(calendar, "주간 회의", "FREQ=WEEKLY;BYDAY=MO");
+        EventOverride override = new EventOverride(
+                weeklyEvent,
+                LocalDateTime.of(2025, 9, 8, 9, 0),
+                "옮긴 회의",
+                "내용",
+                LocalDateTime.of(2025, 9, 9, 9, 0),
+                LocalDateTime.of(2025, 9, 9, 10, 0)
+        );
+        entityManager.persist(override);
+        entityManager.persist(new EventOccurrence(
+                weeklyEvent,
+                override,
+                LocalDateTime.of(2025, 9, 8, 9, 0),
+                LocalDateTime.of(2025, 9, 9, 9, 0),
+                LocalDateTime.of(2025, 9, 9, 10, 0)
+        ));
+
+        Event deletedEvent = persistEvent(calendar, "삭제된 일정", null);
+        entityManager.persist(EventTombstone.ofEvent(deletedEvent));
+        entityManager.remove(deletedEvent);
+
+        persistEvent(otherCalendar, "다른 캘린더 일정", "FREQ=DAILY");
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("배치 단위로 일정과 관련 데이터를 삭제하고 마지막에 캘린더 삭제")
+    void deleteCalendarInBatches() {
+        // given
+        CalendarCleanupJobResponseDto requested = calendarCleanupService.requestCleanup(calendar.getCalendarId(), owner.getMemberId());
+        Long jobId = calendarCleanupJobRepository.findByJobKey(requested.jobKey()).orElseThrow().getId();
+
+        // when
+        int firstBatch = calendarCleanupService.deleteNextBatch(jobId, 1);
+        CalendarCleanupJobResponseDto halfway = calendarCleanupService.getJob(owner.getEmail(), requested.jobKey());
+        int secondBatch = calendarCleanupService.deleteNextBatch(jobId, 1);
+        int lastBatch = calendarCleanupService.deleteNextBatch(jobId, 1);
+        calendarCleanupService.complete(jobId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(requested.totalEvents()).isEqualTo(2);
+        assertThat(requested.status()).isEqualTo(CalendarCleanupStatus.PENDING);
+        assertThat(halfway.deletedEvents()).isEqualTo(1);
+        assertThat(halfway.progress()).isEqualTo(50);
+        assertThat(firstBatch).isEqualTo(1);
+        assertThat(secondBatch).isEqualTo(1);
+        assertThat(lastBatch).isZero();
+
+        CalendarCleanupJobResponseDto completed = calendarCleanupService.getJob(owner.getEmail(), requested.jobKey());
+        assertThat(completed.status()).isEqualTo(CalendarCleanupStatus.COMPLETED);
+        assertThat(completed.progress()).isEqualTo(100);
+
+        assertThat(entityManager.find(Calendar.class, calendar.getCalendarId())).isNull();
+        assertThat(count("SELECT count(l) FROM Lecture l")).isZero();
+        assertThat(count("SELECT count(ep) FROM EventParticipant ep")).isZero();
+        assertThat(count("SELECT count(o) FROM EventOccurrence o")).isZero();
+        assertThat(count("SELECT count(eo) FROM EventOverride eo")).isZero();
+        assertThat(count("SELECT count(t) FROM EventTombstone t")).isZero();
+        // 다른 캘린더의 일정과 반복 규칙은 유지
+        assertThat(count("SELECT count(e) FROM Event e")).isEqualTo(1);
+        assertThat(count("SELECT count(r) FROM RecurrenceRule r")).isEqualTo(1);
+        verify(calendarVersionService).bump(calendar.getCalendarId());
+    }
+
+    @Test
+    @DisplayName("팀 폐쇄 작업은 팀 일정 다음으로 채팅 메시지, 팀 멤버, 팀까지 삭제")
+    void teardownTeam() {
+        // given
+        Member leader = entityManager.find(Member.class, calendar.getOwner().getMemberId());
+        Team team = TestUtil.makeTeam();
+        entityManager.persist(team);
+        Calendar teamCalendar = TestUtil.makeTeamCalendar(leader, team);
+        entityManager.persist(teamCalendar);
+        entityManager.persist(new TeamMember(team, leader, TeamRole.LEADER));
+        Event teamEvent = persistEvent(teamCalendar, "팀 회의", "FREQ=WEEKLY;BYDAY=TU");
+        entityManager.persist(new EventParticipant(teamEvent, leader));
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(ChatMessage.builder()
+                    .team(team)
+                    .sender(leader)
+                    .senderName(leader.getNickname())
+                    .content("메시지 " + i)
+                    .build());
+        }
+        team.close();
+        entityManager.flush();
+        entityManager.clear();
+
+        CalendarCleanupJobResponseDto requested = calendarCleanupService.requestTeamCleanup(
+                teamCalendar.getCalendarId(),
+                team.getTeamId(),
+                leader.getMemberId()
+        );
+        Long jobId = calendarCleanupJobRepository.findByJobKey(requested.jobKey()).orElseThrow().getId();
+
+        // when
+        int eventBatch = calendarCleanupService.deleteNextBatch(jobId, 2);
+        int firstChatBatch = calendarCleanupService.deleteNextBatch(jobId, 2);
+        int secondChatBatch = calendarCleanupService.deleteNextBatch(jobId, 2);
+        int lastBatch = calendarCleanupService.deleteNextBatch(jobId, 2);
+        calendarCleanupService.complete(jobId);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(requested.totalEvents()).isEqualTo(1);
+        assertThat(eventBatch).isEqualTo(1);
+        assertThat(firstChatBatch).isEqualTo(2);
+        assertThat(secondChatBatch).isEqualTo(1);
+        assertThat(lastBatch).isZero();
+        assertThat(calendarCleanupService.getJob(owner.getEmail(), requested.jobKey()).status()).isEqualTo(CalendarCleanupStatus.COMPLETED);
+        assertThat(entityManager.find(Team.class, team.getTeamId())).isNull();
+        assertThat(entityManager.find(Calendar.class, teamCalendar.getCalendarId())).isNull();
+        assertThat(count("SELECT count(cm) FROM ChatMessage cm")).isZero();
+        assertThat(count("SELECT count(tm) FROM TeamMember tm")).isZero();
+        // 개인 캘린더 일정은 유지
+        assertThat(count("SELECT count(e) FROM Event e")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("선점한 작업은 중단된 것으로 볼 때까지 다시 선점할 수 없음")
+    void claimJobOnce() {
+        // given
+        CalendarCleanupJobResponseDto requested = calendarCleanupService.requestCleanup(calendar.getCalendarId(), owner.getMemberId());
+        Long jobId = calendarCleanupJobRepository.findByJobKey(requested.jobKey()).orElseThrow().getId();
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(10);
+
+        // when & then
+        assertThat(calendarCleanupService.findRunnableJobIds(staleBefore, 10)).containsExactly(jobId);
+        assertThat(calendarCleanupService.claim(jobId, staleBefore)).isTrue();
+        assertThat(calendarCleanupService.claim(jobId, staleBefore)).isFalse();
+        assertThat(calendarCleanupService.findRunnableJobIds(staleBefore, 10)).isEmpty();
+        assertThat(calendarCleanupService.claim(jobId, LocalDateTime.now().plusMinutes(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패가 최대 횟수에 도달하면 재시도하지 않음")
+    void failAfterMaxAttempts() {
+        // given
+        CalendarCleanupJobResponseDto requested = calendarCleanupService.requestCleanup(calendar.getCalendarId(), owner.getMemberId());
+        Long jobId = calendarCleanupJobRepository.findByJobKey(requested.jobKey()).orElseThrow().getId();
+
+        // when
+        calendarCleanupService.recordFailure(jobId);
+        CalendarCleanupStatus afterFirstFailure = calendarCleanupService.getJob(owner.getEmail(), requested.jobKey()).status();
+        calendarCleanupService.recordFailure(jobId);
+        calendarCleanupService.recordFailure(jobId);
+
+        // then
+        assertThat(afterFirstFailure).isEqualTo(CalendarCleanupStatus.PENDING);
+        assertThat(calendarCleanupService.getJob(owner.getEmail(), requested.jobKey()).status()).isEqualTo(CalendarCleanupStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("작업을 요청하지 않은 멤버는 진행 상황을 조회할 수 없음")
+    void rejectOtherMember() {
+        // given
+        CalendarCleanupJobResponseDto requested = calendarCleanupService.requestCleanup(calendar.getCalendarId(), owner.getMemberId());
+
+        // when & then
+        assertThatThrownBy(() -> calendarCleanupService.getJob("other@example.com", requested.jobKey()))
+                .isInstanceOf(NoPermissionException.class);
+    }
+
+    @Test
+    @DisplayName("탈퇴해 로그인할 수 없는 멤버도 작업 토큰으로 진행 상황을 조회하고, 다른 토큰은 거부")
+    void getJobByPollToken() {
+        // given
+        CalendarCleanupJobResponseDto requested = calendarCleanupService.requestCleanup(calendar.getCalendarId(), owner.getMemberId());
+
+        // when
+        CalendarCleanupJobResponseDto polled = calendarCleanupService.getJobByPollToken(requested.jobKey(), requested.pollToken());
+
+        // then
+        assertThat(requested.pollToken()).hasSizeGreaterThanOrEqualTo(43);
+        assertThat(polled.status()).isEqualTo(CalendarCleanupStatus.PENDING);
+        assertThatThrownBy(() -> calendarCleanupService.getJobByPollToken(requested.jobKey(), "guess"))
+                .isInstanceOf(NoPermissionException.class);
+        assertThatThrownBy(() -> calendarCleanupService.getJobByPollToken(requested.jobKey(), null))
+                .isInstanceOf(NoPermissionException.class);
+    }
+
+    private Event persistEvent(Calendar calendar, String title, String rrule) {
+        LocalDateTime eventStart = LocalDateTime.of(2025, 9, 1, 9, 0);
+        Event event = new Event(title, "내용", eventStart, eventStart.plusHours(1), false);
+        event.connectCalendar(calendar);
+        if (rrule != null) {
+            RecurrenceRule recurrenceRule = new RecurrenceRule(rrule);
+            entityManager.persist(recurrenceRule);
+            event.connectRecurrenceRule(recurrenceRule);
+        }
+        entityManager.persist(event);
+        return event;
+    }
+
+    private long count(String jpql) {
+        return entityManager.createQuery(jpql, Long.class).getSingleResult();
+    }
+}
@@ -0,0 +1,84 @@
+package unischedule.calendar.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import unischedule.calendar.dto.MemberCalendarIdDto;
+import unischedule.calendar.repository.CalendarRepository;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.events.cache.LocalCalendarVersionStore;
+import unischedule.member.domain.Member;
+import unischedule.util.TestUtil;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarIdResolverTest {
+    @Mock
+    private CalendarRepository calendarRepository;
+
+    private CalendarIdResolver resolver;
+    private CalendarIdResolver otherNodeResolver;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        // 두 서버가 같은 버전 저장소를 공유하는 상황
+        CalendarVersionService calendarVersionService = new CalendarVersionService(new LocalCalendarVersionStore());
+        resolver = new CalendarIdResolver(calendarRepository, calendarVersionService, 100, Duration.ofMinutes(30));
+        otherNodeResolver = new CalendarIdResolver(calendarRepository, calendarVersionService, 100, Duration.ofMinutes(30));
+
+        member = TestUtil.makeMember();
+        ReflectionTestUtils.setField(member, "memberId", 1L);
+    }
+
+    @Test
+    @DisplayName("같은 멤버는 소속 버전이 바뀌기 전까지 한 번만 조회")
+    void cachesUntilMembershipChanges() {
+        // given
+        when(calendarRepository.findCalendarIdsByMemberId(1L))
+                .thenReturn(List.of(10L))
+                .thenReturn(List.of(10L, 20L));
+
+        // when
+        List<Long> first = resolver.getMemberCalendarIds(member);
+        List<Long> cached = resolver.getMemberCalendarIds(member);
+        resolver.evict(1L);
+        List<Long> afterJoin = resolver.getMemberCalendarIds(member);
+
+        // then
+        assertThat(first).containsExactly(10L);
+        assertThat(cached).containsExactly(10L);
+        assertThat(afterJoin).containsExactly(10L, 20L);
+        verify(calendarRepository, times(2)).findCalendarIdsByMemberId(1L);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 소속이 바뀌면 이 서버의 캐시도 다음 조회부터 사용하지 않음")
+    void otherNodeEvictionInvalidatesCache() {
+        // given
+        when(calendarRepository.findCalendarIdsByMemberIds(List.of(1L)))
+                .thenReturn(List.of(new MemberCalendarIdDto(1L, 10L, null), new MemberCalendarIdDto(1L, 20L, 2L)))
+                .thenReturn(List.of(new MemberCalendarIdDto(1L, 10L, null)));
+        resolver.getMemberCalendarIds(List.of(member));
+
+        // when
+        otherNodeResolver.evict(1L);
+        Map<Long, List<Long>> afterLeave = resolver.getMemberCalendarIds(List.of(member));
+
+        // then
+        assertThat(afterLeave.get(1L)).containsExactly(10L);
+        verify(calendarRepository, times(2)).findCalendarIdsByMemberIds(List.of(1L));
+    }
+}
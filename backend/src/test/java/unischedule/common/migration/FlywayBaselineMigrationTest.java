@@ -0,0 +1,122 @@
+package unischedule.common.migration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ddl-auto 로 만들어진 기존 운영 DB 가 V1 로 baseline 된 뒤 V2 부터 적용되어
+ * 새로 만든 DB 와 같은 스키마가 되는지 확인
+ */
+class FlywayBaselineMigrationTest {
+
+    @Test
+    @DisplayName("마이그레이션 도입 전 스키마 덤프를 baseline 후 migrate 하면 새 DB 와 같은 스키마가 된다")
+    void migratePreSeriesDump() {
+        // given
+        DataSource existing = dataSource("pre_series");
+        new ResourceDatabasePopulator(new ClassPathResource("db/pre-series-schema.sql")).execute(existing);
+
+        DataSource fresh = dataSource("fresh");
+
+        // when
+        Flyway.configure()
+                .dataSource(existing)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+        Flyway.configure()
+                .dataSource(fresh)
+                .load()
+                .migrate();
+
+        // then
+        assertThat(columns(existing)).isEqualTo(columns(fresh));
+        assertThat(indexes(existing)).isEqualTo(indexes(fresh));
+    }
+
+    @Test
+    @DisplayName("기존 override 의 생성, 수정 시간은 원본 일정 값으로 채워진다")
+    void migratePreSeriesOverrides() {
+        // given
+        DataSource existing = dataSource("pre_series_overrides");
+        new ResourceDatabasePopulator(new ClassPathResource("db/pre-series-schema.sql")).execute(existing);
+
+        // when
+        Flyway.configure()
+                .dataSource(existing)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        // then
+        Map<String, Object> override = new JdbcTemplate(existing)
+                .queryForMap("SELECT CAST(created_at AS VARCHAR) AS created, CAST(updated_at AS VARCHAR) AS updated FROM event_override WHERE event_exception_id = 1");
+        assertThat(override.get("CREATED")).isEqualTo("2025-08-02 09:00:00");
+        assertThat(override.get("UPDATED")).isEqualTo("2025-08-03 09:00:00");
+    }
+
+    @Test
+    @DisplayName("기존 반복 규칙의 반복 범위는 V3.1 에서 한 번 채워진다")
+    void backfillRecurrenceBounds() {
+        // given
+        DataSource existing = dataSource("pre_series_bounds");
+        new ResourceDatabasePopulator(new ClassPathResource("db/pre-series-schema.sql")).execute(existing);
+
+        // when
+        Flyway.configure()
+                .dataSource(existing)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        // then
+        Map<String, Object> rule = new JdbcTemplate(existing)
+                .queryForMap("SELECT frequency, repeat_interval, CAST(series_end AS VARCHAR) AS series_end FROM recurrence_rule WHERE recurrence_rule_id = 1");
+        assertThat(rule.get("FREQUENCY")).isEqualTo("WEEKLY");
+        assertThat(rule.get("REPEAT_INTERVAL")).isEqualTo(1);
+        assertThat(rule.get("SERIES_END")).isEqualTo("2025-09-15 10:00:00");
+    }
+
+    private DataSource dataSource(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private List<String> columns(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList("""
+                SELECT TABLE_NAME || '.' || COLUMN_NAME || ' ' || DATA_TYPE || ' ' || IS_NULLABLE
+                FROM INFORMATION_SCHEMA.COLUMNS
+                WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME <> 'flyway_schema_history'
+                ORDER BY TABLE_NAME, COLUMN_NAME
+                """, String.class);
+    }
+
+    /**
+     * 제약 조건용 인덱스 이름 끝의 번호는 H2 가 테이블을 다시 만들 때 바뀌므로 제외하고 비교
+     */
+    private List<String> indexes(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList("""
+                SELECT TABLE_NAME || '.' || INDEX_NAME
+                FROM INFORMATION_SCHEMA.INDEXES
+                WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME <> 'flyway_schema_history'
+                AND INDEX_NAME NOT LIKE 'PRIMARY_KEY%'
+                ORDER BY TABLE_NAME, INDEX_NAME
+                """, String.class)
+                .stream()
+                .map(index -> index.replaceAll("_INDEX_[0-9A-F]+$", ""))
+                .toList();
+    }
+}
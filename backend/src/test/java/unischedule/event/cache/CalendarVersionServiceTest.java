@@ -0,0 +1,51 @@
+package unischedule.event.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.events.cache.LocalCalendarVersionStore;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarVersionServiceTest {
+    private final LocalDateTime startAt = LocalDateTime.of(2025, 9, 1, 0, 0);
+    private final LocalDateTime endAt = startAt.plusMonths(1);
+
+    private CalendarVersionService calendarVersionService;
+
+    @BeforeEach
+    void setUp() {
+        calendarVersionService = new CalendarVersionService(new LocalCalendarVersionStore());
+    }
+
+    @Test
+    @DisplayName("같은 캘린더, 버전, 기간이면 같은 ETag")
+    void sameETagForSameState() {
+        // when
+        String first = calendarVersionService.getETag("member:1", List.of(1L, 2L), startAt, endAt);
+        String second = calendarVersionService.getETag("member:1", List.of(2L, 1L), startAt, endAt);
+
+        // then
+        assertThat(first).startsWith("\"").endsWith("\"");
+        assertThat(second).isEqualTo(first);
+        assertThat(calendarVersionService.getETag("member:2", List.of(1L, 2L), startAt, endAt)).isNotEqualTo(first);
+        assertThat(calendarVersionService.getETag("member:1", List.of(1L, 2L), startAt, endAt.plusDays(1))).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("캘린더 버전이 오르면 ETag 변경")
+    void bumpChangesETag() {
+        // given
+        String before = calendarVersionService.getETag("team:1", List.of(10L), startAt, endAt);
+
+        // when
+        calendarVersionService.bump(10L);
+
+        // then
+        assertThat(calendarVersionService.getETag("team:1", List.of(10L), startAt, endAt)).isNotEqualTo(before);
+    }
+}
@@ -0,0 +1,154 @@
+package unischedule.event.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.events.cache.EventRangeCache;
+import unischedule.events.cache.LocalCalendarVersionStore;
+import unischedule.events.cache.RedisEventRangeStore;
+import unischedule.events.dto.EventServiceDto;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventRangeCacheTest {
+    private final LocalDateTime startAt = LocalDateTime.of(2025, 9, 1, 0, 0);
+    private final LocalDateTime endAt = startAt.plusDays(1);
+
+    private CalendarVersionService calendarVersionService;
+    private EventRangeCache eventRangeCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        calendarVersionService = new CalendarVersionService(new LocalCalendarVersionStore());
+        eventRangeCache = new EventRangeCache(calendarVersionService, Optional.empty(), true, 100, Duration.ofMinutes(5));
+        loadCount = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 캘린더 집합과 기간은 한 번만 조회")
+    void cachesSameRange() {
+        // when
+        List<EventServiceDto> first = eventRangeCache.get(1L, List.of(1L, 2L), startAt, endAt, loader());
+        List<EventServiceDto> second = eventRangeCache.get(1L, List.of(2L, 1L), startAt, endAt, loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("멤버와 기간이 다르면 따로 조회")
+    void separatesMemberAndRange() {
+        // when
+        eventRangeCache.get(1L, List.of(1L), startAt, endAt, loader());
+        eventRangeCache.get(2L, List.of(1L), startAt, endAt, loader());
+        eventRangeCache.get(null, List.of(1L), startAt, endAt, loader());
+        eventRangeCache.get(1L, List.of(1L), startAt, endAt.plusDays(1), loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("캘린더 버전이 오르면 해당 캘린더를 포함한 결과만 다시 조회")
+    void bumpInvalidatesOnlyChangedCalendar() {
+        // given
+        eventRangeCache.get(1L, List.of(1L, 2L), startAt, endAt, loader());
+        eventRangeCache.get(3L, List.of(3L), startAt, endAt, loader());
+
+        // when
+        calendarVersionService.bump(2L);
+        eventRangeCache.get(1L, List.of(1L, 2L), startAt, endAt, loader());
+        eventRangeCache.get(3L, List.of(3L), startAt, endAt, loader());
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("READ_COMMITTED 가 아닌 트랜잭션 안에서 조회한 결과는 캐시하지 않음")
+    void skipsCachingOutsideReadCommitted() {
+        // when
+        inReadOnlyTransaction(Connection.TRANSACTION_REPEATABLE_READ,
+                () -> eventRangeCache.get(1L, List.of(1L), startAt, endAt, loader()));
+        inReadOnlyTransaction(Connection.TRANSACTION_READ_COMMITTED,
+                () -> eventRangeCache.get(1L, List.of(1L), startAt, endAt, loader()));
+        inReadOnlyTransaction(Connection.TRANSACTION_REPEATABLE_READ,
+                () -> eventRangeCache.get(1L, List.of(1L), startAt, endAt, loader()));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 Redis 에 저장한 결과는 로컬 캐시에 없어도 다시 조회하지 않음")
+    void sharesResultsAcrossNodes() {
+        // given
+        Map<String, String> redis = new HashMap<>();
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+
+        RedisEventRangeStore sharedStore = new RedisEventRangeStore(
+                redisTemplate, new ObjectMapper().findAndRegisterModules(), Duration.ofMinutes(5)
+        );
+        EventRangeCache node = new EventRangeCache(calendarVersionService, Optional.of(sharedStore), true, 100, Duration.ofMinutes(5));
+        EventRangeCache otherNode = new EventRangeCache(calendarVersionService, Optional.of(sharedStore), true, 100, Duration.ofMinutes(5));
+
+        // when
+        List<EventServiceDto> first = node.get(1L, List.of(1L), startAt, endAt, loader());
+        List<EventServiceDto> shared = otherNode.get(1L, List.of(1L), startAt, endAt, loader());
+        calendarVersionService.bump(1L);
+        otherNode.get(1L, List.of(1L), startAt, endAt, loader());
+
+        // then
+        assertThat(shared).isEqualTo(first);
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private void inReadOnlyTransaction(int isolationLevel, Runnable action) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(isolationLevel);
+        try {
+            action.run();
+        }
+        finally {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    private Supplier<List<EventServiceDto>> loader() {
+        return () -> {
+            loadCount.incrementAndGet();
+            return List.of(new EventServiceDto(
+                    1L, "일정", "내용", startAt.plusHours(9), startAt.plusHours(10), false, 1L, null
+            ));
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package unischedule.event.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import unischedule.events.cache.RedisCalendarVersionStore;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCalendarVersionStoreTest {
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final Map<String, String> redis = new HashMap<>();
+    private RedisCalendarVersionStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream().map(redis::get).toList()
+        );
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        when(valueOperations.setIfAbsent(anyString(), anyString())).thenAnswer(invocation ->
+                redis.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null
+        );
+        store = new RedisCalendarVersionStore(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis 에서 버전 키가 사라져도 이전 버전과 겹치지 않음")
+    void versionsDoNotRepeatAfterKeyLoss() throws InterruptedException {
+        // given
+        when(valueOperations.increment(anyString())).thenAnswer(invocation ->
+                redis.merge(invocation.getArgument(0), "1", (value, one) -> String.valueOf(Long.parseLong(value) + 1))
+                        .transform(Long::parseLong)
+        );
+        Long initial = store.getVersions(List.of(1L)).get(0);
+        store.increment(List.of(1L));
+        Long changed = store.getVersions(List.of(1L)).get(0);
+
+        // when
+        Thread.sleep(5);
+        redis.clear();
+        Long afterLoss = store.getVersions(List.of(1L)).get(0);
+
+        // then
+        assertThat(changed).isEqualTo(initial + 1);
+        assertThat(afterLoss).isGreaterThan(changed);
+    }
+}
@@ -0,0 +1,120 @@
+package unischedule.event.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import unischedule.auth.jwt.JwtTokenProvider;
+import unischedule.common.config.SecurityConfig;
+import unischedule.events.controller.CalendarFeedController;
+import unischedule.events.dto.CalendarFeedDto;
+import unischedule.events.service.CalendarFeedService;
+import unischedule.google.handler.OAuth2LoginSuccessHandler;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CalendarFeedController.class)
+@Import(SecurityConfig.class)
+class CalendarFeedControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private CalendarFeedService calendarFeedService;
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private OAuth2AuthorizedClientService authorizedClientService;
+    @MockitoBean
+    private OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
+
+    private final CalendarFeedDto feed = new CalendarFeedDto("내 캘린더", 1L, List.of(1L, 2L), "\"v1\"", 1756684800000L);
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("내 캘린더 구독 주소 발급")
+    void getMyFeedUrl() throws Exception {
+        // given
+        given(calendarFeedService.createMemberFeedToken("test@example.com")).willReturn("token");
+
+        // when & then
+        mockMvc.perform(get("/api/events/feeds/me"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feed_url").value("http://localhost/api/events/feeds/token.ics"));
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("구독 주소 재발급")
+    void regenerateMyFeedUrl() throws Exception {
+        // given
+        given(calendarFeedService.regenerateMemberFeedToken("test@example.com")).willReturn("new-token");
+
+        // when & then
+        mockMvc.perform(post("/api/events/feeds/me/regenerate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feed_url").value("http://localhost/api/events/feeds/new-token.ics"));
+    }
+
+    @Test
+    @DisplayName("구독 주소는 로그인 없이 ICS 를 스트리밍으로 응답")
+    void getFeed() throws Exception {
+        // given
+        given(calendarFeedService.getFeed("token")).willReturn(feed);
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(calendarFeedService).writeFeed(eq(feed), any(OutputStream.class));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/events/feeds/token.ics"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andExpect(content().string("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"));
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 피드를 다시 만들지 않고 304 응답")
+    void getFeed_notModified() throws Exception {
+        // given
+        given(calendarFeedService.getFeed("token")).willReturn(feed);
+
+        // when & then
+        mockMvc.perform(get("/api/events/feeds/token.ics")
+                        .header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified());
+
+        verify(calendarFeedService, never()).writeFeed(any(), any());
+    }
+}
@@ -14,9 +14,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import unischedule.auth.jwt.JwtTokenProvider;
 import unischedule.common.config.SecurityConfig;
 import unischedule.events.controller.PersonalEventController;
+import unischedule.events.domain.EventTombstoneType;
 import unischedule.events.dto.EventCreateResponseDto;
 import unischedule.events.dto.EventGetResponseDto;
 import unischedule.events.dto.EventModifyRequestDto;
+import unischedule.events.dto.EventSyncDeletionDto;
+import unischedule.events.dto.EventSyncResponseDto;
 import unischedule.events.dto.PersonalEventCreateRequestDto;
 import unischedule.events.dto.PersonalEventGetResponseDto;
 import unischedule.events.dto.RecurringEventCreateRequestDto;
@@ -27,17 +30,21 @@ import unischedule.google.handler.OAuth2LoginSuccessHandler;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -148,6 +155,8 @@ public class PersonalEventControllerTest {
                 "personal"
         );
 
+        given(eventService.getPersonalEventsETag(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn("\"v1\"");
         given(eventService.getPersonalEvents(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .willReturn(Collections.singletonList(responseDto));
 
@@ -156,10 +165,52 @@ public class PersonalEventControllerTest {
                 .param("startAt", "2025-09-01T00:00:00")
                 .param("endAt", "2025-09-30T23:59:59"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
                 .andExpect(jsonPath("$[0].event_id").value(1L))
                 .andExpect(jsonPath("$[0].title").value("Test Event"));
     }
 
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("개인 일정 조회 시 ETag 가 같으면 일정 조회 없이 304 응답")
+    void getMyEvents_notModified() throws Exception {
+        // given
+        given(eventService.getPersonalEventsETag(anyString(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn("\"v1\"");
+
+        // when & then
+        mockMvc.perform(get("/api/events")
+                .param("startAt", "2025-09-01T00:00:00")
+                .param("endAt", "2025-09-30T23:59:59")
+                .header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"v1\""));
+
+        verify(eventService, never()).getPersonalEvents(anyString(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("개인 일정 변경분 동기화")
+    void syncMyEvents() throws Exception {
+        // given
+        EventSyncResponseDto responseDto = new EventSyncResponseDto(
+                List.of(),
+                List.of(),
+                List.of(new EventSyncDeletionDto(EventTombstoneType.EVENT, 3L, 3L, LocalDateTime.of(2025, 9, 18, 10, 0))),
+                "next-token"
+        );
+        given(eventService.syncPersonalEvents("test@example.com", "prev-token")).willReturn(responseDto);
+
+        // when & then
+        mockMvc.perform(get("/api/events/sync")
+                .param("syncToken", "prev-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deletions[0].type").value("EVENT"))
+                .andExpect(jsonPath("$.deletions[0].id").value(3L))
+                .andExpect(jsonPath("$.sync_token").value("next-token"));
+    }
+
     @Test
     @WithMockUser(username = "test@example.com")
     @DisplayName("개인 일정 수정")
@@ -33,11 +33,14 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -141,6 +144,8 @@ public class TeamEventControllerTest {
         Long teamId = 1L;
         TeamEventGetResponseDto responseDto = new TeamEventGetResponseDto(1L, "팀 회의", "내용",
                 LocalDateTime.now(), LocalDateTime.now().plusHours(1), false, List.of(1L));
+        given(teamEventService.getTeamEventsETag(anyString(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn("\"v1\"");
         given(teamEventService.getTeamEvents(anyString(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
                 .willReturn(List.of(responseDto));
 
@@ -149,9 +154,29 @@ public class TeamEventControllerTest {
                         .param("startAt", "2025-01-01T00:00:00")
                         .param("endAt", "2025-12-31T23:59:59"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
                 .andExpect(jsonPath("$[0].title").value("팀 회의"));
     }
 
+    @Test
+    @WithMockUser(username = "test@example.com")
+    @DisplayName("팀 일정 조회 시 ETag 가 같으면 일정 조회 없이 304 응답")
+    void getTeamEvents_notModified() throws Exception {
+        // given
+        Long teamId = 1L;
+        given(teamEventService.getTeamEventsETag(anyString(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .willReturn("\"v1\"");
+
+        // when & then
+        mockMvc.perform(get("/api/events/team/{teamId}", teamId)
+                        .param("startAt", "2025-01-01T00:00:00")
+                        .param("endAt", "2025-12-31T23:59:59")
+                        .header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified());
+
+        verify(teamEventService, never()).getTeamEvents(anyString(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
     @Test
     @WithMockUser(username = "test@example.com")
     @DisplayName("팀 일정 수정")
@@ -0,0 +1,114 @@
+package unischedule.event.domain.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import unischedule.events.domain.collection.BusyIntervalSeries;
+import unischedule.events.dto.EventServiceDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusyIntervalSeriesTest {
+    private final Duration hour = Duration.ofHours(1);
+    private final LocalDateTime monday = LocalDateTime.of(2025, 9, 1, 10, 0);
+
+    /**
+     * 매주 월요일 10:00 ~ 11:00, 4회
+     */
+    private final List<LocalDateTime> weekly = List.of(
+            monday, monday.plusWeeks(1), monday.plusWeeks(2), monday.plusWeeks(3)
+    );
+
+    @Test
+    @DisplayName("첫 회차와 겹치는 일정 확인")
+    void overlapWithFirstOccurrence() {
+        // given
+        BusyIntervalSeries series = BusyIntervalSeries.fromServiceDtos(List.of(
+                event(monday.plusMinutes(30), monday.plusMinutes(90))
+        ));
+
+        // when & then
+        assertThat(series.hasOverlapWithAny(weekly, hour)).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 회차와 겹치는 일정 확인")
+    void overlapWithLastOccurrence() {
+        // given
+        LocalDateTime last = weekly.getLast();
+        BusyIntervalSeries series = BusyIntervalSeries.fromServiceDtos(List.of(
+                event(monday.plusDays(1), monday.plusDays(1).plusHours(1)),
+                event(last.minusMinutes(30), last.plusMinutes(1))
+        ));
+
+        // when & then
+        assertThat(series.hasOverlapWithAny(weekly, hour)).isTrue();
+    }
+
+    @Test
+    @DisplayName("회차와 맞닿기만 한 일정은 겹치지 않음")
+    void touchingEndpointsDoNotOverlap() {
+        // given
+        BusyIntervalSeries series = BusyIntervalSeries.fromServiceDtos(List.of(
+                event(monday.minusHours(1), monday),
+                event(monday.plusWeeks(1).plus(hour), monday.plusWeeks(1).plusHours(3)),
+                event(weekly.getLast().minusHours(2), weekly.getLast())
+        ));
+
+        // when & then
+        assertThat(series.hasOverlapWithAny(weekly, hour)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기존 일정이 시간 순이 아니어도 정렬해서 확인")
+    void unsortedEvents() {
+        // given
+        LocalDateTime third = weekly.get(2);
+        BusyIntervalSeries series = BusyIntervalSeries.fromServiceDtos(List.of(
+                event(monday.plusWeeks(5), monday.plusWeeks(5).plusHours(1)),
+                event(third.plusMinutes(59), third.plusHours(2)),
+                event(monday.minusWeeks(1), monday.minusWeeks(1).plusHours(1))
+        ));
+
+        // when & then
+        assertThat(series.hasOverlapWithAny(weekly, hour)).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 회차 이전에 시작해 이후 회차까지 이어지는 일정 확인")
+    void longEventStartingBeforeSpan() {
+        // given
+        LocalDateTime second = weekly.get(1);
+        BusyIntervalSeries series = BusyIntervalSeries.fromServiceDtos(List.of(
+                event(monday.minusDays(3), second.plusMinutes(10))
+        ));
+        BusyIntervalSeries endsBeforeFirst = BusyIntervalSeries.fromServiceDtos(List.of(
+                event(monday.minusDays(3), monday)
+        ));
+
+        // when & then
+        assertThat(series.hasOverlapWithAny(weekly, hour)).isTrue();
+        assertThat(series.hasOverlapWithAny(weekly.subList(1, weekly.size()), hour)).isTrue();
+        assertThat(endsBeforeFirst.hasOverlapWithAny(weekly, hour)).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가한 구간과 겹치는 후보는 확인하고, 맞닿은 후보는 겹치지 않음")
+    void overlapWithAddedIntervals() {
+        // given
+        BusyIntervalSeries series = BusyIntervalSeries.fromServiceDtos(List.of());
+        series.addAll(weekly, hour);
+
+        // when & then
+        assertThat(series.hasOverlapWithAny(List.of(weekly.get(2).plusMinutes(30)), hour)).isTrue();
+        assertThat(series.hasOverlapWithAny(List.of(monday.minusMinutes(30)), hour)).isTrue();
+        assertThat(series.hasOverlapWithAny(List.of(monday.plus(hour), weekly.getLast().minus(hour)), hour)).isFalse();
+    }
+
+    private EventServiceDto event(LocalDateTime startAt, LocalDateTime endAt) {
+        return new EventServiceDto(1L, "일정", null, startAt, endAt, false, 1L, null);
+    }
+}
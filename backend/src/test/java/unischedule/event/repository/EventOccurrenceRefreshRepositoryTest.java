@@ -0,0 +1,70 @@
+package unischedule.event.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import unischedule.common.config.JpaAuditingConfig;
+import unischedule.events.domain.EventOccurrenceRefresh;
+import unischedule.events.repository.EventOccurrenceRefreshRepository;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+class EventOccurrenceRefreshRepositoryTest {
+    private static final Long ID = EventOccurrenceRefresh.SINGLETON_ID;
+
+    @Autowired
+    private EventOccurrenceRefreshRepository eventOccurrenceRefreshRepository;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 9, 1, 4, 0);
+    private final LocalDateTime horizonFrom = LocalDateTime.of(2025, 8, 1, 0, 0);
+    private final LocalDateTime horizonUntil = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    @Test
+    @DisplayName("잠금을 가진 서버가 있으면 다른 서버는 갱신하지 않고, 완료하면 기간이 저장되고 잠금이 풀림")
+    void onlyOneNodeRefreshes() {
+        // when
+        int first = eventOccurrenceRefreshRepository.lock(ID, "node-a", now, now.plusHours(1));
+        int second = eventOccurrenceRefreshRepository.lock(ID, "node-b", now.plusMinutes(1), now.plusHours(1));
+        int completed = eventOccurrenceRefreshRepository.complete(ID, "node-a", horizonFrom, horizonUntil);
+        int next = eventOccurrenceRefreshRepository.lock(ID, "node-b", now.plusMinutes(2), now.plusHours(1));
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(completed).isEqualTo(1);
+        assertThat(next).isEqualTo(1);
+
+        EventOccurrenceRefresh refresh = eventOccurrenceRefreshRepository.findById(ID).orElseThrow();
+        assertThat(refresh.getHorizonFrom()).isEqualTo(horizonFrom);
+        assertThat(refresh.getHorizonUntil()).isEqualTo(horizonUntil);
+        assertThat(refresh.getLockedBy()).isEqualTo("node-b");
+    }
+
+    @Test
+    @DisplayName("잠금 시간이 지나면 다른 서버가 잠금을 가져가고, 이전 서버는 기간을 저장하지 못함")
+    void expiredLockIsTakenOver() {
+        // given
+        eventOccurrenceRefreshRepository.lock(ID, "node-a", now, now.plusHours(1));
+
+        // when
+        int takenOver = eventOccurrenceRefreshRepository.lock(ID, "node-b", now.plusHours(1), now.plusHours(2));
+        int staleComplete = eventOccurrenceRefreshRepository.complete(ID, "node-a", horizonFrom, horizonUntil);
+        int staleUnlock = eventOccurrenceRefreshRepository.unlock(ID, "node-a");
+
+        // then
+        assertThat(takenOver).isEqualTo(1);
+        assertThat(staleComplete).isZero();
+        assertThat(staleUnlock).isZero();
+        assertThat(eventOccurrenceRefreshRepository.findById(ID).orElseThrow().getLockedBy()).isEqualTo("node-b");
+    }
+}
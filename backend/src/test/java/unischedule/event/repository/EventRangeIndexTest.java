@@ -0,0 +1,68 @@
+package unischedule.event.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션으로 만든 스키마에서 기간 조회가 추가한 인덱스를 사용하는지 H2 실행 계획으로 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventRangeIndexTest {
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("기간 내 단일 일정 조회는 캘린더, 반복 규칙, 기간 복합 인덱스 사용")
+    void singleEventsInPeriodUsesIndex() {
+        String plan = explain("""
+                SELECT e.event_id
+                FROM events e
+                WHERE e.calendar_id IN (1, 2)
+                AND e.recurrence_rule_id IS NULL
+                AND e.end_at > TIMESTAMP '2025-09-01 00:00:00'
+                AND e.start_at < TIMESTAMP '2025-10-01 00:00:00'
+                """);
+
+        assertThat(plan).containsIgnoringCase("idx_events_calendar_rule_period");
+    }
+
+    @Test
+    @DisplayName("반복 일정 override 조회는 원본 일정, 원래 회차 시간 인덱스 사용")
+    void overridesForEventsUsesIndex() {
+        String plan = explain("""
+                SELECT eo.event_exception_id
+                FROM event_override eo
+                WHERE eo.original_event_id IN (1, 2)
+                AND eo.original_event_time >= TIMESTAMP '2025-09-01 00:00:00'
+                AND eo.original_event_time < TIMESTAMP '2025-10-01 00:00:00'
+                """);
+
+        assertThat(plan).containsIgnoringCase("idx_event_override_event_time");
+    }
+
+    @Test
+    @DisplayName("선택 참여 여부 서브쿼리는 일정, 멤버 인덱스 사용")
+    void participantExistsUsesIndex() {
+        String plan = explain("""
+                SELECT 1
+                FROM event_participant ep
+                WHERE ep.event_id = 1
+                AND ep.member_id = 2
+                """);
+
+        assertThat(plan).containsIgnoringCase("idx_event_participant_event_member");
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+    }
+}
@@ -0,0 +1,173 @@
+package unischedule.event.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import unischedule.calendar.entity.Calendar;
+import unischedule.common.config.JpaAuditingConfig;
+import unischedule.events.domain.Event;
+import unischedule.events.domain.EventOverride;
+import unischedule.events.domain.RecurrenceRule;
+import unischedule.events.dto.EventOverrideProjectionDto;
+import unischedule.events.dto.EventProjectionDto;
+import unischedule.events.repository.EventOverrideRepository;
+import unischedule.events.repository.EventRepository;
+import unischedule.member.domain.Member;
+import unischedule.team.domain.Team;
+import unischedule.util.TestUtil;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+class EventRepositoryTest {
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventOverrideRepository eventOverrideRepository;
+
+    private final LocalDateTime startAt = LocalDateTime.of(2025, 9, 1, 0, 0);
+    private final LocalDateTime endAt = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    private Calendar personalCalendar;
+    private Calendar teamCalendar;
+    private Team team;
+    private Event weeklyEvent;
+
+    @BeforeEach
+    void setUp() {
+        Member owner = TestUtil.makeMember();
+        team = TestUtil.makeTeam();
+        personalCalendar = TestUtil.makePersonalCalendar(owner);
+        teamCalendar = TestUtil.makeTeamCalendar(owner, team);
+        entityManager.persist(owner);
+        entityManager.persist(team);
+        entityManager.persist(personalCalendar);
+        entityManager.persist(teamCalendar);
+
+        persistEvent(personalCalendar, "개인 일정", LocalDateTime.of(2025, 9, 2, 10, 0), null);
+        persistEvent(teamCalendar, "팀 일정", LocalDateTime.of(2025, 9, 3, 10, 0), null);
+        weeklyEvent = persistEvent(teamCalendar, "주간 회의", LocalDateTime.of(2025, 9, 1, 9, 0), "FREQ=WEEKLY;BYDAY=MO");
+
+        entityManager.persist(new EventOverride(
+                weeklyEvent,
+                LocalDateTime.of(2025, 9, 8, 9, 0),
+                "옮긴 회의",
+                "내용",
+                LocalDateTime.of(2025, 9, 9, 9, 0),
+                LocalDateTime.of(2025, 9, 9, 10, 0)
+        ));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("단일 일정 projection 은 캘린더 id 와 팀 id 를 함께 조회")
+    void singleEventProjections() {
+        // when
+        List<EventProjectionDto> result = eventRepository.findSingleEventsInPeriod(
+                List.of(personalCalendar.getCalendarId(), teamCalendar.getCalendarId()),
+                startAt,
+                endAt
+        );
+
+        // then
+        assertThat(result)
+                .extracting(EventProjectionDto::title, EventProjectionDto::calendarId, EventProjectionDto::teamId, EventProjectionDto::rruleString)
+                .containsExactlyInAnyOrder(
+                        tuple("개인 일정", personalCalendar.getCalendarId(), null, null),
+                        tuple("팀 일정", teamCalendar.getCalendarId(), team.getTeamId(), null)
+                );
+    }
+
+    @Test
+    @DisplayName("반복 일정 projection 은 반복 규칙 문자열을 함께 조회")
+    void recurringEventProjections() {
+        // when
+        List<EventProjectionDto> result = eventRepository.findRecurringEventsInPeriod(
+                List.of(personalCalendar.getCalendarId(), teamCalendar.getCalendarId()),
+                startAt,
+                endAt
+        );
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().eventId()).isEqualTo(weeklyEvent.getEventId());
+        assertThat(result.getFirst().teamId()).isEqualTo(team.getTeamId());
+        assertThat(result.getFirst().rruleString()).isEqualTo("FREQ=WEEKLY;BYDAY=MO");
+    }
+
+    @Test
+    @DisplayName("override projection 은 원본 일정 id 로 조회")
+    void overrideProjections() {
+        // when
+        List<EventOverrideProjectionDto> result = eventOverrideRepository.findOverrideProjectionsForEvents(
+                List.of(weeklyEvent.getEventId()),
+                startAt,
+                endAt
+        );
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().originalEventId()).isEqualTo(weeklyEvent.getEventId());
+        assertThat(result.getFirst().originalEventTime()).isEqualTo(LocalDateTime.of(2025, 9, 8, 9, 0));
+        assertThat(result.getFirst().isDeleteOverride()).isFalse();
+    }
+
+    @Test
+    @DisplayName("구독 피드용 스트림은 반복 일정을 전개하지 않고 캘린더 전체 일정과 override 를 id 순으로 조회")
+    void feedStreams() {
+        // given
+        List<Long> calendarIds = List.of(personalCalendar.getCalendarId(), teamCalendar.getCalendarId());
+
+        // when
+        List<EventProjectionDto> events;
+        try (Stream<EventProjectionDto> stream = eventRepository.streamFeedEvents(calendarIds)) {
+            events = stream.toList();
+        }
+        List<EventOverrideProjectionDto> overrides;
+        try (Stream<EventOverrideProjectionDto> stream = eventOverrideRepository.streamFeedOverrides(calendarIds)) {
+            overrides = stream.toList();
+        }
+
+        // then
+        assertThat(events)
+                .extracting(EventProjectionDto::title, EventProjectionDto::rruleString)
+                .containsExactly(
+                        tuple("개인 일정", null),
+                        tuple("팀 일정", null),
+                        tuple("주간 회의", "FREQ=WEEKLY;BYDAY=MO")
+                );
+        assertThat(overrides)
+                .extracting(EventOverrideProjectionDto::originalEventId, EventOverrideProjectionDto::title)
+                .containsExactly(tuple(weeklyEvent.getEventId(), "옮긴 회의"));
+    }
+
+    private Event persistEvent(Calendar calendar, String title, LocalDateTime eventStart, String rrule) {
+        Event event = new Event(title, "내용", eventStart, eventStart.plusHours(1), false);
+        event.connectCalendar(calendar);
+        if (rrule != null) {
+            RecurrenceRule recurrenceRule = new RecurrenceRule(rrule);
+            entityManager.persist(recurrenceRule);
+            event.connectRecurrenceRule(recurrenceRule);
+        }
+        entityManager.persist(event);
+        return event;
+    }
+}
@@ -0,0 +1,288 @@
+package unischedule.event.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import unischedule.calendar.entity.Calendar;
+import unischedule.calendar.service.CalendarIdResolver;
+import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.events.domain.Event;
+import unischedule.events.dto.EventImportResponseDto;
+import unischedule.events.dto.EventServiceDto;
+import unischedule.events.dto.IcsEventDto;
+import unischedule.events.service.EventImportService;
+import unischedule.events.service.common.EventCommandService;
+import unischedule.events.service.common.EventQueryService;
+import unischedule.events.util.DateTimeUtil;
+import unischedule.events.util.RRuleCache;
+import unischedule.events.util.RRuleParser;
+import unischedule.exception.InvalidInputException;
+import unischedule.member.domain.Member;
+import unischedule.member.service.internal.MemberRawService;
+import unischedule.util.TestUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventImportServiceTest {
+    @Mock
+    private MemberRawService memberRawService;
+    @Mock
+    private CalendarRawService calendarRawService;
+    @Mock
+    private CalendarIdResolver calendarIdResolver;
+    @Mock
+    private EventQueryService eventQueryService;
+    @Mock
+    private EventCommandService eventCommandService;
+
+    private EventImportService eventImportService;
+
+    private final String email = "test@example.com";
+    private Member member;
+    private Calendar calendar;
+
+    @BeforeEach
+    void setUp() {
+        eventImportService = new EventImportService(
+                memberRawService,
+                calendarRawService,
+                calendarIdResolver,
+                eventQueryService,
+                eventCommandService,
+                new RRuleParser(new DateTimeUtil(), new RRuleCache(10)),
+                1,
+                Duration.ofDays(730),
+                20000
+        );
+        member = TestUtil.makeMember();
+        calendar = TestUtil.makePersonalCalendar(member);
+    }
+
+    @Test
+    @DisplayName("기존 일정과 겹치는 일정은 건너뛰고, 나머지는 묶음 단위로 저장한 뒤 변경된 회차를 마지막에 저장")
+    void importIcs() {
+        // given
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "UID:overlap",
+                "DTSTART:20250902T103000",
+                "DTEND:20250902T113000",
+                "SUMMARY:겹치는 일정",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:weekly",
+                "RECURRENCE-ID:20250916T100000",
+                "DTSTART:20250917T100000",
+                "DTEND:20250917T110000",
+                "SUMMARY:옮긴 스터디",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:single",
+                "DTSTART:20250903T100000",
+                "DTEND:20250903T110000",
+                "SUMMARY:단일 일정",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:weekly",
+                "DTSTART:20250909T100000",
+                "DTEND:20250909T110000",
+                "RRULE:FREQ=WEEKLY;BYDAY=TU;COUNT=3",
+                "SUMMARY:스터디",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:invalid",
+                "DTSTART:20250904T110000",
+                "DTEND:20250904T100000",
+                "SUMMARY:잘못된 일정",
+                "END:VEVENT",
+                "END:VCALENDAR",
+                ""
+        );
+        MockMultipartFile file = new MockMultipartFile("file", "export.ics", "text/calendar", ics.getBytes(StandardCharsets.UTF_8));
+
+        EventServiceDto busy = new EventServiceDto(
+                1L, "기존 일정", null,
+                LocalDateTime.of(2025, 9, 2, 10, 0), LocalDateTime.of(2025, 9, 2, 11, 0),
+                false, 1L, null
+        );
+        when(memberRawService.findMemberByEmail(email)).thenReturn(member);
+        when(calendarRawService.getMyPersonalCalendar(member)).thenReturn(calendar);
+        when(calendarIdResolver.getMemberCalendarIds(member)).thenReturn(List.of(1L));
+        when(eventQueryService.getEventsForMember(
+                member,
+                List.of(1L),
+                LocalDateTime.of(2025, 9, 2, 10, 30),
+                LocalDateTime.of(2025, 9, 23, 11, 0)
+        )).thenReturn(List.of(busy));
+
+        AtomicLong nextEventId = new AtomicLong(100L);
+        when(eventCommandService.importEvents(eq(calendar), anyList())).thenAnswer(invocation -> {
+            List<IcsEventDto> chunk = invocation.getArgument(1);
+            return chunk.stream().map(dto -> {
+                Event event = TestUtil.makeEvent(dto.title(), dto.content());
+                ReflectionTestUtils.setField(event, "eventId", nextEventId.getAndIncrement());
+                return event;
+            }).toList();
+        });
+
+        // when
+        EventImportResponseDto result = eventImportService.importIcs(email, file);
+
+        // then
+        assertThat(result.importedEvents()).isEqualTo(2);
+        assertThat(result.skippedOverlaps()).isEqualTo(1);
+        assertThat(result.skippedInvalid()).isEqualTo(1);
+
+        verify(eventCommandService, times(2)).importEvents(eq(calendar), anyList());
+        verify(eventCommandService).importInstanceOverrides(argThat((Map<Long, List<IcsEventDto>> instances) ->
+                instances.size() == 1
+                        && instances.get(101L).size() == 1
+                        && instances.get(101L).getFirst().recurrenceId().equals(LocalDateTime.of(2025, 9, 16, 10, 0))
+        ));
+    }
+
+    @Test
+    @DisplayName("같은 파일 안에서 먼저 가져온 일정과 겹치는 일정은 건너뜀")
+    void skipOverlapsWithinFile() {
+        // given
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "BEGIN:VEVENT",
+                "UID:first",
+                "DTSTART:20250905T100000",
+                "DTEND:20250905T110000",
+                "SUMMARY:먼저 가져온 일정",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:overlap",
+                "DTSTART:20250905T103000",
+                "DTEND:20250905T113000",
+                "SUMMARY:겹치는 일정",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:weekly",
+                "DTSTART:20250829T100000",
+                "DTEND:20250829T103000",
+                "RRULE:FREQ=WEEKLY;BYDAY=FR;COUNT=2",
+                "SUMMARY:둘째 회차가 겹치는 반복 일정",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:adjacent",
+                "DTSTART:20250905T110000",
+                "DTEND:20250905T120000",
+                "SUMMARY:맞닿은 일정",
+                "END:VEVENT",
+                "END:VCALENDAR",
+                ""
+        );
+        MockMultipartFile file = new MockMultipartFile("file", "export.ics", "text/calendar", ics.getBytes(StandardCharsets.UTF_8));
+
+        when(memberRawService.findMemberByEmail(email)).thenReturn(member);
+        when(calendarRawService.getMyPersonalCalendar(member)).thenReturn(calendar);
+        when(calendarIdResolver.getMemberCalendarIds(member)).thenReturn(List.of(1L));
+        when(eventQueryService.getEventsForMember(
+                member,
+                List.of(1L),
+                LocalDateTime.of(2025, 8, 29, 10, 0),
+                LocalDateTime.of(2025, 9, 5, 12, 0)
+        )).thenReturn(List.of());
+        List<String> importedUids = new ArrayList<>();
+        when(eventCommandService.importEvents(eq(calendar), anyList())).thenAnswer(invocation -> {
+            List<IcsEventDto> chunk = invocation.getArgument(1);
+            chunk.forEach(dto -> importedUids.add(dto.uid()));
+            return chunk.stream().map(dto -> TestUtil.makeEvent(dto.title(), dto.content())).toList();
+        });
+
+        // when
+        EventImportResponseDto result = eventImportService.importIcs(email, file);
+
+        // then
+        assertThat(result.importedEvents()).isEqualTo(2);
+        assertThat(result.skippedOverlaps()).isEqualTo(2);
+        assertThat(importedUids).containsExactly("first", "adjacent");
+    }
+
+    @Test
+    @DisplayName("기간이나 반복 회차 수가 한도를 넘는 파일은 기존 일정을 조회하지 않고 거절")
+    void rejectFilesBeyondLimits() {
+        // given
+        EventImportService limitedService = new EventImportService(
+                memberRawService,
+                calendarRawService,
+                calendarIdResolver,
+                eventQueryService,
+                eventCommandService,
+                new RRuleParser(new DateTimeUtil(), new RRuleCache(10)),
+                1,
+                Duration.ofDays(365),
+                10
+        );
+        MockMultipartFile longSpan = icsFile(
+                "BEGIN:VEVENT",
+                "UID:old",
+                "DTSTART:20150902T100000",
+                "DTEND:20150902T110000",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:new",
+                "DTSTART:20300902T100000",
+                "DTEND:20300902T110000",
+                "END:VEVENT"
+        );
+        MockMultipartFile manyOccurrences = icsFile(
+                "BEGIN:VEVENT",
+                "UID:daily",
+                "DTSTART:20250901T100000",
+                "DTEND:20250901T110000",
+                "RRULE:FREQ=DAILY;COUNT=11",
+                "END:VEVENT"
+        );
+        when(memberRawService.findMemberByEmail(email)).thenReturn(member);
+        when(calendarRawService.getMyPersonalCalendar(member)).thenReturn(calendar);
+        when(calendarIdResolver.getMemberCalendarIds(member)).thenReturn(List.of(1L));
+
+        // when & then
+        assertThatThrownBy(() -> limitedService.importIcs(email, longSpan))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> limitedService.importIcs(email, manyOccurrences))
+                .isInstanceOf(InvalidInputException.class);
+        verifyNoInteractions(eventQueryService, eventCommandService);
+    }
+
+    @Test
+    @DisplayName("빈 파일은 거절")
+    void rejectEmptyFile() {
+        MockMultipartFile file = new MockMultipartFile("file", "export.ics", "text/calendar", new byte[0]);
+
+        assertThatThrownBy(() -> eventImportService.importIcs(email, file))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    private MockMultipartFile icsFile(String... lines) {
+        String ics = "BEGIN:VCALENDAR\r\n" + String.join("\r\n", lines) + "\r\nEND:VCALENDAR\r\n";
+        return new MockMultipartFile("file", "export.ics", "text/calendar", ics.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,75 @@
+package unischedule.event.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import unischedule.events.domain.EventOccurrenceRefresh;
+import unischedule.events.service.common.EventOccurrenceService;
+import unischedule.events.service.internal.EventOccurrenceRawService;
+import unischedule.events.service.internal.EventOccurrenceRefreshRawService;
+import unischedule.events.service.internal.RecurringEventRawService;
+import unischedule.events.util.RRuleParser;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventOccurrenceServiceTest {
+    @Mock
+    private EventOccurrenceRawService eventOccurrenceRawService;
+    @Mock
+    private EventOccurrenceRefreshRawService eventOccurrenceRefreshRawService;
+    @Mock
+    private RecurringEventRawService recurringEventRawService;
+    @Mock
+    private RRuleParser rruleParser;
+
+    @InjectMocks
+    private EventOccurrenceService eventOccurrenceService;
+
+    private final LocalDateTime horizonFrom = LocalDateTime.of(2025, 8, 1, 0, 0);
+    private final LocalDateTime horizonUntil = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(eventOccurrenceService, "horizonCacheTtl", Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("저장된 회차 기간은 보관 시간 동안 DB 에서 다시 읽지 않고, 이 서버가 갱신하면 바로 반영")
+    void cachesMaterializedHorizon() {
+        // given
+        EventOccurrenceRefresh refresh = mock(EventOccurrenceRefresh.class);
+        when(refresh.getHorizonFrom()).thenReturn(horizonFrom);
+        when(refresh.getHorizonUntil()).thenReturn(horizonUntil);
+        when(eventOccurrenceRefreshRawService.findRefresh()).thenReturn(Optional.of(refresh));
+        LocalDateTime nextUntil = horizonUntil.plusMonths(1);
+        when(eventOccurrenceRefreshRawService.complete("node-a", horizonFrom.plusMonths(1), nextUntil)).thenReturn(true);
+
+        // when
+        boolean inside = eventOccurrenceService.covers(horizonFrom, horizonFrom.plusDays(7));
+        boolean outside = eventOccurrenceService.covers(horizonUntil.minusDays(1), horizonUntil.plusDays(1));
+        eventOccurrenceService.completeRefresh(
+                "node-a", new EventOccurrenceService.Horizon(horizonFrom.plusMonths(1), nextUntil)
+        );
+        boolean afterRefresh = eventOccurrenceService.covers(horizonUntil.minusDays(1), horizonUntil.plusDays(1));
+
+        // then
+        assertThat(inside).isTrue();
+        assertThat(outside).isFalse();
+        assertThat(afterRefresh).isTrue();
+        verify(eventOccurrenceRefreshRawService, times(1)).findRefresh();
+    }
+}
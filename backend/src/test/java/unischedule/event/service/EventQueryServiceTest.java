@@ -0,0 +1,105 @@
+package unischedule.event.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import unischedule.events.cache.EventRangeCache;
+import unischedule.events.dto.EventParticipantIdDto;
+import unischedule.events.dto.EventServiceDto;
+import unischedule.events.service.common.EventQueryService;
+import unischedule.events.service.internal.EventParticipantRawService;
+import unischedule.events.util.RRuleParser;
+import unischedule.exception.InvalidInputException;
+import unischedule.member.domain.Member;
+import unischedule.util.TestUtil;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventQueryServiceTest {
+    @Mock
+    private EventRangeCache eventRangeCache;
+    @Mock
+    private EventParticipantRawService eventParticipantRawService;
+    @Mock
+    private RRuleParser rruleParser;
+
+    @InjectMocks
+    private EventQueryService eventQueryService;
+
+    private final LocalDateTime startAt = LocalDateTime.of(2025, 11, 3, 0, 0);
+    private final LocalDateTime endAt = startAt.plusDays(7);
+
+    @Test
+    @DisplayName("멤버 캘린더 합집합의 일정을 한 번 조회해, 선택 참여 팀 일정은 참여자에게만 나눔")
+    void getEventsForMembers() {
+        // given
+        EventServiceDto alicePersonal = event(1L, 10L, null);
+        EventServiceDto bobPersonal = event(2L, 20L, null);
+        EventServiceDto teamForAll = event(3L, 30L, 100L);
+        EventServiceDto teamSelective = event(4L, 30L, 100L);
+
+        when(eventRangeCache.get(isNull(), eq(List.of(10L, 20L, 30L)), eq(startAt), eq(endAt), any()))
+                .thenReturn(List.of(alicePersonal, bobPersonal, teamForAll, teamSelective));
+        when(eventParticipantRawService.getParticipantIdsForEvents(List.of(3L, 4L))).thenReturn(List.of(
+                new EventParticipantIdDto(3L, false, null),
+                new EventParticipantIdDto(4L, true, 2L)
+        ));
+
+        // when
+        Map<Long, List<EventServiceDto>> result = eventQueryService.getEventsForMembers(
+                Map.of(1L, List.of(10L, 30L), 2L, List.of(20L, 30L)),
+                startAt,
+                endAt
+        );
+
+        // then
+        assertThat(result.get(1L)).containsExactlyInAnyOrder(alicePersonal, teamForAll);
+        assertThat(result.get(2L)).containsExactlyInAnyOrder(bobPersonal, teamForAll, teamSelective);
+    }
+
+    @Test
+    @DisplayName("새 반복 일정은 첫 회차부터 마지막 회차까지의 기존 일정을 한 번 조회해, 마지막 회차와 겹쳐도 거절")
+    void checkNewRecurringEventOverlap() {
+        // given
+        Member member = TestUtil.makeMember();
+        ReflectionTestUtils.setField(member, "memberId", 1L);
+        LocalDateTime first = startAt.plusHours(10);
+        LocalDateTime last = first.plusWeeks(2);
+        when(rruleParser.calEventStartTimeList(first, "FREQ=WEEKLY;COUNT=3"))
+                .thenReturn(List.of(first, first.plusWeeks(1), last));
+        when(eventRangeCache.get(eq(1L), eq(List.of(10L)), eq(first), eq(last.plusHours(1)), any()))
+                .thenReturn(List.of(
+                        new EventServiceDto(1L, "일정", null, last.plusMinutes(30), last.plusHours(2), false, 10L, null)
+                ))
+                .thenReturn(List.of(
+                        new EventServiceDto(1L, "일정", null, last.plusHours(1), last.plusHours(2), false, 10L, null)
+                ));
+
+        // when & then
+        assertThatThrownBy(() -> eventQueryService.checkNewRecurringEventOverlapForMember(
+                member, List.of(10L), first, first.plusHours(1), "FREQ=WEEKLY;COUNT=3"
+        )).isInstanceOf(InvalidInputException.class);
+        assertThatCode(() -> eventQueryService.checkNewRecurringEventOverlapForMember(
+                member, List.of(10L), first, first.plusHours(1), "FREQ=WEEKLY;COUNT=3"
+        )).doesNotThrowAnyException();
+    }
+
+    private EventServiceDto event(Long eventId, Long calendarId, Long teamId) {
+        return new EventServiceDto(eventId, "일정", null, startAt.plusHours(9), startAt.plusHours(10), false, calendarId, teamId);
+    }
+}
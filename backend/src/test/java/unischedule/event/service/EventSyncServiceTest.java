@@ -0,0 +1,127 @@
+package unischedule.event.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import unischedule.calendar.entity.Calendar;
+import unischedule.events.domain.Event;
+import unischedule.events.domain.EventTombstone;
+import unischedule.events.domain.EventTombstoneType;
+import unischedule.events.dto.EventSyncResponseDto;
+import unischedule.events.service.common.EventSyncService;
+import unischedule.events.service.internal.EventOverrideRawService;
+import unischedule.events.service.internal.EventRawService;
+import unischedule.events.service.internal.EventTombstoneRawService;
+import unischedule.events.util.SyncToken;
+import unischedule.exception.InvalidInputException;
+import unischedule.member.domain.Member;
+import unischedule.util.TestUtil;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventSyncServiceTest {
+    @Mock
+    private EventRawService eventRawService;
+    @Mock
+    private EventOverrideRawService eventOverrideRawService;
+    @Mock
+    private EventTombstoneRawService eventTombstoneRawService;
+
+    private EventSyncService eventSyncService;
+
+    private final Long calendarId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        eventSyncService = new EventSyncService(
+                eventRawService,
+                eventOverrideRawService,
+                eventTombstoneRawService,
+                Duration.ofMinutes(1),
+                Duration.ofDays(30)
+        );
+    }
+
+    @Test
+    @DisplayName("토큰 없이 동기화하면 캘린더 전체 일정을 반환하고 삭제 기록은 조회하지 않음")
+    void syncWithoutToken() {
+        // given
+        Event event = TestUtil.makeEvent("일정", "내용");
+        ReflectionTestUtils.setField(event, "eventId", 10L);
+        when(eventRawService.findEventsForSync(calendarId, null)).thenReturn(List.of(event));
+        when(eventOverrideRawService.findEventOverridesForSync(calendarId, null)).thenReturn(List.of());
+
+        // when
+        EventSyncResponseDto result = eventSyncService.sync(calendarId, null);
+
+        // then
+        assertThat(result.events()).hasSize(1);
+        assertThat(result.events().getFirst().eventId()).isEqualTo(10L);
+        assertThat(result.deletions()).isEmpty();
+        assertThat(SyncToken.decode(result.syncToken()).since()).isBefore(LocalDateTime.now());
+        verify(eventTombstoneRawService, never()).findTombstonesSince(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("토큰으로 동기화하면 토큰 시각 이후 변경분과 삭제 기록을 반환")
+    void syncWithToken() {
+        // given
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        String token = new SyncToken(since).encode();
+
+        Member owner = TestUtil.makeMember();
+        Calendar calendar = TestUtil.makePersonalCalendar(owner);
+        ReflectionTestUtils.setField(calendar, "calendarId", calendarId);
+        Event deletedEvent = TestUtil.makeEvent("삭제된 일정", "내용");
+        ReflectionTestUtils.setField(deletedEvent, "eventId", 20L);
+        deletedEvent.connectCalendar(calendar);
+
+        when(eventRawService.findEventsForSync(calendarId, since)).thenReturn(List.of());
+        when(eventOverrideRawService.findEventOverridesForSync(calendarId, since)).thenReturn(List.of());
+        when(eventTombstoneRawService.findTombstonesSince(eq(calendarId), eq(since)))
+                .thenReturn(List.of(EventTombstone.ofEvent(deletedEvent)));
+
+        // when
+        EventSyncResponseDto result = eventSyncService.sync(calendarId, token);
+
+        // then
+        assertThat(result.events()).isEmpty();
+        assertThat(result.deletions()).hasSize(1);
+        assertThat(result.deletions().getFirst().type()).isEqualTo(EventTombstoneType.EVENT);
+        assertThat(result.deletions().getFirst().id()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("삭제 기록 보관 기간보다 오래된 토큰은 거절")
+    void rejectExpiredToken() {
+        // given
+        String token = new SyncToken(LocalDateTime.now().minusDays(31)).encode();
+
+        // when & then
+        assertThatThrownBy(() -> eventSyncService.sync(calendarId, token))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 거절")
+    void rejectMalformedToken() {
+        assertThatThrownBy(() -> eventSyncService.sync(calendarId, "not-a-token"))
+                .isInstanceOf(InvalidInputException.class);
+    }
+}
@@ -11,7 +11,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.util.ReflectionTestUtils;
 import unischedule.calendar.entity.Calendar;
+import unischedule.calendar.service.CalendarIdResolver;
 import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.events.cache.CalendarVersionService;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventOverride;
 import unischedule.events.dto.EventCreateDto;
@@ -33,10 +35,6 @@ import unischedule.exception.EntityNotFoundException;
 import unischedule.lecture.service.internal.LectureRawService;
 import unischedule.member.domain.Member;
 import unischedule.member.service.internal.MemberRawService;
-import unischedule.team.domain.Team;
-import unischedule.team.domain.TeamMember;
-import unischedule.team.domain.TeamRole;
-import unischedule.team.service.internal.TeamMemberRawService;
 import unischedule.util.TestUtil;
 
 import java.time.LocalDate;
@@ -49,6 +47,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -73,7 +72,9 @@ class PersonalEventServiceTest {
     @Mock
     private CalendarRawService calendarRawService;
     @Mock
-    private TeamMemberRawService teamMemberRawService;
+    private CalendarIdResolver calendarIdResolver;
+    @Mock
+    private CalendarVersionService calendarVersionService;
     @Mock
     private EventCommandService eventCommandService;
     @Mock
@@ -101,7 +102,7 @@ class PersonalEventServiceTest {
                 memberRawService,
                 eventRawService,
                 calendarRawService,
-                teamMemberRawService,
+                calendarIdResolver,
                 eventQueryService,
                 eventCommandService
         );
@@ -178,20 +179,15 @@ class PersonalEventServiceTest {
         LocalDateTime start = LocalDateTime.of(2025, 9, 1, 0, 0);
         LocalDateTime end   = LocalDateTime.of(2025, 9, 30, 23, 59);
 
-        Team team = TestUtil.makeTeam();
-        TeamMember teamMember = TestUtil.makeTeamMember(team, owner);
-        Calendar teamCalendar = mock(Calendar.class);
-
-        given(teamCalendar.getCalendarId()).willReturn(2L);
-        given(personalCalendar.getCalendarId()).willReturn(1L);
-
         EventServiceDto event1 = new EventServiceDto(
                 1L,
                 "회의",
                 "주간 회의",
                 LocalDateTime.of(2025, 9, 10, 10, 0),
                 LocalDateTime.of(2025, 9, 10, 11, 0),
-                false
+                false,
+                1L,
+                null
         );
 
         EventServiceDto event2 = new EventServiceDto(
@@ -200,31 +196,21 @@ class PersonalEventServiceTest {
                 "분기별 워크샵",
                 LocalDateTime.of(2025, 9, 15, 14, 0),
                 LocalDateTime.of(2025, 9, 15, 17, 0),
-                false
+                false,
+                2L,
+                10L
         );
 
         List<Long> calendarIds = List.of(1L, 2L);
 
         given(memberRawService.findMemberByEmail(memberEmail)).willReturn(owner);
-        given(calendarRawService.getMyPersonalCalendar(owner)).willReturn(personalCalendar);
-        given(teamMemberRawService.findByMember(owner)).willReturn(List.of(teamMember));
-        given(calendarRawService.getTeamCalendar(team)).willReturn(teamCalendar);
+        given(calendarIdResolver.getMemberCalendarIds(owner)).willReturn(calendarIds);
 
         given(eventQueryService.getEventsForMember(eq(owner), eq(calendarIds), eq(start), eq(end)))
                 .willReturn(List.of(event1, event2));
 
         given(lectureRawService.getAllLectureEventIds(anyString())).willReturn(Collections.emptySet());
 
-        Event mockEvent1 = mock(Event.class);
-        given(mockEvent1.getEventId()).willReturn(1L);
-        given(mockEvent1.getCalendar()).willReturn(personalCalendar);
-        given(eventRawService.findEventById(1L)).willReturn(mockEvent1);
-
-        Event mockEvent2 = mock(Event.class);
-        given(mockEvent2.getEventId()).willReturn(2L);
-        given(mockEvent2.getCalendar()).willReturn(teamCalendar);
-        given(teamCalendar.hasTeam()).willReturn(true);
-        given(eventRawService.findEventById(2L)).willReturn(mockEvent2);
         // when
         List<PersonalEventGetResponseDto> result = eventService.getPersonalEvents(memberEmail, start, end);
 
@@ -234,16 +220,13 @@ class PersonalEventServiceTest {
         assertThat(result.get(1).title()).isEqualTo(event2.title());
         assertThat(result.getFirst().type()).isEqualTo("personal");
         assertThat(result.get(1).type()).isEqualTo("team");
+        verify(eventRawService, never()).findEventById(anyLong());
 
         verify(memberRawService).findMemberByEmail(memberEmail);
-        verify(calendarRawService).getMyPersonalCalendar(owner);
-        verify(teamMemberRawService).findByMember(owner);
-        verify(calendarRawService).getTeamCalendar(team);
+        verify(calendarIdResolver).getMemberCalendarIds(owner);
         verify(eventQueryService).getEventsForMember(eq(owner), eq(calendarIds), eq(start), eq(end));
 
         verify(lectureRawService).getAllLectureEventIds(anyString());
-        verify(eventRawService).findEventById(1L);
-        verify(eventRawService).findEventById(2L);
     }
 
     @Test
@@ -448,7 +431,6 @@ class PersonalEventServiceTest {
         doThrow(new AccessDeniedException("해당 캘린더에 대한 접근 권한이 없습니다."))
                 .when(existingEvent).validateEventOwner(any(Member.class));
 
-
         // when & then
         assertThatThrownBy(() -> eventService.modifyPersonalEvent(memberEmail, eventId, requestDto))
                 .isInstanceOf(AccessDeniedException.class)
@@ -546,19 +528,9 @@ class PersonalEventServiceTest {
         String email = "test@test.com";
 
         Member member = owner;
-        Team team = TestUtil.makeTeam();
-        TeamMember teamMember = new TeamMember(team, member, TeamRole.LEADER);
-
-        Calendar teamCalendar = spy(TestUtil.makeTeamCalendar(owner, team));
-        when(teamCalendar.getCalendarId()).thenReturn(100L);
-
-        Calendar personalCalendar = spy(TestUtil.makePersonalCalendar(owner));
-        when(personalCalendar.getCalendarId()).thenReturn(200L);
 
         when(memberRawService.findMemberByEmail(email)).thenReturn(member);
-        when(teamMemberRawService.findByMember(member)).thenReturn(List.of(teamMember));
-        when(calendarRawService.getTeamCalendar(team)).thenReturn(teamCalendar);
-        when(calendarRawService.getMyPersonalCalendar(member)).thenReturn(personalCalendar);
+        when(calendarIdResolver.getMemberCalendarIds(member)).thenReturn(List.of(200L, 100L));
 
         LocalDateTime start = LocalDate.now().plusDays(1).atStartOfDay();
         LocalDateTime end = LocalDate.now().plusDays(8).atStartOfDay();
@@ -569,7 +541,9 @@ class PersonalEventServiceTest {
                 "주간 회의",
                 LocalDateTime.of(2025, 9, 10, 10, 0),
                 LocalDateTime.of(2025, 9, 10, 11, 0),
-                true
+                true,
+                200L,
+                null
         );
 
         EventServiceDto event2 = new EventServiceDto(
@@ -578,7 +552,9 @@ class PersonalEventServiceTest {
                 "분기별 워크샵",
                 LocalDateTime.of(2025, 9, 15, 14, 0),
                 LocalDateTime.of(2025, 9, 15, 17, 0),
-                false
+                false,
+                100L,
+                10L
         );
 
         when(eventQueryService.getEventsForMember(eq(member), anyList(), eq(start), eq(end)))
@@ -586,16 +562,6 @@ class PersonalEventServiceTest {
 
         given(lectureRawService.getAllLectureEventIds(anyString())).willReturn(Collections.emptySet());
 
-        Event mockEvent1 = mock(Event.class);
-        given(mockEvent1.getEventId()).willReturn(1L);
-        given(mockEvent1.getCalendar()).willReturn(personalCalendar);
-        given(eventRawService.findEventById(1L)).willReturn(mockEvent1);
-
-        Event mockEvent2 = mock(Event.class);
-        given(mockEvent2.getEventId()).willReturn(2L);
-        given(mockEvent2.getCalendar()).willReturn(teamCalendar);
-        given(eventRawService.findEventById(2L)).willReturn(mockEvent2);
-
         // when
         List<PersonalEventGetResponseDto> result = eventService.getUpcomingMyEvent(email);
 
@@ -604,9 +570,7 @@ class PersonalEventServiceTest {
         assertThat(result.getFirst().title()).isEqualTo("회의");
 
         verify(memberRawService).findMemberByEmail(email);
-        verify(teamMemberRawService).findByMember(member);
-        verify(calendarRawService).getTeamCalendar(team);
-        verify(calendarRawService).getMyPersonalCalendar(member);
+        verify(calendarIdResolver).getMemberCalendarIds(member);
         verify(eventQueryService).getEventsForMember(eq(member), anyList(), eq(start), eq(end));
     }
 
@@ -617,14 +581,6 @@ class PersonalEventServiceTest {
         String email = "today@test.com";
 
         Member member = owner;
-        Team team = TestUtil.makeTeam();
-        TeamMember teamMember = TestUtil.makeTeamMember(team, member);
-
-        Calendar teamCalendar = spy(TestUtil.makeTeamCalendar(owner, team));
-        when(teamCalendar.getCalendarId()).thenReturn(100L);
-
-        Calendar personalCalendar = spy(TestUtil.makePersonalCalendar(owner));
-        when(personalCalendar.getCalendarId()).thenReturn(200L);
 
         LocalDateTime start = LocalDate.now().atStartOfDay();
         LocalDateTime end = LocalDate.now().plusDays(1).atStartOfDay();
@@ -635,7 +591,9 @@ class PersonalEventServiceTest {
                 "주간 회의",
                 LocalDateTime.of(2025, 9, 10, 10, 0),
                 LocalDateTime.of(2025, 9, 10, 11, 0),
-                false
+                false,
+                200L,
+                null
         );
 
         EventServiceDto event2 = new EventServiceDto(
@@ -644,28 +602,18 @@ class PersonalEventServiceTest {
                 "분기별 워크샵",
                 LocalDateTime.of(2025, 9, 15, 14, 0),
                 LocalDateTime.of(2025, 9, 15, 17, 0),
-                false
+                false,
+                100L,
+                10L
         );
 
         when(memberRawService.findMemberByEmail(email)).thenReturn(member);
-        when(teamMemberRawService.findByMember(member)).thenReturn(List.of(teamMember));
-        when(calendarRawService.getTeamCalendar(team)).thenReturn(teamCalendar);
-        when(calendarRawService.getMyPersonalCalendar(member)).thenReturn(personalCalendar);
+        when(calendarIdResolver.getMemberCalendarIds(member)).thenReturn(List.of(200L, 100L));
 
         when(eventQueryService.getEventsForMember(eq(member), anyList(), eq(start), eq(end))).thenReturn(List.of(event1, event2));
 
         given(lectureRawService.getAllLectureEventIds(anyString())).willReturn(Collections.emptySet());
 
-        Event mockEvent1 = mock(Event.class);
-        given(mockEvent1.getEventId()).willReturn(1L);
-        given(mockEvent1.getCalendar()).willReturn(personalCalendar);
-        given(eventRawService.findEventById(1L)).willReturn(mockEvent1);
-
-        Event mockEvent2 = mock(Event.class);
-        given(mockEvent2.getEventId()).willReturn(2L);
-        given(mockEvent2.getCalendar()).willReturn(teamCalendar);
-        given(eventRawService.findEventById(2L)).willReturn(mockEvent2);
-
         //when
         List<PersonalEventGetResponseDto> result = eventService.getTodayMyEvent(email);
 
@@ -675,13 +623,9 @@ class PersonalEventServiceTest {
         assertThat(result.get(1).title()).isEqualTo("워크샵");
 
         verify(memberRawService).findMemberByEmail(email);
-        verify(teamMemberRawService).findByMember(member);
-        verify(calendarRawService).getTeamCalendar(team);
-        verify(calendarRawService).getMyPersonalCalendar(member);
+        verify(calendarIdResolver).getMemberCalendarIds(member);
         verify(eventQueryService).getEventsForMember(eq(member), anyList(), eq(start), eq(end));
         verify(lectureRawService).getAllLectureEventIds(anyString());
-        verify(eventRawService).findEventById(1L);
-        verify(eventRawService).findEventById(2L);
     }
     
     @Test
@@ -694,14 +638,11 @@ class PersonalEventServiceTest {
         // member 조회 시 mockMember 반환
         given(memberRawService.findMemberByEmail(email)).willReturn(mockMember);
         
-        Calendar mockCalendar = TestUtil.makePersonalCalendar(mockMember);
-        given(calendarRawService.getMyPersonalCalendar(mockMember)).willReturn(mockCalendar);
-        
-        given(teamMemberRawService.findByMember(mockMember)).willReturn(Collections.emptyList());
+        given(calendarIdResolver.getMemberCalendarIds(mockMember)).willReturn(List.of(1L));
         
         // eventQueryService 결과: Lecture Event(1L), Normal Event(2L)
-        var serviceDto1 = new EventServiceDto(1L, "Lecture Event", "", LocalDateTime.now(), LocalDateTime.now().plusHours(1), null);
-        var serviceDto2 = new EventServiceDto(2L, "Normal Event", "", LocalDateTime.now(), LocalDateTime.now().plusHours(1), null);
+        var serviceDto1 = new EventServiceDto(1L, "Lecture Event", "", LocalDateTime.now(), LocalDateTime.now().plusHours(1), null, 1L, null);
+        var serviceDto2 = new EventServiceDto(2L, "Normal Event", "", LocalDateTime.now(), LocalDateTime.now().plusHours(1), null, 1L, null);
         given(eventQueryService.getEventsForMember(any(), anyList(), any(), any()))
             .willReturn(List.of(
                 serviceDto1,
@@ -710,15 +651,6 @@ class PersonalEventServiceTest {
 
         given(lectureRawService.getAllLectureEventIds(email)).willReturn(Set.of(1L));
 
-        Event lectureEvent = mock(Event.class);
-        given(lectureEvent.getEventId()).willReturn(1L);
-
-        Event normalEvent = mock(Event.class);
-        given(normalEvent.getEventId()).willReturn(2L);
-
-        given(eventRawService.findEventById(1L)).willReturn(lectureEvent);
-        given(eventRawService.findEventById(2L)).willReturn(normalEvent);
-
         // when
         List<PersonalEventGetResponseDto> result = eventService.getUpcomingMyEvent(email);
         
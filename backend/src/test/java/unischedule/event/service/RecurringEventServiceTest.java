@@ -0,0 +1,210 @@
+package unischedule.event.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import unischedule.events.domain.collection.RecurringEventSeries;
+import unischedule.events.dto.EventOverrideProjectionDto;
+import unischedule.events.dto.EventProjectionDto;
+import unischedule.events.dto.EventServiceDto;
+import unischedule.events.service.common.EventOccurrenceService;
+import unischedule.events.service.common.RecurringEventService;
+import unischedule.events.service.internal.RecurringEventRawService;
+import unischedule.events.util.DateTimeUtil;
+import unischedule.events.util.RRuleCache;
+import unischedule.events.util.RRuleParser;
+import unischedule.member.domain.Member;
+import unischedule.util.TestUtil;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringEventServiceTest {
+    @Mock
+    private RecurringEventRawService recurringEventRawService;
+    @Mock
+    private EventOccurrenceService eventOccurrenceService;
+
+    private RecurringEventService recurringEventService;
+
+    private Member member;
+    private List<Long> calendarIds;
+    private EventProjectionDto weeklyEvent;
+
+    @BeforeEach
+    void setUp() {
+        RRuleParser rruleParser = new RRuleParser(new DateTimeUtil(), new RRuleCache(16));
+        recurringEventService = new RecurringEventService(recurringEventRawService, rruleParser, eventOccurrenceService);
+
+        member = TestUtil.makeMember();
+        calendarIds = List.of(1L);
+
+        // 2025-09-01 부터 매주 월요일 10:00 ~ 12:00
+        weeklyEvent = new EventProjectionDto(
+                1L,
+                "스터디",
+                "내용",
+                LocalDateTime.of(2025, 9, 1, 10, 0),
+                LocalDateTime.of(2025, 9, 1, 12, 0),
+                1L,
+                null,
+                "FREQ=WEEKLY;BYDAY=MO"
+        );
+    }
+
+    @Test
+    @DisplayName("기간 시작 전에 시작해서 기간 안까지 이어지는 회차도 겹침으로 판단")
+    void overlapsOccurrenceStartedBeforePeriod() {
+        // given
+        LocalDateTime startAt = LocalDateTime.of(2025, 9, 8, 11, 0);
+        LocalDateTime endAt = LocalDateTime.of(2025, 9, 8, 13, 0);
+        givenRecurringEvents(startAt, endAt, Map.of());
+
+        // when
+        boolean result = recurringEventService.anyOccurrenceOverlaps(member, calendarIds, startAt, endAt);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("회차 사이의 빈 시간은 겹치지 않음")
+    void noOverlapBetweenOccurrences() {
+        // given
+        LocalDateTime startAt = LocalDateTime.of(2025, 9, 8, 12, 0);
+        LocalDateTime endAt = LocalDateTime.of(2025, 9, 15, 10, 0);
+        givenRecurringEvents(startAt, endAt, Map.of());
+
+        // when
+        boolean result = recurringEventService.anyOccurrenceOverlaps(member, calendarIds, startAt, endAt);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("삭제되거나 다른 시간으로 옮겨진 회차는 원래 시간에 겹치지 않음")
+    void overriddenOccurrenceUsesModifiedTime() {
+        // given
+        LocalDateTime startAt = LocalDateTime.of(2025, 9, 8, 9, 0);
+        LocalDateTime endAt = LocalDateTime.of(2025, 9, 8, 13, 0);
+        EventOverrideProjectionDto moved = new EventOverrideProjectionDto(
+                1L,
+                LocalDateTime.of(2025, 9, 8, 10, 0),
+                "스터디",
+                "내용",
+                LocalDateTime.of(2025, 9, 9, 10, 0),
+                LocalDateTime.of(2025, 9, 9, 12, 0)
+        );
+        givenRecurringEvents(startAt, endAt, Map.of(1L, List.of(moved)));
+
+        // when
+        boolean result = recurringEventService.anyOccurrenceOverlaps(member, calendarIds, startAt, endAt);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 시간에서 기간 안으로 옮겨진 회차는 겹침으로 판단")
+    void overlapsOccurrenceMovedIntoPeriod() {
+        // given
+        LocalDateTime startAt = LocalDateTime.of(2025, 9, 10, 9, 0);
+        LocalDateTime endAt = LocalDateTime.of(2025, 9, 10, 10, 0);
+        EventOverrideProjectionDto moved = new EventOverrideProjectionDto(
+                1L,
+                LocalDateTime.of(2025, 9, 8, 10, 0),
+                "스터디",
+                "내용",
+                LocalDateTime.of(2025, 9, 10, 9, 30),
+                LocalDateTime.of(2025, 9, 10, 11, 30)
+        );
+        givenRecurringEvents(startAt, endAt, Map.of(1L, List.of(moved)));
+
+        // when
+        boolean result = recurringEventService.anyOccurrenceOverlaps(member, calendarIds, startAt, endAt);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("반복 일정 전개 시 수정된 회차는 변경된 내용으로, 삭제된 회차는 제외")
+    void expandAppliesOverrides() {
+        // given
+        LocalDateTime startAt = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime endAt = LocalDateTime.of(2025, 9, 22, 0, 0);
+        EventOverrideProjectionDto moved = new EventOverrideProjectionDto(
+                1L,
+                LocalDateTime.of(2025, 9, 8, 10, 0),
+                "옮긴 스터디",
+                "내용",
+                LocalDateTime.of(2025, 9, 9, 10, 0),
+                LocalDateTime.of(2025, 9, 9, 12, 0)
+        );
+        EventOverrideProjectionDto deleted = new EventOverrideProjectionDto(
+                1L,
+                LocalDateTime.of(2025, 9, 15, 10, 0),
+                null,
+                null,
+                null,
+                null
+        );
+        when(eventOccurrenceService.covers(startAt, endAt)).thenReturn(false);
+        when(recurringEventRawService.findRecurringScheduleForMember(member, calendarIds, startAt, endAt))
+                .thenReturn(new RecurringEventSeries(List.of(weeklyEvent)));
+        when(recurringEventRawService.getEventOverrideProjectionMap(any(), eq(startAt), eq(endAt)))
+                .thenReturn(Map.of(1L, List.of(moved, deleted)));
+
+        // when
+        List<EventServiceDto> result = recurringEventService.expandRecurringEventsForMember(member, calendarIds, startAt, endAt);
+
+        // then
+        assertThat(result)
+                .extracting(EventServiceDto::title, EventServiceDto::startAt)
+                .containsExactly(
+                        tuple("스터디", LocalDateTime.of(2025, 9, 1, 10, 0)),
+                        tuple("옮긴 스터디", LocalDateTime.of(2025, 9, 9, 10, 0))
+                );
+        assertThat(result).allMatch(event -> event.eventId().equals(1L) && event.fromRecurring());
+    }
+
+    @Test
+    @DisplayName("저장된 회차 기간 안이면 회차 테이블로 확인")
+    void usesMaterializedOccurrencesWhenCovered() {
+        // given
+        LocalDateTime startAt = LocalDateTime.of(2025, 9, 8, 9, 0);
+        LocalDateTime endAt = LocalDateTime.of(2025, 9, 8, 13, 0);
+        when(eventOccurrenceService.covers(startAt, endAt)).thenReturn(true);
+        when(eventOccurrenceService.existsOverlappingOccurrenceForMember(member, calendarIds, startAt, endAt)).thenReturn(true);
+
+        // when
+        boolean result = recurringEventService.anyOccurrenceOverlaps(member, calendarIds, startAt, endAt);
+
+        // then
+        assertThat(result).isTrue();
+        verify(recurringEventRawService, never()).findRecurringScheduleForMember(any(), anyList(), any(), any());
+    }
+
+    private void givenRecurringEvents(LocalDateTime startAt, LocalDateTime endAt, Map<Long, List<EventOverrideProjectionDto>> overrideMap) {
+        when(eventOccurrenceService.covers(startAt, endAt)).thenReturn(false);
+        when(recurringEventRawService.findRecurringScheduleForMember(member, calendarIds, startAt, endAt))
+                .thenReturn(new RecurringEventSeries(List.of(weeklyEvent)));
+        when(recurringEventRawService.getEventOverrideMapAffectingPeriod(any(), eq(startAt.minusHours(2)), eq(startAt), eq(endAt)))
+                .thenReturn(overrideMap);
+    }
+}
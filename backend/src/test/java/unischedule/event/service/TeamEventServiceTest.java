@@ -9,12 +9,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import unischedule.calendar.entity.Calendar;
 import unischedule.calendar.service.internal.CalendarRawService;
+import unischedule.events.cache.CalendarVersionService;
 import unischedule.events.domain.Event;
 import unischedule.events.domain.EventOverride;
 import unischedule.events.dto.EventCreateDto;
 import unischedule.events.dto.EventCreateResponseDto;
 import unischedule.events.dto.EventGetResponseDto;
 import unischedule.events.dto.EventModifyRequestDto;
+import unischedule.events.dto.EventParticipantIdDto;
 import unischedule.events.dto.EventServiceDto;
 import unischedule.events.dto.EventUpdateDto;
 import unischedule.events.dto.RecurringEventCreateRequestDto;
@@ -44,6 +46,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doAnswer;
@@ -74,6 +77,8 @@ class TeamEventServiceTest {
     private EventCommandService eventCommandService;
     @Mock
     private EventParticipantRawService eventParticipantRawService;
+    @Mock
+    private CalendarVersionService calendarVersionService;
     @InjectMocks
     private TeamEventService teamEventService;
 
@@ -408,7 +413,9 @@ class TeamEventServiceTest {
                 "주간 회의",
                 LocalDateTime.of(2025, 9, 10, 10, 0),
                 LocalDateTime.of(2025, 9, 10, 11, 0),
-                false
+                false,
+                100L,
+                1L
         );
 
         EventServiceDto event2 = new EventServiceDto(
@@ -417,7 +424,9 @@ class TeamEventServiceTest {
                 "분기별 워크샵",
                 LocalDateTime.of(2025, 9, 15, 14, 0),
                 LocalDateTime.of(2025, 9, 15, 17, 0),
-                false
+                false,
+                100L,
+                1L
         );
 
         LocalDateTime start = LocalDate.now().plusDays(1).atStartOfDay();
@@ -429,17 +438,11 @@ class TeamEventServiceTest {
         doNothing().when(teamMemberRawService).checkTeamAndMember(team, member1);
         when(eventQueryService.getEvents(anyList(), eq(start), eq(end))).thenReturn(List.of(event1, event2));
 
-        // 선택 참여
-        Event event1_entity = spy(TestUtil.makeEvent("선택 참여 회의", ""));
-        when(event1_entity.isForAllMembers()).thenReturn(false);
-        when(eventRawService.findEventById(1L)).thenReturn(event1_entity);
-        when(eventParticipantRawService.getParticipantsForEvent(event1_entity)).thenReturn(List.of(member1));
-
-        // 2번 이벤트 (전체 참여)
-        Event event2_entity = spy(TestUtil.makeEvent("전체 참여 워크샵", ""));
-        when(event2_entity.isForAllMembers()).thenReturn(true);
-        when(event2_entity.getCalendar()).thenReturn(teamCalendar);
-        when(eventRawService.findEventById(2L)).thenReturn(event2_entity);
+        // 1번 이벤트 (선택 참여), 2번 이벤트 (전체 참여)
+        when(eventParticipantRawService.getParticipantIdsForEvents(List.of(1L, 2L))).thenReturn(List.of(
+                new EventParticipantIdDto(1L, true, 123L),
+                new EventParticipantIdDto(2L, false, null)
+        ));
         when(teamMemberRawService.findByTeam(team)).thenReturn(teamMemberList);
 
         // when
@@ -461,10 +464,9 @@ class TeamEventServiceTest {
         verify(calendarRawService).getTeamCalendar(team);
         verify(teamMemberRawService).checkTeamAndMember(team, member1);
         verify(eventQueryService).getEvents(anyList(), eq(start), eq(end));
-        verify(eventRawService).findEventById(1L);
-        verify(eventRawService).findEventById(2L);
-        verify(eventParticipantRawService).getParticipantsForEvent(event1_entity);
+        verify(eventParticipantRawService).getParticipantIdsForEvents(List.of(1L, 2L));
         verify(teamMemberRawService).findByTeam(team);
+        verify(eventRawService, never()).findEventById(anyLong());
     }
 
     @Test
@@ -489,7 +491,9 @@ class TeamEventServiceTest {
                 "주간 회의",
                 LocalDateTime.of(2025, 9, 10, 10, 0),
                 LocalDateTime.of(2025, 9, 10, 11, 0),
-                false
+                false,
+                100L,
+                1L
         );
 
         LocalDateTime start = LocalDate.now().atStartOfDay();
@@ -501,10 +505,8 @@ class TeamEventServiceTest {
         doNothing().when(teamMemberRawService).checkTeamAndMember(team, member);
         when(eventQueryService.getEvents(anyList(), eq(start), eq(end))).thenReturn(List.of(event1));
 
-        Event event1_entity = spy(TestUtil.makeEvent("오늘 회의", ""));
-        when(event1_entity.isForAllMembers()).thenReturn(true);
-        when(event1_entity.getCalendar()).thenReturn(teamCalendar);
-        when(eventRawService.findEventById(1L)).thenReturn(event1_entity);
+        when(eventParticipantRawService.getParticipantIdsForEvents(List.of(1L)))
+                .thenReturn(List.of(new EventParticipantIdDto(1L, false, null)));
         when(teamMemberRawService.findByTeam(team)).thenReturn(teamMemberList);
 
         // when
@@ -522,8 +524,35 @@ class TeamEventServiceTest {
         verify(calendarRawService).getTeamCalendar(team);
         verify(teamMemberRawService).checkTeamAndMember(team, member);
         verify(eventQueryService).getEvents(anyList(), eq(start), eq(end));
-        verify(eventRawService).findEventById(1L);
+        verify(eventParticipantRawService).getParticipantIdsForEvents(List.of(1L));
         verify(teamMemberRawService).findByTeam(team);
     }
 
+    @Test
+    @DisplayName("팀 일정 ETag 는 일정 조회 없이 팀 캘린더 버전으로 계산")
+    void getTeamEventsETag() {
+        // given
+        String email = "team@test.com";
+        Long teamId = 1L;
+        Member member = TestUtil.makeMember();
+        Team team = TestUtil.makeTeam();
+        Calendar teamCalendar = spy(TestUtil.makeTeamCalendar(member, team));
+        when(teamCalendar.getCalendarId()).thenReturn(100L);
+
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+        when(memberRawService.findMemberByEmail(email)).thenReturn(member);
+        when(teamRawService.findTeamById(teamId)).thenReturn(team);
+        when(calendarRawService.getTeamCalendar(team)).thenReturn(teamCalendar);
+        when(calendarVersionService.getETag("team:1", List.of(100L), start, end)).thenReturn("\"etag\"");
+
+        // when
+        String eTag = teamEventService.getTeamEventsETag(email, teamId, start, end);
+
+        // then
+        assertThat(eTag).isEqualTo("\"etag\"");
+        verify(teamMemberRawService).checkTeamAndMember(team, member);
+        verify(eventQueryService, never()).getEvents(anyList(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
 }
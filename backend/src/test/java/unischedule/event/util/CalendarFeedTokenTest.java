@@ -0,0 +1,61 @@
+package unischedule.event.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import unischedule.events.util.CalendarFeedToken;
+import unischedule.exception.InvalidInputException;
+import unischedule.member.domain.Member;
+import unischedule.util.TestUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CalendarFeedTokenTest {
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = TestUtil.makeMember();
+        ReflectionTestUtils.setField(member, "memberId", 1L);
+    }
+
+    @Test
+    @DisplayName("멤버의 서명 키로 서명한 토큰은 구독 대상으로 복원")
+    void decode() {
+        // given
+        String token = new CalendarFeedToken(1L, 2L).encode(member.issueFeedSecret());
+
+        // when
+        CalendarFeedToken decoded = CalendarFeedToken.decode(token, memberId -> member.getFeedSecret());
+
+        // then
+        assertThat(decoded).isEqualTo(new CalendarFeedToken(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("서명 키를 다시 만들면 이전 토큰은 사용할 수 없음")
+    void rotateInvalidatesPreviousTokens() {
+        // given
+        String token = new CalendarFeedToken(1L, null).encode(member.issueFeedSecret());
+
+        // when
+        member.rotateFeedSecret();
+
+        // then
+        assertThatThrownBy(() -> CalendarFeedToken.decode(token, memberId -> member.getFeedSecret()))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    @DisplayName("서명 키가 없는 멤버의 토큰은 사용할 수 없음")
+    void rejectMissingSecret() {
+        // given
+        String token = new CalendarFeedToken(1L, null).encode(member.issueFeedSecret());
+
+        // when & then
+        assertThatThrownBy(() -> CalendarFeedToken.decode(token, memberId -> null))
+                .isInstanceOf(InvalidInputException.class);
+    }
+}
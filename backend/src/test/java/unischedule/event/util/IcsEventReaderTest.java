@@ -0,0 +1,101 @@
+package unischedule.event.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import unischedule.events.dto.IcsEventDto;
+import unischedule.events.util.IcsEventReader;
+import unischedule.exception.InvalidInputException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IcsEventReaderTest {
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("VEVENT 마다 시간대를 변환해서 전달하고, 반복 규칙과 삭제, 변경된 회차를 함께 읽음")
+    void readsEvents() throws IOException {
+        // given
+        String ics = String.join("\r\n",
+                "BEGIN:VCALENDAR",
+                "VERSION:2.0",
+                "BEGIN:VEVENT",
+                "UID:weekly@example.com",
+                "DTSTART;TZID=America/New_York:20250901T200000",
+                "DTEND;TZID=America/New_York:20250901T210000",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO;COUNT=10",
+                "EXDATE;TZID=America/New_York:20250908T200000,20250915T200000",
+                "SUMMARY:주간 회의\\, 온라인",
+                "DESCRIPTION:첫 줄\\n둘째 줄이 아주 길어서 다음 줄로 접혀 있",
+                " 는 설명",
+                "BEGIN:VALARM",
+                "TRIGGER:-PT10M",
+                "DESCRIPTION:알림",
+                "END:VALARM",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:weekly@example.com",
+                "RECURRENCE-ID;TZID=America/New_York:20250922T200000",
+                "DTSTART:20250923T010000Z",
+                "DURATION:PT2H",
+                "SUMMARY:옮긴 회의",
+                "END:VEVENT",
+                "BEGIN:VEVENT",
+                "UID:holiday@example.com",
+                "DTSTART;VALUE=DATE:20251003",
+                "SUMMARY:개천절",
+                "END:VEVENT",
+                "END:VCALENDAR",
+                ""
+        );
+
+        // when
+        List<IcsEventDto> events = read(ics);
+
+        // then
+        assertThat(events).hasSize(3);
+
+        IcsEventDto weekly = events.get(0);
+        assertThat(weekly.startAt()).isEqualTo(LocalDateTime.of(2025, 9, 2, 9, 0));
+        assertThat(weekly.endAt()).isEqualTo(LocalDateTime.of(2025, 9, 2, 10, 0));
+        assertThat(weekly.rrule()).isEqualTo("FREQ=WEEKLY;BYDAY=MO;COUNT=10");
+        assertThat(weekly.exDates()).containsExactly(
+                LocalDateTime.of(2025, 9, 9, 9, 0),
+                LocalDateTime.of(2025, 9, 16, 9, 0)
+        );
+        assertThat(weekly.title()).isEqualTo("주간 회의, 온라인");
+        assertThat(weekly.content()).isEqualTo("첫 줄\n둘째 줄이 아주 길어서 다음 줄로 접혀 있는 설명");
+
+        IcsEventDto moved = events.get(1);
+        assertThat(moved.isInstanceOverride()).isTrue();
+        assertThat(moved.recurrenceId()).isEqualTo(LocalDateTime.of(2025, 9, 23, 9, 0));
+        assertThat(moved.startAt()).isEqualTo(LocalDateTime.of(2025, 9, 23, 10, 0));
+        assertThat(moved.endAt()).isEqualTo(LocalDateTime.of(2025, 9, 23, 12, 0));
+
+        IcsEventDto holiday = events.get(2);
+        assertThat(holiday.startAt()).isEqualTo(LocalDateTime.of(2025, 10, 3, 0, 0));
+        assertThat(holiday.endAt()).isEqualTo(LocalDateTime.of(2025, 10, 4, 0, 0));
+        assertThat(holiday.isRecurring()).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 파일은 거절")
+    void rejectsMalformedFile() {
+        assertThatThrownBy(() -> read("BEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nnot a property\r\n"))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    private List<IcsEventDto> read(String ics) throws IOException {
+        List<IcsEventDto> events = new ArrayList<>();
+        IcsEventReader.read(new ByteArrayInputStream(ics.getBytes(StandardCharsets.UTF_8)), SEOUL, events::add);
+        return events;
+    }
+}
@@ -0,0 +1,107 @@
+package unischedule.event.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import unischedule.events.dto.EventOverrideProjectionDto;
+import unischedule.events.dto.EventProjectionDto;
+import unischedule.events.util.IcsFeedWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsFeedWriterTest {
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final Instant NOW = Instant.parse("2025-09-01T00:00:00Z");
+    private static final String VTIMEZONE = "BEGIN:VTIMEZONE\r\nTZID:Asia/Seoul\r\nEND:VTIMEZONE\r\n";
+
+    @Test
+    @DisplayName("반복 일정은 RRULE 과 EXDATE 로, 변경된 회차는 같은 UID 의 RECURRENCE-ID 로 출력")
+    void writesRecurringEventWithOverrides() throws IOException {
+        // given
+        StringWriter output = new StringWriter();
+        IcsFeedWriter writer = new IcsFeedWriter(output, SEOUL, VTIMEZONE, NOW);
+        EventProjectionDto event = new EventProjectionDto(
+                7L, "자료구조", "김교수; 공학관",
+                LocalDateTime.of(2025, 9, 1, 9, 0), LocalDateTime.of(2025, 9, 1, 10, 30),
+                1L, null, "FREQ=WEEKLY;BYDAY=MO;UNTIL=20251219T235959"
+        );
+        EventOverrideProjectionDto override = new EventOverrideProjectionDto(
+                7L, LocalDateTime.of(2025, 9, 8, 9, 0), "자료구조 보강", "김교수",
+                LocalDateTime.of(2025, 9, 9, 13, 0), LocalDateTime.of(2025, 9, 9, 14, 30)
+        );
+
+        // when
+        writer.begin("내 캘린더");
+        writer.writeOverride(override);
+        writer.writeEvent(event, List.of(LocalDateTime.of(2025, 9, 15, 9, 0), LocalDateTime.of(2025, 9, 22, 9, 0)));
+        writer.end();
+
+        // then
+        String ics = output.toString();
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n");
+        assertThat(ics).contains(VTIMEZONE);
+        assertThat(ics).contains(
+                "UID:event-7@unischedule\r\n",
+                "RECURRENCE-ID;TZID=Asia/Seoul:20250908T090000\r\n",
+                "DTSTART;TZID=Asia/Seoul:20250909T130000\r\n",
+                "DTSTART;TZID=Asia/Seoul:20250901T090000\r\n",
+                "RRULE:FREQ=WEEKLY;BYDAY=MO;UNTIL=20251219T145959Z\r\n",
+                "EXDATE;TZID=Asia/Seoul:20250915T090000,20250922T090000\r\n",
+                "SUMMARY:자료구조\r\n",
+                "DESCRIPTION:김교수\\; 공학관\r\n"
+        );
+        assertThat(ics).doesNotContain("RRULE:FREQ=WEEKLY;BYDAY=MO;UNTIL=20251219T235959\r\n");
+        assertThat(ics).endsWith("END:VCALENDAR\r\n");
+    }
+
+    @Test
+    @DisplayName("VTIMEZONE 이 없으면 시간을 UTC 로 출력하고, 단일 일정은 RRULE 없이 출력")
+    void writesSingleEventInUtcWithoutTimeZone() throws IOException {
+        // given
+        StringWriter output = new StringWriter();
+        IcsFeedWriter writer = new IcsFeedWriter(output, SEOUL, null, NOW);
+        EventProjectionDto event = new EventProjectionDto(
+                3L, "팀 회의", null,
+                LocalDateTime.of(2025, 9, 2, 10, 0), LocalDateTime.of(2025, 9, 2, 11, 0),
+                2L, 5L, null
+        );
+
+        // when
+        writer.begin("팀");
+        writer.writeEvent(event, List.of());
+        writer.end();
+
+        // then
+        String ics = output.toString();
+        assertThat(ics).contains("DTSTART:20250902T010000Z\r\n", "DTEND:20250902T020000Z\r\n");
+        assertThat(ics).doesNotContain("RRULE", "DESCRIPTION", "VTIMEZONE");
+    }
+
+    @Test
+    @DisplayName("긴 줄은 75 자 이내로 접어서 출력")
+    void foldsLongLines() throws IOException {
+        // given
+        StringWriter output = new StringWriter();
+        IcsFeedWriter writer = new IcsFeedWriter(output, SEOUL, null, NOW);
+        EventProjectionDto event = new EventProjectionDto(
+                1L, "a".repeat(200), null,
+                LocalDateTime.of(2025, 9, 2, 10, 0), LocalDateTime.of(2025, 9, 2, 11, 0),
+                1L, null, null
+        );
+
+        // when
+        writer.begin("캘린더");
+        writer.writeEvent(event, List.of());
+        writer.end();
+
+        // then
+        assertThat(output.toString().split("\r\n")).allSatisfy(line -> assertThat(line.length()).isLessThanOrEqualTo(75));
+        assertThat(output.toString().replace("\r\n ", "")).contains("SUMMARY:" + "a".repeat(200));
+    }
+}
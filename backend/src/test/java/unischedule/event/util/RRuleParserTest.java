@@ -0,0 +1,153 @@
+package unischedule.event.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import unischedule.events.util.DateTimeUtil;
+import unischedule.events.util.RRuleCache;
+import unischedule.events.util.RRuleParser;
+import unischedule.events.util.RecurrenceBounds;
+import unischedule.exception.InvalidInputException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RRuleParserTest {
+    private RRuleCache rruleCache;
+    private RRuleParser rruleParser;
+
+    @BeforeEach
+    void setUp() {
+        rruleCache = new RRuleCache(2);
+        rruleParser = new RRuleParser(new DateTimeUtil(), rruleCache);
+    }
+
+    @Test
+    @DisplayName("같은 반복 규칙은 한 번만 파싱")
+    void compileUsesCache() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 10, 0);
+
+        // when
+        List<LocalDateTime> first = rruleParser.calEventStartTimeListRange("FREQ=WEEKLY;BYDAY=MO", start, start, start.plusWeeks(3));
+        List<LocalDateTime> second = rruleParser.calEventStartTimeListRange("freq=weekly;byday=mo ", start, start, start.plusWeeks(3));
+
+        // then
+        assertThat(first).hasSize(3);
+        assertThat(second).isEqualTo(first);
+        assertThat(rruleCache.getMissCount()).isEqualTo(1);
+        assertThat(rruleCache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 크기를 넘으면 자주 사용하지 않은 규칙 제거")
+    void evictsLeastFrequentlyUsed() {
+        // when
+        rruleParser.compile("FREQ=DAILY");
+        rruleParser.compile("FREQ=WEEKLY");
+        rruleParser.compile("FREQ=DAILY");
+        rruleParser.compile("FREQ=MONTHLY");
+        rruleParser.compile("FREQ=DAILY");
+
+        // then
+        assertThat(rruleCache.size()).isEqualTo(2);
+        assertThat(rruleCache.getHitCount()).isEqualTo(2);
+        assertThat(rruleCache.getMissCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("UNTIL 이 있으면 해당 날짜까지만 반복")
+    void untilBoundaryIsPrecomputed() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 10, 0);
+
+        // when
+        List<LocalDateTime> dates = rruleParser.calEventStartTimeList(start, "FREQ=DAILY;UNTIL=20250905T000000Z");
+
+        // then
+        assertThat(dates).hasSize(4);
+        assertThat(rruleParser.compile("FREQ=DAILY;UNTIL=20250905T000000Z").until())
+                .contains(LocalDateTime.of(2025, 9, 5, 23, 59, 59));
+    }
+
+    @Test
+    @DisplayName("잘못된 반복 규칙은 예외 발생, 캐시에 저장하지 않음")
+    void invalidRuleIsNotCached() {
+        assertThatThrownBy(() -> rruleParser.compile("FREQ=NEVER"))
+                .isInstanceOf(InvalidInputException.class);
+        assertThat(rruleCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("COUNT 가 있으면 마지막 회차 종료 시간이 반복 종료 시점")
+    void boundsWithCount() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 10, 0);
+
+        // when
+        RecurrenceBounds bounds = rruleParser.calRecurrenceBounds(start, start.plusHours(2), "FREQ=WEEKLY;INTERVAL=2;COUNT=3");
+
+        // then
+        assertThat(bounds.frequency()).isEqualTo("WEEKLY");
+        assertThat(bounds.interval()).isEqualTo(2);
+        assertThat(bounds.seriesEnd()).isEqualTo(LocalDateTime.of(2025, 9, 29, 12, 0));
+    }
+
+    @Test
+    @DisplayName("UNTIL 이 시간대 없이 주어져도 마지막 회차 기준으로 계산")
+    void boundsWithFloatingUntil() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 3, 3, 9, 0);
+
+        // when
+        RecurrenceBounds bounds = rruleParser.calRecurrenceBounds(
+                start,
+                start.plusMinutes(75),
+                "FREQ=WEEKLY;BYDAY=MO;UNTIL=20250615T235959"
+        );
+
+        // then
+        assertThat(bounds.seriesEnd()).isEqualTo(LocalDateTime.of(2025, 6, 9, 10, 15));
+    }
+
+    @Test
+    @DisplayName("종료 조건이 없으면 최대 2년까지만 반복")
+    void boundsWithoutEndAreCapped() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 10, 0);
+
+        // when
+        RecurrenceBounds bounds = rruleParser.calRecurrenceBounds(start, start.plusHours(1), "FREQ=DAILY");
+        List<LocalDateTime> afterCap = rruleParser.calEventStartTimeListRange(
+                "FREQ=DAILY",
+                start,
+                start.plusYears(2).plusDays(1),
+                start.plusYears(2).plusDays(10)
+        );
+
+        // then
+        assertThat(bounds.interval()).isEqualTo(1);
+        assertThat(bounds.seriesEnd()).isBetween(start.plusYears(2).minusDays(1), start.plusYears(2).plusHours(1));
+        assertThat(afterCap).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회차 stream 은 목록 전개와 같은 회차를 반환")
+    void streamMatchesList() {
+        // given
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 10, 0);
+        String rrule = "FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10";
+
+        // when
+        List<LocalDateTime> listed = rruleParser.calEventStartTimeListRange(rrule, start, start.plusDays(3), start.plusWeeks(3));
+        List<LocalDateTime> streamed = rruleParser.streamEventStartTimes(rrule, start, start.plusDays(3), start.plusWeeks(3))
+                .sorted()
+                .toList();
+
+        // then
+        assertThat(streamed).hasSize(4).isEqualTo(listed);
+    }
+}
@@ -0,0 +1,130 @@
+package unischedule.event.util;
+
+import net.fortuna.ical4j.model.Recur;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import unischedule.events.util.SimpleRecurrence;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimpleRecurrenceTest {
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String[] DAYS = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+
+    @ParameterizedTest
+    @ValueSource(strings = {"UTC", "Asia/Seoul", "America/New_York"})
+    @DisplayName("무작위 DAILY, WEEKLY 규칙에서 ical4j 와 같은 회차 생성")
+    void agreesWithIcal4j(String zoneId) {
+        ZoneId zone = ZoneId.of(zoneId);
+        Random random = new Random(20250901L);
+
+        for (int i = 0; i < 2000; i++) {
+            String rule = randomRule(random);
+            LocalDateTime seed = LocalDateTime.of(2025, 1, 1, 0, 0)
+                    .plusDays(random.nextInt(365))
+                    .plusMinutes(30L * random.nextInt(48));
+            LocalDateTime from = seed.plusHours(random.nextInt(24 * 120) - 24 * 30);
+            LocalDateTime to = from.plusHours(1 + random.nextInt(24 * 90));
+
+            List<LocalDateTime> expected = ical4jOccurrences(rule, zone, seed, from, to);
+            List<LocalDateTime> actual = SimpleRecurrence.parse(rule, zone)
+                    .orElseThrow(() -> new AssertionError("단순 규칙으로 인식되지 않음: " + rule))
+                    .occurrences(seed, from, to)
+                    .toList();
+
+            assertThat(actual)
+                    .as("rule=%s seed=%s from=%s to=%s", rule, seed, from, to)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("강의 시간표 규칙은 단순 규칙으로 계산")
+    void lectureRuleIsSimple() {
+        // given
+        String rule = "FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20251219T235959";
+        LocalDateTime seed = LocalDateTime.of(2025, 9, 1, 9, 0);
+
+        // when
+        List<LocalDateTime> result = SimpleRecurrence.parse(rule, ZONE).orElseThrow()
+                .occurrences(seed, LocalDateTime.of(2025, 12, 15, 0, 0), LocalDateTime.of(2026, 1, 1, 0, 0))
+                .toList();
+
+        // then
+        assertThat(result).containsExactly(
+                LocalDateTime.of(2025, 12, 15, 9, 0),
+                LocalDateTime.of(2025, 12, 17, 9, 0)
+        );
+    }
+
+    @Test
+    @DisplayName("그 외 규칙은 ical4j 로 계산하도록 단순 규칙에서 제외")
+    void unsupportedRulesFallBack() {
+        assertThat(SimpleRecurrence.parse("FREQ=MONTHLY;BYMONTHDAY=1", ZONE)).isEmpty();
+        assertThat(SimpleRecurrence.parse("FREQ=WEEKLY;BYDAY=1MO", ZONE)).isEmpty();
+        assertThat(SimpleRecurrence.parse("FREQ=WEEKLY;BYDAY=MO;BYHOUR=9", ZONE)).isEmpty();
+        assertThat(SimpleRecurrence.parse("FREQ=WEEKLY;BYDAY=MO;UNTIL=20251231", ZONE)).isEmpty();
+        assertThat(SimpleRecurrence.parse("FREQ=DAILY;INTERVAL=0", ZONE)).isEmpty();
+    }
+
+    private String randomRule(Random random) {
+        List<String> parts = new ArrayList<>();
+        parts.add(random.nextBoolean() ? "FREQ=DAILY" : "FREQ=WEEKLY");
+
+        if (random.nextInt(3) == 0) {
+            parts.add("INTERVAL=" + (1 + random.nextInt(3)));
+        }
+        if (random.nextInt(4) != 0) {
+            List<String> days = new ArrayList<>();
+            for (String day : DAYS) {
+                if (random.nextInt(3) == 0) {
+                    days.add(day);
+                }
+            }
+            if (!days.isEmpty()) {
+                parts.add("BYDAY=" + String.join(",", days));
+            }
+        }
+        if (random.nextInt(5) == 0) {
+            parts.add("WKST=" + DAYS[random.nextInt(DAYS.length)]);
+        }
+
+        switch (random.nextInt(4)) {
+            case 0 -> parts.add("COUNT=" + (1 + random.nextInt(40)));
+            case 1 -> parts.add("UNTIL=" + LocalDateTime.of(2025, 3, 1, 23, 59, 59)
+                    .plusDays(random.nextInt(400)).format(UNTIL_FORMAT));
+            case 2 -> parts.add("UNTIL=" + LocalDateTime.of(2025, 3, 1, 0, 0)
+                    .plusHours(random.nextInt(24 * 400)).format(UNTIL_FORMAT) + "Z");
+            default -> {
+            }
+        }
+        return String.join(";", parts);
+    }
+
+    private List<LocalDateTime> ical4jOccurrences(
+            String rule,
+            ZoneId zone,
+            LocalDateTime seed,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        ZonedDateTime fromZdt = from.atZone(zone);
+        ZonedDateTime toZdt = to.atZone(zone);
+
+        return new Recur<ZonedDateTime>(rule).getDates(seed.atZone(zone), fromZdt, toZdt).stream()
+                .filter(date -> !date.isBefore(fromZdt) && date.isBefore(toZdt))
+                .map(date -> date.withZoneSameInstant(zone).toLocalDateTime())
+                .toList();
+    }
+}
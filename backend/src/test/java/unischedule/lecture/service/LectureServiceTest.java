@@ -10,9 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import unischedule.calendar.entity.Calendar;
 import unischedule.calendar.service.internal.CalendarRawService;
 import unischedule.events.domain.Event;
-import unischedule.events.domain.RecurrenceRule;
-import unischedule.events.service.internal.EventRawService;
-import unischedule.events.service.internal.RecurrenceRuleRawService;
+import unischedule.events.service.common.EventCommandService;
 import unischedule.lecture.domain.Lecture;
 import unischedule.lecture.dto.LectureResponseDto;
 import unischedule.lecture.dto.LecturesCreateRequestDto;
@@ -29,7 +27,11 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -44,9 +46,7 @@ class LectureServiceTest {
     @Mock
     private CalendarRawService calendarRawService;
     @Mock
-    private EventRawService eventRawService;
-    @Mock
-    private RecurrenceRuleRawService recurrenceRuleRawService;
+    private EventCommandService eventCommandService;
 
     @InjectMocks
     private LectureService lectureService;
@@ -80,7 +80,6 @@ class LectureServiceTest {
         TimetableDetailDto timetable = new TimetableDetailDto("2025", "1학기", List.of(subject));
         LecturesCreateRequestDto requestDto = new LecturesCreateRequestDto(startDate, endDate, timetable);
 
-        RecurrenceRule recurrenceRule = new RecurrenceRule("FREQ=WEEKLY;BYDAY=MO;UNTIL=20250615T235959");
         Event event = TestUtil.makeEvent("데이터베이스", "김교수 | 공학관 301");
         
         Lecture lecture = Lecture.builder()
@@ -94,9 +93,8 @@ class LectureServiceTest {
         given(memberRawService.findMemberByEmail(email)).willReturn(member);
         given(lectureRawService.findActiveLecturesByMemberId(member.getMemberId())).willReturn(List.of());
         given(calendarRawService.getMyPersonalCalendar(member)).willReturn(calendar);
-        given(recurrenceRuleRawService.saveRecurrenceRule(any(RecurrenceRule.class))).willReturn(recurrenceRule);
-        given(eventRawService.saveEvent(any(Event.class))).willReturn(event);
-        given(lectureRawService.saveLecture(any(Lecture.class))).willReturn(lecture);
+        given(eventCommandService.createRecurringEvents(eq(calendar), anyList())).willReturn(List.of(event));
+        given(lectureRawService.saveAllLectures(anyList())).willReturn(List.of(lecture));
 
         // when
         LecturesCreateResponseDto result = lectureService.saveLectures(email, requestDto);
@@ -108,6 +106,57 @@ class LectureServiceTest {
         
         verify(memberRawService).findMemberByEmail(email);
         verify(calendarRawService).getMyPersonalCalendar(member);
+        verify(eventCommandService).createRecurringEvents(eq(calendar), argThat(dtos ->
+                dtos.size() == 1
+                        && dtos.getFirst().rrule().equals("FREQ=WEEKLY;BYDAY=MO;UNTIL=20250615T235959")
+                        && dtos.getFirst().firstStartTime().equals(LocalDate.of(2025, 3, 3).atTime(9, 0))
+        ));
+    }
+
+    @Test
+    @DisplayName("강의 재등록 시 기존 강의 일정은 한 번에 삭제")
+    void saveLectures_ReplacesActiveLectures() {
+        // given
+        LocalDate startDate = LocalDate.of(2025, 3, 1);
+        LocalDate endDate = LocalDate.of(2025, 6, 15);
+
+        TimetableDetailDto.Subject.Time time = new TimetableDetailDto.Subject.Time(
+                2, LocalTime.of(13, 0), LocalTime.of(14, 30), null
+        );
+        TimetableDetailDto.Subject subject = new TimetableDetailDto.Subject(
+                "알고리즘", "이교수", 3, List.of(time)
+        );
+        TimetableDetailDto timetable = new TimetableDetailDto("2025", "1학기", List.of(subject));
+        LecturesCreateRequestDto requestDto = new LecturesCreateRequestDto(startDate, endDate, timetable);
+
+        Event oldEvent1 = TestUtil.makeEvent("데이터베이스", "김교수");
+        Event oldEvent2 = TestUtil.makeEvent("운영체제", "박교수");
+        Lecture oldLecture1 = Lecture.builder().name("데이터베이스").professor("김교수").credit(3)
+                .startDate(startDate).endDate(endDate).build();
+        oldLecture1.connectEvent(oldEvent1);
+        Lecture oldLecture2 = Lecture.builder().name("운영체제").professor("박교수").credit(3)
+                .startDate(startDate).endDate(endDate).build();
+        oldLecture2.connectEvent(oldEvent2);
+
+        Event newEvent = TestUtil.makeEvent("알고리즘", "이교수");
+        Lecture newLecture = Lecture.builder().name("알고리즘").professor("이교수").credit(3)
+                .startDate(startDate).endDate(endDate).build();
+
+        given(memberRawService.findMemberByEmail(email)).willReturn(member);
+        given(lectureRawService.findActiveLecturesByMemberId(member.getMemberId()))
+                .willReturn(List.of(oldLecture1, oldLecture2));
+        given(calendarRawService.getMyPersonalCalendar(member)).willReturn(calendar);
+        given(eventCommandService.createRecurringEvents(eq(calendar), anyList())).willReturn(List.of(newEvent));
+        given(lectureRawService.saveAllLectures(anyList())).willReturn(List.of(newLecture));
+
+        // when
+        LecturesCreateResponseDto result = lectureService.saveLectures(email, requestDto);
+
+        // then
+        assertThat(result.lectures()).hasSize(1);
+        assertThat(result.lectures().getFirst().name()).isEqualTo("알고리즘");
+        verify(eventCommandService).deleteRecurringEvents(List.of(oldEvent1, oldEvent2));
+        verify(eventCommandService, never()).deleteRecurringEvent(any(Event.class));
     }
 
     @Test
@@ -7,7 +7,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import unischedule.auth.repository.RefreshTokenRepository;
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
+import unischedule.calendar.entity.Calendar;
+import unischedule.calendar.entity.CalendarCleanupStatus;
 import unischedule.calendar.repository.CalendarRepository;
+import unischedule.calendar.service.CalendarCleanupService;
+import unischedule.calendar.service.CalendarIdResolver;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.events.service.internal.EventParticipantRawService;
 import unischedule.exception.EntityNotFoundException;
 import unischedule.exception.dto.EntityAlreadyExistsException;
 import unischedule.member.domain.Member;
@@ -15,14 +24,20 @@ import unischedule.member.dto.CurrentMemberInfoResponseDto;
 import unischedule.member.dto.MemberRegistrationDto;
 import unischedule.member.repository.MemberRepository;
 import unischedule.member.service.internal.MemberRawService;
+import unischedule.team.chat.repository.ChatMessageRepository;
+import unischedule.team.service.internal.TeamMemberRawService;
+import unischedule.util.TestUtil;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +54,21 @@ public class MemberServiceTest {
     @Mock
     private CalendarRepository calendarRepository;
     @Mock
+    private CalendarIdResolver calendarIdResolver;
+    @Mock
+    private CalendarVersionService calendarVersionService;
+    @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private TeamMemberRawService teamMemberRawService;
+    @Mock
+    private EventParticipantRawService eventParticipantRawService;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private CalendarCleanupService calendarCleanupService;
 
     @Test
     @DisplayName("회원가입")
@@ -100,4 +129,32 @@ public class MemberServiceTest {
             memberService.getCurrentMemberInfo(email);
         });
     }
+
+    @Test
+    @DisplayName("회원 탈퇴 시 개인 캘린더는 삭제 작업으로 등록")
+    void withdrawMemberRequestsCalendarCleanup() {
+        // given
+        Member member = TestUtil.makeMember();
+        ReflectionTestUtils.setField(member, "memberId", 1L);
+        Calendar personalCalendar = TestUtil.makePersonalCalendar(member);
+        ReflectionTestUtils.setField(personalCalendar, "calendarId", 10L);
+        CalendarCleanupJobResponseDto cleanupJob = new CalendarCleanupJobResponseDto(
+                "job-key", "poll-token", CalendarCleanupStatus.PENDING, 3, 0, 0
+        );
+
+        given(memberRawService.findMemberByEmail(member.getEmail())).willReturn(member);
+        given(teamMemberRawService.findByMember(member)).willReturn(List.of());
+        given(calendarRepository.findByOwnerAndTeamIsNull(member)).willReturn(Optional.of(personalCalendar));
+        given(calendarCleanupService.requestCleanup(10L, 1L)).willReturn(cleanupJob);
+        given(refreshTokenRepository.findByMember(member)).willReturn(Optional.empty());
+
+        // when
+        Optional<CalendarCleanupJobResponseDto> result = memberService.withdrawMember(member.getEmail());
+
+        // then
+        assertThat(result).contains(cleanupJob);
+        verify(calendarRepository, never()).delete(any(Calendar.class));
+        verify(eventParticipantRawService).deleteAllByMember(member);
+        verify(memberRepository).save(member);
+    }
 }
@@ -0,0 +1,85 @@
+package unischedule.team.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.events.cache.LocalCalendarVersionStore;
+import unischedule.events.dto.EventGetResponseDto;
+import unischedule.team.domain.collection.BusyBitmap;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusyBitmapCacheTest {
+    private final LocalDate monday = LocalDate.of(2025, 11, 3);
+
+    private CalendarVersionService calendarVersionService;
+    private BusyBitmapCache busyBitmapCache;
+    private List<LocalDateTime[]> loadedRanges;
+    private List<Set<Long>> loadedMembers;
+
+    @BeforeEach
+    void setUp() {
+        calendarVersionService = new CalendarVersionService(new LocalCalendarVersionStore());
+        busyBitmapCache = new BusyBitmapCache(calendarVersionService, true, 100, Duration.ofMinutes(30));
+        loadedRanges = new ArrayList<>();
+        loadedMembers = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("날짜별 비트맵을 만들고, 겹치는 기간을 다시 조회하면 캐시에 없는 날만 조회")
+    void loadsOnlyMissingDays() {
+        // when
+        List<BusyBitmap> first = busyBitmapCache.getAll(Map.of(1L, List.of(1L)), monday, monday.plusDays(1), loader()).get(1L);
+        List<BusyBitmap> second = busyBitmapCache.getAll(Map.of(1L, List.of(1L)), monday.plusDays(1), monday.plusDays(3), loader()).get(1L);
+
+        // then
+        assertThat(first).extracting(BusyBitmap::getDay).containsExactly(monday, monday.plusDays(1));
+        assertThat(first.get(0).isBusy(9 * 12, 10 * 12)).isTrue();
+        assertThat(first.get(0).isBusy(10 * 12, 11 * 12)).isFalse();
+        assertThat(second.get(0)).isSameAs(first.get(1));
+
+        assertThat(loadedRanges).hasSize(2);
+        assertThat(loadedRanges.get(1)[0]).isEqualTo(monday.plusDays(2).atStartOfDay());
+        assertThat(loadedRanges.get(1)[1]).isEqualTo(monday.plusDays(4).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("멤버 캘린더 버전이 오르면 그 멤버의 일정만 다시 조회해 비트맵 계산")
+    void bumpInvalidatesOnlyChangedMember() {
+        // given
+        Map<Long, List<Long>> calendarIdsByMember = Map.of(1L, List.of(1L, 3L), 2L, List.of(2L, 3L));
+        busyBitmapCache.getAll(calendarIdsByMember, monday, monday, loader());
+
+        // when
+        calendarVersionService.bump(1L);
+        Map<Long, List<BusyBitmap>> result = busyBitmapCache.getAll(calendarIdsByMember, monday, monday, loader());
+
+        // then
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(loadedRanges).hasSize(2);
+        assertThat(loadedMembers.get(0)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(loadedMembers.get(1)).containsExactly(1L);
+    }
+
+    private BusyBitmapCache.MemberEventLoader loader() {
+        return (calendarIdsByMember, start, end) -> {
+            loadedRanges.add(new LocalDateTime[]{start, end});
+            loadedMembers.add(Set.copyOf(calendarIdsByMember.keySet()));
+            List<EventGetResponseDto> events = start.toLocalDate().datesUntil(end.toLocalDate())
+                .map(day -> new EventGetResponseDto(1L, "일정", null, day.atTime(9, 0), day.atTime(10, 0), false))
+                .toList();
+            return calendarIdsByMember.keySet().stream()
+                .collect(Collectors.toMap(memberId -> memberId, memberId -> events));
+        };
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import unischedule.auth.jwt.JwtTokenProvider;
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
+import unischedule.calendar.entity.CalendarCleanupStatus;
 import unischedule.common.config.SecurityConfig;
 import unischedule.google.handler.OAuth2LoginSuccessHandler;
 import unischedule.team.dto.TeamCreateRequestDto;
@@ -104,11 +106,16 @@ public class TeamControllerTest {
     @DisplayName("팀 폐쇄")
     void closeTeam() throws Exception {
         // given
-        doNothing().when(teamService).closeTeam(anyString(), anyLong());
+        CalendarCleanupJobResponseDto cleanupJob = new CalendarCleanupJobResponseDto(
+                "job-key", "poll-token", CalendarCleanupStatus.PENDING, 10, 0, 0
+        );
+        given(teamService.closeTeam(anyString(), anyLong())).willReturn(cleanupJob);
 
         // when & then
         mockMvc.perform(delete("/api/teams/{teamId}/team", 1L)
                         .with(csrf()))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.job_key").value("job-key"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
     }
 }
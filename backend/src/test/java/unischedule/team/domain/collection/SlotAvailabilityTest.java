@@ -0,0 +1,177 @@
+package unischedule.team.domain.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import unischedule.events.dto.EventGetResponseDto;
+import unischedule.team.domain.WhenToMeet;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotAvailabilityTest {
+
+    @Test
+    @DisplayName("무작위 일정에서 슬롯마다 모든 일정을 확인하는 방식과 같은 가능 인원 계산")
+    void agreesWithBruteForce() {
+        Random random = new Random(20251101L);
+
+        for (int round = 0; round < 200; round++) {
+            List<WhenToMeet> expected = makeSlots(5, 3);
+            List<WhenToMeet> actual = makeSlots(5, 3);
+            SlotAvailability availability = SlotAvailability.of(actual);
+
+            for (int member = 0; member < 5; member++) {
+                List<EventGetResponseDto> events = randomEvents(random);
+                availability.addMemberEvents(events);
+
+                for (WhenToMeet slot : expected) {
+                    boolean busy = events.stream().anyMatch(event ->
+                        slot.getStartTime().isBefore(event.endTime()) && slot.getEndTime().isAfter(event.startTime()));
+                    if (busy) {
+                        slot.discountAvailable();
+                    }
+                }
+            }
+            availability.applyTo(actual);
+
+            assertThat(actual)
+                .extracting(WhenToMeet::getAvailableMember)
+                .isEqualTo(expected.stream().map(WhenToMeet::getAvailableMember).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("한 슬롯에 걸친 떨어진 일정 두 개는 한 명으로만 차감")
+    void countsMemberOncePerSlot() {
+        // given
+        List<WhenToMeet> slots = makeSlots(2, 1);
+        SlotAvailability availability = SlotAvailability.of(slots);
+        LocalDateTime nine = LocalDateTime.of(2025, 11, 1, 9, 0);
+
+        // when
+        availability.addMemberEvents(List.of(
+            event(nine.plusMinutes(1), nine.plusMinutes(4)),
+            event(nine.plusMinutes(10), nine.plusMinutes(20))
+        ));
+        availability.applyTo(slots);
+
+        // then
+        assertThat(slots.get(0).getAvailableMember()).isEqualTo(1L);
+        assertThat(slots.get(1).getAvailableMember()).isEqualTo(1L);
+        assertThat(slots.get(2).getAvailableMember()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("5분 칸에 맞는 슬롯은 하루 비트맵으로 표시해도 일정으로 표시한 것과 같은 결과")
+    void bitmapsAgreeWithEvents() {
+        Random random = new Random(20251102L);
+
+        for (int round = 0; round < 200; round++) {
+            List<WhenToMeet> expected = makeSlots(5, 3);
+            List<WhenToMeet> actual = makeSlots(5, 3);
+            SlotAvailability fromEvents = SlotAvailability.of(expected);
+            SlotAvailability fromBitmaps = SlotAvailability.of(actual);
+            assertThat(fromBitmaps.supportsBitmaps()).isTrue();
+
+            for (int member = 0; member < 5; member++) {
+                List<EventGetResponseDto> events = randomEvents(random).stream()
+                    .filter(event -> event.startTime().isBefore(event.endTime()))
+                    .toList();
+                fromEvents.addMemberEvents(events);
+                fromBitmaps.addMemberBitmaps(fromBitmaps.getFirstDay().datesUntil(fromBitmaps.getLastDay().plusDays(1))
+                    .map(day -> BusyBitmap.of(day, events))
+                    .toList());
+            }
+            fromEvents.applyTo(expected);
+            fromBitmaps.applyTo(actual);
+
+            assertThat(actual)
+                .extracting(WhenToMeet::getAvailableMember)
+                .isEqualTo(expected.stream().map(WhenToMeet::getAvailableMember).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("길이가 0인 일정도 슬롯마다 확인하는 방식, 일정으로 표시, 비트맵으로 표시한 결과가 같음")
+    void instantEventsAgreeAcrossPaths() {
+        Random random = new Random(20251103L);
+
+        for (int round = 0; round < 200; round++) {
+            List<WhenToMeet> expected = makeSlots(5, 3);
+            List<WhenToMeet> fromEventSlots = makeSlots(5, 3);
+            List<WhenToMeet> fromBitmapSlots = makeSlots(5, 3);
+            SlotAvailability fromEvents = SlotAvailability.of(fromEventSlots);
+            SlotAvailability fromBitmaps = SlotAvailability.of(fromBitmapSlots);
+
+            for (int member = 0; member < 5; member++) {
+                List<EventGetResponseDto> events = new ArrayList<>();
+                for (int i = random.nextInt(8); i > 0; i--) {
+                    // 칸 경계(슬롯 경계 포함)와 칸 안쪽 시각이 모두 나오도록 분 단위
+                    LocalDateTime instant = LocalDateTime.of(2025, 11, 1, 8, 0).plusMinutes(random.nextInt(3 * 24 * 60));
+                    events.add(event(instant, instant));
+                }
+                fromEvents.addMemberEvents(events);
+                fromBitmaps.addMemberBitmaps(fromBitmaps.getFirstDay().datesUntil(fromBitmaps.getLastDay().plusDays(1))
+                    .map(day -> BusyBitmap.of(day, events))
+                    .toList());
+
+                for (WhenToMeet slot : expected) {
+                    boolean busy = events.stream().anyMatch(event ->
+                        slot.getStartTime().isBefore(event.endTime()) && slot.getEndTime().isAfter(event.startTime()));
+                    if (busy) {
+                        slot.discountAvailable();
+                    }
+                }
+            }
+            fromEvents.applyTo(fromEventSlots);
+            fromBitmaps.applyTo(fromBitmapSlots);
+
+            List<Long> expectedAvailable = expected.stream().map(WhenToMeet::getAvailableMember).toList();
+            assertThat(fromEventSlots).extracting(WhenToMeet::getAvailableMember).isEqualTo(expectedAvailable);
+            assertThat(fromBitmapSlots).extracting(WhenToMeet::getAvailableMember).isEqualTo(expectedAvailable);
+        }
+    }
+
+    @Test
+    @DisplayName("5분 칸에 맞지 않는 슬롯은 비트맵으로 표시하지 않음")
+    void unalignedSlotsDoNotSupportBitmaps() {
+        LocalDateTime start = LocalDateTime.of(2025, 11, 1, 10, 7);
+        List<WhenToMeet> slots = List.of(new WhenToMeet(start, start.plusMinutes(15), 1L));
+
+        assertThat(SlotAvailability.of(slots).supportsBitmaps()).isFalse();
+    }
+
+    /**
+     * 날마다 09:00 ~ 24:00 사이 15분 슬롯
+     */
+    private List<WhenToMeet> makeSlots(long members, int days) {
+        List<WhenToMeet> slots = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            LocalDateTime cursor = LocalDateTime.of(2025, 11, 1 + day, 9, 0);
+            LocalDateTime end = cursor.toLocalDate().plusDays(1).atStartOfDay();
+            while (cursor.isBefore(end)) {
+                slots.add(new WhenToMeet(cursor, cursor.plusMinutes(15), members));
+                cursor = cursor.plusMinutes(15);
+            }
+        }
+        return slots;
+    }
+
+    private List<EventGetResponseDto> randomEvents(Random random) {
+        List<EventGetResponseDto> events = new ArrayList<>();
+        int count = random.nextInt(8);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = LocalDateTime.of(2025, 10, 31, 20, 0).plusMinutes(5L * random.nextInt(12 * 24 * 4));
+            events.add(event(start, start.plusMinutes(5L * random.nextInt(60))));
+        }
+        return events;
+    }
+
+    private EventGetResponseDto event(LocalDateTime start, LocalDateTime end) {
+        return new EventGetResponseDto(1L, "일정", null, start, end, false);
+    }
+}
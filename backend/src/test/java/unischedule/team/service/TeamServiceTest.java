@@ -26,11 +26,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import unischedule.calendar.dto.CalendarCleanupJobResponseDto;
 import unischedule.calendar.entity.Calendar;
+import unischedule.calendar.entity.CalendarCleanupStatus;
+import unischedule.calendar.service.CalendarCleanupService;
+import unischedule.calendar.service.CalendarIdResolver;
 import unischedule.calendar.service.internal.CalendarRawService;
 import unischedule.common.dto.PageResponseDto;
 import unischedule.common.dto.PaginationRequestDto;
+import unischedule.events.cache.CalendarVersionService;
+import unischedule.exception.ConflictException;
 import unischedule.exception.EntityNotFoundException;
 import unischedule.exception.NoPermissionException;
 import unischedule.member.domain.Member;
@@ -38,6 +45,7 @@ import unischedule.member.service.internal.MemberRawService;
 import unischedule.team.domain.Team;
 import unischedule.team.domain.TeamMember;
 import unischedule.team.domain.TeamRole;
+import unischedule.team.domain.TeamStatus;
 import unischedule.team.domain.WhenToMeet;
 import unischedule.team.dto.TeamCreateRequestDto;
 import unischedule.team.dto.TeamDetailResponseDto;
@@ -63,6 +71,12 @@ class TeamServiceTest {
     private MemberRawService memberRawService;
     @Mock
     private TeamMemberRawService teamMemberRawService;
+    @Mock
+    private CalendarIdResolver calendarIdResolver;
+    @Mock
+    private CalendarVersionService calendarVersionService;
+    @Mock
+    private CalendarCleanupService calendarCleanupService;
 
     @Mock
     private WhenToMeetRawService whenToMeetRawService;
@@ -154,6 +168,7 @@ class TeamServiceTest {
 
         when(teamRawService.findTeamByInviteCode("CODE123")).thenReturn(team);
         when(memberRawService.findMemberByEmail(email)).thenReturn(member);
+        when(calendarRawService.getTeamCalendar(team)).thenReturn(new Calendar(member, team));
 
         // when
         var result = teamService.joinTeam(email, requestDto);
@@ -177,12 +192,64 @@ class TeamServiceTest {
         when(teamRawService.findTeamById(teamId)).thenReturn(team);
         when(memberRawService.findMemberByEmail(email)).thenReturn(member);
         when(teamMemberRawService.findByTeamAndMember(team, member)).thenReturn(teamMember);
+        when(calendarRawService.getTeamCalendar(team)).thenReturn(new Calendar(member, team));
 
         // when
         teamService.withdrawTeam(email, teamId);
 
         // then
         verify(teamMemberRawService, times(1)).deleteTeamMember(teamMember);
+        verify(calendarIdResolver, times(1)).evict(member.getMemberId());
+    }
+
+    @Test
+    @DisplayName("팀 폐쇄 시 팀은 폐쇄 중 상태가 되고 팀 데이터 삭제 작업을 등록")
+    void closeTeam_requestsTeardown() {
+        // given
+        String email = "test@test.com";
+        Long teamId = 1L;
+
+        Team team = new Team("TeamA", "설명", "CODE123");
+        ReflectionTestUtils.setField(team, "teamId", teamId);
+        Member leader = new Member(email, "test", "1q2w3e4r!");
+        ReflectionTestUtils.setField(leader, "memberId", 2L);
+        TeamMember leaderRelation = new TeamMember(team, leader, TeamRole.LEADER);
+        Calendar teamCalendar = new Calendar(leader, team);
+        ReflectionTestUtils.setField(teamCalendar, "calendarId", 10L);
+        CalendarCleanupJobResponseDto cleanupJob = new CalendarCleanupJobResponseDto(
+                "job-key", "poll-token", CalendarCleanupStatus.PENDING, 5, 0, 0
+        );
+
+        when(teamRawService.findTeamById(teamId)).thenReturn(team);
+        when(memberRawService.findMemberByEmail(email)).thenReturn(leader);
+        when(calendarRawService.getTeamCalendar(team)).thenReturn(teamCalendar);
+        when(teamMemberRawService.findByTeamAndMember(team, leader)).thenReturn(leaderRelation);
+        when(teamMemberRawService.findByTeam(team)).thenReturn(List.of(leaderRelation));
+        when(calendarCleanupService.requestTeamCleanup(10L, teamId, 2L)).thenReturn(cleanupJob);
+
+        // when
+        CalendarCleanupJobResponseDto result = teamService.closeTeam(email, teamId);
+
+        // then
+        assertThat(result).isEqualTo(cleanupJob);
+        assertThat(team.getStatus()).isEqualTo(TeamStatus.CLOSING);
+        verify(calendarVersionService).bump(10L);
+        verify(teamMemberRawService, never()).deleteTeamMemberAll(any());
+        verify(calendarRawService, never()).deleteCalendar(any());
+        verify(teamRawService, never()).deleteTeam(any());
+    }
+
+    @Test
+    @DisplayName("폐쇄 중인 팀에는 가입할 수 없음")
+    void joinTeam_closingTeam() {
+        // given
+        Team team = new Team("TeamA", "설명", "CODE123");
+        team.close();
+        when(teamRawService.findTeamByInviteCode("CODE123")).thenReturn(team);
+
+        // when & then
+        assertThatThrownBy(() -> teamService.joinTeam("test@test.com", new TeamJoinRequestDto("CODE123")))
+                .isInstanceOf(ConflictException.class);
     }
 
     @Test
@@ -377,12 +444,14 @@ class TeamServiceTest {
         when(memberRawService.findMemberById(requestDto.targetMemberId())).thenReturn(member);
         when(teamMemberRawService.findByTeamAndMember(team, leader)).thenReturn(leaderTeamMember);
         when(teamMemberRawService.findByTeamAndMember(team, member)).thenReturn(memberTeamMember);
+        when(calendarRawService.getTeamCalendar(team)).thenReturn(new Calendar(leader, team));
 
         // when
         teamService.removeMemberFromTeam(requestDto);
 
         // then
         verify(teamMemberRawService, times(1)).deleteTeamMember(memberTeamMember);
+        verify(calendarIdResolver, times(1)).evict(member.getMemberId());
     }
 
     @DisplayName("팀장을 제거하려 하면 예외 발생")
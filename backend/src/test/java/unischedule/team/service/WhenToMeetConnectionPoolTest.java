@@ -0,0 +1,115 @@
+package unischedule.team.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import unischedule.calendar.entity.Calendar;
+import unischedule.member.domain.Member;
+import unischedule.team.domain.Team;
+import unischedule.team.domain.TeamMember;
+import unischedule.team.domain.TeamRole;
+import unischedule.util.TestUtil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 커넥션 풀보다 많은 WhenToMeet 요청이 동시에 멤버별 조회를 나눠 실행해도
+ * 요청 스레드가 커넥션을 잡은 채 기다리지 않아 모두 끝나는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:when_to_meet_pool;MODE=MySQL",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000",
+        "team.availability.max-concurrency=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WhenToMeetConnectionPoolTest {
+    private static final int CONCURRENT_REQUESTS = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private RedisConnectionFactory redisConnectionFactory;
+    @MockitoBean
+    private ReactiveRedisConnectionFactory reactiveRedisConnectionFactory;
+    @MockitoBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private Long teamId;
+
+    @BeforeEach
+    void setUp() {
+        teamId = transactionTemplate.execute(status -> {
+            Team team = TestUtil.makeTeam();
+            entityManager.persist(team);
+
+            for (int i = 0; i < 3; i++) {
+                Member member = new Member("pool" + i + "-" + System.nanoTime() + "@test.com", "member" + i, "password");
+                entityManager.persist(member);
+                entityManager.persist(TestUtil.makePersonalCalendar(member));
+                entityManager.persist(new TeamMember(team, member, i == 0 ? TeamRole.LEADER : TeamRole.MEMBER));
+                if (i == 0) {
+                    entityManager.persist(TestUtil.makeTeamCalendar(member, team));
+                }
+            }
+            return team.getTeamId();
+        });
+    }
+
+    @Test
+    @DisplayName("5분 칸에 맞지 않는 슬롯 요청이 풀 크기보다 많이 동시에 들어와도 모두 성공")
+    void unalignedRequestsDoNotExhaustPool() throws Exception {
+        // given
+        LocalDate day = LocalDate.now().plusDays(1);
+        Callable<Integer> request = () -> mockMvc.perform(get("/api/teams/{teamId}/when-to-meet/v2", teamId)
+                        .param("slot_time", "7")
+                        .param("start_time", day.toString())
+                        .param("end_time", day.toString())
+                        .with(user("pool@test.com")))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+
+        // when
+        List<Integer> statuses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS)) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(request));
+            }
+            for (Future<Integer> future : futures) {
+                statuses.add(future.get());
+            }
+        }
+
+        // then
+        assertThat(statuses).containsOnly(200);
+    }
+}
@@ -0,0 +1,60 @@
+package unischedule.team.service.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberTaskExecutorTest {
+    private final MemberTaskExecutor memberTaskExecutor = new MemberTaskExecutor(3, 10);
+
+    @AfterEach
+    void tearDown() {
+        memberTaskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("모든 항목을 실행하고, 동시에 실행되는 작업 수는 제한값을 넘지 않음")
+    void limitsConcurrency() {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger done = new AtomicInteger();
+        List<Integer> items = IntStream.range(0, 30).boxed().toList();
+
+        // when
+        memberTaskExecutor.forEach(items, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            done.incrementAndGet();
+        });
+
+        // then
+        assertThat(done.get()).isEqualTo(30);
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외는 호출한 스레드로 그대로 전달")
+    void propagatesTaskException() {
+        assertThatThrownBy(() -> memberTaskExecutor.forEach(List.of(1, 2), item -> {
+            if (item == 2) {
+                throw new IllegalArgumentException("실패");
+            }
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("실패");
+    }
+}
@@ -1,13 +1,18 @@
 package unischedule.team.service.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import unischedule.events.dto.EventGetResponseDto;
 import unischedule.member.domain.Member;
 import unischedule.team.domain.WhenToMeet;
+import unischedule.team.domain.collection.BusyBitmap;
 import unischedule.team.dto.WhenToMeetRecommendResponseDto;
 import unischedule.util.TestUtil;
 
@@ -32,6 +38,8 @@ class WhenToMeetLogicServiceTest {
     @InjectMocks
     private WhenToMeetLogicService whenToMeetLogicService;
     
+    private final Map<Member, List<EventGetResponseDto>> stubbedEvents = new HashMap<>();
+    
     @Test
     @DisplayName("generateIntervals (파라미터 O): 여러 날짜의 교집합을 정확히 계산한다")
     void generateIntervals_Parameterized_MultiDay_Partial() {
@@ -265,9 +273,9 @@ class WhenToMeetLogicServiceTest {
         LocalDateTime eventEnd = LocalDateTime.of(2025, 11, 1, 9, 30);
         EventGetResponseDto aliceEvent = new EventGetResponseDto(1L, "title", "", eventStart, eventEnd, false);
         
-        when(whenToMeetRawService.findMemberEvents(member1, dayStart, dayEnd)).thenReturn(List.of(aliceEvent));
+        stubMemberEvents(member1, dayStart, List.of(aliceEvent));
         // Bob(member2)는 일정이 없다.
-        when(whenToMeetRawService.findMemberEvents(member2, dayStart, dayEnd)).thenReturn(List.of());
+        stubMemberEvents(member2, dayStart, List.of());
         
         //When
         whenToMeetLogicService.applyMemberEvents(slots, members, intervalStarts, intervalEnds, whenToMeetRawService);
@@ -315,11 +323,10 @@ class WhenToMeetLogicServiceTest {
         EventGetResponseDto aliceEventB = new EventGetResponseDto(2L, "일정 B", "", eventB_Start, eventB_End, false);
         
         // Alice는 두 일정을 모두 반환받는다.
-        when(whenToMeetRawService.findMemberEvents(member1, dayStart, dayEnd))
-            .thenReturn(List.of(aliceEventA, aliceEventB));
+        stubMemberEvents(member1, dayStart, List.of(aliceEventA, aliceEventB));
         
         // Bob(member2)는 일정이 없다.
-        when(whenToMeetRawService.findMemberEvents(member2, dayStart, dayEnd)).thenReturn(List.of());
+        stubMemberEvents(member2, dayStart, List.of());
         
         //When
         whenToMeetLogicService.applyMemberEvents(slots, members, intervalStarts, intervalEnds, whenToMeetRawService);
@@ -367,16 +374,14 @@ class WhenToMeetLogicServiceTest {
         LocalDateTime eventA_End = LocalDateTime.of(2025, 11, 1, 9, 45);
         EventGetResponseDto aliceEvent = new EventGetResponseDto(1L, "Event A", "", eventA_Start, eventA_End, false);
         
-        when(whenToMeetRawService.findMemberEvents(member1, dayStart, dayEnd))
-            .thenReturn(List.of(aliceEvent));
+        stubMemberEvents(member1, dayStart, List.of(aliceEvent));
         
         // Bob(member2)은 10:10 ~ 10:20에 일정이 있다. (Slot 2에 포함됨)
         LocalDateTime eventB_Start = LocalDateTime.of(2025, 11, 1, 10, 10);
         LocalDateTime eventB_End = LocalDateTime.of(2025, 11, 1, 10, 20);
         EventGetResponseDto bobEvent = new EventGetResponseDto(2L, "Event B", "", eventB_Start, eventB_End, false);
         
-        when(whenToMeetRawService.findMemberEvents(member2, dayStart, dayEnd))
-            .thenReturn(List.of(bobEvent));
+        stubMemberEvents(member2, dayStart, List.of(bobEvent));
         
         // WHEN
         // 'isMemberBusyForSlot' 헬퍼 메서드의 로직을 테스트하기 위해
@@ -396,6 +401,33 @@ class WhenToMeetLogicServiceTest {
         assertThat(slots.get(2).getAvailableMember()).isEqualTo(1L);
     }
     
+    @Test
+    @DisplayName("applyMemberEvents: 5분 단위에 맞지 않는 슬롯은 멤버별 일정을 나눠 조회해 차감해야 한다")
+    void applyMemberEvents_UnalignedSlots_UsesMemberEvents() {
+        //Given
+        MemberTaskExecutor memberTaskExecutor = new MemberTaskExecutor(2, 10);
+        WhenToMeetLogicService logicService = new WhenToMeetLogicService(memberTaskExecutor);
+        
+        Member member1 = TestUtil.makeMember();
+        Member member2 = TestUtil.makeMember();
+        List<Member> members = List.of(member1, member2);
+        
+        LocalDateTime dayStart = LocalDateTime.of(2025, 11, 1, 10, 7);
+        LocalDateTime dayEnd = LocalDateTime.of(2025, 11, 1, 10, 52);
+        List<WhenToMeet> slots = logicService.generateSlots(members, List.of(dayStart), List.of(dayEnd));
+        
+        EventGetResponseDto event = new EventGetResponseDto(1L, "title", "", dayStart.plusMinutes(20), dayStart.plusMinutes(25), false);
+        when(whenToMeetRawService.findMemberEvents(member1, dayStart, dayEnd)).thenReturn(List.of(event));
+        when(whenToMeetRawService.findMemberEvents(member2, dayStart, dayEnd)).thenReturn(List.of(event));
+        
+        //When
+        logicService.applyMemberEvents(slots, members, List.of(dayStart), List.of(dayEnd), whenToMeetRawService);
+        memberTaskExecutor.shutdown();
+        
+        //Then
+        assertThat(slots).extracting(WhenToMeet::getAvailableMember).containsExactly(2L, 0L, 2L);
+    }
+    
     @Test
     @DisplayName("통합 테스트: 슬롯 생성(generateSlots)부터 이벤트 적용(applyMemberEvents)까지")
     void generateAndApplyEvents_IntegrationTest_Success() {
@@ -418,8 +450,8 @@ class WhenToMeetLogicServiceTest {
         EventGetResponseDto aliceEvent = new EventGetResponseDto(1L, "title", "", eventStart, eventEnd, false);
         
         // 2-1. Mock RawService 설정
-        when(whenToMeetRawService.findMemberEvents(member1, dayStart, dayEnd)).thenReturn(List.of(aliceEvent));
-        when(whenToMeetRawService.findMemberEvents(member2, dayStart, dayEnd)).thenReturn(List.of());
+        stubMemberEvents(member1, dayStart, List.of(aliceEvent));
+        stubMemberEvents(member2, dayStart, List.of());
         
         
         //When
@@ -444,7 +476,7 @@ class WhenToMeetLogicServiceTest {
     }
     
     @Test
-    @DisplayName("recommendBestSlots: 60분(4슬롯) 요청 시, 최적(2명) 2개, 보통(1명) 1개를 순서대로 반환한다")
+    @DisplayName("recommendBestSlots: 60분(4슬롯) 요청 시, 겹치지 않는 최적(2명) 2개, 보통(1명) 1개를 순서대로 반환한다")
     void recommendBestSlots_Success_Top3() {
         // GIVEN
         Long durationMinutes = 60L; // 4 슬롯
@@ -476,7 +508,7 @@ class WhenToMeetLogicServiceTest {
         // [정렬 순서 예상]
         // 1. 09:00~10:00 (available=2, startTime=09:00)
         // 2. 11:00~12:00 (available=2, startTime=11:00)
-        // 3. 09:15~10:15 (available=1, startTime=09:15)
+        // 3. 10:00~11:00 (available=1, 09:15~09:45 에 시작하는 윈도우는 09:00~10:00 과 겹쳐 제외)
         
         // WHEN
         List<WhenToMeetRecommendResponseDto> result = whenToMeetLogicService.recommendBestSlots(
@@ -507,8 +539,8 @@ class WhenToMeetLogicServiceTest {
         assertThat(top3.available()).isEqualTo(1L);
         assertThat(top3.status()).isEqualTo("보통");
         assertThat(top3.week()).isEqualTo("목");
-        assertThat(top3.startTime()).isEqualTo(LocalDateTime.of(2025, 10, 30, 9, 15));
-        assertThat(top3.endTime()).isEqualTo(LocalDateTime.of(2025, 10, 30, 10, 15));
+        assertThat(top3.startTime()).isEqualTo(LocalDateTime.of(2025, 10, 30, 10, 0));
+        assertThat(top3.endTime()).isEqualTo(LocalDateTime.of(2025, 10, 30, 11, 0));
     }
     
     @Test
@@ -545,7 +577,7 @@ class WhenToMeetLogicServiceTest {
     }
     
     @Test
-    @DisplayName("recommendBestSlots: 여러 날짜 중 참여율이 가장 높은 날짜/시간을 1순위로 반환한다")
+    @DisplayName("recommendBestSlots: 여러 날짜 중 참여율이 가장 높은 날짜/시간을 1순위로 반환하고 겹치는 윈도우는 제외한다")
     void recommendBestSlots_MultiDaySorting() {
         // GIVEN
         Long durationMinutes = 30L; // 2 슬롯
@@ -573,6 +605,7 @@ class WhenToMeetLogicServiceTest {
         // Day 2:
         // - 09:00~09:30 [3, 3] -> min: 3
         // - 09:15~09:45 [3, 2] -> min: 2
+        // 같은 날 겹치는 윈도우 중 더 나은 하나만 남음
         
         // WHEN
         List<WhenToMeetRecommendResponseDto> result = whenToMeetLogicService.recommendBestSlots(
@@ -580,7 +613,7 @@ class WhenToMeetLogicServiceTest {
         );
         
         // THEN
-        assertThat(result).hasSize(3);
+        assertThat(result).hasSize(2);
         
         // 1순위: Day 2 (최적)
         assertThat(result.get(0).available()).isEqualTo(3L);
@@ -593,12 +626,6 @@ class WhenToMeetLogicServiceTest {
         assertThat(result.get(1).status()).isEqualTo("보통");
         assertThat(result.get(1).week()).isEqualTo("토");
         assertThat(result.get(1).startTime()).isEqualTo(day1); // 10:00
-        
-        // 3순위: Day 2 (보통) - 11월 2일 09:15
-        assertThat(result.get(2).available()).isEqualTo(2L);
-        assertThat(result.get(2).status()).isEqualTo("보통");
-        assertThat(result.get(2).week()).isEqualTo("일");
-        assertThat(result.get(2).startTime()).isEqualTo(day2.plusMinutes(15)); // 09:15
     }
     
     @Test
@@ -639,7 +666,7 @@ class WhenToMeetLogicServiceTest {
         // [정렬 순서 예상]
         // 1. 09:00~10:00 (available=2, startTime=09:00)
         // 2. 11:00~12:00 (available=2, startTime=11:00)
-        // 3. 09:15~10:15 (available=1, startTime=09:15)
+        // 3. 10:00~11:00 (available=1, 09:00~10:00 과 겹치지 않는 첫 윈도우)
         
         // WHEN
         List<WhenToMeetRecommendResponseDto> result = whenToMeetLogicService.recommendBestSlotsV2(
@@ -664,8 +691,8 @@ class WhenToMeetLogicServiceTest {
         // 3순위
         assertThat(result.get(2).available()).isEqualTo(1L);
         assertThat(result.get(2).status()).isEqualTo("보통");
-        assertThat(result.get(2).startTime()).isEqualTo(LocalDateTime.of(2025, 10, 30, 9, 15));
-        assertThat(result.get(2).endTime()).isEqualTo(LocalDateTime.of(2025, 10, 30, 10, 15));
+        assertThat(result.get(2).startTime()).isEqualTo(LocalDateTime.of(2025, 10, 30, 10, 0));
+        assertThat(result.get(2).endTime()).isEqualTo(LocalDateTime.of(2025, 10, 30, 11, 0));
     }
     
     @Test
@@ -700,7 +727,7 @@ class WhenToMeetLogicServiceTest {
         
         // [정렬 순서 예상 (Top 2)]
         // 1. (A) 10:00~11:30 (available=5)
-        // 2. (B) 10:30~12:00 (available=3, startTime=10:30)
+        // 2. (D) 11:30~13:00 (available=3, B, C 는 A 와 겹쳐 제외)
         
         // WHEN
         List<WhenToMeetRecommendResponseDto> result = whenToMeetLogicService.recommendBestSlotsV2(
@@ -721,7 +748,62 @@ class WhenToMeetLogicServiceTest {
         assertThat(result.get(1).available()).isEqualTo(3L);
         assertThat(result.get(1).status()).isEqualTo("보통");
         assertThat(result.get(1).week()).isEqualTo("월");
-        assertThat(result.get(1).startTime()).isEqualTo(LocalDateTime.of(2025, 11, 10, 10, 30));
-        assertThat(result.get(1).endTime()).isEqualTo(LocalDateTime.of(2025, 11, 10, 12, 0));
+        assertThat(result.get(1).startTime()).isEqualTo(LocalDateTime.of(2025, 11, 10, 11, 30));
+        assertThat(result.get(1).endTime()).isEqualTo(LocalDateTime.of(2025, 11, 10, 13, 0));
+    }
+    
+    @Test
+    @DisplayName("recommendBestSlotsV2: 후보가 topN 보다 많으면 가능 인원이 적은 후보부터 밀려난다")
+    void recommendBestSlotsV2_KeepsOnlyTopN() {
+        // GIVEN
+        Long slotTime = 30L;
+        Long durationMinutes = 30L; // 1 슬롯
+        Long topN = 2L;
+        Long memberCnt = 4L;
+        
+        LocalDateTime day1 = LocalDateTime.of(2025, 11, 10, 9, 0);
+        LocalDateTime day2 = LocalDateTime.of(2025, 11, 11, 9, 0);
+        LocalDateTime day3 = LocalDateTime.of(2025, 11, 12, 9, 0);
+        
+        List<WhenToMeet> inputSlots = List.of(
+            new WhenToMeet(day1, day1.plusMinutes(30), 1L),
+            new WhenToMeet(day1.plusMinutes(30), day1.plusMinutes(60), 2L),
+            new WhenToMeet(day2, day2.plusMinutes(30), 4L),
+            new WhenToMeet(day2.plusMinutes(30), day2.plusMinutes(60), 3L),
+            new WhenToMeet(day3, day3.plusMinutes(30), 2L),
+            new WhenToMeet(day3.plusMinutes(30), day3.plusMinutes(60), 4L)
+        );
+        
+        // WHEN
+        List<WhenToMeetRecommendResponseDto> result = whenToMeetLogicService.recommendBestSlotsV2(
+            inputSlots, slotTime, durationMinutes, topN, memberCnt
+        );
+        
+        // THEN
+        assertThat(result)
+            .extracting(WhenToMeetRecommendResponseDto::startTime, WhenToMeetRecommendResponseDto::available)
+            .containsExactly(
+                tuple(day2, 4L),
+                tuple(day3.plusMinutes(30), 4L)
+            );
+    }
+    
+    /**
+     * 멤버 일정으로 계산한 하루 비트맵을 RawService 가 반환하도록 설정
+     * 멤버 전체를 한 번에 조회하므로, 처음 설정할 때 한 번만 stub 하고 이후 멤버는 일정만 추가
+     */
+    private void stubMemberEvents(Member member, LocalDateTime dayStart, List<EventGetResponseDto> events) {
+        LocalDate day = dayStart.toLocalDate();
+        boolean firstMember = stubbedEvents.isEmpty();
+        stubbedEvents.put(member, events);
+        
+        if (firstMember) {
+            when(whenToMeetRawService.findMembersBusyBitmaps(anyList(), eq(day), eq(day))).thenAnswer(invocation -> {
+                List<Member> targets = invocation.getArgument(0);
+                return targets.stream()
+                    .map(target -> List.of(BusyBitmap.of(day, stubbedEvents.get(target))))
+                    .toList();
+            });
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,157 @@
+-- 마이그레이션 도입 전 ddl-auto=update 로 만들어진 운영 DB 덤프 (스키마 + 일부 데이터)
+CREATE TABLE calendars
+(
+    calendar_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    member_id bigint not null,
+    team_id bigint,
+    updated_at datetime(6) not null,
+    primary key (calendar_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE chat_messages
+(
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    sender_id bigint not null,
+    team_id bigint not null,
+    updated_at datetime(6) not null,
+    content TEXT not null,
+    sender_name varchar(255) not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE event_override
+(
+    end_at datetime(6),
+    event_exception_id bigint not null auto_increment,
+    original_event_id bigint not null,
+    original_event_time datetime(6) not null,
+    start_at datetime(6),
+    content varchar(255),
+    title varchar(255),
+    primary key (event_exception_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE event_participant
+(
+    event_id bigint not null,
+    id bigint not null auto_increment,
+    member_id bigint not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE events
+(
+    is_selective bit,
+    calendar_id bigint not null,
+    created_at datetime(6) not null,
+    end_at datetime(6) not null,
+    event_id bigint not null auto_increment,
+    recurrence_rule_id bigint,
+    start_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    content varchar(255),
+    title varchar(255) not null,
+    primary key (event_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE google_auth_token
+(
+    id bigint not null auto_increment,
+    member_id bigint not null,
+    refresh_token varchar(1000) not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE lectures
+(
+    credit integer,
+    end_date date not null,
+    start_date date not null,
+    created_at datetime(6) not null,
+    event_id bigint not null,
+    lecture_id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    name varchar(255) not null,
+    professor varchar(255) not null,
+    primary key (lecture_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE members
+(
+    member_id bigint not null auto_increment,
+    email varchar(50) not null,
+    nickname varchar(50) not null,
+    password varchar(255) not null,
+    status VARCHAR(50) DEFAULT 'ACTIVE' not null,
+    primary key (member_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE recurrence_rule
+(
+    recurrence_rule_id bigint not null auto_increment,
+    rrule_string varchar(255) not null,
+    primary key (recurrence_rule_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE refresh_token
+(
+    id bigint not null auto_increment,
+    member_id bigint not null,
+    token varchar(255) not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE team_members
+(
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    member_id bigint not null,
+    team_id bigint not null,
+    role enum ('LEADER','MEMBER') not null,
+    primary key (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE teams
+(
+    created_at datetime(6) not null,
+    team_id bigint not null auto_increment,
+    updated_at datetime(6) not null,
+    description varchar(255),
+    invite_code varchar(255),
+    name varchar(255) not null,
+    primary key (team_id)
+) ENGINE = InnoDB;
+
+alter table calendars add constraint UKa4gh54kf9e1oxkv4051l90e06 unique (team_id);
+create index idx_team_id on chat_messages (team_id);
+create index idx_team_id_created_at on chat_messages (team_id, created_at);
+alter table google_auth_token add constraint UKo06jxnf5nk98yf220gka9046d unique (member_id);
+alter table lectures add constraint UK70scngbwk7nub3yy76dy1lrmq unique (event_id);
+alter table members add constraint UK9d30a9u1qpg8eou0otgkwrp5d unique (email);
+alter table refresh_token add constraint UKdnbbikqdsc2r2cee1afysqfk9 unique (member_id);
+alter table refresh_token add constraint UKr4k4edos30bx9neoq81mdvwph unique (token);
+
+alter table calendars add constraint fk_calendar_member_id_ref_member_id foreign key (member_id) references members (member_id);
+alter table calendars add constraint fk_calendar_team_id_ref_team_id foreign key (team_id) references teams (team_id);
+alter table chat_messages add constraint FKmf86klrrgnufxig1bgb94kafu foreign key (sender_id) references members (member_id);
+alter table chat_messages add constraint FKrxehbwqky7ca3b2sppi3wfdxa foreign key (team_id) references teams (team_id);
+alter table event_override add constraint FKcmrc60arg9gr7ms4ik5u9ch7k foreign key (original_event_id) references events (event_id);
+alter table event_participant add constraint FKo7p3n4vghorbjaf68f1wvwgdp foreign key (event_id) references events (event_id);
+alter table event_participant add constraint FK7kcwinglemn5vsxvyso41wk2h foreign key (member_id) references members (member_id);
+alter table events add constraint FKsr217wml5c5jdpgd2ro6k8omx foreign key (calendar_id) references calendars (calendar_id);
+alter table events add constraint FK7cj5l34w7d6m5ohm69amdqxv9 foreign key (recurrence_rule_id) references recurrence_rule (recurrence_rule_id);
+alter table google_auth_token add constraint FKgs7967oarqhe5wgts6bekvgcr foreign key (member_id) references members (member_id);
+alter table lectures add constraint FKeoyxv5pjq4bljo7w5oy79qrkj foreign key (event_id) references events (event_id);
+alter table refresh_token add constraint fk_refresh_token_member_id_ref_member_id foreign key (member_id) references members (member_id);
+alter table team_members add constraint FK1djqtva6fm6p8d6ls4hxu6pvh foreign key (member_id) references members (member_id);
+alter table team_members add constraint FKtgca08el3ofisywcf11f0f76t foreign key (team_id) references teams (team_id);
+
+INSERT INTO members (member_id, email, nickname, password, status) VALUES (1, 'owner@test.com', 'owner', 'password', 'ACTIVE');
+INSERT INTO calendars (calendar_id, member_id, team_id, created_at, updated_at) VALUES (1, 1, null, '2025-08-01 09:00:00', '2025-08-01 09:00:00');
+INSERT INTO recurrence_rule (recurrence_rule_id, rrule_string) VALUES (1, 'FREQ=WEEKLY;BYDAY=MO;COUNT=3');
+INSERT INTO events (event_id, calendar_id, recurrence_rule_id, title, content, start_at, end_at, is_selective, created_at, updated_at)
+VALUES (1, 1, 1, '주간 회의', '내용', '2025-09-01 09:00:00', '2025-09-01 10:00:00', false, '2025-08-02 09:00:00', '2025-08-03 09:00:00');
+INSERT INTO event_override (event_exception_id, original_event_id, original_event_time, title, content, start_at, end_at)
+VALUES (1, 1, '2025-09-08 09:00:00', '옮긴 회의', '내용', '2025-09-09 09:00:00', '2025-09-09 10:00:00');